@@ -1,6 +1,7 @@
 package com.musinsa.pointsystem.application.config;
 
 import com.musinsa.pointsystem.domain.repository.IdGenerator;
+import com.musinsa.pointsystem.domain.service.DeductionPlanner;
 import com.musinsa.pointsystem.domain.service.UseCancelProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,4 +19,9 @@ public class DomainServiceConfig {
     public UseCancelProcessor useCancelProcessor(IdGenerator idGenerator) {
         return new UseCancelProcessor(idGenerator);
     }
+
+    @Bean
+    public DeductionPlanner deductionPlanner() {
+        return new DeductionPlanner();
+    }
 }
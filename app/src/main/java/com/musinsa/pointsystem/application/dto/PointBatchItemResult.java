@@ -0,0 +1,43 @@
+package com.musinsa.pointsystem.application.dto;
+
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+
+/**
+ * 다건 처리 작업별 결과
+ * - 성공/재전송: 응답 bytes (단건 API 응답과 같은 bytes)
+ * - 실패/롤백: 원인 예외 (롤백은 같은 회원에서 실패한 작업의 원인)
+ * - 처리 중: 응답/원인 없음
+ */
+public record PointBatchItemResult(
+        Status status,
+        StoredResponse response,
+        RuntimeException error
+) {
+    public enum Status {
+        SUCCEEDED,      // 처리 완료
+        REPLAYED,       // 같은 멱등성 키로 이미 처리됨 (저장된 응답)
+        IN_PROGRESS,    // 같은 멱등성 키로 다른 요청이 처리 중
+        FAILED,         // 이 작업이 실패함
+        ROLLED_BACK     // 같은 회원의 다른 작업이 실패하여 함께 롤백됨
+    }
+
+    public static PointBatchItemResult succeeded(StoredResponse response) {
+        return new PointBatchItemResult(Status.SUCCEEDED, response, null);
+    }
+
+    public static PointBatchItemResult replayed(StoredResponse response) {
+        return new PointBatchItemResult(Status.REPLAYED, response, null);
+    }
+
+    public static PointBatchItemResult inProgress() {
+        return new PointBatchItemResult(Status.IN_PROGRESS, null, null);
+    }
+
+    public static PointBatchItemResult failed(RuntimeException error) {
+        return new PointBatchItemResult(Status.FAILED, null, error);
+    }
+
+    public static PointBatchItemResult rolledBack(RuntimeException error) {
+        return new PointBatchItemResult(Status.ROLLED_BACK, null, error);
+    }
+}
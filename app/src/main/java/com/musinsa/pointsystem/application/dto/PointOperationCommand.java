@@ -0,0 +1,51 @@
+package com.musinsa.pointsystem.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 다건 처리 요청의 단일 작업 (유형별 Command 중 하나만 존재)
+ * @param type 작업 유형
+ * @param idempotencyKey 작업별 멱등성 키 (null이면 멱등성 기록 없음)
+ */
+public record PointOperationCommand(
+        Type type,
+        String idempotencyKey,
+        EarnPointCommand earn,
+        UsePointCommand use,
+        CancelUsePointCommand cancelUse,
+        CancelEarnPointCommand cancelEarn
+) {
+
+    public enum Type {
+        EARN, USE, CANCEL_USE, CANCEL_EARN
+    }
+
+    public static PointOperationCommand earn(String idempotencyKey, EarnPointCommand command) {
+        return new PointOperationCommand(Type.EARN, idempotencyKey, command, null, null, null);
+    }
+
+    public static PointOperationCommand use(String idempotencyKey, UsePointCommand command) {
+        return new PointOperationCommand(Type.USE, idempotencyKey, null, command, null, null);
+    }
+
+    public static PointOperationCommand cancelUse(String idempotencyKey, CancelUsePointCommand command) {
+        return new PointOperationCommand(Type.CANCEL_USE, idempotencyKey, null, null, command, null);
+    }
+
+    public static PointOperationCommand cancelEarn(String idempotencyKey, CancelEarnPointCommand command) {
+        return new PointOperationCommand(Type.CANCEL_EARN, idempotencyKey, null, null, null, command);
+    }
+
+    public UUID memberId() {
+        return switch (type) {
+            case EARN -> earn.memberId();
+            case USE -> use.memberId();
+            case CANCEL_USE -> cancelUse.memberId();
+            case CANCEL_EARN -> cancelEarn.memberId();
+        };
+    }
+
+    public boolean hasIdempotencyKey() {
+        return idempotencyKey != null && !idempotencyKey.isBlank();
+    }
+}
@@ -0,0 +1,33 @@
+package com.musinsa.pointsystem.application.dto;
+
+import com.musinsa.pointsystem.domain.model.PointSummary;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 기간별 포인트 변동 요약 결과 DTO
+ */
+@Builder
+public record PointSummaryResult(
+        UUID memberId,
+        LocalDate from,
+        LocalDate to,
+        long earnedAmount,
+        long earnCanceledAmount,
+        long usedAmount,
+        long useCanceledAmount
+) {
+    public static PointSummaryResult from(PointSummary summary) {
+        return PointSummaryResult.builder()
+                .memberId(summary.memberId())
+                .from(summary.from())
+                .to(summary.to())
+                .earnedAmount(summary.earnedAmount())
+                .earnCanceledAmount(summary.earnCanceledAmount())
+                .usedAmount(summary.usedAmount())
+                .useCanceledAmount(summary.useCanceledAmount())
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import com.musinsa.pointsystem.domain.repository.IdGenerator;
 import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
 import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
 import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
 import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
 import com.musinsa.pointsystem.domain.model.PointRules;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 포인트 적립 취소 UseCase
@@ -35,6 +37,7 @@ public class CancelEarnPointUseCase {
     private final LedgerEntryRepository ledgerEntryRepository;
     private final PointQueryRepository pointQueryRepository;
     private final PointEventPublisher eventPublisher;
+    private final PointLiabilityRepository pointLiabilityRepository;
     private final IdGenerator idGenerator;
     private final Clock clock;
 
@@ -51,21 +54,29 @@ public class CancelEarnPointUseCase {
                 .filter(l -> l.memberId().equals(command.memberId()))
                 .orElseThrow(() -> new PointLedgerNotFoundException(command.ledgerId()));
 
-        // 2. 취소 가능 여부 검증 (PointRules에 위임)
-        PointRules.validateCancelEarn(ledger);
+        // 2. 취소 가능 여부 검증 (PointRules에 위임) 및 취소 처리
+        LedgerEntry cancelEntry;
+        // 부채 차감 기준 만료일시: 금액이 남아 있는 적립건 기준 (흡수된 적립건은 통합 적립건의 만료일시로 스윕됨)
+        LocalDateTime liabilityExpiredAt;
+        if (ledger.isConsolidated()) {
+            // 통합으로 흡수된 적립건: 금액은 통합 적립건에 있으므로 통합 적립건에서 제외
+            PointLedger target = findConsolidationTarget(ledger);
+            PointRules.validateCancelConsolidatedEarn(ledger, target);
+            pointLedgerRepository.save(target.withEarnCanceledPart(ledger.earnedAmount()));
+            cancelEntry = LedgerEntry.createEarnCancel(idGenerator.generate(), target.id(), ledger.earnedAmount(), now);
+            liabilityExpiredAt = target.expiredAt();
+        } else {
+            PointRules.validateCancelEarn(ledger);
+            cancelEntry = LedgerEntry.createEarnCancel(idGenerator.generate(), ledger.id(), ledger.earnedAmount(), now);
+            liabilityExpiredAt = ledger.expiredAt();
+        }
 
         // 3. Ledger 취소 처리
-        PointLedger canceledLedger = ledger.withCanceled();
-        pointLedgerRepository.save(canceledLedger);
+        pointLedgerRepository.save(ledger.withCanceled());
 
-        // 4. EARN_CANCEL Entry 생성 및 저장
-        LedgerEntry cancelEntry = LedgerEntry.createEarnCancel(
-                idGenerator.generate(),
-                ledger.id(),
-                ledger.earnedAmount(),
-                now
-        );
+        // 4. EARN_CANCEL Entry 저장 (흡수된 적립건은 통합 적립건에 기록)
         ledgerEntryRepository.save(cancelEntry);
+        pointLiabilityRepository.removeCanceled(command.memberId(), ledger.earnedAmount(), liabilityExpiredAt);
 
         // 5. 이벤트 발행
         eventPublisher.publish(PointEarnCanceledEvent.of(
@@ -88,4 +99,17 @@ public class CancelEarnPointUseCase {
                 .totalBalance(totalBalance)
                 .build();
     }
+
+    /**
+     * 흡수된 적립건의 통합 적립건 조회 (통합 적립건이 다시 흡수된 경우 마지막 통합 적립건까지 따라감)
+     */
+    private PointLedger findConsolidationTarget(PointLedger ledger) {
+        PointLedger target = ledger;
+        while (target.isConsolidated()) {
+            UUID targetId = target.consolidatedInto();
+            target = pointLedgerRepository.findById(targetId)
+                    .orElseThrow(() -> new PointLedgerNotFoundException(targetId));
+        }
+        return target;
+    }
 }
@@ -10,6 +10,7 @@ import com.musinsa.pointsystem.domain.model.DistributedLock;
 import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
 import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
 import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
 import com.musinsa.pointsystem.domain.repository.PointPolicyRepository;
 import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
 import com.musinsa.pointsystem.domain.model.PointRules;
@@ -24,9 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * 포인트 사용취소 UseCase
@@ -44,6 +43,7 @@ public class CancelUsePointUseCase {
     private final PointPolicyRepository pointPolicyRepository;
     private final PointQueryRepository pointQueryRepository;
     private final PointEventPublisher eventPublisher;
+    private final PointLiabilityRepository pointLiabilityRepository;
     private final UseCancelProcessor useCancelProcessor;
     private final Clock clock;
 
@@ -60,7 +60,7 @@ public class CancelUsePointUseCase {
 
         // 2. 취소 가능 금액 계산 및 검증
         CancelableContext cancelable = useCancelProcessor.calculateCancelableAmount(
-                context.ledgers(), context.entriesByLedgerId(), command.orderId());
+                context.ledgers(), context.entries(), command.orderId());
         PointRules.validateCancelAmount(command.cancelAmount(), cancelable.totalCancelable());
 
         // 3. 사용취소 처리 (도메인 로직)
@@ -75,7 +75,8 @@ public class CancelUsePointUseCase {
         );
 
         // 4. 저장
-        saveResult(result);
+        saveResult(result, now);
+        pointLiabilityRepository.add(command.memberId(), command.cancelAmount());
 
         // 5. 이벤트 발행 (캐시 무효화는 이벤트 핸들러에서 트랜잭션 커밋 후 처리)
         eventPublisher.publish(PointUseCanceledEvent.of(
@@ -101,7 +102,7 @@ public class CancelUsePointUseCase {
 
     private record CancelContext(
             List<PointLedger> ledgers,
-            Map<UUID, List<LedgerEntry>> entriesByLedgerId
+            List<LedgerEntry> entries
     ) {}
 
     private CancelContext loadCancelContext(String orderId) {
@@ -111,19 +112,17 @@ public class CancelUsePointUseCase {
         }
 
         List<PointLedger> ledgers = pointLedgerRepository.findAllByIds(ledgerIds);
-        List<LedgerEntry> allEntries = ledgerEntryRepository.findByLedgerIds(ledgerIds);
-        Map<UUID, List<LedgerEntry>> entriesByLedgerId = allEntries.stream()
-                .collect(Collectors.groupingBy(LedgerEntry::ledgerId));
+        List<LedgerEntry> entries = ledgerEntryRepository.findByLedgerIds(ledgerIds);
 
-        return new CancelContext(ledgers, entriesByLedgerId);
+        return new CancelContext(ledgers, entries);
     }
 
-    private void saveResult(CancelResult result) {
+    private void saveResult(CancelResult result, LocalDateTime now) {
         if (!result.updatedLedgers().isEmpty()) {
-            pointLedgerRepository.saveAll(result.updatedLedgers());
+            pointLedgerRepository.updateAmounts(result.updatedLedgers(), now);
         }
         if (!result.newLedgers().isEmpty()) {
-            pointLedgerRepository.saveAll(result.newLedgers());
+            pointLedgerRepository.insertAll(result.newLedgers());
         }
         if (!result.newEntries().isEmpty()) {
             ledgerEntryRepository.saveAll(result.newEntries());
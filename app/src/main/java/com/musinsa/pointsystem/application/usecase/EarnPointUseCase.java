@@ -8,10 +8,12 @@ import com.musinsa.pointsystem.domain.model.EarnType;
 import com.musinsa.pointsystem.domain.model.LedgerEntry;
 import com.musinsa.pointsystem.domain.model.PointLedger;
 import com.musinsa.pointsystem.domain.model.DistributedLock;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
 import com.musinsa.pointsystem.domain.repository.IdGenerator;
 import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
 import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
 import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
 import com.musinsa.pointsystem.domain.repository.PointPolicyRepository;
 import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
 import com.musinsa.pointsystem.domain.model.PointRules;
@@ -39,6 +41,8 @@ public class EarnPointUseCase {
     private final LedgerEntryRepository ledgerEntryRepository;
     private final PointPolicyRepository pointPolicyRepository;
     private final PointEventPublisher eventPublisher;
+    private final PointLiabilityRepository pointLiabilityRepository;
+    private final EarnedMemberFilter earnedMemberFilter;
     private final IdGenerator idGenerator;
     private final Clock clock;
 
@@ -62,7 +66,10 @@ public class EarnPointUseCase {
         // 4. 만료일 계산
         LocalDateTime expiredAt = policy.calculateExpirationDate(command.expirationDays(), now);
 
-        // 5. Ledger 생성 및 저장
+        // 5. 적립 이력 회원 기록 (저장 전, 커밋 직후 조회부터 필터 통과)
+        earnedMemberFilter.markEarned(command.memberId());
+
+        // 6. Ledger 생성 및 저장
         PointLedger ledger = PointLedger.create(
                 idGenerator.generate(),
                 command.memberId(),
@@ -72,9 +79,9 @@ public class EarnPointUseCase {
                 null,
                 now
         );
-        pointLedgerRepository.save(ledger);
+        pointLedgerRepository.insert(ledger);
 
-        // 6. EARN Entry 생성 및 저장
+        // 7. EARN Entry 생성 및 저장
         LedgerEntry earnEntry = LedgerEntry.createEarn(
                 idGenerator.generate(),
                 ledger.id(),
@@ -82,8 +89,9 @@ public class EarnPointUseCase {
                 now
         );
         ledgerEntryRepository.save(earnEntry);
+        pointLiabilityRepository.add(command.memberId(), command.amount());
 
-        // 7. 이벤트 발행 (캐시 무효화는 이벤트 핸들러에서 트랜잭션 커밋 후 처리)
+        // 8. 이벤트 발행 (캐시 무효화는 이벤트 핸들러에서 트랜잭션 커밋 후 처리)
         eventPublisher.publish(PointEarnedEvent.of(
                 command.memberId(),
                 ledger.id(),
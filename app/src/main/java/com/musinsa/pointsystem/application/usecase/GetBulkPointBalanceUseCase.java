@@ -0,0 +1,43 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.application.dto.PointBalanceResult;
+import com.musinsa.pointsystem.domain.model.PointAmount;
+import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 다건 포인트 잔액 조회 UseCase
+ *
+ * <p>최적화: 회원별 단건 조회 반복 대신 캐시 일괄 조회 + 캐시 미스 회원만 GROUP BY SUM 1회.
+ * 중복 회원 ID는 한 번만 조회하며, 응답은 요청 순서를 따름.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetBulkPointBalanceUseCase {
+
+    private final PointQueryRepository pointQueryRepository;
+    private final Clock clock;
+
+    @Transactional(readOnly = true)
+    public List<PointBalanceResult> execute(List<UUID> memberIds) {
+        Map<UUID, PointAmount> balances = pointQueryRepository.getTotalBalances(
+                memberIds,
+                LocalDateTime.now(clock)
+        );
+
+        return balances.entrySet().stream()
+                .map(entry -> PointBalanceResult.builder()
+                        .memberId(entry.getKey())
+                        .totalBalance(entry.getValue().getValue())
+                        .build())
+                .toList();
+    }
+}
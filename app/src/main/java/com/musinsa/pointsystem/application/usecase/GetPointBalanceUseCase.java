@@ -2,6 +2,7 @@ package com.musinsa.pointsystem.application.usecase;
 
 import com.musinsa.pointsystem.application.dto.PointBalanceResult;
 import com.musinsa.pointsystem.domain.model.PointAmount;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
 import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,16 +17,25 @@ import java.util.UUID;
  *
  * <p>최적화: Aggregate 로드 없이 DB에서 직접 SUM 쿼리로 조회.
  * 조회 전용 PointQueryRepository를 사용하여 성능 최적화.
+ * 적립 이력이 없는 회원은 캐시/DB 조회 없이 0 반환.
  */
 @Service
 @RequiredArgsConstructor
 public class GetPointBalanceUseCase {
 
     private final PointQueryRepository pointQueryRepository;
+    private final EarnedMemberFilter earnedMemberFilter;
     private final Clock clock;
 
     @Transactional(readOnly = true)
     public PointBalanceResult execute(UUID memberId) {
+        if (!earnedMemberFilter.mightHaveEarned(memberId)) {
+            return PointBalanceResult.builder()
+                    .memberId(memberId)
+                    .totalBalance(0L)
+                    .build();
+        }
+
         // 최적화: Aggregate 로드 없이 DB에서 직접 계산
         PointAmount totalBalance = pointQueryRepository.getTotalBalance(
                 memberId,
@@ -6,6 +6,7 @@ import com.musinsa.pointsystem.application.dto.PointHistoryResult;
 import com.musinsa.pointsystem.domain.model.PageRequest;
 import com.musinsa.pointsystem.domain.model.PageResult;
 import com.musinsa.pointsystem.domain.model.PointHistory;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
 import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,16 +20,22 @@ import java.util.UUID;
  *
  * <p>최적화: Aggregate 로드 없이 DB에서 직접 페이징 조회.
  * 조회 전용 PointQueryRepository를 사용하여 성능 최적화.
+ * 적립 이력이 없는 회원은 DB 조회 없이 빈 페이지 반환.
  */
 @Service
 @RequiredArgsConstructor
 public class GetPointHistoryUseCase {
 
     private final PointQueryRepository pointQueryRepository;
+    private final EarnedMemberFilter earnedMemberFilter;
 
     @Transactional(readOnly = true)
     public PagedResult<PointHistoryResult> execute(UUID memberId, PageQuery pageQuery) {
         PageRequest pageRequest = PageRequest.of(pageQuery.pageNumber(), pageQuery.pageSize());
+        if (!earnedMemberFilter.mightHaveEarned(memberId)) {
+            return PagedResult.of(List.of(), pageRequest.page(), pageRequest.size(), 0L);
+        }
+
         PageResult<PointHistory> pageResult = pointQueryRepository.getHistory(memberId, pageRequest);
 
         List<PointHistoryResult> results = pageResult.content().stream()
@@ -0,0 +1,63 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.application.dto.PointSummaryResult;
+import com.musinsa.pointsystem.domain.exception.InvalidSummaryPeriodException;
+import com.musinsa.pointsystem.domain.model.PointSummary;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
+import com.musinsa.pointsystem.domain.repository.PointSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * 월별/연별 포인트 변동 요약 조회 UseCase
+ *
+ * <p>최적화: 변동 이력(ledger_entry)을 읽지 않고 일별 집계(member_point_daily)에서 계산.
+ * 연 요약도 최대 366행 범위 SUM 1회.
+ * 집계는 Outbox 릴레이로 커밋 후 반영되므로 수 초 지연될 수 있음.
+ * 적립 이력이 없는 회원은 DB 조회 없이 0 반환.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetPointSummaryUseCase {
+
+    private static final int MIN_YEAR = 2000;
+    private static final int MAX_YEAR = 9999;
+
+    private final PointSummaryRepository pointSummaryRepository;
+    private final EarnedMemberFilter earnedMemberFilter;
+
+    /**
+     * @param year 연도
+     * @param month 월 (null이면 연 요약)
+     */
+    @Transactional(readOnly = true)
+    public PointSummaryResult execute(UUID memberId, int year, Integer month) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw InvalidSummaryPeriodException.invalidYear(year);
+        }
+        if (month != null && (month < 1 || month > 12)) {
+            throw InvalidSummaryPeriodException.invalidMonth(month);
+        }
+
+        LocalDate from;
+        LocalDate to;
+        if (month == null) {
+            from = LocalDate.of(year, 1, 1);
+            to = LocalDate.of(year, 12, 31);
+        } else {
+            YearMonth yearMonth = YearMonth.of(year, month);
+            from = yearMonth.atDay(1);
+            to = yearMonth.atEndOfMonth();
+        }
+
+        if (!earnedMemberFilter.mightHaveEarned(memberId)) {
+            return PointSummaryResult.from(PointSummary.empty(memberId, from, to));
+        }
+        return PointSummaryResult.from(pointSummaryRepository.getSummary(memberId, from, to));
+    }
+}
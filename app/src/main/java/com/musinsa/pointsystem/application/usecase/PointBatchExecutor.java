@@ -0,0 +1,270 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.application.dto.PointBatchItemResult;
+import com.musinsa.pointsystem.application.dto.PointOperationCommand;
+import com.musinsa.pointsystem.application.usecase.PointBatchUseCase.OperationFailedException;
+import com.musinsa.pointsystem.domain.exception.LockAcquisitionFailedException;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort.DuplicateRecordException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+
+/**
+ * 다건 처리 실행 (회원별 묶음 + 작업별 멱등성)
+ * - 작업을 회원별로 묶어 회원 순서(요청 순서)를 유지하고, 회원 간에는 가상 스레드로 병렬 실행
+ * - 회원 작업은 PointBatchUseCase에서 분산락 1회 + 트랜잭션 1개로 실행 (하나라도 실패하면 회원 작업 전체 롤백)
+ * - 동시 실행 회원 수는 max-concurrency로 제한 (회원마다 DB 커넥션 1개 점유)
+ * - 멱등성: 작업별 키를 단건 API와 같은 방식으로 처리 (Redis 입장 → DB 기록 → 응답 bytes 저장)
+ *   → 응답 bytes는 호출 측 직렬화 함수로 만들어 단건 API와 같은 응답을 저장
+ *   → 다건 처리에서 완료된 키로 단건 API를 재요청해도 같은 응답을 재전송
+ * - 작업 목록 안의 멱등성 키 중복은 호출 측에서 검증
+ */
+@Component
+@Slf4j
+public class PointBatchExecutor {
+
+    private final PointBatchUseCase pointBatchUseCase;
+    private final IdempotencyKeyPort idempotencyKeyPort;
+    private final IdempotencyRecordPort idempotencyRecordPort;
+    private final Semaphore memberPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PointBatchExecutor(PointBatchUseCase pointBatchUseCase,
+                              IdempotencyKeyPort idempotencyKeyPort,
+                              IdempotencyRecordPort idempotencyRecordPort,
+                              @Value("${point-batch.max-concurrency:8}") int maxConcurrency) {
+        this.pointBatchUseCase = pointBatchUseCase;
+        this.idempotencyKeyPort = idempotencyKeyPort;
+        this.idempotencyRecordPort = idempotencyRecordPort;
+        this.memberPermits = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * @param commands 작업 목록 (요청 순서)
+     * @param serializer 작업 결과(EarnPointResult 등)를 저장/반환할 응답 bytes로 변환
+     * @return 작업별 결과 (commands와 같은 순서)
+     */
+    public List<PointBatchItemResult> execute(List<PointOperationCommand> commands,
+                                              BiFunction<PointOperationCommand.Type, Object, StoredResponse> serializer) {
+        PointBatchItemResult[] results = new PointBatchItemResult[commands.size()];
+
+        // 1. 회원별 그룹 (요청 순서 유지)
+        Map<UUID, List<Pending>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            PointOperationCommand command = commands.get(i);
+            groups.computeIfAbsent(command.memberId(), memberId -> new ArrayList<>())
+                    .add(new Pending(i, command));
+        }
+
+        // 2. 회원별 병렬 실행 (각 작업 결과는 서로 다른 위치에 기록, Future.get으로 가시성 보장)
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        groups.forEach((memberId, pendings) ->
+                futures.add(executor.submit(() -> executeMember(memberId, pendings, results, serializer))));
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("다건 처리 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("다건 처리 실행 실패", e.getCause());
+        }
+        return Arrays.asList(results);
+    }
+
+    // =====================================================
+    // 회원 단위 실행
+    // =====================================================
+
+    private void executeMember(UUID memberId, List<Pending> pendings, PointBatchItemResult[] results,
+                               BiFunction<PointOperationCommand.Type, Object, StoredResponse> serializer) {
+        try {
+            memberPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            IllegalStateException error = new IllegalStateException("다건 처리 실행 대기 중 인터럽트 발생", e);
+            pendings.forEach(pending -> results[pending.index()] = PointBatchItemResult.failed(error));
+            return;
+        }
+        try {
+            List<Pending> admitted;
+            try {
+                admitted = admit(pendings, results);
+            } catch (RuntimeException e) {
+                log.error("다건 처리 멱등성 입장 실패. memberId={}", memberId, e);
+                pendings.forEach(pending -> results[pending.index()] = PointBatchItemResult.failed(e));
+                return;
+            }
+            if (!admitted.isEmpty()) {
+                run(memberId, admitted, results, serializer, true);
+            }
+        } finally {
+            memberPermits.release();
+        }
+    }
+
+    /**
+     * 작업별 멱등성 입장 (완료/처리 중인 작업은 결과 확정, 실행할 작업만 반환)
+     */
+    private List<Pending> admit(List<Pending> pendings, PointBatchItemResult[] results) {
+        List<Pending> admitted = new ArrayList<>(pendings.size());
+        for (Pending pending : pendings) {
+            if (!pending.command().hasIdempotencyKey()) {
+                admitted.add(pending);
+                continue;
+            }
+            Admission admission = idempotencyKeyPort.admit(pending.command().idempotencyKey());
+            switch (admission.status()) {
+                case ACQUIRED -> admitted.add(pending);
+                case ALREADY_COMPLETED -> results[pending.index()] = replayed(pending, admission.response());
+                case PROCESSING -> results[pending.index()] = PointBatchItemResult.inProgress();
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * 회원 작업 실행
+     * - DB 멱등성 기록 충돌(Redis 유실 후 재요청)이면 기록된 작업을 재전송으로 확정하고 나머지만 1회 재실행
+     */
+    private void run(UUID memberId, List<Pending> pendings, PointBatchItemResult[] results,
+                     BiFunction<PointOperationCommand.Type, Object, StoredResponse> serializer,
+                     boolean retryOnDuplicate) {
+        List<PointOperationCommand> commands = pendings.stream().map(Pending::command).toList();
+        List<Object> outcomes;
+        try {
+            outcomes = pointBatchUseCase.execute(memberId, commands);
+        } catch (OperationFailedException e) {
+            RuntimeException cause = e.getCause();
+            log.warn("다건 처리 회원 작업 롤백. memberId={}, index={}, error={}",
+                    memberId, pendings.get(e.getIndex()).index(), cause.getMessage());
+            for (int i = 0; i < pendings.size(); i++) {
+                results[pendings.get(i).index()] = i == e.getIndex()
+                        ? PointBatchItemResult.failed(cause)
+                        : PointBatchItemResult.rolledBack(cause);
+            }
+            removeKeys(pendings);
+            return;
+        } catch (DuplicateRecordException e) {
+            if (retryOnDuplicate) {
+                List<Pending> remaining = replayRecorded(pendings, results);
+                if (!remaining.isEmpty()) {
+                    run(memberId, remaining, results, serializer, false);
+                }
+                return;
+            }
+            failAll(memberId, pendings, results, e);
+            return;
+        } catch (LockAcquisitionFailedException e) {
+            failAll(memberId, pendings, results, e);
+            return;
+        } catch (RuntimeException e) {
+            log.error("다건 처리 회원 작업 오류. memberId={}", memberId, e);
+            failAll(memberId, pendings, results, e);
+            return;
+        }
+
+        // 커밋 완료 → 작업별 응답 저장 (Redis 동기, DB 비동기)
+        for (int i = 0; i < pendings.size(); i++) {
+            Pending pending = pendings.get(i);
+            StoredResponse response = serializer.apply(pending.command().type(), outcomes.get(i));
+            if (pending.command().hasIdempotencyKey()) {
+                saveResponse(pending.command().idempotencyKey(), response);
+                idempotencyRecordPort.saveResponseAsync(pending.command().idempotencyKey(), response);
+            }
+            results[pending.index()] = PointBatchItemResult.succeeded(response);
+        }
+    }
+
+    /**
+     * DB에 이미 기록된 작업은 저장된 응답으로 확정하고, 기록되지 않은 작업만 반환
+     */
+    private List<Pending> replayRecorded(List<Pending> pendings, PointBatchItemResult[] results) {
+        List<Pending> remaining = new ArrayList<>(pendings.size());
+        for (Pending pending : pendings) {
+            if (!pending.command().hasIdempotencyKey()) {
+                remaining.add(pending);
+                continue;
+            }
+            String key = pending.command().idempotencyKey();
+            Admission recorded = idempotencyRecordPort.find(key);
+            switch (recorded.status()) {
+                case ACQUIRED -> remaining.add(pending);
+                case ALREADY_COMPLETED -> {
+                    log.info("멱등성 DB 기록 히트. key={}", key);
+                    if (recorded.response() != null) {
+                        saveResponse(key, recorded.response());
+                    } else {
+                        idempotencyKeyPort.remove(key);
+                    }
+                    results[pending.index()] = replayed(pending, recorded.response());
+                }
+                case PROCESSING -> remaining.add(pending);
+            }
+        }
+        return remaining;
+    }
+
+    private void failAll(UUID memberId, List<Pending> pendings, PointBatchItemResult[] results, RuntimeException e) {
+        log.warn("다건 처리 회원 작업 실패. memberId={}, error={}", memberId, e.getMessage());
+        pendings.forEach(pending -> results[pending.index()] = PointBatchItemResult.failed(e));
+        removeKeys(pendings);
+    }
+
+    private void removeKeys(List<Pending> pendings) {
+        for (Pending pending : pendings) {
+            if (pending.command().hasIdempotencyKey()) {
+                idempotencyKeyPort.remove(pending.command().idempotencyKey());
+            }
+        }
+    }
+
+    /**
+     * 저장된 응답으로 재전송 (응답이 아직 저장되지 않았으면 중복 요청으로 실패)
+     */
+    private static PointBatchItemResult replayed(Pending pending, StoredResponse response) {
+        if (response == null) {
+            return PointBatchItemResult.failed(new DuplicateRecordException(pending.command().idempotencyKey()));
+        }
+        return PointBatchItemResult.replayed(response);
+    }
+
+    private void saveResponse(String idempotencyKey, StoredResponse response) {
+        try {
+            idempotencyKeyPort.saveResponse(idempotencyKey, response);
+        } catch (Exception e) {
+            log.warn("멱등성 결과 저장 실패. key={}, error={}", idempotencyKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 대기 작업
+     * @param index 작업 목록 내 위치
+     */
+    private record Pending(int index, PointOperationCommand command) {}
+}
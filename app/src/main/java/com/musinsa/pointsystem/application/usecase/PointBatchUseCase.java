@@ -0,0 +1,96 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.application.dto.PointOperationCommand;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import com.musinsa.pointsystem.domain.model.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 단위 다건 처리 UseCase
+ * - 한 회원의 작업을 요청 순서대로 분산락 1회 + 트랜잭션 1개 안에서 실행 (회원 단위 전체 성공/전체 롤백)
+ * - 단건 UseCase를 그대로 호출 (같은 락은 재획득 없이 통과, 트랜잭션은 참여)
+ * - 작업별 멱등성 키는 같은 트랜잭션 커밋 직전 기록 → 이미 기록된 키가 있으면 DuplicateRecordException으로 전체 롤백
+ * - 회원 간 병렬 실행과 작업별 멱등성은 호출 측(PointBatchExecutor)에서 담당
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointBatchUseCase {
+
+    private final EarnPointUseCase earnPointUseCase;
+    private final UsePointUseCase usePointUseCase;
+    private final CancelUsePointUseCase cancelUsePointUseCase;
+    private final CancelEarnPointUseCase cancelEarnPointUseCase;
+    private final IdempotencyRecordPort idempotencyRecordPort;
+
+    /**
+     * @param operations 같은 회원의 작업 (요청 순서)
+     * @return 작업별 결과 (EarnPointResult, UsePointResult, CancelUsePointResult, CancelEarnPointResult)
+     * @throws OperationFailedException 작업 하나라도 실패하면 실패 위치와 원인 (트랜잭션 롤백)
+     */
+    @DistributedLock(key = "'lock:point:member:' + #memberId")
+    @Transactional
+    public List<Object> execute(UUID memberId, List<PointOperationCommand> operations) {
+        log.info("다건 처리 시작. memberId={}, operations={}", memberId, operations.size());
+
+        List<Object> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperationCommand operation = operations.get(i);
+            if (!memberId.equals(operation.memberId())) {
+                throw new IllegalArgumentException("다른 회원의 작업이 포함되어 있습니다. memberId=" + memberId);
+            }
+            try {
+                if (operation.hasIdempotencyKey()) {
+                    idempotencyRecordPort.record(operation.idempotencyKey());
+                }
+                results.add(dispatch(operation));
+            } catch (RuntimeException e) {
+                throw new OperationFailedException(i, e);
+            }
+        }
+
+        log.info("다건 처리 완료. memberId={}, operations={}", memberId, operations.size());
+        return results;
+    }
+
+    private Object dispatch(PointOperationCommand operation) {
+        return switch (operation.type()) {
+            case EARN -> earnPointUseCase.execute(operation.earn());
+            case USE -> usePointUseCase.execute(operation.use());
+            case CANCEL_USE -> cancelUsePointUseCase.execute(operation.cancelUse());
+            case CANCEL_EARN -> cancelEarnPointUseCase.execute(operation.cancelEarn());
+        };
+    }
+
+    /**
+     * 회원 작업 중 하나가 실패함 (같은 회원의 작업 전체 롤백)
+     */
+    public static class OperationFailedException extends RuntimeException {
+
+        private final int index;
+
+        public OperationFailedException(int index, RuntimeException cause) {
+            super("다건 처리 작업 실패. index=" + index, cause);
+            this.index = index;
+        }
+
+        /**
+         * 실패한 작업의 회원 작업 목록 내 위치
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public synchronized RuntimeException getCause() {
+            return (RuntimeException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.application.dto.UsePointCommand;
+import com.musinsa.pointsystem.application.dto.UsePointResult;
+import com.musinsa.pointsystem.application.usecase.UsePointUseCase.GroupOutcome;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort.DuplicateRecordException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 사용 그룹 커밋 (같은 회원 동시 사용 요청 묶음 처리)
+ * - 비활성화 시 UsePointUseCase.execute 그대로 호출
+ * - 활성화 시 회원별 대기열에 요청을 넣고, 대기열 선두 요청(리더)만 분산락을 획득해
+ *   자신과 뒤에 쌓인 요청(최대 max-group-size)을 UsePointUseCase.executeGroup으로 한 번에 처리
+ * - 리더는 한 묶음만 처리한 뒤 다음 선두 요청에 리더를 넘김 → 한 요청이 다른 요청 처리를 계속 떠맡지 않음
+ * - 묶음이 리더 1건뿐이면 기존 단건 경로(인덱스 경로 포함) 사용
+ * - 각 요청은 자신의 결과 또는 예외(InsufficientPointException 등)를 받음
+ * - 대기열은 JVM 단위 (다른 인스턴스 요청과는 분산락으로 직렬화)
+ */
+@Component
+@Slf4j
+public class UsePointGroupCommitter {
+
+    private final UsePointUseCase usePointUseCase;
+    private final IdempotencyRecordPort idempotencyRecordPort;
+    private final boolean enabled;
+    private final int maxGroupSize;
+    private final ConcurrentHashMap<UUID, MemberQueue> queues = new ConcurrentHashMap<>();
+
+    public UsePointGroupCommitter(UsePointUseCase usePointUseCase,
+                                  IdempotencyRecordPort idempotencyRecordPort,
+                                  @Value("${point-use.group-commit.enabled:false}") boolean enabled,
+                                  @Value("${point-use.group-commit.max-group-size:50}") int maxGroupSize) {
+        this.usePointUseCase = usePointUseCase;
+        this.idempotencyRecordPort = idempotencyRecordPort;
+        this.enabled = enabled;
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    public UsePointResult execute(UsePointCommand command) {
+        if (!enabled) {
+            return usePointUseCase.execute(command);
+        }
+        UsePointUseCase.validateOrderId(command);
+
+        Pending pending = new Pending(command, idempotencyRecordPort.currentKey());
+        MemberQueue queue = enqueue(command.memberId(), pending);
+        if (!pending.turn.isDone()) {
+            // 결과(실패 포함) 또는 리더 차례 중 먼저 오는 것을 대기
+            CompletableFuture.anyOf(pending.result, pending.turn).handle((ignored, e) -> null).join();
+        }
+        if (!pending.result.isDone()) {
+            lead(command.memberId(), queue);
+        }
+        try {
+            return pending.result.join();
+        } catch (CompletionException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * 대기열에 추가 (리더가 없으면 바로 리더가 됨)
+     * - 종료된 대기열(리더가 비우고 제거함)을 받았으면 새 대기열로 재시도
+     */
+    private MemberQueue enqueue(UUID memberId, Pending pending) {
+        while (true) {
+            MemberQueue queue = queues.computeIfAbsent(memberId, id -> new MemberQueue());
+            queue.lock.lock();
+            try {
+                if (queue.closed) {
+                    continue;
+                }
+                queue.pendings.addLast(pending);
+                if (!queue.leading) {
+                    // 리더는 자신을 대기열에서 꺼낸 뒤 처리하므로 대기열 크기가 아닌 리더 유무로 판단
+                    queue.leading = true;
+                    pending.turn.complete(null);
+                }
+                return queue;
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 선두부터 한 묶음 처리 후 다음 선두에 리더 위임 (대기열이 비었으면 종료)
+     */
+    private void lead(UUID memberId, MemberQueue queue) {
+        List<Pending> group = new ArrayList<>();
+        queue.lock.lock();
+        try {
+            while (group.size() < maxGroupSize && !queue.pendings.isEmpty()) {
+                group.add(queue.pendings.pollFirst());
+            }
+        } finally {
+            queue.lock.unlock();
+        }
+
+        try {
+            apply(memberId, group);
+        } catch (RuntimeException e) {
+            group.forEach(pending -> pending.result.completeExceptionally(e));
+        } finally {
+            // Error 등으로 결과 없이 끝난 요청의 대기 해제 (이미 완료된 요청은 영향 없음)
+            group.forEach(pending -> pending.result.completeExceptionally(
+                    new IllegalStateException("그룹 커밋 처리 중 결과 없이 종료되었습니다. memberId=" + memberId)));
+            queue.lock.lock();
+            try {
+                Pending next = queue.pendings.peekFirst();
+                if (next != null) {
+                    next.turn.complete(null);
+                } else {
+                    queue.closed = true;
+                    queues.remove(memberId, queue);
+                }
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    private void apply(UUID memberId, List<Pending> group) {
+        // 리더 혼자면 단건 경로 (리더 스레드의 멱등성 컨텍스트 그대로 사용)
+        if (group.size() == 1) {
+            Pending self = group.get(0);
+            self.result.complete(usePointUseCase.execute(self.command));
+            return;
+        }
+
+        // 묶음 트랜잭션에서 요청별 키를 직접 기록하므로 리더 스레드의 멱등성 컨텍스트는 잠시 해제
+        String suspendedKey = idempotencyRecordPort.currentKey();
+        if (suspendedKey != null) {
+            idempotencyRecordPort.end();
+        }
+        try {
+            log.debug("포인트 사용 그룹 커밋. memberId={}, requests={}", memberId, group.size());
+            try {
+                complete(group, usePointUseCase.executeGroup(memberId, commandsOf(group), keysOf(group)));
+            } catch (DuplicateRecordException e) {
+                // 이미 기록된 멱등성 키가 섞여 묶음 전체가 롤백됨 → 요청별로 다시 처리해 해당 요청만 중복 처리
+                log.info("그룹 커밋 멱등성 기록 충돌, 요청별 재처리. memberId={}", memberId);
+                for (Pending pending : group) {
+                    try {
+                        complete(List.of(pending), usePointUseCase.executeGroup(
+                                memberId, List.of(pending.command), keysOf(List.of(pending))));
+                    } catch (RuntimeException individual) {
+                        pending.result.completeExceptionally(individual);
+                    }
+                }
+            }
+        } finally {
+            if (suspendedKey != null) {
+                idempotencyRecordPort.begin(suspendedKey);
+            }
+        }
+    }
+
+    /**
+     * 회원 대기열의 대기 요청 수 (처리 중인 묶음 제외, 대기열이 없으면 0)
+     */
+    int pendingCount(UUID memberId) {
+        MemberQueue queue = queues.get(memberId);
+        if (queue == null) {
+            return 0;
+        }
+        queue.lock.lock();
+        try {
+            return queue.pendings.size();
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    /**
+     * 회원 대기열 존재 여부 (대기 요청을 모두 처리하면 제거됨)
+     */
+    boolean hasQueue(UUID memberId) {
+        return queues.containsKey(memberId);
+    }
+
+    private static void complete(List<Pending> group, List<GroupOutcome> outcomes) {
+        for (int i = 0; i < group.size(); i++) {
+            GroupOutcome outcome = outcomes.get(i);
+            if (outcome.failure() != null) {
+                group.get(i).result.completeExceptionally(outcome.failure());
+            } else {
+                group.get(i).result.complete(outcome.result());
+            }
+        }
+    }
+
+    private static List<UsePointCommand> commandsOf(List<Pending> group) {
+        List<UsePointCommand> commands = new ArrayList<>(group.size());
+        group.forEach(pending -> commands.add(pending.command));
+        return commands;
+    }
+
+    private static List<String> keysOf(List<Pending> group) {
+        List<String> keys = new ArrayList<>(group.size());
+        group.forEach(pending -> keys.add(pending.idempotencyKey));
+        return keys;
+    }
+
+    /**
+     * 회원별 대기열
+     * - ReentrantLock 사용 (가상 스레드에서 호출되어도 synchronized처럼 캐리어 스레드를 고정하지 않음)
+     * - leading: 리더 존재 여부 (리더 위임 중에도 유지, 대기열 종료 시까지 true)
+     */
+    private static final class MemberQueue {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<Pending> pendings = new ArrayDeque<>();
+        private boolean leading;
+        private boolean closed;
+    }
+
+    /**
+     * 대기 요청
+     * - turn: 리더 차례가 되면 완료
+     * - result: 처리 결과
+     */
+    private static final class Pending {
+        private final UsePointCommand command;
+        private final String idempotencyKey;
+        private final CompletableFuture<Void> turn = new CompletableFuture<>();
+        private final CompletableFuture<UsePointResult> result = new CompletableFuture<>();
+
+        private Pending(UsePointCommand command, String idempotencyKey) {
+            this.command = command;
+            this.idempotencyKey = idempotencyKey;
+        }
+    }
+}
@@ -3,30 +3,47 @@ package com.musinsa.pointsystem.application.usecase;
 import com.musinsa.pointsystem.application.dto.UsePointCommand;
 import com.musinsa.pointsystem.application.dto.UsePointResult;
 import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+import com.musinsa.pointsystem.domain.exception.InsufficientPointException;
 import com.musinsa.pointsystem.domain.exception.InvalidOrderIdException;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import com.musinsa.pointsystem.domain.model.DeductionPlan;
 import com.musinsa.pointsystem.domain.model.LedgerEntry;
 import com.musinsa.pointsystem.domain.model.PointLedger;
 import com.musinsa.pointsystem.domain.model.DistributedLock;
 import com.musinsa.pointsystem.domain.repository.IdGenerator;
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort;
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort.IndexedLedger;
 import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
 import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
 import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository.UsableSummary;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
 import com.musinsa.pointsystem.domain.model.PointRules;
+import com.musinsa.pointsystem.domain.service.DeductionPlanner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * 포인트 사용 UseCase
  * - 오케스트레이션만 담당
  * - 비즈니스 규칙은 PointRules에 위임
  * - 멱등성 처리는 Controller(IdempotencySupport)에서 담당
+ *
+ * 처리 경로
+ * - 인덱스 경로: 적립건 인덱스(Redis)로 트랜잭션 전에 차감 계획 수립 → 트랜잭션 안에서 건수/합계 집계와 조건부 UPDATE로 검증
+ * - DB 경로: 사용 가능 적립건 조회 후 차감 (인덱스 미사용/미스/불일치 시)
+ * - 그룹 커밋 경로: 락 대기 중 쌓인 같은 회원 요청을 적립건 조회 1회 + 할당 1회 순회 + 커밋 1회로 처리
+ *   (UsePointGroupCommitter에서 호출)
  */
 @Service
 @RequiredArgsConstructor
@@ -35,12 +52,16 @@ public class UsePointUseCase {
 
     private final PointLedgerRepository pointLedgerRepository;
     private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerIndexPort ledgerIndexPort;
     private final PointEventPublisher eventPublisher;
+    private final PointLiabilityRepository pointLiabilityRepository;
+    private final DeductionPlanner deductionPlanner;
     private final IdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final IdempotencyRecordPort idempotencyRecordPort;
     private final Clock clock;
 
     @DistributedLock(key = "'lock:point:member:' + #command.memberId")
-    @Transactional
     public UsePointResult execute(UsePointCommand command) {
         log.info("포인트 사용 시작. memberId={}, amount={}, orderId={}",
                 command.memberId(), command.amount(), command.orderId());
@@ -48,63 +69,268 @@ public class UsePointUseCase {
         LocalDateTime now = LocalDateTime.now(clock);
 
         // 1. 주문 ID 검증
+        validateOrderId(command);
+
+        // 2. 인덱스 경로 시도 (실패 시 DB 경로)
+        Optional<UsePointResult> indexedResult = tryUseWithIndex(command, now);
+        if (indexedResult.isPresent()) {
+            return indexedResult.get();
+        }
+
+        return transactionTemplate.execute(status -> useWithLedgers(command, now));
+    }
+
+    /**
+     * 같은 회원의 사용 요청 묶음 처리 (그룹 커밋)
+     * - 요청 순서대로 잔여 금액 배열을 차감하며 검증 → 잔액 부족 요청만 실패, 나머지는 한 트랜잭션으로 반영
+     * - 적립건별 차감은 묶음 합계로 조건부 UPDATE 1회
+     * - 멱등성 키는 성공한 요청만 같은 트랜잭션에서 기록 (호출 스레드의 멱등성 컨텍스트는 호출 측에서 해제)
+     * @param commands 같은 회원의 요청 (주문 ID 검증 완료)
+     * @param idempotencyKeys 요청별 멱등성 키 (없으면 null)
+     * @return 요청별 결과 (요청 순서)
+     */
+    @DistributedLock(key = "'lock:point:member:' + #memberId")
+    public List<GroupOutcome> executeGroup(UUID memberId, List<UsePointCommand> commands, List<String> idempotencyKeys) {
+        log.info("포인트 그룹 사용 시작. memberId={}, requests={}", memberId, commands.size());
+        LocalDateTime now = LocalDateTime.now(clock);
+        return transactionTemplate.execute(status -> useGroupWithLedgers(memberId, commands, idempotencyKeys, now));
+    }
+
+    static void validateOrderId(UsePointCommand command) {
         if (command.orderId() == null || command.orderId().isBlank()) {
             throw new InvalidOrderIdException("주문 ID는 필수입니다.");
         }
+    }
 
-        // 2. 사용 가능한 Ledger 조회
+    // =====================================================
+    // DB 경로
+    // =====================================================
+
+    private UsePointResult useWithLedgers(UsePointCommand command, LocalDateTime now) {
+        // 1. 사용 가능한 Ledger 조회 (우선순위 순 정렬 완료)
         List<PointLedger> availableLedgers = pointLedgerRepository.findAvailableByMemberId(
                 command.memberId(), now);
 
-        // 3. 잔액 계산 및 검증
-        long availableBalance = PointRules.calculateAvailableBalance(availableLedgers, now);
-        PointRules.validateSufficientBalance(availableBalance, command.amount());
+        // 2. 잔액 계산 + 선입선출 차감 계획 (1회 순회) 및 검증
+        DeductionPlan plan = deductionPlanner.plan(availableLedgers, command.amount(), now);
+        PointRules.validateSufficientBalance(plan.availableBalance(), command.amount());
 
-        // 4. 선입선출 차감 처리
-        List<PointLedger> updatedLedgers = new ArrayList<>();
-        List<LedgerEntry> newEntries = new ArrayList<>();
-        long remainingAmount = command.amount();
+        // 3. 저장 (계획대로 조건부 차감, 분산락 보유 중이므로 불일치는 락 밖 변경)
+        if (!pointLedgerRepository.deductAll(availableLedgers, plan, now)) {
+            throw new IllegalStateException("적립건 잔액이 조회 이후 변경되었습니다. memberId=" + command.memberId());
+        }
+        List<LedgerEntry> newEntries = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            newEntries.add(LedgerEntry.createUse(
+                    idGenerator.generate(),
+                    availableLedgers.get(plan.index(i)).id(),
+                    plan.amount(i),
+                    command.orderId(),
+                    now
+            ));
+        }
+        ledgerEntryRepository.saveAll(newEntries);
 
-        List<PointLedger> sortedLedgers = PointRules.getAvailableLedgersSorted(availableLedgers, now);
+        // 4. 인덱스 갱신 (커밋 후 반영)
+        List<IndexedLedger> remainingLedgers = new ArrayList<>(availableLedgers.size());
+        for (int i = 0, next = 0; i < availableLedgers.size(); i++) {
+            PointLedger ledger = availableLedgers.get(i);
+            IndexedLedger indexed = IndexedLedger.from(ledger);
+            if (next < plan.size() && plan.index(next) == i) {
+                indexed = indexed.withAvailableAmount(ledger.availableAmount() - plan.amount(next++));
+            }
+            remainingLedgers.add(indexed);
+        }
+        ledgerIndexPort.refresh(command.memberId(), remainingLedgers);
 
-        for (PointLedger ledger : sortedLedgers) {
-            if (remainingAmount <= 0) break;
+        return complete(command, plan.availableBalance(), plan.size(), now);
+    }
 
-            long useAmount = Math.min(remainingAmount, ledger.availableAmount());
-            remainingAmount -= useAmount;
+    // =====================================================
+    // 그룹 커밋 경로
+    // =====================================================
 
-            // Ledger 업데이트
-            PointLedger updated = ledger.withAvailableAmount(ledger.availableAmount() - useAmount);
-            updatedLedgers.add(updated);
+    private List<GroupOutcome> useGroupWithLedgers(UUID memberId, List<UsePointCommand> commands,
+                                                   List<String> idempotencyKeys, LocalDateTime now) {
+        // 1. 사용 가능한 Ledger 조회 1회 (우선순위 순 정렬 완료)
+        List<PointLedger> availableLedgers = pointLedgerRepository.findAvailableByMemberId(memberId, now);
+        int ledgerCount = availableLedgers.size();
+        long[] remaining = new long[ledgerCount];
+        for (int i = 0; i < ledgerCount; i++) {
+            PointLedger ledger = availableLedgers.get(i);
+            remaining[i] = PointRules.isAvailable(ledger, now) ? ledger.availableAmount() : 0L;
+        }
 
-            // USE Entry 생성
-            LedgerEntry useEntry = LedgerEntry.createUse(
-                    idGenerator.generate(),
-                    ledger.id(),
-                    useAmount,
-                    command.orderId(),
-                    now
-            );
-            newEntries.add(useEntry);
+        // 2. 요청 순서대로 할당 (잔여 금액 배열 차감, 잔액 부족 요청은 건너뜀)
+        List<GroupOutcome> outcomes = new ArrayList<>(commands.size());
+        List<LedgerEntry> newEntries = new ArrayList<>();
+        List<PointUsedEvent> events = new ArrayList<>(commands.size());
+        long totalUsed = 0;
+        for (int c = 0; c < commands.size(); c++) {
+            UsePointCommand command = commands.get(c);
+            DeductionPlan plan = deductionPlanner.plan(remaining, command.amount());
+            try {
+                PointRules.validateSufficientBalance(plan.availableBalance(), command.amount());
+            } catch (InsufficientPointException e) {
+                outcomes.add(GroupOutcome.failed(e));
+                continue;
+            }
+            for (int i = 0; i < plan.size(); i++) {
+                remaining[plan.index(i)] -= plan.amount(i);
+                newEntries.add(LedgerEntry.createUse(
+                        idGenerator.generate(),
+                        availableLedgers.get(plan.index(i)).id(),
+                        plan.amount(i),
+                        command.orderId(),
+                        now
+                ));
+            }
+            String idempotencyKey = idempotencyKeys.get(c);
+            if (idempotencyKey != null) {
+                idempotencyRecordPort.record(idempotencyKey);
+            }
+            totalUsed += command.amount();
+            events.add(PointUsedEvent.of(memberId, command.amount(), command.orderId(), plan.size(), now));
+            outcomes.add(GroupOutcome.succeeded(UsePointResult.builder()
+                    .memberId(memberId)
+                    .usedAmount(command.amount())
+                    .totalBalance(plan.availableBalance() - command.amount())
+                    .orderId(command.orderId())
+                    .build()));
+        }
+        if (totalUsed == 0) {
+            return outcomes;
         }
 
-        // 5. 저장
-        pointLedgerRepository.saveAll(updatedLedgers);
+        // 3. 저장 (적립건별 차감 합계로 조건부 UPDATE 1회, 이력은 일괄 저장)
+        List<IndexedLedger> remainingLedgers = new ArrayList<>(ledgerCount);
+        for (int i = 0; i < ledgerCount; i++) {
+            PointLedger ledger = availableLedgers.get(i);
+            IndexedLedger indexed = IndexedLedger.from(ledger);
+            long deducted = PointRules.isAvailable(ledger, now) ? ledger.availableAmount() - remaining[i] : 0L;
+            if (deducted > 0) {
+                if (!pointLedgerRepository.deductIfUnchanged(ledger.id(), ledger.availableAmount(), deducted, now)) {
+                    throw new IllegalStateException("적립건 잔액이 조회 이후 변경되었습니다. memberId=" + memberId);
+                }
+                indexed = indexed.withAvailableAmount(remaining[i]);
+            }
+            remainingLedgers.add(indexed);
+        }
         ledgerEntryRepository.saveAll(newEntries);
+        ledgerIndexPort.refresh(memberId, remainingLedgers);
+        pointLiabilityRepository.add(memberId, -totalUsed);
+
+        // 4. 이벤트 일괄 발행 (캐시 무효화는 이벤트 핸들러에서 트랜잭션 커밋 후 처리)
+        eventPublisher.publishAll(events);
 
-        // 6. 이벤트 발행 (캐시 무효화는 이벤트 핸들러에서 트랜잭션 커밋 후 처리)
+        log.info("포인트 그룹 사용 완료. memberId={}, requests={}, succeeded={}, usedAmount={}",
+                memberId, commands.size(), events.size(), totalUsed);
+        return outcomes;
+    }
+
+    /**
+     * 그룹 커밋 요청별 결과 (result, failure 중 하나만 존재)
+     */
+    public record GroupOutcome(UsePointResult result, RuntimeException failure) {
+
+        static GroupOutcome succeeded(UsePointResult result) {
+            return new GroupOutcome(result, null);
+        }
+
+        static GroupOutcome failed(RuntimeException failure) {
+            return new GroupOutcome(null, failure);
+        }
+    }
+
+    // =====================================================
+    // 인덱스 경로
+    // =====================================================
+
+    /**
+     * 적립건 인덱스로 차감 계획을 세운 뒤 트랜잭션 안에서 조건부 UPDATE로 검증
+     * - 외부 트랜잭션이 있으면 사용하지 않음 (불일치 시 롤백 범위를 제어할 수 없음)
+     * - 인덱스 잔액이 부족하면 DB 경로에서 정확한 잔액으로 검증
+     * - 차감 전 사용 가능 적립건 건수/잔액 합계를 인덱스와 비교 (집계 1회)
+     *   → 인덱스 삭제 실패 등으로 빠진 적립건(수기 지급, 만료 임박분)을 건너뛰거나 잘못된 잔액을 반환하지 않음
+     */
+    private Optional<UsePointResult> tryUseWithIndex(UsePointCommand command, LocalDateTime now) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Optional.empty();
+        }
+        Optional<List<IndexedLedger>> indexed = ledgerIndexPort.findUsableLedgers(command.memberId(), now);
+        if (indexed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<IndexedLedger> ledgers = indexed.get();
+        DeductionPlan plan = deductionPlanner.plan(ledgers, IndexedLedger::availableAmount, command.amount());
+        if (!plan.isSufficient()) {
+            return Optional.empty();
+        }
+
+        // 차감 후 인덱스 (트랜잭션 밖, 차감 대상만 새로 생성)
+        List<IndexedLedger> remainingLedgers = new ArrayList<>(ledgers);
+        for (int i = 0; i < plan.size(); i++) {
+            IndexedLedger ledger = ledgers.get(plan.index(i));
+            remainingLedgers.set(plan.index(i), ledger.withAvailableAmount(ledger.availableAmount() - plan.amount(i)));
+        }
+
+        try {
+            return Optional.ofNullable(transactionTemplate.execute(status -> {
+                UsableSummary summary = pointLedgerRepository.summarizeUsable(command.memberId(), now);
+                if (summary.count() != ledgers.size() || summary.balance() != plan.availableBalance()) {
+                    throw new LedgerIndexMismatchException();
+                }
+
+                List<LedgerEntry> newEntries = new ArrayList<>(plan.size());
+                for (int i = 0; i < plan.size(); i++) {
+                    IndexedLedger ledger = ledgers.get(plan.index(i));
+                    long useAmount = plan.amount(i);
+                    if (!pointLedgerRepository.deductIfUnchanged(
+                            ledger.ledgerId(), ledger.availableAmount(), useAmount, now)) {
+                        throw new LedgerIndexMismatchException();
+                    }
+                    newEntries.add(LedgerEntry.createUse(
+                            idGenerator.generate(), ledger.ledgerId(), useAmount, command.orderId(), now));
+                }
+                ledgerEntryRepository.saveAll(newEntries);
+                ledgerIndexPort.refresh(command.memberId(), remainingLedgers);
+
+                return complete(command, plan.availableBalance(), plan.size(), now);
+            }));
+        } catch (LedgerIndexMismatchException e) {
+            log.warn("적립건 인덱스 불일치, DB 경로로 재처리. memberId={}", command.memberId());
+            try {
+                ledgerIndexPort.evict(command.memberId());
+            } catch (RuntimeException evictFailure) {
+                // 남은 인덱스는 다음 사용에서도 불일치로 걸러지고, DB 경로 커밋 후 갱신으로 교체됨
+                log.warn("적립건 인덱스 삭제 실패. memberId={}, error={}", command.memberId(), evictFailure.getMessage());
+            }
+            return Optional.empty();
+        }
+    }
+
+    // =====================================================
+    // 공통
+    // =====================================================
+
+    private UsePointResult complete(UsePointCommand command, long availableBalance, int usedLedgerCount,
+                                    LocalDateTime now) {
+        pointLiabilityRepository.add(command.memberId(), -command.amount());
+
+        // 이벤트 발행 (캐시 무효화는 이벤트 핸들러에서 트랜잭션 커밋 후 처리)
         eventPublisher.publish(PointUsedEvent.of(
                 command.memberId(),
                 command.amount(),
                 command.orderId(),
-                updatedLedgers.size(),
+                usedLedgerCount,
                 now
         ));
 
         long newBalance = availableBalance - command.amount();
 
         log.info("포인트 사용 완료. memberId={}, usedAmount={}, totalBalance={}, usedLedgerCount={}",
-                command.memberId(), command.amount(), newBalance, updatedLedgers.size());
+                command.memberId(), command.amount(), newBalance, usedLedgerCount);
 
         return UsePointResult.builder()
                 .memberId(command.memberId())
@@ -113,4 +339,13 @@ public class UsePointUseCase {
                 .orderId(command.orderId())
                 .build();
     }
+
+    /**
+     * 인덱스 스냅샷과 DB 상태 불일치 (트랜잭션 롤백 후 DB 경로로 재처리)
+     */
+    private static class LedgerIndexMismatchException extends RuntimeException {
+        LedgerIndexMismatchException() {
+            super(null, null, false, false);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.musinsa.pointsystem.infra.health;
+
+import com.musinsa.pointsystem.infra.cache.BalanceCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 캐시 워밍 헬스체크
+ * - 워밍 중에는 OUT_OF_SERVICE, 완료(또는 타임아웃/비활성화) 후 UP
+ * - readiness 그룹에는 포함하지 않음 → warmup 그룹(/actuator/health/warmup)으로 노출 (startupProbe 용도)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final BalanceCacheWarmer balanceCacheWarmer;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = balanceCacheWarmer.isReady() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("state", balanceCacheWarmer.getState())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.musinsa.pointsystem.presentation.controller;
+
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
+import com.musinsa.pointsystem.presentation.dto.response.PointLiabilityResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 포인트 부채 조회 API (운영/재무용)
+ * - 프로덕션 환경에서는 접근 제어 필요 (Spring Security, IP 제한 등)
+ */
+@RestController
+@RequestMapping("/admin/liability")
+@RequiredArgsConstructor
+@Tag(name = "Liability Admin", description = "포인트 부채 조회 API (운영용)")
+public class LiabilityAdminController {
+
+    private final PointLiabilityRepository pointLiabilityRepository;
+
+    @GetMapping
+    @Operation(summary = "전체 미사용 잔액 조회",
+            description = "부채 카운터 스트라이프 합계를 조회합니다. point_ledger 전체 집계 없이 응답하며, " +
+                    "마지막 만료 스윕 이후 만료분은 다음 스윕에서 반영됩니다.")
+    public ResponseEntity<PointLiabilityResponse> getLiability() {
+        return ResponseEntity.ok(PointLiabilityResponse.from(pointLiabilityRepository.getLiability()));
+    }
+}
@@ -4,11 +4,17 @@ import com.musinsa.pointsystem.application.dto.PageQuery;
 import com.musinsa.pointsystem.application.dto.PagedResult;
 import com.musinsa.pointsystem.application.dto.PointBalanceResult;
 import com.musinsa.pointsystem.application.dto.PointHistoryResult;
+import com.musinsa.pointsystem.application.dto.PointSummaryResult;
+import com.musinsa.pointsystem.application.usecase.GetBulkPointBalanceUseCase;
 import com.musinsa.pointsystem.application.usecase.GetPointBalanceUseCase;
 import com.musinsa.pointsystem.application.usecase.GetPointHistoryUseCase;
+import com.musinsa.pointsystem.application.usecase.GetPointSummaryUseCase;
+import com.musinsa.pointsystem.presentation.dto.request.BulkPointBalanceRequest;
+import com.musinsa.pointsystem.presentation.dto.response.BulkPointBalanceResponse;
 import com.musinsa.pointsystem.presentation.dto.response.PageResponse;
 import com.musinsa.pointsystem.presentation.dto.response.PointBalanceResponse;
 import com.musinsa.pointsystem.presentation.dto.response.PointHistoryResponse;
+import com.musinsa.pointsystem.presentation.dto.response.PointSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,9 +22,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Point Balance", description = "포인트 잔액/이력 조회 API")
@@ -30,7 +38,9 @@ public class PointBalanceController {
     private static final String MEMBER_ID_HEADER = "X-Member-Id";
 
     private final GetPointBalanceUseCase getPointBalanceUseCase;
+    private final GetBulkPointBalanceUseCase getBulkPointBalanceUseCase;
     private final GetPointHistoryUseCase getPointHistoryUseCase;
+    private final GetPointSummaryUseCase getPointSummaryUseCase;
 
     @Operation(
             summary = "포인트 잔액 조회",
@@ -49,6 +59,23 @@ public class PointBalanceController {
         return PointBalanceResponse.from(result);
     }
 
+    @Operation(
+            summary = "다건 포인트 잔액 조회",
+            description = "여러 회원의 현재 포인트 잔액을 한 번에 조회합니다. (내부 시스템용)\n\n" +
+                    "- 최대 1000명, 중복 회원 ID는 한 번만 반환\n" +
+                    "- 존재하지 않는 회원은 잔액 0으로 반환"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BulkPointBalanceResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (빈 목록, 1000명 초과)")
+    })
+    @PostMapping("/balances")
+    public BulkPointBalanceResponse getBalances(@Valid @RequestBody BulkPointBalanceRequest request) {
+        List<PointBalanceResult> results = getBulkPointBalanceUseCase.execute(request.memberIds());
+        return BulkPointBalanceResponse.from(results);
+    }
+
     @Operation(
             summary = "포인트 변동 이력 조회",
             description = "회원의 포인트 변동 이력을 페이지네이션으로 조회합니다.\n\n" +
@@ -73,4 +100,27 @@ public class PointBalanceController {
         PagedResult<PointHistoryResult> history = getPointHistoryUseCase.execute(memberId, pageQuery);
         return PageResponse.from(history, PointHistoryResponse::from);
     }
+
+    @Operation(
+            summary = "월별/연별 포인트 변동 요약 조회",
+            description = "회원의 월별(month 지정) 또는 연별(month 생략) 적립/사용 금액 합계를 조회합니다.\n\n" +
+                    "- 일자 기준: Asia/Seoul\n" +
+                    "- 변동 직후 수 초간 반영되지 않을 수 있음 (비동기 집계)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PointSummaryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간 (연도 범위, 1~12 외 월)")
+    })
+    @GetMapping("/summary")
+    public PointSummaryResponse getSummary(
+            @Parameter(description = "회원 ID (Gateway에서 주입)", required = true)
+            @RequestHeader(MEMBER_ID_HEADER) UUID memberId,
+            @Parameter(description = "연도", example = "2026", required = true)
+            @RequestParam int year,
+            @Parameter(description = "월 (생략 시 연 요약)", example = "10")
+            @RequestParam(required = false) Integer month) {
+        PointSummaryResult result = getPointSummaryUseCase.execute(memberId, year, month);
+        return PointSummaryResponse.from(result);
+    }
 }
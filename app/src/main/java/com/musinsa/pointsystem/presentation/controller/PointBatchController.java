@@ -0,0 +1,43 @@
+package com.musinsa.pointsystem.presentation.controller;
+
+import com.musinsa.pointsystem.presentation.dto.request.PointBatchRequest;
+import com.musinsa.pointsystem.presentation.dto.response.ErrorResponse;
+import com.musinsa.pointsystem.presentation.dto.response.PointBatchResponse;
+import com.musinsa.pointsystem.presentation.support.PointBatchSupport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Point Batch", description = "다건 포인트 처리 API (서비스 간 호출용)")
+@RestController
+@RequestMapping("/api/v1/points/batch")
+@RequiredArgsConstructor
+public class PointBatchController {
+
+    private final PointBatchSupport pointBatchSupport;
+
+    @Operation(
+            summary = "다건 포인트 처리",
+            description = "여러 회원의 적립/사용/취소 작업을 한 번에 처리합니다.\n\n" +
+                    "- 같은 회원의 작업: 요청 순서대로 한 트랜잭션에서 처리 (하나라도 실패하면 모두 롤백)\n" +
+                    "- 다른 회원의 작업: 병렬 처리 (서로 영향 없음)\n" +
+                    "- 작업별 멱등성 키: 단건 API의 Idempotency-Key와 같은 키 공간\n" +
+                    "- 작업별 결과는 요청 순서로 반환 (HTTP 상태는 항상 200)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 완료 (작업별 결과 확인)",
+                    content = @Content(schema = @Schema(implementation = PointBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping
+    public PointBatchResponse execute(@Valid @RequestBody PointBatchRequest request) {
+        return pointBatchSupport.execute(request.operations());
+    }
+}
@@ -16,6 +16,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -57,6 +58,7 @@ public class PointEarnController {
             @RequestHeader(MEMBER_ID_HEADER) UUID memberId,
             @Parameter(description = "멱등성 키 (중복 요청 방지용)")
             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletResponse servletResponse,
             @Valid @RequestBody EarnPointRequest request) {
 
         EarnPointCommand command = EarnPointCommand.builder()
@@ -68,7 +70,7 @@ public class PointEarnController {
 
         return idempotencySupport.execute(
                 idempotencyKey,
-                EarnPointResponse.class,
+                servletResponse,
                 () -> earnPointUseCase.execute(command),
                 EarnPointResponse::from
         );
@@ -97,7 +99,8 @@ public class PointEarnController {
             @Parameter(description = "취소할 적립건 ID", required = true)
             @PathVariable UUID ledgerId,
             @Parameter(description = "멱등성 키 (중복 요청 방지용)")
-            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletResponse servletResponse) {
 
         CancelEarnPointCommand command = CancelEarnPointCommand.builder()
                 .memberId(memberId)
@@ -106,7 +109,7 @@ public class PointEarnController {
 
         return idempotencySupport.execute(
                 idempotencyKey,
-                CancelEarnPointResponse.class,
+                servletResponse,
                 () -> cancelEarnPointUseCase.execute(command),
                 CancelEarnPointResponse::from
         );
@@ -3,7 +3,7 @@ package com.musinsa.pointsystem.presentation.controller;
 import com.musinsa.pointsystem.application.dto.CancelUsePointCommand;
 import com.musinsa.pointsystem.application.dto.UsePointCommand;
 import com.musinsa.pointsystem.application.usecase.CancelUsePointUseCase;
-import com.musinsa.pointsystem.application.usecase.UsePointUseCase;
+import com.musinsa.pointsystem.application.usecase.UsePointGroupCommitter;
 import com.musinsa.pointsystem.presentation.dto.request.CancelUsePointRequest;
 import com.musinsa.pointsystem.presentation.dto.request.UsePointRequest;
 import com.musinsa.pointsystem.presentation.dto.response.CancelUsePointResponse;
@@ -17,6 +17,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -31,7 +32,7 @@ public class PointUseController {
 
     private static final String MEMBER_ID_HEADER = "X-Member-Id";
 
-    private final UsePointUseCase usePointUseCase;
+    private final UsePointGroupCommitter usePointGroupCommitter;
     private final CancelUsePointUseCase cancelUsePointUseCase;
     private final IdempotencySupport idempotencySupport;
 
@@ -56,6 +57,7 @@ public class PointUseController {
             @RequestHeader(MEMBER_ID_HEADER) UUID memberId,
             @Parameter(description = "멱등성 키 (중복 요청 방지용)")
             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletResponse servletResponse,
             @Valid @RequestBody UsePointRequest request) {
 
         UsePointCommand command = UsePointCommand.builder()
@@ -66,8 +68,8 @@ public class PointUseController {
 
         return idempotencySupport.execute(
                 idempotencyKey,
-                UsePointResponse.class,
-                () -> usePointUseCase.execute(command),
+                servletResponse,
+                () -> usePointGroupCommitter.execute(command),
                 UsePointResponse::from
         );
     }
@@ -96,6 +98,7 @@ public class PointUseController {
             @RequestHeader(MEMBER_ID_HEADER) UUID memberId,
             @Parameter(description = "멱등성 키 (중복 요청 방지용)")
             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletResponse servletResponse,
             @Valid @RequestBody CancelUsePointRequest request) {
 
         CancelUsePointCommand command = CancelUsePointCommand.builder()
@@ -106,7 +109,7 @@ public class PointUseController {
 
         return idempotencySupport.execute(
                 idempotencyKey,
-                CancelUsePointResponse.class,
+                servletResponse,
                 () -> cancelUsePointUseCase.execute(command),
                 CancelUsePointResponse::from
         );
@@ -0,0 +1,21 @@
+package com.musinsa.pointsystem.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "다건 포인트 잔액 조회 요청")
+@Builder
+public record BulkPointBalanceRequest(
+
+        @ArraySchema(schema = @Schema(description = "회원 ID"), maxItems = 1000)
+        @NotEmpty(message = "회원 ID 목록은 필수입니다.")
+        @Size(max = 1000, message = "회원 ID는 최대 1000개까지 조회할 수 있습니다.")
+        List<@NotNull(message = "회원 ID는 null일 수 없습니다.") UUID> memberIds
+) {}
@@ -0,0 +1,61 @@
+package com.musinsa.pointsystem.presentation.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "다건 포인트 처리 요청")
+@Builder
+public record PointBatchRequest(
+
+        @ArraySchema(schema = @Schema(implementation = Operation.class), maxItems = 500)
+        @NotEmpty(message = "작업 목록은 필수입니다.")
+        @Size(max = 500, message = "작업은 최대 500개까지 요청할 수 있습니다.")
+        List<@NotNull(message = "작업은 null일 수 없습니다.") @Valid Operation> operations
+) {
+
+    @Schema(description = "단일 작업 (유형별 필수 항목은 단건 API와 동일)")
+    @Builder
+    public record Operation(
+
+            @Schema(description = "작업 유형", example = "EARN",
+                    allowableValues = {"EARN", "USE", "CANCEL_USE", "CANCEL_EARN"})
+            @NotNull(message = "작업 유형은 필수입니다.")
+            @Pattern(regexp = "^(EARN|USE|CANCEL_USE|CANCEL_EARN)$",
+                    message = "작업 유형은 EARN, USE, CANCEL_USE, CANCEL_EARN 중 하나여야 합니다.")
+            String type,
+
+            @Schema(description = "회원 ID")
+            @NotNull(message = "회원 ID는 필수입니다.")
+            UUID memberId,
+
+            @Schema(description = "작업별 멱등성 키 (단건 API의 Idempotency-Key와 같은 키 공간)", example = "settle-20240101-0001")
+            String idempotencyKey,
+
+            @Schema(description = "적립/사용 금액 (EARN, USE)", example = "1000")
+            Long amount,
+
+            @Schema(description = "적립 유형 (EARN)", example = "SYSTEM", allowableValues = {"MANUAL", "SYSTEM"})
+            String earnType,
+
+            @Schema(description = "만료일 (EARN, 일 단위, 미입력 시 기본 365일)", example = "365")
+            Integer expirationDays,
+
+            @Schema(description = "주문번호 (USE, CANCEL_USE)", example = "ORD-20240101-001")
+            String orderId,
+
+            @Schema(description = "취소 금액 (CANCEL_USE)", example = "500")
+            Long cancelAmount,
+
+            @Schema(description = "취소할 적립건 ID (CANCEL_EARN)")
+            UUID ledgerId
+    ) {}
+}
@@ -0,0 +1,23 @@
+package com.musinsa.pointsystem.presentation.dto.response;
+
+import com.musinsa.pointsystem.application.dto.PointBalanceResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "다건 포인트 잔액 응답")
+@Builder
+public record BulkPointBalanceResponse(
+
+        @Schema(description = "회원별 잔액 (요청 순서, 중복 제거)")
+        List<PointBalanceResponse> balances
+) {
+    public static BulkPointBalanceResponse from(List<PointBalanceResult> results) {
+        return BulkPointBalanceResponse.builder()
+                .balances(results.stream()
+                        .map(PointBalanceResponse::from)
+                        .toList())
+                .build();
+    }
+}
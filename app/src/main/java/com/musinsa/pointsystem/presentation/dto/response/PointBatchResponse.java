@@ -0,0 +1,54 @@
+package com.musinsa.pointsystem.presentation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "다건 포인트 처리 응답")
+@Builder
+public record PointBatchResponse(
+
+        @Schema(description = "작업별 결과 (요청 순서)")
+        List<OperationResult> results
+) {
+
+    public enum Status {
+        SUCCEEDED,      // 처리 완료
+        REPLAYED,       // 같은 멱등성 키로 이미 처리됨 (저장된 응답)
+        IN_PROGRESS,    // 같은 멱등성 키로 다른 요청이 처리 중
+        FAILED,         // 이 작업이 실패함
+        ROLLED_BACK     // 같은 회원의 다른 작업이 실패하여 함께 롤백됨
+    }
+
+    @Schema(description = "작업 결과")
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record OperationResult(
+
+            @Schema(description = "요청 내 작업 위치 (0부터)", example = "0")
+            int index,
+
+            @Schema(description = "작업 유형", example = "EARN")
+            String type,
+
+            @Schema(description = "회원 ID")
+            UUID memberId,
+
+            @Schema(description = "처리 결과", example = "SUCCEEDED")
+            Status status,
+
+            @Schema(description = "에러 코드 (FAILED, ROLLED_BACK)", example = "INSUFFICIENT_POINT")
+            String errorCode,
+
+            @Schema(description = "에러 메시지 (FAILED, ROLLED_BACK)", example = "잔액이 부족합니다.")
+            String message,
+
+            @Schema(description = "단건 API와 같은 응답 본문 (SUCCEEDED, REPLAYED)", type = "object")
+            @JsonRawValue
+            String response
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.musinsa.pointsystem.presentation.dto.response;
+
+import com.musinsa.pointsystem.domain.model.PointLiability;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "포인트 부채(전체 미사용 잔액) 응답")
+@Builder
+public record PointLiabilityResponse(
+
+        @Schema(description = "전체 미사용 잔액", example = "1250000000")
+        long amount,
+
+        @Schema(description = "만료 차감 반영 시각 (UTC, 이후 만료분은 다음 스윕에서 차감)", example = "2026-10-19T03:00:00")
+        LocalDateTime sweptUntil
+) {
+    public static PointLiabilityResponse from(PointLiability liability) {
+        return PointLiabilityResponse.builder()
+                .amount(liability.amount())
+                .sweptUntil(liability.sweptUntil())
+                .build();
+    }
+}
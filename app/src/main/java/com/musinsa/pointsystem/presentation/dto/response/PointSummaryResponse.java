@@ -0,0 +1,46 @@
+package com.musinsa.pointsystem.presentation.dto.response;
+
+import com.musinsa.pointsystem.application.dto.PointSummaryResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "기간별 포인트 변동 요약 응답")
+@Builder
+public record PointSummaryResponse(
+
+        @Schema(description = "회원 ID")
+        UUID memberId,
+
+        @Schema(description = "시작일 (포함)", example = "2026-10-01")
+        LocalDate from,
+
+        @Schema(description = "종료일 (포함)", example = "2026-10-31")
+        LocalDate to,
+
+        @Schema(description = "적립 금액", example = "10000")
+        long earnedAmount,
+
+        @Schema(description = "적립취소 금액", example = "1000")
+        long earnCanceledAmount,
+
+        @Schema(description = "사용 금액", example = "5000")
+        long usedAmount,
+
+        @Schema(description = "사용취소 금액", example = "500")
+        long useCanceledAmount
+) {
+    public static PointSummaryResponse from(PointSummaryResult result) {
+        return PointSummaryResponse.builder()
+                .memberId(result.memberId())
+                .from(result.from())
+                .to(result.to())
+                .earnedAmount(result.earnedAmount())
+                .earnCanceledAmount(result.earnCanceledAmount())
+                .usedAmount(result.usedAmount())
+                .useCanceledAmount(result.useCanceledAmount())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.musinsa.pointsystem.presentation.exception;
+
+import com.musinsa.pointsystem.domain.exception.InsufficientPointException;
+import com.musinsa.pointsystem.domain.exception.InvalidCancelAmountException;
+import com.musinsa.pointsystem.domain.exception.InvalidEarnAmountException;
+import com.musinsa.pointsystem.domain.exception.InvalidExpirationException;
+import com.musinsa.pointsystem.domain.exception.InvalidOrderIdException;
+import com.musinsa.pointsystem.domain.exception.InvalidSummaryPeriodException;
+import com.musinsa.pointsystem.domain.exception.MaxBalanceExceededException;
+import com.musinsa.pointsystem.domain.exception.MemberPointNotFoundException;
+import com.musinsa.pointsystem.domain.exception.PointException;
+import com.musinsa.pointsystem.domain.exception.PointLedgerAlreadyCanceledException;
+import com.musinsa.pointsystem.domain.exception.PointLedgerAlreadyUsedException;
+import com.musinsa.pointsystem.domain.exception.PointLedgerNotFoundException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * API 에러 코드
+ * - 단건 API(GlobalExceptionHandler)와 다건 처리 API 작업별 결과(PointBatchSupport)가 같은 매핑 사용
+ * - 도메인 예외는 예외 타입 → 코드/HTTP 상태/로그 설명으로 매핑 (매핑이 없으면 POINT_ERROR)
+ */
+@Getter
+public enum ErrorCode {
+
+    LEDGER_NOT_FOUND(HttpStatus.NOT_FOUND, PointLedgerNotFoundException.class, "적립건을 찾을 수 없음"),
+    MEMBER_POINT_NOT_FOUND(HttpStatus.NOT_FOUND, MemberPointNotFoundException.class, "회원 포인트를 찾을 수 없음"),
+    INSUFFICIENT_POINT(HttpStatus.BAD_REQUEST, InsufficientPointException.class, "포인트 부족"),
+    INVALID_EARN_AMOUNT(HttpStatus.BAD_REQUEST, InvalidEarnAmountException.class, "유효하지 않은 적립 금액"),
+    MAX_BALANCE_EXCEEDED(HttpStatus.BAD_REQUEST, MaxBalanceExceededException.class, "최대 보유 금액 초과"),
+    INVALID_EXPIRATION(HttpStatus.BAD_REQUEST, InvalidExpirationException.class, "유효하지 않은 만료일"),
+    LEDGER_ALREADY_CANCELED(HttpStatus.BAD_REQUEST, PointLedgerAlreadyCanceledException.class, "이미 취소된 적립건"),
+    LEDGER_ALREADY_USED(HttpStatus.BAD_REQUEST, PointLedgerAlreadyUsedException.class, "이미 사용된 적립건"),
+    INVALID_CANCEL_AMOUNT(HttpStatus.BAD_REQUEST, InvalidCancelAmountException.class, "유효하지 않은 취소 금액"),
+    INVALID_ORDER_ID(HttpStatus.BAD_REQUEST, InvalidOrderIdException.class, "유효하지 않은 주문번호"),
+    INVALID_SUMMARY_PERIOD(HttpStatus.BAD_REQUEST, InvalidSummaryPeriodException.class, "유효하지 않은 조회 기간"),
+    POINT_ERROR(HttpStatus.BAD_REQUEST, null, "포인트 처리 실패"),
+
+    VALIDATION_ERROR(HttpStatus.BAD_REQUEST),
+    DUPLICATE_REQUEST(HttpStatus.CONFLICT),
+    REQUEST_IN_PROGRESS(HttpStatus.ACCEPTED),
+    LOCK_ACQUISITION_FAILED(HttpStatus.SERVICE_UNAVAILABLE),
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private static final Map<Class<? extends PointException>, ErrorCode> BY_EXCEPTION = new HashMap<>();
+
+    static {
+        for (ErrorCode code : values()) {
+            if (code.exceptionType != null) {
+                BY_EXCEPTION.put(code.exceptionType, code);
+            }
+        }
+    }
+
+    private final HttpStatus status;
+    private final Class<? extends PointException> exceptionType;
+    /**
+     * 로그 설명 (도메인 예외만)
+     */
+    private final String description;
+
+    ErrorCode(HttpStatus status) {
+        this(status, null, null);
+    }
+
+    ErrorCode(HttpStatus status, Class<? extends PointException> exceptionType, String description) {
+        this.status = status;
+        this.exceptionType = exceptionType;
+        this.description = description;
+    }
+
+    public static ErrorCode of(PointException e) {
+        return BY_EXCEPTION.getOrDefault(e.getClass(), POINT_ERROR);
+    }
+}
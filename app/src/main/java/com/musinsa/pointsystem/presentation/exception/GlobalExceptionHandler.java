@@ -1,15 +1,17 @@
 package com.musinsa.pointsystem.presentation.exception;
 
-import com.musinsa.pointsystem.domain.exception.*;
+import com.musinsa.pointsystem.domain.exception.LockAcquisitionFailedException;
+import com.musinsa.pointsystem.domain.exception.PointException;
 import com.musinsa.pointsystem.presentation.dto.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.stream.Collectors;
 
@@ -19,82 +21,23 @@ public class GlobalExceptionHandler {
 
     private static final int RETRY_AFTER_SECONDS = 3;
 
-    @ExceptionHandler(PointLedgerNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handlePointLedgerNotFound(PointLedgerNotFoundException e) {
-        log.warn("적립건을 찾을 수 없음: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ErrorResponse.of("LEDGER_NOT_FOUND", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(MemberPointNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleMemberPointNotFound(MemberPointNotFoundException e) {
-        log.warn("회원 포인트를 찾을 수 없음: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ErrorResponse.of("MEMBER_POINT_NOT_FOUND", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(InsufficientPointException.class)
-    public ResponseEntity<ErrorResponse> handleInsufficientPoint(InsufficientPointException e) {
-        log.warn("포인트 부족: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("INSUFFICIENT_POINT", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(InvalidEarnAmountException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidEarnAmount(InvalidEarnAmountException e) {
-        log.warn("유효하지 않은 적립 금액: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("INVALID_EARN_AMOUNT", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(MaxBalanceExceededException.class)
-    public ResponseEntity<ErrorResponse> handleMaxBalanceExceeded(MaxBalanceExceededException e) {
-        log.warn("최대 보유 금액 초과: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("MAX_BALANCE_EXCEEDED", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(InvalidExpirationException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidExpiration(InvalidExpirationException e) {
-        log.warn("유효하지 않은 만료일: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("INVALID_EXPIRATION", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(PointLedgerAlreadyCanceledException.class)
-    public ResponseEntity<ErrorResponse> handlePointLedgerAlreadyCanceled(PointLedgerAlreadyCanceledException e) {
-        log.warn("이미 취소된 적립건: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("LEDGER_ALREADY_CANCELED", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(PointLedgerAlreadyUsedException.class)
-    public ResponseEntity<ErrorResponse> handlePointLedgerAlreadyUsed(PointLedgerAlreadyUsedException e) {
-        log.warn("이미 사용된 적립건: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("LEDGER_ALREADY_USED", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(InvalidCancelAmountException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidCancelAmount(InvalidCancelAmountException e) {
-        log.warn("유효하지 않은 취소 금액: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("INVALID_CANCEL_AMOUNT", e.getUserMessage()));
-    }
-
-    @ExceptionHandler(InvalidOrderIdException.class)
-    public ResponseEntity<ErrorResponse> handleInvalidOrderId(InvalidOrderIdException e) {
-        log.warn("유효하지 않은 주문번호: {}", e.getInternalMessage());
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("INVALID_ORDER_ID", e.getUserMessage()));
+    /**
+     * 도메인 예외 (예외 타입별 코드/상태는 ErrorCode 매핑)
+     */
+    @ExceptionHandler(PointException.class)
+    public ResponseEntity<ErrorResponse> handlePointException(PointException e) {
+        ErrorCode code = ErrorCode.of(e);
+        log.warn("{}: {}", code.getDescription(), e.getInternalMessage());
+        return ResponseEntity.status(code.getStatus())
+                .body(ErrorResponse.of(code.name(), e.getUserMessage()));
     }
 
     @ExceptionHandler(LockAcquisitionFailedException.class)
     public ResponseEntity<ErrorResponse> handleLockAcquisitionFailed(LockAcquisitionFailedException e) {
         log.error("분산락 획득 실패: {}", e.getMessage());
-        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        return ResponseEntity.status(ErrorCode.LOCK_ACQUISITION_FAILED.getStatus())
                 .header(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS))
-                .body(ErrorResponse.of("LOCK_ACQUISITION_FAILED",
+                .body(ErrorResponse.of(ErrorCode.LOCK_ACQUISITION_FAILED.name(),
                         "서버가 바쁩니다. " + RETRY_AFTER_SECONDS + "초 후 다시 시도해주세요."));
     }
 
@@ -104,30 +47,44 @@ public class GlobalExceptionHandler {
                 .map(FieldError::getDefaultMessage)
                 .collect(Collectors.joining(", "));
         log.warn("유효성 검증 실패: {}", message);
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ErrorResponse.of("VALIDATION_ERROR", message));
+        return ResponseEntity.status(ErrorCode.VALIDATION_ERROR.getStatus())
+                .body(ErrorResponse.of(ErrorCode.VALIDATION_ERROR.name(), message));
+    }
+
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingServletRequestParameterException e) {
+        log.warn("필수 파라미터 누락: {}", e.getParameterName());
+        return ResponseEntity.status(ErrorCode.VALIDATION_ERROR.getStatus())
+                .body(ErrorResponse.of(ErrorCode.VALIDATION_ERROR.name(), e.getParameterName() + "은(는) 필수입니다."));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        log.warn("파라미터 형식 오류: {}={}", e.getName(), e.getValue());
+        return ResponseEntity.status(ErrorCode.VALIDATION_ERROR.getStatus())
+                .body(ErrorResponse.of(ErrorCode.VALIDATION_ERROR.name(), e.getName() + " 형식이 올바르지 않습니다."));
     }
 
     @ExceptionHandler(DuplicateRequestException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateRequest(DuplicateRequestException e) {
         log.warn("중복 요청 감지: {}", e.getMessage());
-        return ResponseEntity.status(HttpStatus.CONFLICT)
-                .body(ErrorResponse.of("DUPLICATE_REQUEST", e.getMessage()));
+        return ResponseEntity.status(ErrorCode.DUPLICATE_REQUEST.getStatus())
+                .body(ErrorResponse.of(ErrorCode.DUPLICATE_REQUEST.name(), e.getMessage()));
     }
 
     @ExceptionHandler(RequestInProgressException.class)
     public ResponseEntity<ErrorResponse> handleRequestInProgress(RequestInProgressException e) {
         log.info("요청 처리 중: {}", e.getMessage());
-        return ResponseEntity.status(HttpStatus.ACCEPTED)
+        return ResponseEntity.status(ErrorCode.REQUEST_IN_PROGRESS.getStatus())
                 .header(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS))
-                .body(ErrorResponse.of("REQUEST_IN_PROGRESS",
+                .body(ErrorResponse.of(ErrorCode.REQUEST_IN_PROGRESS.name(),
                         "요청이 처리 중입니다. " + RETRY_AFTER_SECONDS + "초 후 다시 시도해주세요."));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("예상치 못한 오류 발생", e);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ErrorResponse.of("INTERNAL_ERROR", "서버 오류가 발생했습니다."));
+        return ResponseEntity.status(ErrorCode.INTERNAL_ERROR.getStatus())
+                .body(ErrorResponse.of(ErrorCode.INTERNAL_ERROR.name(), "서버 오류가 발생했습니다."));
     }
 }
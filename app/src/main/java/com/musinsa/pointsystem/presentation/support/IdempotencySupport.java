@@ -2,14 +2,29 @@ package com.musinsa.pointsystem.presentation.support;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort;
-import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.AcquireResult;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort.DuplicateRecordException;
 import com.musinsa.pointsystem.presentation.exception.DuplicateRequestException;
 import com.musinsa.pointsystem.presentation.exception.RequestInProgressException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -17,7 +32,12 @@ import java.util.function.Supplier;
  * 멱등성 처리 공통 로직
  * - 모든 변경 API에서 사용
  * - 중복 요청 방지
- * - 결과 캐싱
+ * - 결과 캐싱: 직렬화된 응답 bytes(상태 코드, Content-Type 포함)를 저장
+ * - 재요청 시 저장된 bytes를 응답 스트림에 그대로 기록 (역직렬화/재직렬화 없음)
+ * - 저장소: Redis(앞단 캐시) + DB(idempotency_record, 비즈니스 변경과 같은 트랜잭션에서 기록)
+ *   → Redis 유실 후 재시도는 DB 유니크 키 충돌로 롤백되고, DB에 저장된 응답으로 재전송
+ * - 처리 중인 키로 재요청 시 완료 대기는 비동기 응답(DeferredResult)으로 처리
+ *   → 요청 스레드를 반환하고 완료 알림(또는 타임아웃) 시 저장된 응답 재전송
  */
 @Component
 @RequiredArgsConstructor
@@ -25,94 +45,157 @@ import java.util.function.Supplier;
 public class IdempotencySupport {
 
     private final IdempotencyKeyPort idempotencyKeyPort;
+    private final IdempotencyRecordPort idempotencyRecordPort;
     private final ObjectMapper objectMapper;
 
     /**
      * 멱등성 보장 실행 (UseCase + 변환)
+     * - 멱등성 키가 없으면 응답 객체를 반환 (Spring MVC가 직렬화)
+     * - 멱등성 키가 있으면 응답을 직접 기록하고 null 반환
+     *   (처음 처리: 한 번 직렬화한 bytes를 저장 + 기록, 재요청: 저장된 bytes 기록)
      * @param idempotencyKey 멱등성 키 (null이면 멱등성 처리 없이 실행)
-     * @param responseType 응답 타입
+     * @param servletResponse 응답을 직접 기록할 HttpServletResponse
      * @param useCase UseCase 실행 함수
      * @param mapper 결과를 응답으로 변환하는 함수
-     * @return 응답 객체
+     * @return 응답 객체 (멱등성 키가 있으면 null)
      */
     public <R, T> T execute(
             String idempotencyKey,
-            Class<T> responseType,
+            HttpServletResponse servletResponse,
             Supplier<R> useCase,
             Function<R, T> mapper) {
-        return executeWithIdempotency(idempotencyKey, responseType, () -> mapper.apply(useCase.get()));
-    }
-
-    /**
-     * 멱등성 보장 실행
-     * @param idempotencyKey 멱등성 키 (null이면 멱등성 처리 없이 실행)
-     * @param responseType 응답 타입
-     * @param operation 실제 비즈니스 로직
-     * @return 응답 객체
-     */
-    public <T> T executeWithIdempotency(String idempotencyKey, Class<T> responseType, Supplier<T> operation) {
         // 멱등성 키가 없으면 바로 실행
         if (idempotencyKey == null || idempotencyKey.isBlank()) {
-            return operation.get();
+            return mapper.apply(useCase.get());
         }
 
-        // 1. 이미 처리된 결과가 있으면 반환
-        Optional<T> cachedResult = getCachedResult(idempotencyKey, responseType);
-        if (cachedResult.isPresent()) {
-            log.debug("멱등성 캐시 히트. key={}", idempotencyKey);
-            return cachedResult.get();
-        }
-
-        // 2. 새 요청 처리 시도
-        AcquireResult acquireResult = idempotencyKeyPort.tryAcquire(idempotencyKey);
-        switch (acquireResult) {
+        // 1. 입장 (획득/처리 중/완료 결과를 Redis 1회 왕복으로 확인)
+        Admission admission = idempotencyKeyPort.admit(idempotencyKey);
+        switch (admission.status()) {
             case ACQUIRED:
                 // 정상 처리 계속
                 break;
             case ALREADY_COMPLETED:
-                // race condition으로 캐시 miss 후 완료된 경우
-                Optional<T> completedResult = getCachedResult(idempotencyKey, responseType);
-                if (completedResult.isPresent()) {
-                    return completedResult.get();
+                if (admission.response() == null) {
+                    throw new DuplicateRequestException(idempotencyKey);
                 }
-                throw new DuplicateRequestException(idempotencyKey);
+                log.debug("멱등성 캐시 히트. key={}", idempotencyKey);
+                write(servletResponse, admission.response());
+                return null;
             case PROCESSING:
-                // 다른 요청이 처리 중
-                throw new RequestInProgressException(idempotencyKey);
+                // 다른 요청이 처리 중 → 완료를 제한 시간 동안 대기, 그래도 미완료면 처리 중 응답
+                awaitCompletion(idempotencyKey, servletResponse);
+                return null;
         }
 
-        // 3. 비즈니스 로직 실행
+        // 2. 비즈니스 로직 실행 (쓰기 트랜잭션 커밋 시 DB에 멱등성 키 기록)
+        StoredResponse response;
+        idempotencyRecordPort.begin(idempotencyKey);
         try {
-            T response = operation.get();
-
-            // 4. 결과 저장
-            saveResult(idempotencyKey, response);
-
-            return response;
+            response = serialize(mapper.apply(useCase.get()));
+        } catch (DuplicateRecordException e) {
+            // Redis 유실 등으로 이미 커밋된 요청이 재실행됨 → DB 기록으로 응답
+            replayFromRecord(idempotencyKey, servletResponse);
+            return null;
         } catch (Exception e) {
             // 실패 시 멱등성 키 삭제 (재시도 허용)
             idempotencyKeyPort.remove(idempotencyKey);
             throw e;
+        } finally {
+            idempotencyRecordPort.end();
         }
+
+        // 3. 결과 저장 (Redis 동기, DB 비동기) 후 응답 기록
+        saveResponse(idempotencyKey, response);
+        idempotencyRecordPort.saveResponseAsync(idempotencyKey, response);
+        write(servletResponse, response);
+        return null;
     }
 
-    private <T> Optional<T> getCachedResult(String idempotencyKey, Class<T> responseType) {
-        return idempotencyKeyPort.getResult(idempotencyKey)
-                .flatMap(json -> {
-                    try {
-                        return Optional.of(objectMapper.readValue(json, responseType));
-                    } catch (Exception e) {
-                        log.warn("멱등성 캐시 역직렬화 실패. key={}, error={}", idempotencyKey, e.getMessage());
-                        return Optional.empty();
-                    }
-                });
+    /**
+     * 처리 중인 요청의 완료 대기
+     * - 대기하지 않도록 설정된 경우 요청 스레드에서 바로 처리 중 응답
+     * - 그 외에는 비동기 처리 시작 후 요청 스레드 반환 (완료/타임아웃 시 Spring MVC가 재디스패치하여 응답)
+     */
+    private void awaitCompletion(String idempotencyKey, HttpServletResponse servletResponse) {
+        CompletableFuture<Optional<StoredResponse>> completion = idempotencyKeyPort.awaitResponseAsync(idempotencyKey);
+        if (completion.isDone()) {
+            StoredResponse completed = completion.join()
+                    .orElseThrow(() -> new RequestInProgressException(idempotencyKey));
+            write(servletResponse, completed);
+            return;
+        }
+
+        DeferredResult<ResponseEntity<byte[]>> deferred = new DeferredResult<>();
+        startAsync(deferred);
+        completion.whenComplete((stored, error) -> {
+            if (error != null) {
+                deferred.setErrorResult(error instanceof CompletionException ? error.getCause() : error);
+            } else if (stored.isPresent()) {
+                log.debug("멱등성 처리 완료 대기 후 응답. key={}", idempotencyKey);
+                deferred.setResult(toResponseEntity(stored.get()));
+            } else {
+                deferred.setErrorResult(new RequestInProgressException(idempotencyKey));
+            }
+        });
     }
 
-    private <T> void saveResult(String idempotencyKey, T response) {
+    private void startAsync(DeferredResult<?> deferred) {
+        HttpServletRequest request =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
         try {
-            idempotencyKeyPort.saveResult(idempotencyKey, objectMapper.writeValueAsString(response));
+            WebAsyncUtils.getAsyncManager(request).startDeferredResultProcessing(deferred);
+        } catch (Exception e) {
+            throw new IllegalStateException("비동기 응답 시작 실패", e);
+        }
+    }
+
+    private static ResponseEntity<byte[]> toResponseEntity(StoredResponse response) {
+        return ResponseEntity.status(response.status())
+                .contentType(MediaType.parseMediaType(response.contentType()))
+                .body(response.body());
+    }
+
+    /**
+     * DB 기록 기준 재전송 (Redis 캐시 재적재)
+     * - 응답이 아직 저장되지 않았으면 중복 요청으로 처리
+     */
+    private void replayFromRecord(String idempotencyKey, HttpServletResponse servletResponse) {
+        StoredResponse stored = idempotencyRecordPort.find(idempotencyKey).response();
+        if (stored == null) {
+            idempotencyKeyPort.remove(idempotencyKey);
+            throw new DuplicateRequestException(idempotencyKey);
+        }
+        log.info("멱등성 DB 기록 히트. key={}", idempotencyKey);
+        saveResponse(idempotencyKey, stored);
+        write(servletResponse, stored);
+    }
+
+    private StoredResponse serialize(Object response) {
+        try {
+            return StoredResponse.json(objectMapper.writeValueAsBytes(response));
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 직렬화 실패", e);
+        }
+    }
+
+    private void saveResponse(String idempotencyKey, StoredResponse response) {
+        try {
+            idempotencyKeyPort.saveResponse(idempotencyKey, response);
         } catch (Exception e) {
             log.warn("멱등성 결과 저장 실패. key={}, error={}", idempotencyKey, e.getMessage());
         }
     }
+
+    private void write(HttpServletResponse servletResponse, StoredResponse response) {
+        try {
+            servletResponse.setStatus(response.status());
+            servletResponse.setContentType(response.contentType());
+            servletResponse.setContentLength(response.body().length);
+            servletResponse.getOutputStream().write(response.body());
+            servletResponse.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 기록 실패", e);
+        }
+    }
 }
@@ -0,0 +1,222 @@
+package com.musinsa.pointsystem.presentation.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.pointsystem.application.dto.CancelEarnPointCommand;
+import com.musinsa.pointsystem.application.dto.CancelEarnPointResult;
+import com.musinsa.pointsystem.application.dto.CancelUsePointCommand;
+import com.musinsa.pointsystem.application.dto.CancelUsePointResult;
+import com.musinsa.pointsystem.application.dto.EarnPointCommand;
+import com.musinsa.pointsystem.application.dto.EarnPointResult;
+import com.musinsa.pointsystem.application.dto.PointBatchItemResult;
+import com.musinsa.pointsystem.application.dto.PointOperationCommand;
+import com.musinsa.pointsystem.application.dto.UsePointCommand;
+import com.musinsa.pointsystem.application.dto.UsePointResult;
+import com.musinsa.pointsystem.application.usecase.PointBatchExecutor;
+import com.musinsa.pointsystem.domain.exception.LockAcquisitionFailedException;
+import com.musinsa.pointsystem.domain.exception.PointException;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort.DuplicateRecordException;
+import com.musinsa.pointsystem.presentation.dto.request.PointBatchRequest.Operation;
+import com.musinsa.pointsystem.presentation.dto.response.CancelEarnPointResponse;
+import com.musinsa.pointsystem.presentation.dto.response.CancelUsePointResponse;
+import com.musinsa.pointsystem.presentation.dto.response.EarnPointResponse;
+import com.musinsa.pointsystem.presentation.dto.response.PointBatchResponse;
+import com.musinsa.pointsystem.presentation.dto.response.PointBatchResponse.OperationResult;
+import com.musinsa.pointsystem.presentation.dto.response.PointBatchResponse.Status;
+import com.musinsa.pointsystem.presentation.dto.response.UsePointResponse;
+import com.musinsa.pointsystem.presentation.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 다건 처리 API 요청/응답 변환
+ * - 작업 검증(유형별 필수 항목, 요청 내 멱등성 키 중복) 후 PointBatchExecutor로 실행
+ * - 작업 결과는 단건 API와 같은 응답 DTO로 직렬화 (같은 멱등성 키로 단건 API 재요청 시 같은 응답)
+ * - 실패 원인은 단건 API와 같은 에러 코드로 변환 (ErrorCode)
+ */
+@Component
+@RequiredArgsConstructor
+public class PointBatchSupport {
+
+    private final PointBatchExecutor pointBatchExecutor;
+    private final ObjectMapper objectMapper;
+
+    public PointBatchResponse execute(List<Operation> operations) {
+        OperationResult[] results = new OperationResult[operations.size()];
+
+        // 1. 작업 변환 (요청 내 중복 멱등성 키는 뒤 작업 실패)
+        List<Integer> indexes = new ArrayList<>(operations.size());
+        List<PointOperationCommand> commands = new ArrayList<>(operations.size());
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            PointOperationCommand command;
+            try {
+                command = toCommand(operation);
+            } catch (IllegalArgumentException e) {
+                results[i] = failed(i, operation, Status.FAILED, ErrorCode.VALIDATION_ERROR, e.getMessage());
+                continue;
+            }
+            if (command.hasIdempotencyKey() && !keys.add(command.idempotencyKey())) {
+                results[i] = failed(i, operation, Status.FAILED, ErrorCode.DUPLICATE_REQUEST,
+                        "요청 안에 같은 멱등성 키가 있습니다: " + command.idempotencyKey());
+                continue;
+            }
+            indexes.add(i);
+            commands.add(command);
+        }
+
+        // 2. 실행 후 요청 위치로 결과 변환
+        List<PointBatchItemResult> executed = pointBatchExecutor.execute(commands, this::serialize);
+        for (int i = 0; i < executed.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = toResult(index, operations.get(index), executed.get(i));
+        }
+
+        return PointBatchResponse.builder()
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    // =====================================================
+    // 변환
+    // =====================================================
+
+    private static PointOperationCommand toCommand(Operation operation) {
+        String key = operation.idempotencyKey();
+        return switch (PointOperationCommand.Type.valueOf(operation.type())) {
+            case EARN -> {
+                require(operation.amount() != null, "적립 금액은 필수입니다.");
+                require(operation.amount() > 0, "적립 금액은 양수여야 합니다.");
+                require("MANUAL".equals(operation.earnType()) || "SYSTEM".equals(operation.earnType()),
+                        "적립 타입은 MANUAL 또는 SYSTEM이어야 합니다.");
+                yield PointOperationCommand.earn(key, EarnPointCommand.builder()
+                        .memberId(operation.memberId())
+                        .amount(operation.amount())
+                        .earnType(operation.earnType())
+                        .expirationDays(operation.expirationDays())
+                        .build());
+            }
+            case USE -> {
+                require(operation.amount() != null, "사용 금액은 필수입니다.");
+                require(operation.amount() > 0, "사용 금액은 양수여야 합니다.");
+                require(operation.orderId() != null && !operation.orderId().isBlank(), "주문번호는 필수입니다.");
+                yield PointOperationCommand.use(key, UsePointCommand.builder()
+                        .memberId(operation.memberId())
+                        .amount(operation.amount())
+                        .orderId(operation.orderId())
+                        .build());
+            }
+            case CANCEL_USE -> {
+                require(operation.orderId() != null && !operation.orderId().isBlank(), "주문 ID는 필수입니다.");
+                require(operation.cancelAmount() != null, "취소 금액은 필수입니다.");
+                require(operation.cancelAmount() > 0, "취소 금액은 양수여야 합니다.");
+                yield PointOperationCommand.cancelUse(key, CancelUsePointCommand.builder()
+                        .memberId(operation.memberId())
+                        .orderId(operation.orderId())
+                        .cancelAmount(operation.cancelAmount())
+                        .build());
+            }
+            case CANCEL_EARN -> {
+                require(operation.ledgerId() != null, "취소할 적립건 ID는 필수입니다.");
+                yield PointOperationCommand.cancelEarn(key, CancelEarnPointCommand.builder()
+                        .memberId(operation.memberId())
+                        .ledgerId(operation.ledgerId())
+                        .build());
+            }
+        };
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * 작업 결과 → 단건 API와 같은 응답 bytes
+     */
+    private StoredResponse serialize(PointOperationCommand.Type type, Object outcome) {
+        Object response = switch (type) {
+            case EARN -> EarnPointResponse.from((EarnPointResult) outcome);
+            case USE -> UsePointResponse.from((UsePointResult) outcome);
+            case CANCEL_USE -> CancelUsePointResponse.from((CancelUsePointResult) outcome);
+            case CANCEL_EARN -> CancelEarnPointResponse.from((CancelEarnPointResult) outcome);
+        };
+        try {
+            return StoredResponse.json(objectMapper.writeValueAsBytes(response));
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 직렬화 실패", e);
+        }
+    }
+
+    private static OperationResult toResult(int index, Operation operation, PointBatchItemResult result) {
+        return switch (result.status()) {
+            case SUCCEEDED -> succeeded(index, operation, Status.SUCCEEDED, result.response());
+            case REPLAYED -> succeeded(index, operation, Status.REPLAYED, result.response());
+            case IN_PROGRESS -> failed(index, operation, Status.IN_PROGRESS, ErrorCode.REQUEST_IN_PROGRESS,
+                    "요청이 처리 중입니다.");
+            case FAILED -> failed(index, operation, Status.FAILED, errorCode(result.error()),
+                    errorMessage(result.error()));
+            case ROLLED_BACK -> failed(index, operation, Status.ROLLED_BACK, errorCode(result.error()),
+                    "같은 회원의 다른 작업이 실패하여 롤백되었습니다.");
+        };
+    }
+
+    private static ErrorCode errorCode(RuntimeException e) {
+        if (e instanceof PointException pointException) {
+            return ErrorCode.of(pointException);
+        }
+        if (e instanceof DuplicateRecordException) {
+            return ErrorCode.DUPLICATE_REQUEST;
+        }
+        if (e instanceof LockAcquisitionFailedException) {
+            return ErrorCode.LOCK_ACQUISITION_FAILED;
+        }
+        return ErrorCode.INTERNAL_ERROR;
+    }
+
+    private static String errorMessage(RuntimeException e) {
+        if (e instanceof PointException pointException) {
+            return pointException.getUserMessage();
+        }
+        if (e instanceof DuplicateRecordException) {
+            return e.getMessage();
+        }
+        if (e instanceof LockAcquisitionFailedException) {
+            return "서버가 바쁩니다. 잠시 후 다시 시도해주세요.";
+        }
+        return "서버 오류가 발생했습니다.";
+    }
+
+    private static OperationResult succeeded(int index, Operation operation, Status status, StoredResponse response) {
+        return OperationResult.builder()
+                .index(index)
+                .type(operation.type())
+                .memberId(operation.memberId())
+                .status(status)
+                .response(new String(response.body(), StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static OperationResult failed(int index, Operation operation, Status status,
+                                          ErrorCode errorCode, String message) {
+        return OperationResult.builder()
+                .index(index)
+                .type(operation.type())
+                .memberId(operation.memberId())
+                .status(status)
+                .errorCode(errorCode.name())
+                .message(message)
+                .build();
+    }
+}
@@ -7,6 +7,8 @@ import com.musinsa.pointsystem.infra.adapter.UuidGenerator;
 import com.musinsa.pointsystem.domain.exception.PointLedgerAlreadyCanceledException;
 import com.musinsa.pointsystem.domain.exception.PointLedgerAlreadyUsedException;
 import com.musinsa.pointsystem.domain.exception.PointLedgerNotFoundException;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,9 @@ class CancelEarnPointUseCaseTest extends IntegrationTestBase {
     @Autowired
     private CancelEarnPointUseCase cancelEarnPointUseCase;
 
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
     @Nested
     @DisplayName("정상 케이스")
     @SqlGroup({
@@ -51,6 +56,31 @@ class CancelEarnPointUseCaseTest extends IntegrationTestBase {
             assertThat(result.canceledAmount()).isEqualTo(1000L);
             assertThat(result.totalBalance()).isEqualTo(0L);
         }
+
+        @Test
+        @DisplayName("CE-T07: 통합으로 흡수된 적립건 취소 시 통합 적립건에서 해당 금액 제외")
+        void cancelConsolidatedEarn_deductsFromConsolidatedLedger() {
+            // GIVEN - SQL로 300원(2005) + 600원(2007) → 통합 적립건(2006) 900원
+            UUID memberId = UUID.fromString("00000000-0000-0000-0000-000000002005");
+            UUID ledgerId = UUID.fromString("00000000-0000-0000-0000-000000002005");
+            UUID consolidatedLedgerId = UUID.fromString("00000000-0000-0000-0000-000000002006");
+            CancelEarnPointCommand command = CancelEarnPointCommand.builder()
+                    .memberId(memberId)
+                    .ledgerId(ledgerId)
+                    .build();
+
+            // WHEN
+            CancelEarnPointResult result = cancelEarnPointUseCase.execute(command);
+
+            // THEN
+            assertThat(result.canceledAmount()).isEqualTo(300L);
+            assertThat(result.totalBalance()).isEqualTo(600L);
+            assertThat(pointLedgerRepository.findById(ledgerId).orElseThrow().canceled()).isTrue();
+            PointLedger consolidated = pointLedgerRepository.findById(consolidatedLedgerId).orElseThrow();
+            assertThat(consolidated.earnedAmount()).isEqualTo(600L);
+            assertThat(consolidated.availableAmount()).isEqualTo(600L);
+            assertThat(consolidated.canceled()).isFalse();
+        }
     }
 
     @Nested
@@ -143,5 +173,22 @@ class CancelEarnPointUseCaseTest extends IntegrationTestBase {
             assertThatThrownBy(() -> cancelEarnPointUseCase.execute(command))
                     .isInstanceOf(PointLedgerNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("CE-T08: 통합 적립건 잔여가 흡수된 적립액보다 적으면 취소 실패")
+        void cancelConsolidatedEarn_whenConsolidatedLedgerUsed_shouldThrowException() {
+            // GIVEN - SQL로 300원(2008) → 통합 적립건(2009) 900원 중 700원 사용됨
+            UUID memberId = UUID.fromString("00000000-0000-0000-0000-000000002008");
+            UUID ledgerId = UUID.fromString("00000000-0000-0000-0000-000000002008");
+            CancelEarnPointCommand command = CancelEarnPointCommand.builder()
+                    .memberId(memberId)
+                    .ledgerId(ledgerId)
+                    .build();
+
+            // WHEN & THEN
+            assertThatThrownBy(() -> cancelEarnPointUseCase.execute(command))
+                    .isInstanceOf(PointLedgerAlreadyUsedException.class);
+            assertThat(pointLedgerRepository.findById(ledgerId).orElseThrow().canceled()).isFalse();
+        }
     }
 }
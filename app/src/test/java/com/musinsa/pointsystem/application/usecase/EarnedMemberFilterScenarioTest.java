@@ -0,0 +1,98 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.application.dto.EarnPointCommand;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.infra.adapter.UuidGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 적립 이력 회원 필터 사용 시나리오 (다른 시나리오 테스트는 필터 비활성화)
+ */
+@TestPropertySource(properties = "membership-filter.enabled=true")
+class EarnedMemberFilterScenarioTest extends IntegrationTestBase {
+
+    private static final String FILTER_KEY = "earned-members";
+    private static final String FILTER_CONFIG_KEY = "{" + FILTER_KEY + "}:config";
+    private static final String READY_SENTINEL = "__ready__";
+
+    @Autowired
+    private EarnPointUseCase earnPointUseCase;
+
+    @Autowired
+    private GetPointBalanceUseCase getPointBalanceUseCase;
+
+    @Autowired
+    private EarnedMemberFilter earnedMemberFilter;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @BeforeEach
+    void setUp() {
+        // 재구성 완료 상태 (기동 시 재구성이 끝나지 않았어도 필터가 적용되도록, 크기는 application.yml과 동일)
+        RBloomFilter<String> filter = redissonClient.getBloomFilter(FILTER_KEY, StringCodec.INSTANCE);
+        filter.tryInit(10_000_000L, 0.001);
+        filter.add(READY_SENTINEL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redissonClient.getKeys().delete(FILTER_KEY, FILTER_CONFIG_KEY);
+    }
+
+    @Test
+    @DisplayName("F-T01: 적립한 회원은 필터를 통과해 잔액이 조회되고, 적립 이력이 없는 회원은 0")
+    void earnedMember_shouldPassFilter() {
+        // GIVEN
+        UUID memberId = new UuidGenerator().generate();
+        UUID otherMemberId = new UuidGenerator().generate();
+
+        // WHEN
+        earnPointUseCase.execute(EarnPointCommand.builder()
+                .memberId(memberId)
+                .amount(1000L)
+                .earnType("SYSTEM")
+                .build());
+
+        // THEN
+        assertThat(earnedMemberFilter.mightHaveEarned(memberId)).isTrue();
+        assertThat(getPointBalanceUseCase.execute(memberId).totalBalance()).isEqualTo(1000L);
+        assertThat(earnedMemberFilter.mightHaveEarned(otherMemberId)).isFalse();
+        assertThat(getPointBalanceUseCase.execute(otherMemberId).totalBalance()).isZero();
+    }
+
+    @Test
+    @DisplayName("F-T02: 필터 기록 실패 시 적립도 실패하고 적립건이 저장되지 않는다")
+    void markEarnedFailure_shouldFailEarn() {
+        // GIVEN - 필터 설정 키를 다른 형식으로 덮어써 Redis 오류 유발
+        UUID memberId = new UuidGenerator().generate();
+        redissonClient.getBucket(FILTER_CONFIG_KEY, StringCodec.INSTANCE).set("not-a-hash");
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> earnPointUseCase.execute(EarnPointCommand.builder()
+                .memberId(memberId)
+                .amount(1000L)
+                .earnType("SYSTEM")
+                .build()))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(pointLedgerRepository.findAllByMemberId(memberId)).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.application.dto.PointSummaryResult;
+import com.musinsa.pointsystem.domain.exception.InvalidSummaryPeriodException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetPointSummaryUseCaseTest extends IntegrationTestBase {
+
+    private static final UUID MEMBER_ID = UUID.fromString("00000000-0000-0000-0000-000000009001");
+
+    @Autowired
+    private GetPointSummaryUseCase getPointSummaryUseCase;
+
+    @Nested
+    @DisplayName("정상 케이스")
+    @SqlGroup({
+            @Sql(scripts = "/sql/summary-test-cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+            @Sql(scripts = "/sql/summary-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+            @Sql(scripts = "/sql/summary-test-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    })
+    class SuccessCases {
+
+        @Test
+        @DisplayName("SM-T01: 월 요약은 1일~말일(윤년 2월 29일 포함) 합계")
+        void monthSummary_sumsWholeMonth() {
+            // GIVEN - SQL로 9001 회원 2024-01-31 ~ 2024-03-01 일별 집계 생성됨
+
+            // WHEN
+            PointSummaryResult result = getPointSummaryUseCase.execute(MEMBER_ID, 2024, 2);
+
+            // THEN - 1월 31일, 3월 1일, 다른 회원(9002) 제외
+            assertThat(result.memberId()).isEqualTo(MEMBER_ID);
+            assertThat(result.from()).isEqualTo(LocalDate.of(2024, 2, 1));
+            assertThat(result.to()).isEqualTo(LocalDate.of(2024, 2, 29));
+            assertThat(result.earnedAmount()).isEqualTo(3200L);
+            assertThat(result.earnCanceledAmount()).isEqualTo(100L);
+            assertThat(result.usedAmount()).isEqualTo(500L);
+            assertThat(result.useCanceledAmount()).isEqualTo(50L);
+        }
+
+        @Test
+        @DisplayName("SM-T02: 평년 2월 요약은 28일까지")
+        void monthSummary_nonLeapFebruary() {
+            // WHEN
+            PointSummaryResult result = getPointSummaryUseCase.execute(MEMBER_ID, 2023, 2);
+
+            // THEN
+            assertThat(result.from()).isEqualTo(LocalDate.of(2023, 2, 1));
+            assertThat(result.to()).isEqualTo(LocalDate.of(2023, 2, 28));
+        }
+
+        @Test
+        @DisplayName("SM-T03: 연 요약은 1월 1일~12월 31일 합계 (전년 12월 31일, 다음 해 1월 1일 제외)")
+        void yearSummary_sumsWholeYear() {
+            // WHEN
+            PointSummaryResult result = getPointSummaryUseCase.execute(MEMBER_ID, 2024, null);
+
+            // THEN
+            assertThat(result.from()).isEqualTo(LocalDate.of(2024, 1, 1));
+            assertThat(result.to()).isEqualTo(LocalDate.of(2024, 12, 31));
+            assertThat(result.earnedAmount()).isEqualTo(4200L);
+            assertThat(result.earnCanceledAmount()).isEqualTo(100L);
+            assertThat(result.usedAmount()).isEqualTo(1200L);
+            assertThat(result.useCanceledAmount()).isEqualTo(50L);
+        }
+
+        @Test
+        @DisplayName("SM-T04: 변동이 없는 기간은 0으로 채운 요약 반환")
+        void emptyPeriod_returnsZeros() {
+            // WHEN
+            PointSummaryResult result = getPointSummaryUseCase.execute(MEMBER_ID, 2024, 4);
+
+            // THEN
+            assertThat(result.from()).isEqualTo(LocalDate.of(2024, 4, 1));
+            assertThat(result.to()).isEqualTo(LocalDate.of(2024, 4, 30));
+            assertThat(result.earnedAmount()).isZero();
+            assertThat(result.earnCanceledAmount()).isZero();
+            assertThat(result.usedAmount()).isZero();
+            assertThat(result.useCanceledAmount()).isZero();
+        }
+
+        @Test
+        @DisplayName("SM-T05: 집계가 없는 회원은 0으로 채운 요약 반환")
+        void memberWithoutDaily_returnsZeros() {
+            // GIVEN
+            UUID memberId = UUID.fromString("00000000-0000-0000-0000-000000009003");
+
+            // WHEN
+            PointSummaryResult result = getPointSummaryUseCase.execute(memberId, 2024, null);
+
+            // THEN
+            assertThat(result.memberId()).isEqualTo(memberId);
+            assertThat(result.earnedAmount()).isZero();
+            assertThat(result.usedAmount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 케이스")
+    class FailureCases {
+
+        @Test
+        @DisplayName("SM-T06: 1~12 범위를 벗어난 월은 예외")
+        void invalidMonth_throwsException() {
+            assertThatThrownBy(() -> getPointSummaryUseCase.execute(MEMBER_ID, 2024, 0))
+                    .isInstanceOf(InvalidSummaryPeriodException.class);
+            assertThatThrownBy(() -> getPointSummaryUseCase.execute(MEMBER_ID, 2024, 13))
+                    .isInstanceOf(InvalidSummaryPeriodException.class);
+        }
+
+        @Test
+        @DisplayName("SM-T07: 2000~9999 범위를 벗어난 연도는 예외")
+        void invalidYear_throwsException() {
+            assertThatThrownBy(() -> getPointSummaryUseCase.execute(MEMBER_ID, 1999, null))
+                    .isInstanceOf(InvalidSummaryPeriodException.class);
+            assertThatThrownBy(() -> getPointSummaryUseCase.execute(MEMBER_ID, 10000, 1))
+                    .isInstanceOf(InvalidSummaryPeriodException.class);
+        }
+    }
+}
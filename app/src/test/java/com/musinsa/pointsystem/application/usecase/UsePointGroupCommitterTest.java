@@ -0,0 +1,414 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.application.dto.UsePointCommand;
+import com.musinsa.pointsystem.application.dto.UsePointResult;
+import com.musinsa.pointsystem.application.usecase.UsePointUseCase.GroupOutcome;
+import com.musinsa.pointsystem.domain.exception.InsufficientPointException;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort.DuplicateRecordException;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "point-use.group-commit.enabled=true")
+class UsePointGroupCommitterTest extends IntegrationTestBase {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Nested
+    @DisplayName("동시 사용 (실제 UseCase)")
+    class ConcurrentUseTest {
+
+        @Autowired
+        private UsePointGroupCommitter usePointGroupCommitter;
+
+        @Autowired
+        private PointLedgerRepository pointLedgerRepository;
+
+        @Autowired
+        private PointQueryRepository pointQueryRepository;
+
+        @Test
+        @DisplayName("GC-T01: 같은 회원 동시 사용 시 각 요청이 자신의 결과를 받고, 잔액 부족분만 실패하며, 대기열은 비워진 뒤 제거된다")
+        void concurrentUse_sameMember() throws Exception {
+            // GIVEN - 잔액 1000원, 100원씩 20건 → 10건 성공, 10건 잔액 부족
+            UUID memberId = UUID.randomUUID();
+            LocalDateTime now = LocalDateTime.now();
+            pointLedgerRepository.insert(PointLedger.create(
+                    UUID.randomUUID(), memberId, 1000L, EarnType.SYSTEM, now.plusDays(30), null, now));
+            int threadCount = 20;
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<UsePointResult>> futures = new ArrayList<>();
+
+            // WHEN
+            try {
+                for (int i = 0; i < threadCount; i++) {
+                    UsePointCommand command = useCommand(memberId, 100L, "ORDER-GC-T01-" + i);
+                    futures.add(CompletableFuture.supplyAsync(() -> {
+                        awaitQuietly(start);
+                        return usePointGroupCommitter.execute(command);
+                    }, executor));
+                }
+                start.countDown();
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                        .handle((ignored, e) -> null)
+                        .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // THEN
+            int succeeded = 0;
+            int insufficient = 0;
+            for (int i = 0; i < threadCount; i++) {
+                try {
+                    UsePointResult result = futures.get(i).get();
+                    assertThat(result.orderId()).isEqualTo("ORDER-GC-T01-" + i);
+                    assertThat(result.usedAmount()).isEqualTo(100L);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(InsufficientPointException.class);
+                    insufficient++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(10);
+            assertThat(insufficient).isEqualTo(10);
+            assertThat(pointQueryRepository.getTotalBalance(memberId, LocalDateTime.now()).getValue()).isZero();
+            await(() -> !usePointGroupCommitter.hasQueue(memberId));
+        }
+    }
+
+    @Nested
+    @DisplayName("대기열/리더 위임 (UseCase 대역)")
+    class QueueTest {
+
+        private final UUID memberId = UUID.randomUUID();
+        private ThreadLocalIdempotencyRecordPort idempotencyRecordPort;
+        private StubUsePointUseCase useCase;
+        private UsePointGroupCommitter committer;
+        private ExecutorService executor;
+
+        @BeforeEach
+        void setUp() {
+            idempotencyRecordPort = new ThreadLocalIdempotencyRecordPort();
+            useCase = new StubUsePointUseCase(idempotencyRecordPort);
+            committer = new UsePointGroupCommitter(useCase, idempotencyRecordPort, true, 2);
+            executor = Executors.newCachedThreadPool();
+        }
+
+        @AfterEach
+        void tearDown() {
+            useCase.releaseLeader.countDown();
+            executor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("GC-T02: 리더 처리 중 들어온 요청은 리더가 되지 않고 대기하며, 최대 묶음 크기만큼 묶어 처리한 뒤 남은 요청에 리더를 넘긴다")
+        void queuedRequests_shouldBeGroupedAndHandedOff() throws Exception {
+            // GIVEN - A가 리더로 단건 처리 중인 동안 B, C, D가 순서대로 대기
+            CompletableFuture<UsePointResult> a = submit("A", null);
+            await(() -> useCase.leaderEntered.getCount() == 0);
+            CompletableFuture<UsePointResult> b = submitAndAwaitQueued("B", 1);
+            CompletableFuture<UsePointResult> c = submitAndAwaitQueued("C", 2);
+            CompletableFuture<UsePointResult> d = submitAndAwaitQueued("D", 3);
+
+            // WHEN
+            useCase.releaseLeader.countDown();
+
+            // THEN - A 단건 → B, C 묶음(최대 2) → D 단건
+            assertThat(orderIdOf(a)).isEqualTo("A");
+            assertThat(orderIdOf(b)).isEqualTo("B");
+            assertThat(orderIdOf(c)).isEqualTo("C");
+            assertThat(orderIdOf(d)).isEqualTo("D");
+            assertThat(useCase.calls).containsExactly("execute:[A]", "group:[B, C]", "execute:[D]");
+            await(() -> !committer.hasQueue(memberId));
+
+            // 제거된 대기열 이후 요청은 새 대기열의 리더가 됨
+            assertThat(orderIdOf(submit("E", null))).isEqualTo("E");
+            await(() -> !committer.hasQueue(memberId));
+        }
+
+        @Test
+        @DisplayName("GC-T03: 묶음 처리가 실패하면 묶음의 모든 요청이 예외를 받고 다음 요청은 멈추지 않고 처리된다")
+        void groupFailure_shouldNotHang() throws Exception {
+            // GIVEN
+            RuntimeException failure = new IllegalStateException("group failed");
+            useCase.groupBehavior = commands -> {
+                throw failure;
+            };
+            CompletableFuture<UsePointResult> a = submit("A", null);
+            await(() -> useCase.leaderEntered.getCount() == 0);
+            CompletableFuture<UsePointResult> b = submitAndAwaitQueued("B", 1);
+            CompletableFuture<UsePointResult> c = submitAndAwaitQueued("C", 2);
+            CompletableFuture<UsePointResult> d = submitAndAwaitQueued("D", 3);
+
+            // WHEN
+            useCase.releaseLeader.countDown();
+
+            // THEN
+            assertThat(orderIdOf(a)).isEqualTo("A");
+            assertThat(failureOf(b)).isSameAs(failure);
+            assertThat(failureOf(c)).isSameAs(failure);
+            assertThat(orderIdOf(d)).isEqualTo("D");
+            await(() -> !committer.hasQueue(memberId));
+        }
+
+        @Test
+        @DisplayName("GC-T04: 요청별 실패(잔액 부족)는 해당 요청만 받는다")
+        void perRequestFailure_shouldReachOnlyThatCaller() throws Exception {
+            // GIVEN
+            InsufficientPointException insufficient = new InsufficientPointException(100L, 0L);
+            useCase.groupBehavior = commands -> List.of(
+                    GroupOutcome.succeeded(result(commands.get(0))), GroupOutcome.failed(insufficient));
+            CompletableFuture<UsePointResult> a = submit("A", null);
+            await(() -> useCase.leaderEntered.getCount() == 0);
+            CompletableFuture<UsePointResult> b = submitAndAwaitQueued("B", 1);
+            CompletableFuture<UsePointResult> c = submitAndAwaitQueued("C", 2);
+
+            // WHEN
+            useCase.releaseLeader.countDown();
+
+            // THEN
+            assertThat(orderIdOf(a)).isEqualTo("A");
+            assertThat(orderIdOf(b)).isEqualTo("B");
+            assertThat(failureOf(c)).isSameAs(insufficient);
+        }
+
+        @Test
+        @DisplayName("GC-T05: 묶음에 이미 기록된 멱등성 키가 섞이면 요청별로 다시 처리해 해당 요청만 중복 처리된다")
+        void duplicateRecord_shouldRetryIndividually() throws Exception {
+            // GIVEN - C의 키는 이미 기록됨
+            useCase.groupBehavior = commands -> {
+                if (commands.stream().anyMatch(command -> command.orderId().equals("C"))) {
+                    throw new DuplicateRecordException("key-C");
+                }
+                return commands.stream().map(command -> GroupOutcome.succeeded(result(command))).toList();
+            };
+            CompletableFuture<UsePointResult> a = submit("A", null);
+            await(() -> useCase.leaderEntered.getCount() == 0);
+            CompletableFuture<UsePointResult> b = submitAndAwaitQueued("B", 1);
+            CompletableFuture<UsePointResult> c = submitAndAwaitQueued("C", 2);
+
+            // WHEN
+            useCase.releaseLeader.countDown();
+
+            // THEN
+            assertThat(orderIdOf(b)).isEqualTo("B");
+            assertThat(failureOf(c)).isInstanceOf(DuplicateRecordException.class);
+            assertThat(useCase.calls).containsExactly("execute:[A]", "group:[B, C]", "group:[B]", "group:[C]");
+        }
+
+        @Test
+        @DisplayName("GC-T06: 묶음 처리 중 리더 스레드의 멱등성 키는 해제되고 요청별 키가 전달되며, 처리 후 복원된다")
+        void idempotencyKey_shouldBeSuspendedAndResumed() throws Exception {
+            // GIVEN
+            CompletableFuture<UsePointResult> a = submit("A", null);
+            await(() -> useCase.leaderEntered.getCount() == 0);
+            CompletableFuture<String> bKeyAfter = new CompletableFuture<>();
+            CompletableFuture<UsePointResult> b = CompletableFuture.supplyAsync(() -> {
+                idempotencyRecordPort.begin("key-B");
+                try {
+                    return committer.execute(useCommand(memberId, 100L, "B"));
+                } finally {
+                    bKeyAfter.complete(idempotencyRecordPort.currentKey());
+                    idempotencyRecordPort.end();
+                }
+            }, executor);
+            await(() -> committer.pendingCount(memberId) == 1);
+            CompletableFuture<UsePointResult> c = submitAndAwaitQueued("C", 2);
+
+            // WHEN
+            useCase.releaseLeader.countDown();
+
+            // THEN - B가 리더로 B, C를 묶어 처리
+            assertThat(orderIdOf(b)).isEqualTo("B");
+            assertThat(orderIdOf(c)).isEqualTo("C");
+            assertThat(useCase.groupKeys).containsExactly(Arrays.asList("key-B", null));
+            assertThat(useCase.currentKeysDuringGroup).containsExactly("none");
+            assertThat(bKeyAfter.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo("key-B");
+        }
+
+        private CompletableFuture<UsePointResult> submit(String orderId, String idempotencyKey) {
+            return CompletableFuture.supplyAsync(() -> {
+                if (idempotencyKey != null) {
+                    idempotencyRecordPort.begin(idempotencyKey);
+                }
+                try {
+                    return committer.execute(useCommand(memberId, 100L, orderId));
+                } finally {
+                    idempotencyRecordPort.end();
+                }
+            }, executor);
+        }
+
+        private CompletableFuture<UsePointResult> submitAndAwaitQueued(String orderId, int expectedPending)
+                throws InterruptedException {
+            CompletableFuture<UsePointResult> future = submit(orderId, null);
+            await(() -> committer.pendingCount(memberId) == expectedPending);
+            return future;
+        }
+    }
+
+    private static UsePointCommand useCommand(UUID memberId, long amount, String orderId) {
+        return UsePointCommand.builder()
+                .memberId(memberId)
+                .amount(amount)
+                .orderId(orderId)
+                .build();
+    }
+
+    private static UsePointResult result(UsePointCommand command) {
+        return UsePointResult.builder()
+                .memberId(command.memberId())
+                .usedAmount(command.amount())
+                .totalBalance(0L)
+                .orderId(command.orderId())
+                .build();
+    }
+
+    private static String orderIdOf(CompletableFuture<UsePointResult> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).orderId();
+    }
+
+    private static Throwable failureOf(CompletableFuture<UsePointResult> future)
+            throws InterruptedException, TimeoutException {
+        try {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            throw new AssertionError("예외가 발생해야 합니다.");
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기 조건이 충족되지 않았습니다.");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * UsePointUseCase 대역
+     * - 첫 단건 처리(리더)는 releaseLeader까지 대기 → 그동안 들어온 요청이 대기열에 쌓임
+     * - 호출 순서와 묶음 처리 시 전달된 멱등성 키, 리더 스레드의 멱등성 컨텍스트를 기록
+     */
+    private static class StubUsePointUseCase extends UsePointUseCase {
+
+        private final IdempotencyRecordPort idempotencyRecordPort;
+        final CountDownLatch leaderEntered = new CountDownLatch(1);
+        final CountDownLatch releaseLeader = new CountDownLatch(1);
+        final List<String> calls = new CopyOnWriteArrayList<>();
+        final List<List<String>> groupKeys = new CopyOnWriteArrayList<>();
+        final List<String> currentKeysDuringGroup = new CopyOnWriteArrayList<>();
+        volatile Function<List<UsePointCommand>, List<GroupOutcome>> groupBehavior =
+                commands -> commands.stream().map(command -> GroupOutcome.succeeded(result(command))).toList();
+
+        StubUsePointUseCase(IdempotencyRecordPort idempotencyRecordPort) {
+            super(null, null, null, null, null, null, null, null, null, null);
+            this.idempotencyRecordPort = idempotencyRecordPort;
+        }
+
+        @Override
+        public UsePointResult execute(UsePointCommand command) {
+            calls.add("execute:[" + command.orderId() + "]");
+            if (leaderEntered.getCount() > 0) {
+                leaderEntered.countDown();
+                awaitQuietly(releaseLeader);
+            }
+            return result(command);
+        }
+
+        @Override
+        public List<GroupOutcome> executeGroup(UUID memberId, List<UsePointCommand> commands,
+                                               List<String> idempotencyKeys) {
+            calls.add("group:" + commands.stream().map(UsePointCommand::orderId).toList());
+            if (commands.size() > 1) {
+                groupKeys.add(new ArrayList<>(idempotencyKeys));
+                String currentKey = idempotencyRecordPort.currentKey();
+                currentKeysDuringGroup.add(currentKey != null ? currentKey : "none");
+            }
+            return groupBehavior.apply(commands);
+        }
+    }
+
+    /**
+     * 스레드별 멱등성 컨텍스트만 구현한 IdempotencyRecordPort 대역
+     */
+    private static class ThreadLocalIdempotencyRecordPort implements IdempotencyRecordPort {
+
+        private final ThreadLocal<String> currentKey = new ThreadLocal<>();
+        private final Map<String, Boolean> recorded = new ConcurrentHashMap<>();
+
+        @Override
+        public void begin(String idempotencyKey) {
+            currentKey.set(idempotencyKey);
+        }
+
+        @Override
+        public void end() {
+            currentKey.remove();
+        }
+
+        @Override
+        public String currentKey() {
+            return currentKey.get();
+        }
+
+        @Override
+        public void record(String idempotencyKey) {
+            recorded.put(idempotencyKey, true);
+        }
+
+        @Override
+        public Admission find(String idempotencyKey) {
+            return recorded.containsKey(idempotencyKey) ? Admission.completed(null) : Admission.acquired();
+        }
+
+        @Override
+        public void saveResponseAsync(String idempotencyKey, StoredResponse response) {
+        }
+    }
+}
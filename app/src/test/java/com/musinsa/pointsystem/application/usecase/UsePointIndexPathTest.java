@@ -0,0 +1,277 @@
+package com.musinsa.pointsystem.application.usecase;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.application.dto.EarnPointCommand;
+import com.musinsa.pointsystem.application.dto.UsePointCommand;
+import com.musinsa.pointsystem.application.dto.UsePointResult;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort;
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort.IndexedLedger;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.infra.cache.LedgerIndexRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 적립건 인덱스 경로 검증
+ * - 인덱스 조회/삭제/갱신(커밋 후 반영) 호출 순서와 회원 락 보유 여부를 기록하는 LedgerIndexPort로 확인
+ * - 사용 경로의 삭제(evict)는 불일치 감지 시에만 발생 → 인덱스 경로 성공 여부 판단 기준
+ */
+@TestPropertySource(properties = "cache.ledger-index-enabled=true")
+@Import(UsePointIndexPathTest.RecordingConfig.class)
+class UsePointIndexPathTest extends IntegrationTestBase {
+
+    @Autowired
+    private UsePointUseCase usePointUseCase;
+
+    @Autowired
+    private EarnPointUseCase earnPointUseCase;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private LedgerIndexRepository ledgerIndexRepository;
+
+    @Autowired
+    private RecordingLedgerIndexPort recordingLedgerIndexPort;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private UUID memberId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = UUID.randomUUID();
+        recordingLedgerIndexPort.events.clear();
+    }
+
+    @Test
+    @DisplayName("I-T01: 인덱스 히트 시 DB 적립건 조회 없이 인덱스 계획대로 차감하고 커밋 후 락 안에서 인덱스를 갱신한다")
+    void indexHit_shouldDeductByIndexPlan() {
+        // GIVEN
+        PointLedger manual = ledger(EarnType.MANUAL, 100L, 20);
+        PointLedger system = ledger(EarnType.SYSTEM, 100L, 10);
+        pointLedgerRepository.insertAll(List.of(manual, system));
+        ledgerIndexRepository.refresh(memberId, List.of(IndexedLedger.from(manual), IndexedLedger.from(system)));
+
+        // WHEN
+        UsePointResult result = usePointUseCase.execute(useCommand(150L, "ORDER-I-T01"));
+
+        // THEN - 수기 지급 우선 차감, 삭제(불일치) 없이 갱신만 발생
+        assertThat(result.totalBalance()).isEqualTo(50L);
+        assertThat(availableAmount(manual)).isZero();
+        assertThat(availableAmount(system)).isEqualTo(50L);
+        assertThat(recordingLedgerIndexPort.events).containsExactly("find:hit", "refresh:locked");
+        assertThat(indexedAmounts()).containsExactly(tuple(system.id(), 50L));
+    }
+
+    @Test
+    @DisplayName("I-T02: 조건부 차감이 0건이면 롤백 후 락 안에서 인덱스를 삭제하고 DB 경로로 재처리한다")
+    void indexMismatch_shouldRollbackAndFallBack() {
+        // GIVEN - 건수/합계는 DB와 같지만 두 번째, 세 번째 적립건의 잔여 금액이 다름
+        //         (첫 번째 차감은 성공 후 롤백되어야 함)
+        PointLedger first = ledger(EarnType.SYSTEM, 100L, 10);
+        PointLedger second = ledger(EarnType.SYSTEM, 100L, 20);
+        PointLedger third = ledger(EarnType.SYSTEM, 100L, 30);
+        pointLedgerRepository.insertAll(List.of(first, second, third));
+        ledgerIndexRepository.refresh(memberId, List.of(
+                IndexedLedger.from(first),
+                IndexedLedger.from(second).withAvailableAmount(80L),
+                IndexedLedger.from(third).withAvailableAmount(120L)));
+
+        // WHEN
+        usePointUseCase.execute(useCommand(150L, "ORDER-I-T02"));
+
+        // THEN - 첫 번째 적립건은 한 번만 차감, 이력도 DB 경로분만 존재
+        assertThat(availableAmount(first)).isZero();
+        assertThat(availableAmount(second)).isEqualTo(50L);
+        assertThat(availableAmount(third)).isEqualTo(100L);
+        assertThat(ledgerEntryRepository.findByOrderId("ORDER-I-T02"))
+                .extracting(LedgerEntry::ledgerId, LedgerEntry::amount)
+                .containsExactlyInAnyOrder(tuple(first.id(), -100L), tuple(second.id(), -50L));
+        assertThat(recordingLedgerIndexPort.events).containsExactly("find:hit", "evict:locked", "refresh:locked");
+        assertThat(indexedAmounts()).containsExactly(tuple(second.id(), 50L), tuple(third.id(), 100L));
+    }
+
+    @Test
+    @DisplayName("I-T03: 인덱스가 없으면 DB 경로로 처리하고 커밋 후 락 안에서 인덱스를 적재한다")
+    void indexMiss_shouldUseDbPathAndRefresh() {
+        // GIVEN
+        PointLedger ledger = ledger(EarnType.SYSTEM, 100L, 10);
+        pointLedgerRepository.insert(ledger);
+
+        // WHEN
+        usePointUseCase.execute(useCommand(30L, "ORDER-I-T03"));
+
+        // THEN
+        assertThat(availableAmount(ledger)).isEqualTo(70L);
+        assertThat(recordingLedgerIndexPort.events).containsExactly("find:miss", "refresh:locked");
+        assertThat(indexedAmounts()).containsExactly(tuple(ledger.id(), 70L));
+    }
+
+    @Test
+    @DisplayName("I-T04: 인덱스 잔액이 부족하면 삭제 없이 DB 경로에서 정확한 잔액으로 처리한다")
+    void indexInsufficient_shouldUseDbPath() {
+        // GIVEN
+        PointLedger ledger = ledger(EarnType.SYSTEM, 100L, 10);
+        pointLedgerRepository.insert(ledger);
+        ledgerIndexRepository.refresh(memberId, List.of(IndexedLedger.from(ledger).withAvailableAmount(30L)));
+
+        // WHEN
+        usePointUseCase.execute(useCommand(50L, "ORDER-I-T04"));
+
+        // THEN
+        assertThat(availableAmount(ledger)).isEqualTo(50L);
+        assertThat(recordingLedgerIndexPort.events).containsExactly("find:hit", "refresh:locked");
+        assertThat(indexedAmounts()).containsExactly(tuple(ledger.id(), 50L));
+    }
+
+    @Test
+    @DisplayName("I-T05: 적립 시 인덱스는 커밋 후 락 안에서 삭제된다")
+    void earn_shouldEvictIndexWithinLock() {
+        // GIVEN
+        PointLedger ledger = ledger(EarnType.SYSTEM, 100L, 10);
+        pointLedgerRepository.insert(ledger);
+        ledgerIndexRepository.refresh(memberId, List.of(IndexedLedger.from(ledger)));
+
+        // WHEN
+        earnPointUseCase.execute(EarnPointCommand.builder()
+                .memberId(memberId)
+                .amount(500L)
+                .earnType("SYSTEM")
+                .build());
+
+        // THEN
+        assertThat(recordingLedgerIndexPort.events).containsExactly("evict:locked");
+        assertThat(ledgerIndexRepository.findUsableLedgers(memberId, now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("I-T06: 인덱스에 없는 적립건이 있으면(삭제 실패 후 적립 등) 건수/합계 불일치로 DB 경로에서 우선순위와 잔액을 바로잡는다")
+    void staleIndex_missingLedger_shouldFallBack() {
+        // GIVEN - 인덱스에는 시스템 적립건만 존재 (수기 적립건 적립 후 인덱스 삭제 실패 상황)
+        PointLedger manual = ledger(EarnType.MANUAL, 100L, 10);
+        PointLedger system = ledger(EarnType.SYSTEM, 100L, 20);
+        pointLedgerRepository.insertAll(List.of(manual, system));
+        ledgerIndexRepository.refresh(memberId, List.of(IndexedLedger.from(system)));
+
+        // WHEN
+        UsePointResult result = usePointUseCase.execute(useCommand(50L, "ORDER-I-T06"));
+
+        // THEN - 수기 적립건부터 차감, 잔액은 DB 기준
+        assertThat(result.totalBalance()).isEqualTo(150L);
+        assertThat(availableAmount(manual)).isEqualTo(50L);
+        assertThat(availableAmount(system)).isEqualTo(100L);
+        assertThat(recordingLedgerIndexPort.events).containsExactly("find:hit", "evict:locked", "refresh:locked");
+        assertThat(indexedAmounts()).containsExactly(tuple(manual.id(), 50L), tuple(system.id(), 100L));
+    }
+
+    private PointLedger ledger(EarnType earnType, long amount, int expirationDays) {
+        return PointLedger.create(UUID.randomUUID(), memberId, amount, earnType, now.plusDays(expirationDays), null, now);
+    }
+
+    private UsePointCommand useCommand(long amount, String orderId) {
+        return UsePointCommand.builder()
+                .memberId(memberId)
+                .amount(amount)
+                .orderId(orderId)
+                .build();
+    }
+
+    private long availableAmount(PointLedger ledger) {
+        return pointLedgerRepository.findById(ledger.id()).orElseThrow().availableAmount();
+    }
+
+    private List<Tuple> indexedAmounts() {
+        return ledgerIndexRepository.findUsableLedgers(memberId, now).orElseThrow().stream()
+                .map(indexed -> tuple(indexed.ledgerId(), indexed.availableAmount()))
+                .toList();
+    }
+
+    @TestConfiguration
+    static class RecordingConfig {
+
+        @Bean
+        @Primary
+        RecordingLedgerIndexPort recordingLedgerIndexPort(LedgerIndexRepository delegate, RedissonClient redissonClient) {
+            return new RecordingLedgerIndexPort(delegate, redissonClient);
+        }
+    }
+
+    /**
+     * 인덱스 호출 기록 (회원 락 보유 여부 포함)
+     * - refresh는 실제 반영 시점(커밋 후)에 기록
+     */
+    static class RecordingLedgerIndexPort implements LedgerIndexPort {
+
+        private final LedgerIndexPort delegate;
+        private final RedissonClient redissonClient;
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        RecordingLedgerIndexPort(LedgerIndexPort delegate, RedissonClient redissonClient) {
+            this.delegate = delegate;
+            this.redissonClient = redissonClient;
+        }
+
+        @Override
+        public Optional<List<IndexedLedger>> findUsableLedgers(UUID memberId, LocalDateTime now) {
+            Optional<List<IndexedLedger>> ledgers = delegate.findUsableLedgers(memberId, now);
+            events.add(ledgers.isPresent() ? "find:hit" : "find:miss");
+            return ledgers;
+        }
+
+        @Override
+        public void refresh(UUID memberId, List<IndexedLedger> usableLedgers) {
+            delegate.refresh(memberId, usableLedgers);
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                events.add("refresh:" + lockState(memberId));
+                return;
+            }
+            // delegate의 커밋 후 반영 다음에 실행되도록 등록
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    events.add("refresh:" + lockState(memberId));
+                }
+            });
+        }
+
+        @Override
+        public void evict(UUID memberId) {
+            delegate.evict(memberId);
+            events.add("evict:" + lockState(memberId));
+        }
+
+        private String lockState(UUID memberId) {
+            boolean held = redissonClient.getLock("lock:point:member:" + memberId).isHeldByCurrentThread();
+            return held ? "locked" : "unlocked";
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -333,4 +334,36 @@ class UsePointUseCaseTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("그룹 커밋")
+    @SqlGroup({
+            @Sql(scripts = "/sql/use-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD),
+            @Sql(scripts = "/sql/use-test-cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    })
+    class GroupCommitCases {
+
+        @Test
+        @DisplayName("요청 순서대로 차감하고 잔액이 부족한 요청만 실패한다")
+        void executeGroup_shouldFailOnlyInsufficientRequest() {
+            // GIVEN - SQL로 member_id, ledger_id(500), ledger_id(500), 총 1000원 생성됨
+            UUID memberId = UUID.fromString("00000000-0000-0000-0000-000000003002");
+            List<UsePointCommand> commands = List.of(
+                    UsePointCommand.builder().memberId(memberId).amount(300L).orderId("ORDER-GROUP-01").build(),
+                    UsePointCommand.builder().memberId(memberId).amount(900L).orderId("ORDER-GROUP-02").build(),
+                    UsePointCommand.builder().memberId(memberId).amount(600L).orderId("ORDER-GROUP-03").build());
+
+            // WHEN
+            List<UsePointUseCase.GroupOutcome> outcomes = usePointUseCase.executeGroup(
+                    memberId, commands, Arrays.asList(null, null, null));
+
+            // THEN
+            assertThat(outcomes).hasSize(3);
+            assertThat(outcomes.get(0).result().totalBalance()).isEqualTo(700L);
+            assertThat(outcomes.get(1).failure()).isInstanceOf(InsufficientPointException.class);
+            assertThat(outcomes.get(2).result().totalBalance()).isEqualTo(100L);
+            assertThat(pointLedgerRepository.findAllByMemberId(memberId))
+                    .extracting(PointLedger::availableAmount)
+                    .containsExactlyInAnyOrder(0L, 100L);
+        }
+    }
 }
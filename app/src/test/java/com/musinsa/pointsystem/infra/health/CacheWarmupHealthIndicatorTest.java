@@ -0,0 +1,59 @@
+package com.musinsa.pointsystem.infra.health;
+
+import com.musinsa.pointsystem.infra.cache.BalanceCacheWarmer;
+import com.musinsa.pointsystem.infra.cache.CacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheWarmupHealthIndicatorTest {
+
+    private BalanceCacheWarmer createWarmer(boolean enabled) {
+        CacheProperties properties = new CacheProperties();
+        properties.setWarmerEnabled(enabled);
+        // 스냅샷 조회(Redis) 실패 시 워밍을 생략하고 READY로 전환되는 경로 사용
+        return new BalanceCacheWarmer(null, null, null, properties, null, Clock.systemUTC());
+    }
+
+    @Test
+    @DisplayName("워밍 비활성화 시 UP (state=DISABLED)")
+    void disabled_up() {
+        // GIVEN
+        CacheWarmupHealthIndicator indicator = new CacheWarmupHealthIndicator(createWarmer(false));
+
+        // WHEN
+        Health health = indicator.health();
+
+        // THEN
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("state", BalanceCacheWarmer.State.DISABLED);
+    }
+
+    @Test
+    @DisplayName("워밍 전에는 OUT_OF_SERVICE, 완료 후 UP")
+    void pendingThenReady() throws InterruptedException {
+        // GIVEN
+        BalanceCacheWarmer warmer = createWarmer(true);
+        CacheWarmupHealthIndicator indicator = new CacheWarmupHealthIndicator(warmer);
+
+        // WHEN & THEN
+        Health pending = indicator.health();
+        assertThat(pending.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(pending.getDetails()).containsEntry("state", BalanceCacheWarmer.State.PENDING);
+
+        warmer.onApplicationReady();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (warmer.getState() != BalanceCacheWarmer.State.READY && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Health ready = indicator.health();
+        assertThat(ready.getStatus()).isEqualTo(Status.UP);
+        assertThat(ready.getDetails()).containsEntry("state", BalanceCacheWarmer.State.READY);
+    }
+}
@@ -1,19 +1,24 @@
 package com.musinsa.pointsystem.presentation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.musinsa.pointsystem.IntegrationTestBase;
 import com.musinsa.pointsystem.infra.adapter.UuidGenerator;
+import com.musinsa.pointsystem.presentation.dto.request.BulkPointBalanceRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -29,6 +34,9 @@ class PointBalanceControllerTest extends IntegrationTestBase {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Nested
     @DisplayName("GET /api/v1/points - 잔액 조회")
     class GetBalance {
@@ -78,6 +86,73 @@ class PointBalanceControllerTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/points/balances - 다건 잔액 조회")
+    class GetBalances {
+
+        @Test
+        @DisplayName("여러 회원의 잔액을 요청 순서대로 조회한다 (중복 제거, 없는 회원은 0)")
+        void shouldReturnBalancesInRequestOrder() throws Exception {
+            // GIVEN
+            UUID withBalance = UUID.fromString("00000000-0000-0000-0000-000000008101");
+            UUID withoutLedger = UUID.fromString("00000000-0000-0000-0000-000000008102");
+            UUID fullyUsed = UUID.fromString("00000000-0000-0000-0000-000000008105");
+            BulkPointBalanceRequest request = BulkPointBalanceRequest.builder()
+                    .memberIds(List.of(withBalance, withoutLedger, withBalance, fullyUsed))
+                    .build();
+
+            // WHEN & THEN
+            mockMvc.perform(post("/api/v1/points/balances")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.balances.length()").value(3))
+                    .andExpect(jsonPath("$.balances[0].memberId").value(withBalance.toString()))
+                    .andExpect(jsonPath("$.balances[0].totalBalance").value(5000))
+                    .andExpect(jsonPath("$.balances[1].memberId").value(withoutLedger.toString()))
+                    .andExpect(jsonPath("$.balances[1].totalBalance").value(0))
+                    .andExpect(jsonPath("$.balances[2].memberId").value(fullyUsed.toString()))
+                    .andExpect(jsonPath("$.balances[2].totalBalance").value(0));
+        }
+
+        @Test
+        @DisplayName("캐시된 잔액과 DB 조회 잔액이 함께 반환된다")
+        void shouldCombineCachedAndLoadedBalances() throws Exception {
+            // GIVEN - 단건 조회로 8101 잔액 캐시 적재
+            UUID cachedMember = UUID.fromString("00000000-0000-0000-0000-000000008101");
+            UUID newMember = new UuidGenerator().generate();
+            mockMvc.perform(get("/api/v1/points")
+                            .header("X-Member-Id", cachedMember.toString()))
+                    .andExpect(status().isOk());
+            BulkPointBalanceRequest request = BulkPointBalanceRequest.builder()
+                    .memberIds(List.of(newMember, cachedMember))
+                    .build();
+
+            // WHEN & THEN
+            mockMvc.perform(post("/api/v1/points/balances")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.balances[0].totalBalance").value(0))
+                    .andExpect(jsonPath("$.balances[1].totalBalance").value(5000));
+        }
+
+        @Test
+        @DisplayName("빈 목록 요청 시 400을 반환한다")
+        void shouldRejectEmptyRequest() throws Exception {
+            // GIVEN
+            BulkPointBalanceRequest request = BulkPointBalanceRequest.builder()
+                    .memberIds(List.of())
+                    .build();
+
+            // WHEN & THEN
+            mockMvc.perform(post("/api/v1/points/balances")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/points/history - 거래 내역 조회")
     class GetHistory {
@@ -128,4 +203,105 @@ class PointBalanceControllerTest extends IntegrationTestBase {
                     .andExpect(jsonPath("$.content.length()").value(2));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/points/summary - 기간 요약 조회")
+    class GetSummary {
+
+        private static final String MEMBER_ID_HEADER = "X-Member-Id";
+        private static final UUID SUMMARY_MEMBER_ID = UUID.fromString("00000000-0000-0000-0000-000000008106");
+
+        @Test
+        @DisplayName("월을 지정하면 해당 월 1일~말일 합계를 반환한다 (윤년 2월)")
+        void shouldReturnMonthSummary() throws Exception {
+            // WHEN & THEN
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, SUMMARY_MEMBER_ID.toString())
+                            .param("year", "2024")
+                            .param("month", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.memberId").value(SUMMARY_MEMBER_ID.toString()))
+                    .andExpect(jsonPath("$.from").value("2024-02-01"))
+                    .andExpect(jsonPath("$.to").value("2024-02-29"))
+                    .andExpect(jsonPath("$.earnedAmount").value(3200))
+                    .andExpect(jsonPath("$.earnCanceledAmount").value(100))
+                    .andExpect(jsonPath("$.usedAmount").value(500))
+                    .andExpect(jsonPath("$.useCanceledAmount").value(50));
+        }
+
+        @Test
+        @DisplayName("월을 생략하면 해당 연도 1월 1일~12월 31일 합계를 반환한다")
+        void shouldReturnYearSummary() throws Exception {
+            // WHEN & THEN
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, SUMMARY_MEMBER_ID.toString())
+                            .param("year", "2024"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.from").value("2024-01-01"))
+                    .andExpect(jsonPath("$.to").value("2024-12-31"))
+                    .andExpect(jsonPath("$.earnedAmount").value(4200))
+                    .andExpect(jsonPath("$.earnCanceledAmount").value(100))
+                    .andExpect(jsonPath("$.usedAmount").value(1200))
+                    .andExpect(jsonPath("$.useCanceledAmount").value(50));
+        }
+
+        @Test
+        @DisplayName("변동이 없는 회원은 0으로 채운 요약을 반환한다")
+        void shouldReturnEmptySummaryForMemberWithoutChanges() throws Exception {
+            // GIVEN
+            UUID memberId = UUID.fromString("00000000-0000-0000-0000-000000008102");
+
+            // WHEN & THEN
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, memberId.toString())
+                            .param("year", "2024")
+                            .param("month", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.memberId").value(memberId.toString()))
+                    .andExpect(jsonPath("$.from").value("2024-02-01"))
+                    .andExpect(jsonPath("$.to").value("2024-02-29"))
+                    .andExpect(jsonPath("$.earnedAmount").value(0))
+                    .andExpect(jsonPath("$.earnCanceledAmount").value(0))
+                    .andExpect(jsonPath("$.usedAmount").value(0))
+                    .andExpect(jsonPath("$.useCanceledAmount").value(0));
+        }
+
+        @Test
+        @DisplayName("1~12 범위를 벗어난 월은 400을 반환한다")
+        void shouldRejectInvalidMonth() throws Exception {
+            // WHEN & THEN
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, SUMMARY_MEMBER_ID.toString())
+                            .param("year", "2024")
+                            .param("month", "13"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_SUMMARY_PERIOD"));
+        }
+
+        @Test
+        @DisplayName("허용 범위를 벗어난 연도는 400을 반환한다")
+        void shouldRejectInvalidYear() throws Exception {
+            // WHEN & THEN
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, SUMMARY_MEMBER_ID.toString())
+                            .param("year", "1999"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_SUMMARY_PERIOD"));
+        }
+
+        @Test
+        @DisplayName("연도를 생략하거나 숫자가 아니면 400을 반환한다")
+        void shouldRejectMissingOrMalformedYear() throws Exception {
+            // WHEN & THEN
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, SUMMARY_MEMBER_ID.toString()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+            mockMvc.perform(get("/api/v1/points/summary")
+                            .header(MEMBER_ID_HEADER, SUMMARY_MEMBER_ID.toString())
+                            .param("year", "2024년"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("VALIDATION_ERROR"));
+        }
+    }
 }
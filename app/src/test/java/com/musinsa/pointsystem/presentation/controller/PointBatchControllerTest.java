@@ -0,0 +1,181 @@
+package com.musinsa.pointsystem.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.infra.adapter.UuidGenerator;
+import com.musinsa.pointsystem.presentation.dto.request.PointBatchRequest;
+import com.musinsa.pointsystem.presentation.dto.request.PointBatchRequest.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@DisplayName("PointBatchController API 통합 테스트")
+class PointBatchControllerTest extends IntegrationTestBase {
+
+    private static final String MEMBER_ID_HEADER = "X-Member-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Nested
+    @DisplayName("POST /api/v1/points/batch - 다건 처리")
+    class Batch {
+
+        @Test
+        @DisplayName("같은 회원의 작업은 요청 순서대로 처리되고 결과는 요청 순서로 반환된다")
+        void shouldExecuteMemberOperationsInOrder() throws Exception {
+            // GIVEN
+            UUID memberA = new UuidGenerator().generate();
+            UUID memberB = new UuidGenerator().generate();
+            PointBatchRequest request = new PointBatchRequest(List.of(
+                    earn(memberA, 1000L, null),
+                    earn(memberB, 500L, null),
+                    use(memberA, 700L, "ORD-BATCH-A-1", null),
+                    use(memberB, 200L, "ORD-BATCH-B-1", null)
+            ));
+
+            // WHEN & THEN
+            perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results.length()").value(4))
+                    .andExpect(jsonPath("$.results[0].status").value("SUCCEEDED"))
+                    .andExpect(jsonPath("$.results[0].response.earnedAmount").value(1000))
+                    .andExpect(jsonPath("$.results[1].memberId").value(memberB.toString()))
+                    .andExpect(jsonPath("$.results[2].status").value("SUCCEEDED"))
+                    .andExpect(jsonPath("$.results[2].response.totalBalance").value(300))
+                    .andExpect(jsonPath("$.results[3].response.totalBalance").value(300));
+        }
+
+        @Test
+        @DisplayName("회원 작업 하나가 실패하면 그 회원 작업만 롤백되고 다른 회원은 처리된다")
+        void shouldRollbackOnlyFailedMember() throws Exception {
+            // GIVEN
+            UUID failing = new UuidGenerator().generate();
+            UUID succeeding = new UuidGenerator().generate();
+            PointBatchRequest request = new PointBatchRequest(List.of(
+                    earn(failing, 1000L, null),
+                    use(failing, 5000L, "ORD-BATCH-FAIL", null),
+                    earn(succeeding, 300L, null)
+            ));
+
+            // WHEN & THEN
+            perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].status").value("ROLLED_BACK"))
+                    .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                    .andExpect(jsonPath("$.results[1].errorCode").value("INSUFFICIENT_POINT"))
+                    .andExpect(jsonPath("$.results[2].status").value("SUCCEEDED"));
+
+            mockMvc.perform(get("/api/v1/points").header(MEMBER_ID_HEADER, failing.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalBalance").value(0));
+        }
+
+        @Test
+        @DisplayName("작업별 멱등성 키로 재요청하면 저장된 응답을 재전송하고 단건 API와 키를 공유한다")
+        void shouldReplayPerOperationIdempotencyKey() throws Exception {
+            // GIVEN
+            UUID memberId = new UuidGenerator().generate();
+            String key = "batch-earn-" + UUID.randomUUID();
+            PointBatchRequest request = new PointBatchRequest(List.of(earn(memberId, 1000L, key)));
+            MvcResult first = perform(request)
+                    .andExpect(jsonPath("$.results[0].status").value("SUCCEEDED"))
+                    .andReturn();
+
+            // WHEN
+            MvcResult replayed = perform(request)
+                    .andExpect(jsonPath("$.results[0].status").value("REPLAYED"))
+                    .andReturn();
+            MvcResult single = mockMvc.perform(post("/api/v1/points/earn")
+                            .header(MEMBER_ID_HEADER, memberId.toString())
+                            .header("Idempotency-Key", key)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"amount\":1000,\"earnType\":\"SYSTEM\"}"))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            // THEN
+            JsonNode firstResponse = responseOf(first);
+            assertThat(responseOf(replayed)).isEqualTo(firstResponse);
+            assertThat(objectMapper.readTree(single.getResponse().getContentAsByteArray())).isEqualTo(firstResponse);
+            mockMvc.perform(get("/api/v1/points").header(MEMBER_ID_HEADER, memberId.toString()))
+                    .andExpect(jsonPath("$.totalBalance").value(1000));
+        }
+
+        @Test
+        @DisplayName("유형별 필수 항목이 없으면 그 작업만 VALIDATION_ERROR로 실패한다")
+        void shouldFailInvalidOperationOnly() throws Exception {
+            // GIVEN
+            UUID memberId = new UuidGenerator().generate();
+            PointBatchRequest request = new PointBatchRequest(List.of(
+                    use(memberId, 100L, null, null),
+                    earn(memberId, 100L, null)
+            ));
+
+            // WHEN & THEN
+            perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].status").value("FAILED"))
+                    .andExpect(jsonPath("$.results[0].errorCode").value("VALIDATION_ERROR"))
+                    .andExpect(jsonPath("$.results[1].status").value("SUCCEEDED"));
+        }
+
+        @Test
+        @DisplayName("작업 목록이 비어 있으면 400을 반환한다")
+        void shouldReturn400ForEmptyOperations() throws Exception {
+            perform(new PointBatchRequest(List.of()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private ResultActions perform(PointBatchRequest request) throws Exception {
+        return mockMvc.perform(post("/api/v1/points/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private JsonNode responseOf(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsByteArray())
+                .path("results").path(0).path("response");
+    }
+
+    private static Operation earn(UUID memberId, long amount, String idempotencyKey) {
+        return Operation.builder()
+                .type("EARN")
+                .memberId(memberId)
+                .idempotencyKey(idempotencyKey)
+                .amount(amount)
+                .earnType("SYSTEM")
+                .build();
+    }
+
+    private static Operation use(UUID memberId, long amount, String orderId, String idempotencyKey) {
+        return Operation.builder()
+                .type("USE")
+                .memberId(memberId)
+                .idempotencyKey(idempotencyKey)
+                .amount(amount)
+                .orderId(orderId)
+                .build();
+    }
+}
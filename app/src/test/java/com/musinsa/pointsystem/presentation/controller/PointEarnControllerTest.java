@@ -13,10 +13,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -63,6 +66,44 @@ class PointEarnControllerTest extends IntegrationTestBase {
                     .andExpect(jsonPath("$.ledgerId").isNotEmpty());
         }
 
+        @Test
+        @DisplayName("같은 멱등성 키로 재요청하면 저장된 응답을 그대로 반환한다")
+        void shouldReplayStoredResponseForSameIdempotencyKey() throws Exception {
+            // GIVEN
+            UUID memberId = new UuidGenerator().generate();
+            String idempotencyKey = "earn-" + UUID.randomUUID();
+            EarnPointRequest request = EarnPointRequest.builder()
+                    .amount(1000L)
+                    .earnType("SYSTEM")
+                    .expirationDays(365)
+                    .build();
+            String body = objectMapper.writeValueAsString(request);
+
+            MvcResult first = mockMvc.perform(post("/api/v1/points/earn")
+                            .header(MEMBER_ID_HEADER, memberId.toString())
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.earnedAmount").value(1000))
+                    .andReturn();
+
+            // WHEN
+            MvcResult replayed = mockMvc.perform(post("/api/v1/points/earn")
+                            .header(MEMBER_ID_HEADER, memberId.toString())
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andReturn();
+
+            // THEN
+            assertThat(replayed.getResponse().getContentAsByteArray())
+                    .isEqualTo(first.getResponse().getContentAsByteArray());
+        }
+
         @Test
         @DisplayName("수동 적립을 수행한다")
         void shouldEarnManualPoints() throws Exception {
@@ -1,3 +1,4 @@
 -- PointBalanceController 테스트 데이터 정리 
 DELETE FROM ledger_entry WHERE ledger_id IN (X'00000000000000000000000000008101', X'00000000000000000000000000008105');
 DELETE FROM point_ledger WHERE id IN (X'00000000000000000000000000008101', X'00000000000000000000000000008105');
+DELETE FROM member_point_daily WHERE member_id = X'00000000000000000000000000008106';
@@ -18,3 +18,13 @@ VALUES (X'00000000000000000000000000081050', X'00000000000000000000000000008105'
 
 INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
 VALUES (X'00000000000000000000000000081051', X'00000000000000000000000000008105', 'USE', -2000, 'ORDER-BALANCE-TEST', CURRENT_TIMESTAMP);
+
+-- 기간 요약 조회 테스트용 일별 집계 (8106)
+-- 2024-02: 적립 3200, 적립취소 100, 사용 500, 사용취소 50 / 2024년: 적립 4200, 적립취소 100, 사용 1200, 사용취소 50
+INSERT INTO member_point_daily (member_id, point_date, earned_amount, earn_canceled_amount, used_amount, use_canceled_amount, updated_at)
+VALUES (X'00000000000000000000000000008106', DATE '2023-12-31', 9000, 0, 0, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000008106', DATE '2024-01-31', 1000, 0, 0, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000008106', DATE '2024-02-01', 3000, 0, 500, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000008106', DATE '2024-02-29', 200, 100, 0, 50, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000008106', DATE '2024-03-01', 0, 0, 700, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000008106', DATE '2025-01-01', 8000, 0, 0, 0, CURRENT_TIMESTAMP);
@@ -2,5 +2,6 @@
 DELETE FROM ledger_entry;
 DELETE FROM point_ledger WHERE member_id IN (
     X'00000000000000000000000000002001', X'00000000000000000000000000002002',
-    X'00000000000000000000000000002003', X'00000000000000000000000000002004'
+    X'00000000000000000000000000002003', X'00000000000000000000000000002004',
+    X'00000000000000000000000000002005', X'00000000000000000000000000002008'
 );
@@ -39,3 +39,47 @@ VALUES (X'00000000000000000000000000020040', X'00000000000000000000000000002004'
 
 INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
 VALUES (X'00000000000000000000000000020041', X'00000000000000000000000000002004', 'EARN_CANCEL', -1000, NULL, CURRENT_TIMESTAMP);
+
+-- CE-T07: 통합으로 흡수된 적립건 (2005 300원 + 2007 600원 → 통합 적립건 2006 900원, 미사용)
+INSERT INTO point_ledger (id, member_id, earned_amount, available_amount, used_amount, earn_type, consolidated_into, expired_at, is_canceled, earned_at, created_at, updated_at)
+VALUES (X'00000000000000000000000000002005', X'00000000000000000000000000002005', 300, 0, 0, 'SYSTEM', X'00000000000000000000000000002006', DATEADD('DAY', 365, CURRENT_TIMESTAMP), false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020050', X'00000000000000000000000000002005', 'EARN', 300, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020051', X'00000000000000000000000000002005', 'CONSOLIDATE', -300, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO point_ledger (id, member_id, earned_amount, available_amount, used_amount, earn_type, consolidated_into, expired_at, is_canceled, earned_at, created_at, updated_at)
+VALUES (X'00000000000000000000000000002007', X'00000000000000000000000000002005', 600, 0, 0, 'SYSTEM', X'00000000000000000000000000002006', DATEADD('DAY', 365, CURRENT_TIMESTAMP), false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020070', X'00000000000000000000000000002007', 'EARN', 600, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020071', X'00000000000000000000000000002007', 'CONSOLIDATE', -600, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO point_ledger (id, member_id, earned_amount, available_amount, used_amount, earn_type, consolidated_into, expired_at, is_canceled, earned_at, created_at, updated_at)
+VALUES (X'00000000000000000000000000002006', X'00000000000000000000000000002005', 900, 900, 0, 'SYSTEM', NULL, DATEADD('DAY', 365, CURRENT_TIMESTAMP), false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020060', X'00000000000000000000000000002006', 'CONSOLIDATE', 900, NULL, CURRENT_TIMESTAMP);
+
+-- CE-T08: 통합 적립건 잔여가 흡수된 적립액보다 적은 경우 (2008 300원 → 통합 적립건 2009 900원 중 700원 사용)
+INSERT INTO point_ledger (id, member_id, earned_amount, available_amount, used_amount, earn_type, consolidated_into, expired_at, is_canceled, earned_at, created_at, updated_at)
+VALUES (X'00000000000000000000000000002008', X'00000000000000000000000000002008', 300, 0, 0, 'SYSTEM', X'00000000000000000000000000002009', DATEADD('DAY', 365, CURRENT_TIMESTAMP), false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020080', X'00000000000000000000000000002008', 'EARN', 300, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020081', X'00000000000000000000000000002008', 'CONSOLIDATE', -300, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO point_ledger (id, member_id, earned_amount, available_amount, used_amount, earn_type, consolidated_into, expired_at, is_canceled, earned_at, created_at, updated_at)
+VALUES (X'00000000000000000000000000002009', X'00000000000000000000000000002008', 900, 200, 700, 'SYSTEM', NULL, DATEADD('DAY', 365, CURRENT_TIMESTAMP), false, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020090', X'00000000000000000000000000002009', 'CONSOLIDATE', 900, NULL, CURRENT_TIMESTAMP);
+
+INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at)
+VALUES (X'00000000000000000000000000020091', X'00000000000000000000000000002009', 'USE', -700, 'ORDER-CE-T08', CURRENT_TIMESTAMP);
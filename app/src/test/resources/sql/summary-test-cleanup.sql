@@ -0,0 +1,2 @@
+-- GetPointSummaryUseCase 테스트 데이터 정리
+DELETE FROM member_point_daily WHERE member_id IN (X'00000000000000000000000000009001', X'00000000000000000000000000009002');
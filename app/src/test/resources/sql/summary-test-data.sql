@@ -0,0 +1,15 @@
+-- GetPointSummaryUseCase 테스트용 일별 집계
+
+-- 월/연 경계 확인용 회원 (9001)
+-- 2024-02: 적립 3200, 적립취소 100, 사용 500, 사용취소 50 / 2024년: 적립 4200, 적립취소 100, 사용 1200, 사용취소 50
+INSERT INTO member_point_daily (member_id, point_date, earned_amount, earn_canceled_amount, used_amount, use_canceled_amount, updated_at)
+VALUES (X'00000000000000000000000000009001', DATE '2023-12-31', 9000, 0, 0, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000009001', DATE '2024-01-31', 1000, 0, 0, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000009001', DATE '2024-02-01', 3000, 0, 500, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000009001', DATE '2024-02-29', 200, 100, 0, 50, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000009001', DATE '2024-03-01', 0, 0, 700, 0, CURRENT_TIMESTAMP),
+       (X'00000000000000000000000000009001', DATE '2025-01-01', 8000, 0, 0, 0, CURRENT_TIMESTAMP);
+
+-- 다른 회원 (9002) - 9001 요약에 포함되지 않아야 함
+INSERT INTO member_point_daily (member_id, point_date, earned_amount, earn_canceled_amount, used_amount, use_canceled_amount, updated_at)
+VALUES (X'00000000000000000000000000009002', DATE '2024-02-15', 7000, 0, 7000, 0, CURRENT_TIMESTAMP);
@@ -0,0 +1,135 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캠페인 지급 파일을 회원 해시 기준 파티션 파일로 1회 분할 (Job 첫 Step)
+ * - 워커는 자기 파티션 파일만 읽음 → 원본 파일을 파티션 수만큼 반복해서 읽지 않음
+ * - 분할 줄 형식: {원본 줄 번호},{원본 줄} (로그/skip 줄 번호 유지, CampaignEarnSplitLineMapper가 해석)
+ * - 주석 줄(#)은 제외, 회원 ID를 읽을 수 없는 줄은 파티션 0으로 보내 워커의 형식 오류 skip 정책으로 처리
+ * - 분할 디렉터리({workDir}/{jobInstanceId})는 Job ExecutionContext에 기록
+ *   → 재시작 시 완료된 분할 Step은 다시 실행하지 않고, 워커는 같은 분할 파일의 마지막 커밋 위치부터 이어서 읽음
+ */
+@Slf4j
+public class CampaignEarnFileSplitter implements Tasklet {
+
+    static final String SPLIT_DIR_KEY = "campaignEarnSplitDir";
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Path inputFile;
+    private final Path workDir;
+    private final int partitions;
+
+    public CampaignEarnFileSplitter(Path inputFile, Path workDir, int partitions) {
+        this.inputFile = inputFile;
+        this.workDir = workDir;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        JobExecution jobExecution = chunkContext.getStepContext().getStepExecution().getJobExecution();
+        Path splitDir = workDir.resolve(String.valueOf(jobExecution.getJobInstance().getInstanceId()));
+        Files.createDirectories(splitDir);
+
+        long[] counts = new long[partitions];
+        List<BufferedWriter> writers = new ArrayList<>(partitions);
+        try (BufferedReader reader = Files.newBufferedReader(inputFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < partitions; i++) {
+                writers.add(Files.newBufferedWriter(partFile(splitDir, i), StandardCharsets.UTF_8));
+            }
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                int partition = partitionOf(line);
+                BufferedWriter writer = writers.get(partition);
+                writer.write(lineNumber + CampaignEarnSplitLineMapper.SEPARATOR + line);
+                writer.newLine();
+                counts[partition]++;
+            }
+        } finally {
+            closeAll(writers);
+        }
+
+        jobExecution.getExecutionContext().putString(SPLIT_DIR_KEY, splitDir.toString());
+        log.info("캠페인 지급 파일 분할 완료. inputFile={}, splitDir={}, lines={}",
+                inputFile, splitDir, Arrays.toString(counts));
+        return RepeatStatus.FINISHED;
+    }
+
+    static Path partFile(Path splitDir, int partition) {
+        return splitDir.resolve("part-" + partition + ".csv");
+    }
+
+    private int partitionOf(String line) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            return 0;
+        }
+        try {
+            return CampaignEarnPartitioner.partitionOf(UUID.fromString(line.substring(0, comma).trim()), partitions);
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private static void closeAll(List<BufferedWriter> writers) throws IOException {
+        IOException failure = null;
+        for (BufferedWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Job 완료 시 분할 디렉터리 삭제 (실패 시 재시작을 위해 유지)
+     */
+    static class Cleanup implements JobExecutionListener {
+
+        @Override
+        public void afterJob(JobExecution jobExecution) {
+            String splitDir = jobExecution.getExecutionContext().getString(SPLIT_DIR_KEY, null);
+            if (splitDir == null || jobExecution.getStatus() != BatchStatus.COMPLETED) {
+                return;
+            }
+            try {
+                FileSystemUtils.deleteRecursively(Path.of(splitDir));
+            } catch (IOException e) {
+                log.warn("캠페인 지급 분할 파일 삭제 실패. splitDir={}, error={}", splitDir, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
+import com.musinsa.pointsystem.domain.repository.IdGenerator;
+import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
+import com.musinsa.pointsystem.domain.repository.PointPolicyRepository;
+import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+/**
+ * 캠페인 일괄 적립 Job
+ *
+ * <p>회원/금액 파일(한 줄에 {@code memberId,amount}, {@code #}으로 시작하면 주석)을 읽어 SYSTEM 적립건을 일괄 생성합니다.
+ * 회원 단위 API 적립(분산락 + 건별 INSERT)을 반복하지 않고, 청크 단위 잔액 SUM 1회 + multi-row INSERT로 처리합니다.</p>
+ *
+ * <ul>
+ *   <li>분할: 첫 Step에서 원본 파일을 한 번 읽어 회원 해시 기준 partitions개 파일로 분할 (work-dir)</li>
+ *   <li>파티션: 워커는 자기 파티션 파일만 스트리밍으로 읽음 (원본 파일을 워커마다 반복해서 읽지 않음)</li>
+ *   <li>재시작: 분할은 다시 하지 않고, 파티션별 읽기 위치가 청크 커밋과 함께 저장되므로 실패한 파티션만 마지막 커밋 이후부터 재처리
+ *       (분할 파일은 Job 완료 시 삭제, 실패 시 재시작을 위해 유지)</li>
+ *   <li>같은 파일을 같은 campaignId로 다시 실행하면 완료된 JobInstance로 거부됨 (중복 지급 방지)</li>
+ * </ul>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java -jar batch.jar --spring.batch.job.name=campaignEarnJob campaignId=2026-BLACKFRIDAY inputFile=/data/campaign.csv [expirationDays=30]
+ * </pre>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CampaignEarnJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${batch-job.campaign-earn.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${batch-job.campaign-earn.partitions:4}")
+    private int partitions;
+
+    @Value("${batch-job.campaign-earn.skip-limit:1000}")
+    private int skipLimit;
+
+    @Value("${batch-job.campaign-earn.work-dir:${java.io.tmpdir}/campaign-earn}")
+    private String workDir;
+
+    @Bean
+    public Job campaignEarnJob(Step campaignEarnSplitStep, Step campaignEarnManagerStep) {
+        return new JobBuilder("campaignEarnJob", jobRepository)
+                .start(campaignEarnSplitStep)
+                .next(campaignEarnManagerStep)
+                .listener(new CampaignEarnFileSplitter.Cleanup())
+                .build();
+    }
+
+    @Bean
+    public Step campaignEarnSplitStep(CampaignEarnFileSplitter campaignEarnFileSplitter) {
+        return new StepBuilder("campaignEarnSplitStep", jobRepository)
+                .tasklet(campaignEarnFileSplitter, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step campaignEarnManagerStep(Step campaignEarnWorkerStep) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("campaign-earn-");
+        taskExecutor.setConcurrencyLimit(partitions);
+        return new StepBuilder("campaignEarnManagerStep", jobRepository)
+                .partitioner("campaignEarnWorkerStep", new CampaignEarnPartitioner())
+                .step(campaignEarnWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step campaignEarnWorkerStep(FlatFileItemReader<CampaignEarnLine> campaignEarnReader,
+                                       CampaignEarnWriter campaignEarnWriter) {
+        return new StepBuilder("campaignEarnWorkerStep", jobRepository)
+                .<CampaignEarnLine, CampaignEarnLine>chunk(chunkSize, transactionManager)
+                .reader(campaignEarnReader)
+                .writer(campaignEarnWriter)
+                .faultTolerant()
+                .skipLimit(skipLimit)
+                .skip(FlatFileParseException.class)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public CampaignEarnFileSplitter campaignEarnFileSplitter(
+            @Value("#{jobParameters['inputFile']}") String inputFile) {
+        return new CampaignEarnFileSplitter(Path.of(inputFile), Path.of(workDir), partitions);
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<CampaignEarnLine> campaignEarnReader(
+            @Value("#{jobExecutionContext['campaignEarnSplitDir']}") String splitDir,
+            @Value("#{stepExecutionContext['partition']}") Integer partition) {
+        return new FlatFileItemReaderBuilder<CampaignEarnLine>()
+                .name("campaignEarnReader")
+                .resource(new FileSystemResource(CampaignEarnFileSplitter.partFile(Path.of(splitDir), partition)))
+                .encoding("UTF-8")
+                .lineMapper(new CampaignEarnSplitLineMapper())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public CampaignEarnWriter campaignEarnWriter(
+            PointLedgerBulkRepository bulkRepository,
+            PointPolicyRepository pointPolicyRepository,
+            PointEventPublisher eventPublisher,
+            PointLiabilityRepository pointLiabilityRepository,
+            EarnedMemberFilter earnedMemberFilter,
+            IdGenerator idGenerator,
+            Clock clock,
+            @Value("#{jobParameters['expirationDays']}") Long expirationDays) {
+        return new CampaignEarnWriter(bulkRepository, pointPolicyRepository, eventPublisher,
+                pointLiabilityRepository, earnedMemberFilter, idGenerator, clock,
+                expirationDays != null ? Math.toIntExact(expirationDays) : null);
+    }
+}
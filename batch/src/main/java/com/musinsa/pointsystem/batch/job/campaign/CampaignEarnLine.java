@@ -0,0 +1,13 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import java.util.UUID;
+
+/**
+ * 캠페인 지급 파일의 한 줄 (memberId,amount)
+ * @param lineNumber 파일 내 줄 번호 (제외/오류 로그용)
+ */
+public record CampaignEarnLine(
+        UUID memberId,
+        long amount,
+        int lineNumber
+) {}
@@ -0,0 +1,29 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+
+import java.util.UUID;
+
+/**
+ * 캠페인 지급 파일 줄 파서
+ * - 형식: {memberId(UUID)},{amount} (앞뒤 공백 허용)
+ * - 형식 오류는 FlatFileParseException → Step skip 정책으로 건너뜀
+ */
+public class CampaignEarnLineMapper implements LineMapper<CampaignEarnLine> {
+
+    @Override
+    public CampaignEarnLine mapLine(String line, int lineNumber) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            throw new FlatFileParseException("형식 오류 (memberId,amount): " + lineNumber, line, lineNumber);
+        }
+        try {
+            UUID memberId = UUID.fromString(line.substring(0, comma).trim());
+            long amount = Long.parseLong(line.substring(comma + 1).trim());
+            return new CampaignEarnLine(memberId, amount, lineNumber);
+        } catch (IllegalArgumentException e) {
+            throw new FlatFileParseException("형식 오류 (memberId,amount): " + lineNumber, e, line, lineNumber);
+        }
+    }
+}
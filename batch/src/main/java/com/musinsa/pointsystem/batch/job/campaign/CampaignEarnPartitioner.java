@@ -0,0 +1,35 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 회원 해시 기준 파티션 분할
+ * - 파티션 i는 floorMod(memberId.hashCode(), gridSize) == i 인 줄만 처리
+ * - 같은 회원은 항상 같은 워커가 파일 순서대로 처리 → 워커 간 같은 회원 잔액 검증 경합 없음
+ */
+public class CampaignEarnPartitioner implements Partitioner {
+
+    static final String PARTITION_KEY = "partition";
+    static final String PARTITION_COUNT_KEY = "partitionCount";
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>(gridSize * 2);
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(PARTITION_KEY, i);
+            context.putInt(PARTITION_COUNT_KEY, gridSize);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+
+    static int partitionOf(UUID memberId, int partitionCount) {
+        return Math.floorMod(memberId.hashCode(), partitionCount);
+    }
+}
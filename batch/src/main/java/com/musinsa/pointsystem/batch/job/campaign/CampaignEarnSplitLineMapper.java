@@ -0,0 +1,30 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+
+/**
+ * 분할 파일 줄 파서 ({원본 줄 번호},{원본 줄})
+ * - 원본 줄은 CampaignEarnLineMapper로 해석하고, 줄 번호는 원본 파일 기준 유지
+ */
+public class CampaignEarnSplitLineMapper implements LineMapper<CampaignEarnLine> {
+
+    static final String SEPARATOR = ",";
+
+    private final CampaignEarnLineMapper delegate = new CampaignEarnLineMapper();
+
+    @Override
+    public CampaignEarnLine mapLine(String line, int lineNumber) {
+        int separator = line.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new FlatFileParseException("분할 파일 형식 오류: " + lineNumber, line, lineNumber);
+        }
+        int originalLineNumber;
+        try {
+            originalLineNumber = Integer.parseInt(line.substring(0, separator));
+        } catch (NumberFormatException e) {
+            throw new FlatFileParseException("분할 파일 형식 오류: " + lineNumber, e, line, lineNumber);
+        }
+        return delegate.mapLine(line.substring(separator + 1), originalLineNumber);
+    }
+}
@@ -0,0 +1,143 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
+import com.musinsa.pointsystem.domain.exception.PointException;
+import com.musinsa.pointsystem.domain.model.EarnPolicyConfig;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.model.PointRules;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
+import com.musinsa.pointsystem.domain.repository.IdGenerator;
+import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
+import com.musinsa.pointsystem.domain.repository.PointPolicyRepository;
+import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 캠페인 일괄 적립 Writer (청크 = 1 트랜잭션)
+ * - 청크 내 회원 잔액을 GROUP BY SUM 1회로 조회 후 줄마다 적립 규칙 검증 (같은 회원 여러 줄은 누적 잔액 기준)
+ * - 검증 실패 줄은 제외하고 로그/ExecutionContext(rejectedCount)에 기록
+ * - 적립건/변동 이력은 multi-row INSERT, Outbox는 JDBC 배치 INSERT
+ * - 부채 카운터는 청크 합계 1회 반영 (트랜잭션 마지막에 실행 → 카운터 행 잠금 시간 최소화)
+ * - 회원 분산락을 사용하지 않음: 같은 회원은 한 워커가 처리하지만, 동시에 들어온 API 적립과의 최대 잔액 검증은 보장하지 않음
+ * - 파일 읽기 위치는 청크 커밋과 같은 트랜잭션으로 저장 → 재시작 시 커밋된 줄은 다시 적립하지 않음
+ */
+@Slf4j
+public class CampaignEarnWriter implements ItemWriter<CampaignEarnLine>, StepExecutionListener {
+
+    static final String REJECTED_COUNT_KEY = "rejectedCount";
+
+    private final PointLedgerBulkRepository bulkRepository;
+    private final PointPolicyRepository pointPolicyRepository;
+    private final PointEventPublisher eventPublisher;
+    private final PointLiabilityRepository pointLiabilityRepository;
+    private final EarnedMemberFilter earnedMemberFilter;
+    private final IdGenerator idGenerator;
+    private final Clock clock;
+    private final Integer expirationDays;
+
+    private EarnPolicyConfig policy;
+    private StepExecution stepExecution;
+
+    public CampaignEarnWriter(PointLedgerBulkRepository bulkRepository,
+                              PointPolicyRepository pointPolicyRepository,
+                              PointEventPublisher eventPublisher,
+                              PointLiabilityRepository pointLiabilityRepository,
+                              EarnedMemberFilter earnedMemberFilter,
+                              IdGenerator idGenerator,
+                              Clock clock,
+                              Integer expirationDays) {
+        this.bulkRepository = bulkRepository;
+        this.pointPolicyRepository = pointPolicyRepository;
+        this.eventPublisher = eventPublisher;
+        this.pointLiabilityRepository = pointLiabilityRepository;
+        this.earnedMemberFilter = earnedMemberFilter;
+        this.idGenerator = idGenerator;
+        this.clock = clock;
+        this.expirationDays = expirationDays;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        this.policy = pointPolicyRepository.getEarnPolicyConfig();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("캠페인 적립 파티션 완료. step={}, written={}, rejected={}",
+                stepExecution.getStepName(), stepExecution.getWriteCount(),
+                stepExecution.getExecutionContext().getLong(REJECTED_COUNT_KEY, 0L));
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void write(Chunk<? extends CampaignEarnLine> chunk) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiredAt = policy.calculateExpirationDate(expirationDays, now);
+
+        Set<UUID> memberIds = new LinkedHashSet<>();
+        for (CampaignEarnLine line : chunk) {
+            memberIds.add(line.memberId());
+        }
+        Map<UUID, Long> balances = new HashMap<>(bulkRepository.sumAvailableAmounts(memberIds, now));
+
+        List<PointLedger> ledgers = new ArrayList<>(chunk.size());
+        List<LedgerEntry> entries = new ArrayList<>(chunk.size());
+        List<PointEarnedEvent> events = new ArrayList<>(chunk.size());
+        long total = 0;
+        int rejected = 0;
+        for (CampaignEarnLine line : chunk) {
+            long balance = balances.getOrDefault(line.memberId(), 0L);
+            try {
+                PointRules.validateEarn(line.amount(), balance, expirationDays, policy);
+            } catch (PointException e) {
+                rejected++;
+                log.warn("캠페인 적립 제외. line={}, memberId={}, amount={}, reason={}",
+                        line.lineNumber(), line.memberId(), line.amount(), e.getMessage());
+                continue;
+            }
+            balances.put(line.memberId(), balance + line.amount());
+
+            PointLedger ledger = PointLedger.create(
+                    idGenerator.generate(), line.memberId(), line.amount(), EarnType.SYSTEM, expiredAt, null, now);
+            ledgers.add(ledger);
+            entries.add(LedgerEntry.createEarn(idGenerator.generate(), ledger.id(), line.amount(), now));
+            events.add(PointEarnedEvent.of(
+                    line.memberId(), ledger.id(), line.amount(), EarnType.SYSTEM.name(), expiredAt, now));
+            total += line.amount();
+        }
+        if (rejected > 0) {
+            stepExecution.getExecutionContext().putLong(REJECTED_COUNT_KEY,
+                    stepExecution.getExecutionContext().getLong(REJECTED_COUNT_KEY, 0L) + rejected);
+        }
+        if (ledgers.isEmpty()) {
+            return;
+        }
+
+        // 적립 이력 회원 기록 (저장 전, 커밋 직후 조회부터 필터 통과)
+        ledgers.stream().map(PointLedger::memberId).distinct().forEach(earnedMemberFilter::markEarned);
+        bulkRepository.insertEarned(ledgers, entries);
+        // 캐시/적립건 인덱스 무효화는 이벤트 핸들러에서 커밋 후 처리
+        eventPublisher.publishAll(events);
+        // 스트라이프 선택용 회원 ID (청크 합계만 의미 있음)
+        pointLiabilityRepository.add(ledgers.get(0).memberId(), total);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Map;
  * <ul>
  *   <li>point_ledger.available_amount = entries 기반 계산값</li>
  *   <li>point_ledger.used_amount = USE entries - USE_CANCEL entries</li>
+ *   <li>CONSOLIDATE entries: 통합 대상은 적립(+), 흡수된 적립건은 잔여 이전(-)으로 계산</li>
  * </ul>
  *
  * <p>실행 방법:</p>
@@ -92,7 +93,9 @@ public class ConsistencyCheckJobConfig {
                         COALESCE(SUM(CASE WHEN e.type = 'EARN' THEN e.amount ELSE 0 END), 0) as entry_earn_sum,
                         COALESCE(SUM(CASE WHEN e.type = 'EARN_CANCEL' THEN e.amount ELSE 0 END), 0) as entry_earn_cancel_sum,
                         COALESCE(SUM(CASE WHEN e.type = 'USE' THEN e.amount ELSE 0 END), 0) as entry_use_sum,
-                        COALESCE(SUM(CASE WHEN e.type = 'USE_CANCEL' THEN e.amount ELSE 0 END), 0) as entry_use_cancel_sum
+                        COALESCE(SUM(CASE WHEN e.type = 'USE_CANCEL' THEN e.amount ELSE 0 END), 0) as entry_use_cancel_sum,
+                        COALESCE(SUM(CASE WHEN e.type = 'CONSOLIDATE' AND e.amount > 0 THEN e.amount ELSE 0 END), 0) as entry_consolidate_in_sum,
+                        COALESCE(SUM(CASE WHEN e.type = 'CONSOLIDATE' AND e.amount < 0 THEN e.amount ELSE 0 END), 0) as entry_consolidate_out_sum
                     """)
                 .fromClause("FROM point_ledger l LEFT JOIN ledger_entry e ON l.id = e.ledger_id")
                 .groupClause("GROUP BY l.id, l.member_id, l.earned_amount, l.available_amount, l.used_amount, l.is_canceled")
@@ -108,7 +111,9 @@ public class ConsistencyCheckJobConfig {
                         rs.getLong("entry_earn_sum"),
                         rs.getLong("entry_earn_cancel_sum"),
                         rs.getLong("entry_use_sum"),
-                        rs.getLong("entry_use_cancel_sum")
+                        rs.getLong("entry_use_cancel_sum"),
+                        rs.getLong("entry_consolidate_in_sum"),
+                        rs.getLong("entry_consolidate_out_sum")
                 ))
                 .build();
     }
@@ -39,8 +39,9 @@ public class ConsistencyCheckProcessor implements ItemProcessor<LedgerConsistenc
 
         // 3. earned_amount 검증 (EARN Entry와 일치하는지)
         // 취소된 경우 earnedAmount는 원래 적립금액 유지
+        // 통합 대상 Ledger는 CONSOLIDATE(+) Entry가 적립 Entry 역할, 흡수된 적립건 취소분(EARN_CANCEL)은 차감
         if (!item.isCanceled()) {
-            long expectedEarned = item.entryEarnSum();  // EARN Entry의 합계
+            long expectedEarned = item.calculatedEarnEntryAmount();  // EARN + CONSOLIDATE(+) + EARN_CANCEL Entry의 합계
             if (item.earnedAmount() != expectedEarned) {
                 mismatches.add(String.format(
                         "earnedAmount: stored=%d, calculated=%d",
@@ -6,6 +6,7 @@ import java.util.UUID;
 /**
  * Ledger 정합성 검증용 DTO
  * - DB에서 조회한 Ledger 정보와 Entry 집계 결과
+ * - CONSOLIDATE Entry는 방향별로 분리 집계 (통합 대상 +, 흡수된 적립건 -)
  */
 public record LedgerConsistencyDto(
         byte[] id,
@@ -17,8 +18,20 @@ public record LedgerConsistencyDto(
         long entryEarnSum,
         long entryEarnCancelSum,
         long entryUseSum,
-        long entryUseCancelSum
+        long entryUseCancelSum,
+        long entryConsolidateInSum,
+        long entryConsolidateOutSum
 ) {
+    /**
+     * 통합 이력이 없는 Ledger용 생성자
+     */
+    public LedgerConsistencyDto(byte[] id, byte[] memberId, long earnedAmount, long availableAmount,
+                                long usedAmount, boolean isCanceled, long entryEarnSum,
+                                long entryEarnCancelSum, long entryUseSum, long entryUseCancelSum) {
+        this(id, memberId, earnedAmount, availableAmount, usedAmount, isCanceled,
+                entryEarnSum, entryEarnCancelSum, entryUseSum, entryUseCancelSum, 0L, 0L);
+    }
+
     /**
      * Ledger ID를 UUID로 변환
      */
@@ -36,9 +49,18 @@ public record LedgerConsistencyDto(
     /**
      * Entry 기반 계산 - 적립 총액
      * EARN은 양수, EARN_CANCEL은 음수로 저장됨
+     * 통합 대상 Ledger는 CONSOLIDATE(+)가 적립으로 계산됨
      */
     public long calculatedEarnedAmount() {
-        return entryEarnSum + entryEarnCancelSum;  // EARN_CANCEL은 이미 음수
+        return entryEarnSum + entryEarnCancelSum + entryConsolidateInSum;  // EARN_CANCEL은 이미 음수
+    }
+
+    /**
+     * Entry 기반 계산 - 적립 Entry 총액 (EARN + CONSOLIDATE 유입 + EARN_CANCEL)
+     * 취소되지 않은 Ledger의 EARN_CANCEL은 흡수된 적립건 취소로 통합 적립건에서 제외된 금액
+     */
+    public long calculatedEarnEntryAmount() {
+        return entryEarnSum + entryConsolidateInSum + entryEarnCancelSum;  // EARN_CANCEL은 이미 음수
     }
 
     /**
@@ -51,13 +73,13 @@ public record LedgerConsistencyDto(
 
     /**
      * Entry 기반 계산 - 사용 가능 금액
-     * = 적립총액 - 사용총액
+     * = 적립총액 - 사용총액 - 통합으로 이전된 금액
      */
     public long calculatedAvailableAmount() {
         if (isCanceled) {
             return 0L;  // 취소된 Ledger는 available이 0이어야 함
         }
-        return calculatedEarnedAmount() - calculatedUsedAmount();
+        return calculatedEarnedAmount() - calculatedUsedAmount() + entryConsolidateOutSum;  // 이전분은 이미 음수
     }
 
     private static UUID bytesToUuid(byte[] bytes) {
@@ -0,0 +1,75 @@
+package com.musinsa.pointsystem.batch.job.consolidation;
+
+import com.musinsa.pointsystem.domain.repository.IdGenerator;
+import com.musinsa.pointsystem.domain.service.LedgerConsolidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+
+/**
+ * 적립건 통합 Job
+ *
+ * <p>소액 적립건이 많이 쌓인 회원의 미사용 적립건을 적립 유형 + 만료일 단위로 하나의 적립건으로 통합합니다.
+ * 사용/잔액 조회 시 조회·정렬하는 적립건 수를 줄이기 위한 작업이며 잔액은 변하지 않습니다.</p>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java -jar batch.jar --spring.batch.job.name=ledgerConsolidationJob
+ * </pre>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class LedgerConsolidationJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Value("${batch-job.ledger-consolidation.min-ledgers:100}")
+    private int minLedgers;
+
+    @Value("${batch-job.ledger-consolidation.min-group-size:2}")
+    private int minGroupSize;
+
+    @Value("${batch-job.ledger-consolidation.batch-size:200}")
+    private int batchSize;
+
+    @Value("${batch-job.ledger-consolidation.max-batches-per-member:50}")
+    private int maxBatchesPerMember;
+
+    @Value("${batch-job.ledger-consolidation.page-size:100}")
+    private int pageSize;
+
+    @Bean
+    public LedgerConsolidator ledgerConsolidator(IdGenerator idGenerator) {
+        return new LedgerConsolidator(idGenerator);
+    }
+
+    @Bean
+    public Job ledgerConsolidationJob(Step ledgerConsolidationStep) {
+        return new JobBuilder("ledgerConsolidationJob", jobRepository)
+                .start(ledgerConsolidationStep)
+                .build();
+    }
+
+    @Bean
+    public Step ledgerConsolidationStep(LedgerConsolidationService consolidationService) {
+        LedgerConsolidationProperties properties = new LedgerConsolidationProperties(
+                minLedgers, minGroupSize, batchSize, maxBatchesPerMember, pageSize);
+        return new StepBuilder("ledgerConsolidationStep", jobRepository)
+                .tasklet(new LedgerConsolidationTasklet(jdbcTemplate, consolidationService, clock, properties),
+                        transactionManager)
+                .build();
+    }
+}
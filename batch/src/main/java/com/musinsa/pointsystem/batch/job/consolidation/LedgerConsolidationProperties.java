@@ -0,0 +1,17 @@
+package com.musinsa.pointsystem.batch.job.consolidation;
+
+/**
+ * 적립건 통합 Job 설정 (batch-job.ledger-consolidation.*)
+ * @param minLedgers 통합 대상 회원 기준 (통합 후보 적립건 수)
+ * @param minGroupSize 통합할 최소 적립건 수 (같은 적립 유형 + 같은 만료일)
+ * @param batchSize 회원 락 1회 보유 시 처리할 최대 후보 적립건 수
+ * @param maxBatchesPerMember 회원당 최대 반복 횟수 (1회 실행 기준)
+ * @param pageSize 1회 조회할 회원 수
+ */
+record LedgerConsolidationProperties(
+        int minLedgers,
+        int minGroupSize,
+        int batchSize,
+        int maxBatchesPerMember,
+        int pageSize
+) {}
@@ -0,0 +1,83 @@
+package com.musinsa.pointsystem.batch.job.consolidation;
+
+import com.musinsa.pointsystem.domain.model.DistributedLock;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.domain.service.LedgerConsolidator;
+import com.musinsa.pointsystem.domain.service.LedgerConsolidator.Consolidation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 단위 적립건 통합 (1회 호출 = 후보 batchSize건 이내)
+ * - 회원 락 안에서 별도 트랜잭션으로 실행 (Tasklet 청크 트랜잭션과 분리, 락 해제 전 커밋)
+ * - 흡수 표시는 조회 시점과 같은 미사용 상태인 경우에만 반영, 건수가 다르면 롤백
+ * - 잔액 합계가 변하지 않으므로 이벤트/부채 카운터 반영 없음, 적립건 인덱스만 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerConsolidationService {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerIndexPort ledgerIndexPort;
+    private final LedgerConsolidator ledgerConsolidator;
+    private final Clock clock;
+
+    /**
+     * @return 통합으로 흡수된 적립건 수 (0이면 더 통합할 그룹 없음)
+     */
+    @DistributedLock(key = "'lock:point:member:' + #memberId")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int consolidate(UUID memberId, int batchSize, int minGroupSize) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<PointLedger> candidates = pointLedgerRepository.findConsolidationCandidates(memberId, now, batchSize);
+        List<Consolidation> consolidations = ledgerConsolidator.consolidate(candidates, minGroupSize, now);
+        if (consolidations.isEmpty()) {
+            return 0;
+        }
+
+        int absorbed = 0;
+        List<PointLedger> consolidatedLedgers = new ArrayList<>(consolidations.size());
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (Consolidation consolidation : consolidations) {
+            consolidatedLedgers.add(consolidation.consolidatedLedger());
+            entries.addAll(consolidation.entries());
+        }
+        pointLedgerRepository.insertAll(consolidatedLedgers);
+        for (Consolidation consolidation : consolidations) {
+            List<UUID> sourceIds = consolidation.sourceLedgerIds();
+            int marked = pointLedgerRepository.markConsolidated(
+                    sourceIds, consolidation.consolidatedLedger().id(), now);
+            if (marked != sourceIds.size()) {
+                throw new IllegalStateException(String.format(
+                        "통합 대상 적립건 상태 변경 감지. memberId=%s, expected=%d, marked=%d",
+                        memberId, sourceIds.size(), marked));
+            }
+            absorbed += marked;
+        }
+        ledgerEntryRepository.saveAll(entries);
+        try {
+            ledgerIndexPort.evict(memberId);
+        } catch (RuntimeException e) {
+            // 적립건 수가 바뀌므로 남은 인덱스는 사용 경로의 건수/합계 검증에서 걸러짐 → 통합은 계속 진행
+            log.warn("적립건 인덱스 삭제 실패. memberId={}, error={}", memberId, e.getMessage());
+        }
+
+        log.debug("적립건 통합. memberId={}, groups={}, absorbed={}", memberId, consolidations.size(), absorbed);
+        return absorbed;
+    }
+}
@@ -0,0 +1,103 @@
+package com.musinsa.pointsystem.batch.job.consolidation;
+
+import com.musinsa.pointsystem.domain.exception.LockAcquisitionFailedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 적립건 통합 Tasklet
+ * - 1회 실행당 통합 후보 적립건이 minLedgers건 이상인 회원 pageSize명 처리 (회원 ID 키셋 페이징)
+ * - 회원마다 batchSize건 단위로 통합을 반복 (회원 락 1회 보유 시간/작업량 제한, 최대 maxBatchesPerMember회)
+ * - 마지막 처리 회원 ID를 ExecutionContext에 저장 → 재시작 시 이어서 처리
+ * - 락 획득 실패/상태 변경 감지 회원은 건너뜀 (다음 실행에서 재시도)
+ */
+@Slf4j
+public class LedgerConsolidationTasklet implements Tasklet {
+
+    static final String LAST_MEMBER_ID_KEY = "lastMemberId";
+
+    private static final String SELECT_MEMBERS_SQL =
+            "SELECT member_id FROM point_ledger " +
+            "WHERE is_canceled = FALSE AND source_ledger_id IS NULL AND consolidated_into IS NULL " +
+            "AND available_amount = earned_amount AND expired_at > ? AND member_id > ? " +
+            "GROUP BY member_id HAVING COUNT(*) >= ? " +
+            "ORDER BY member_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerConsolidationService consolidationService;
+    private final Clock clock;
+    private final LedgerConsolidationProperties properties;
+
+    public LedgerConsolidationTasklet(JdbcTemplate jdbcTemplate, LedgerConsolidationService consolidationService,
+                                      Clock clock, LedgerConsolidationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.consolidationService = consolidationService;
+        this.clock = clock;
+        this.properties = properties;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        UUID after = executionContext.containsKey(LAST_MEMBER_ID_KEY)
+                ? UUID.fromString(executionContext.getString(LAST_MEMBER_ID_KEY))
+                : new UUID(0L, 0L);
+
+        List<byte[]> memberIds = jdbcTemplate.queryForList(SELECT_MEMBERS_SQL, byte[].class,
+                LocalDateTime.now(clock), uuidToBytes(after), properties.minLedgers(), properties.pageSize());
+        if (memberIds.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        for (byte[] bytes : memberIds) {
+            UUID memberId = bytesToUuid(bytes);
+            contribution.incrementWriteCount(consolidate(memberId));
+            executionContext.putString(LAST_MEMBER_ID_KEY, memberId.toString());
+        }
+
+        return memberIds.size() < properties.pageSize() ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    private int consolidate(UUID memberId) {
+        int total = 0;
+        try {
+            for (int i = 0; i < properties.maxBatchesPerMember(); i++) {
+                int absorbed = consolidationService.consolidate(
+                        memberId, properties.batchSize(), properties.minGroupSize());
+                if (absorbed == 0) {
+                    break;
+                }
+                total += absorbed;
+            }
+        } catch (LockAcquisitionFailedException | IllegalStateException e) {
+            log.warn("적립건 통합 건너뜀. memberId={}, error={}", memberId, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("적립건 통합 완료. memberId={}, absorbed={}", memberId, total);
+        }
+        return total;
+    }
+
+    private static byte[] uuidToBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID bytesToUuid(byte[] bytes) {
+        ByteBuffer bb = ByteBuffer.wrap(bytes);
+        return new UUID(bb.getLong(), bb.getLong());
+    }
+}
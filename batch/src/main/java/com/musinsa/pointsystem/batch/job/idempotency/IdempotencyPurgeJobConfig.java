@@ -0,0 +1,54 @@
+package com.musinsa.pointsystem.batch.job.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+
+/**
+ * 만료 멱등성 기록 삭제 Job
+ *
+ * <p>idempotency_record.expires_at이 지난 기록을 청크 단위로 삭제합니다.</p>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java -jar batch.jar --spring.batch.job.name=idempotencyPurgeJob
+ * </pre>
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class IdempotencyPurgeJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Value("${batch-job.idempotency-purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Bean
+    public Job idempotencyPurgeJob() {
+        return new JobBuilder("idempotencyPurgeJob", jobRepository)
+                .start(idempotencyPurgeStep())
+                .build();
+    }
+
+    @Bean
+    public Step idempotencyPurgeStep() {
+        return new StepBuilder("idempotencyPurgeStep", jobRepository)
+                .tasklet(new IdempotencyPurgeTasklet(jdbcTemplate, clock, chunkSize), transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.musinsa.pointsystem.batch.job.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 멱등성 기록 삭제 Tasklet
+ * - 1회 실행당 chunkSize건 삭제 (만료 키 조회 → PK 기준 배치 DELETE)
+ * - 삭제 대상이 남아 있으면 CONTINUABLE 반환 → 청크마다 별도 트랜잭션 (긴 락/언두 방지)
+ */
+@Slf4j
+public class IdempotencyPurgeTasklet implements Tasklet {
+
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT idempotency_key FROM idempotency_record WHERE expires_at < ? ORDER BY expires_at LIMIT ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM idempotency_record WHERE idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public IdempotencyPurgeTasklet(JdbcTemplate jdbcTemplate, Clock clock, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<String> expiredKeys = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL, String.class, now, chunkSize);
+        if (expiredKeys.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_SQL, expiredKeys, expiredKeys.size(),
+                (ps, key) -> ps.setString(1, key));
+        contribution.incrementWriteCount(expiredKeys.size());
+        log.debug("만료 멱등성 기록 삭제. count={}", expiredKeys.size());
+
+        return expiredKeys.size() < chunkSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
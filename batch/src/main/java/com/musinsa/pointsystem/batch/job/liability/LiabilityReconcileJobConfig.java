@@ -0,0 +1,53 @@
+package com.musinsa.pointsystem.batch.job.liability;
+
+import com.musinsa.pointsystem.infra.liability.PointLiabilityCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+
+/**
+ * 포인트 부채 카운터 정합성 보정 Job
+ *
+ * <p>point_ledger 기준 미사용 잔액과 부채 카운터의 차이(적립/사용 외 경로의 변경, 스윕 경합 등)를 보정합니다.</p>
+ *
+ * <p>실행 방법:</p>
+ * <pre>
+ * java -jar batch.jar --spring.batch.job.name=liabilityReconcileJob
+ * </pre>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class LiabilityReconcileJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final PointLiabilityCounterRepository liabilityRepository;
+
+    @Bean
+    public Job liabilityReconcileJob() {
+        return new JobBuilder("liabilityReconcileJob", jobRepository)
+                .start(liabilityReconcileStep())
+                .build();
+    }
+
+    @Bean
+    public Step liabilityReconcileStep() {
+        // 카운터/스윕 기준/적립건 합계를 같은 스냅샷에서 읽기 위해 REPEATABLE READ
+        DefaultTransactionAttribute transactionAttribute = new DefaultTransactionAttribute();
+        transactionAttribute.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return new StepBuilder("liabilityReconcileStep", jobRepository)
+                .tasklet(new LiabilityReconcileTasklet(jdbcTemplate, liabilityRepository), transactionManager)
+                .transactionAttribute(transactionAttribute)
+                .build();
+    }
+}
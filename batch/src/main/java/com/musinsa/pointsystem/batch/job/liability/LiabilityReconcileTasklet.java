@@ -0,0 +1,67 @@
+package com.musinsa.pointsystem.batch.job.liability;
+
+import com.musinsa.pointsystem.infra.liability.PointLiabilityCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 부채 카운터 보정 Tasklet
+ * - 한 트랜잭션 스냅샷에서 스윕 기준(swept_until), 카운터 합계, 적립건 기준 잔액을 읽어 차이(drift) 계산
+ *   → 카운터와 적립건 변경은 같은 트랜잭션으로 커밋되므로 스냅샷 안에서는 일치해야 함
+ * - 차이는 상대값(amount + drift)으로 반영 → 스냅샷 이후 커밋된 변동분과 충돌 없음
+ * - 스윕 기준이 없으면(앱 미기동) 보정하지 않음
+ * - 적립건 잔액은 Primary에서 만료 인덱스 범위 SUM (운영 저부하 시간대 실행 권장)
+ */
+@Slf4j
+public class LiabilityReconcileTasklet implements Tasklet {
+
+    static final String DRIFT_KEY = "liabilityDrift";
+
+    private static final String SELECT_SWEPT_UNTIL_SQL =
+            "SELECT swept_until FROM point_liability_sweep WHERE id = 1";
+    private static final String SUM_COUNTER_SQL =
+            "SELECT COALESCE(SUM(amount), 0) FROM point_liability_stripe";
+    private static final String SUM_LEDGER_SQL =
+            "SELECT COALESCE(SUM(available_amount), 0) FROM point_ledger " +
+            "WHERE is_canceled = FALSE AND expired_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PointLiabilityCounterRepository liabilityRepository;
+
+    public LiabilityReconcileTasklet(JdbcTemplate jdbcTemplate, PointLiabilityCounterRepository liabilityRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.liabilityRepository = liabilityRepository;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<LocalDateTime> sweptUntil = jdbcTemplate.queryForList(SELECT_SWEPT_UNTIL_SQL, LocalDateTime.class);
+        if (sweptUntil.isEmpty()) {
+            log.warn("포인트 부채 스윕 기준 없음, 보정 생략 (만료 스윕 최초 실행 후 재실행)");
+            return RepeatStatus.FINISHED;
+        }
+
+        long counter = jdbcTemplate.queryForObject(SUM_COUNTER_SQL, Long.class);
+        long ledger = jdbcTemplate.queryForObject(SUM_LEDGER_SQL, Long.class, sweptUntil.get(0));
+        long drift = ledger - counter;
+
+        chunkContext.getStepContext().getStepExecution().getExecutionContext().putLong(DRIFT_KEY, drift);
+        if (drift == 0) {
+            log.info("포인트 부채 정합성 확인. amount={}", counter);
+            return RepeatStatus.FINISHED;
+        }
+
+        liabilityRepository.adjust(drift);
+        contribution.incrementWriteCount(1);
+        log.warn("포인트 부채 보정. counter={}, ledger={}, drift={}, sweptUntil={}",
+                counter, ledger, drift, sweptUntil.get(0));
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,158 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캠페인 적립 Job 파티션 분할/재시작 검증
+ * - 파티션 2개, 청크 2줄, 형식 오류 허용 0건 → 파티션 0만 형식 오류 줄에서 실패
+ */
+@TestPropertySource(properties = {
+        "batch-job.campaign-earn.partitions=2",
+        "batch-job.campaign-earn.chunk-size=2",
+        "batch-job.campaign-earn.skip-limit=0"
+})
+class CampaignEarnJobRestartTest extends IntegrationTestBase {
+
+    @TempDir
+    static Path workDir;
+
+    @DynamicPropertySource
+    static void workDir(DynamicPropertyRegistry registry) {
+        registry.add("batch-job.campaign-earn.work-dir", () -> workDir.toString());
+    }
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private Job campaignEarnJob;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Batch 메타 테이블 (이미 있으면 무시)
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql"));
+        populator.setContinueOnError(true);
+        populator.execute(dataSource);
+    }
+
+    @Test
+    @DisplayName("워커는 자기 파티션 줄만 읽고, 재시작 시 완료된 Step과 커밋된 줄은 다시 처리하지 않는다")
+    void restart_shouldResumeFailedPartitionOnly() throws Exception {
+        // GIVEN - 파티션 0: 4줄 + 형식 오류 1줄 + 1줄, 파티션 1: 3줄
+        List<UUID> first = members(0, 5);
+        List<UUID> second = members(1, 3);
+        List<String> lines = new ArrayList<>();
+        lines.add("# 재시작 테스트");
+        for (int i = 0; i < 4; i++) {
+            lines.add(first.get(i) + ",100");
+            if (i < second.size()) {
+                lines.add(second.get(i) + ",200");
+            }
+        }
+        lines.add("not-a-uuid,100");
+        lines.add(first.get(4) + ",100");
+        Path inputFile = Files.write(workDir.resolve("campaign-" + UUID.randomUUID() + ".csv"), lines);
+        JobParameters parameters = new JobParametersBuilder()
+                .addString("campaignId", UUID.randomUUID().toString())
+                .addString("inputFile", inputFile.toString())
+                .toJobParameters();
+
+        // WHEN
+        JobExecution failed = jobLauncher.run(campaignEarnJob, parameters);
+
+        // THEN - 파티션 1만 완료, 파티션 0은 형식 오류 전 커밋된 4줄만 적립
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        Map<String, StepExecution> steps = workerSteps(failed);
+        assertThat(steps.get("campaignEarnWorkerStep:partition0").getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(steps.get("campaignEarnWorkerStep:partition0").getReadCount()).isEqualTo(4);
+        assertThat(steps.get("campaignEarnWorkerStep:partition1").getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(steps.get("campaignEarnWorkerStep:partition1").getReadCount()).isEqualTo(3);
+        assertThat(ledgerCount(first)).isEqualTo(4);
+        assertThat(ledgerCount(second)).isEqualTo(3);
+
+        // WHEN - 같은 파라미터로 재시작
+        JobExecution restarted = jobLauncher.run(campaignEarnJob, parameters);
+
+        // THEN - 분할/완료 파티션은 재실행하지 않고, 파티션 0은 형식 오류 줄부터 다시 읽음 (중복 적립 없음)
+        Map<String, StepExecution> restartedSteps = workerSteps(restarted);
+        assertThat(restarted.getStepExecutions()).extracting(StepExecution::getStepName)
+                .doesNotContain("campaignEarnSplitStep");
+        assertThat(restartedSteps).containsOnlyKeys("campaignEarnWorkerStep:partition0");
+        assertThat(restartedSteps.get("campaignEarnWorkerStep:partition0").getReadCount()).isZero();
+        assertThat(ledgerCount(first)).isEqualTo(4);
+        assertThat(ledgerCount(second)).isEqualTo(3);
+    }
+
+    /**
+     * 지정 파티션에 속하는 회원 ID count개
+     */
+    private List<UUID> members(int partition, int count) {
+        List<UUID> members = new ArrayList<>(count);
+        while (members.size() < count) {
+            UUID memberId = UUID.randomUUID();
+            if (CampaignEarnPartitioner.partitionOf(memberId, 2) == partition) {
+                members.add(memberId);
+            }
+        }
+        return members;
+    }
+
+    private Map<String, StepExecution> workerSteps(JobExecution jobExecution) {
+        return jobExecution.getStepExecutions().stream()
+                .filter(step -> step.getStepName().startsWith("campaignEarnWorkerStep:"))
+                .collect(Collectors.toMap(StepExecution::getStepName, step -> step));
+    }
+
+    private int ledgerCount(List<UUID> memberIds) {
+        int count = 0;
+        for (UUID memberId : memberIds) {
+            count += jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM point_ledger WHERE member_id = ?", Integer.class, uuidToBytes(memberId));
+        }
+        return count;
+    }
+
+    private static byte[] uuidToBytes(UUID uuid) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return bb.array();
+    }
+}
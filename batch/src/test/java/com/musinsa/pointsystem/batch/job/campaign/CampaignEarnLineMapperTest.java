@@ -0,0 +1,120 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("캠페인 적립 파일 파싱/파티션 테스트")
+class CampaignEarnLineMapperTest {
+
+    private final CampaignEarnLineMapper mapper = new CampaignEarnLineMapper();
+
+    @Nested
+    @DisplayName("줄 파싱")
+    class MapLineTest {
+
+        @Test
+        @DisplayName("memberId,amount 형식을 파싱한다 (앞뒤 공백 허용)")
+        void shouldParseLine() {
+            // given
+            UUID memberId = UUID.randomUUID();
+
+            // when
+            CampaignEarnLine line = mapper.mapLine(" " + memberId + " , 1500 ", 7);
+
+            // then
+            assertThat(line.memberId()).isEqualTo(memberId);
+            assertThat(line.amount()).isEqualTo(1500L);
+            assertThat(line.lineNumber()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("구분자가 없거나 값이 잘못되면 FlatFileParseException")
+        void shouldRejectMalformedLine() {
+            assertThatThrownBy(() -> mapper.mapLine("no-comma", 1))
+                    .isInstanceOf(FlatFileParseException.class);
+            assertThatThrownBy(() -> mapper.mapLine("not-a-uuid,100", 2))
+                    .isInstanceOf(FlatFileParseException.class);
+            assertThatThrownBy(() -> mapper.mapLine(UUID.randomUUID() + ",abc", 3))
+                    .isInstanceOf(FlatFileParseException.class);
+            assertThatThrownBy(() -> mapper.mapLine("", 4))
+                    .isInstanceOf(FlatFileParseException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("회원 해시 파티션 분할")
+    class SplitTest {
+
+        @TempDir
+        Path workDir;
+
+        @Test
+        @DisplayName("각 줄은 회원 해시 파티션 파일 하나에만 원본 줄 번호와 함께 기록된다")
+        void shouldSplitEachLineIntoOnePartition() throws IOException {
+            // given
+            List<String> lines = new ArrayList<>();
+            lines.add("# 주석");
+            IntStream.range(0, 1000).forEach(i -> lines.add(UUID.randomUUID() + "," + (i + 1)));
+            Path inputFile = Files.write(workDir.resolve("campaign.csv"), lines);
+            StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+            // when
+            new CampaignEarnFileSplitter(inputFile, workDir, 4)
+                    .execute(stepExecution.createStepContribution(), new ChunkContext(new StepContext(stepExecution)));
+
+            // then
+            Path splitDir = Path.of(stepExecution.getJobExecution().getExecutionContext()
+                    .getString(CampaignEarnFileSplitter.SPLIT_DIR_KEY));
+            CampaignEarnSplitLineMapper splitMapper = new CampaignEarnSplitLineMapper();
+            int total = 0;
+            for (int partition = 0; partition < 4; partition++) {
+                List<String> partLines = Files.readAllLines(CampaignEarnFileSplitter.partFile(splitDir, partition));
+                for (String partLine : partLines) {
+                    CampaignEarnLine line = splitMapper.mapLine(partLine, 1);
+                    assertThat(CampaignEarnPartitioner.partitionOf(line.memberId(), 4)).isEqualTo(partition);
+                    assertThat(lines.get(line.lineNumber() - 1)).startsWith(line.memberId().toString());
+                }
+                total += partLines.size();
+            }
+            assertThat(total).isEqualTo(1000);
+        }
+
+        @Test
+        @DisplayName("회원 ID를 읽을 수 없는 줄은 파티션 0에서 형식 오류로 처리된다")
+        void shouldRouteMalformedLineToFirstPartition() throws IOException {
+            // given
+            Path inputFile = Files.write(workDir.resolve("campaign.csv"), List.of("not-a-uuid,100"));
+            StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution();
+
+            // when
+            new CampaignEarnFileSplitter(inputFile, workDir, 4)
+                    .execute(stepExecution.createStepContribution(), new ChunkContext(new StepContext(stepExecution)));
+
+            // then
+            Path splitDir = Path.of(stepExecution.getJobExecution().getExecutionContext()
+                    .getString(CampaignEarnFileSplitter.SPLIT_DIR_KEY));
+            List<String> partLines = Files.readAllLines(CampaignEarnFileSplitter.partFile(splitDir, 0));
+            assertThat(partLines).containsExactly("1,not-a-uuid,100");
+            assertThatThrownBy(() -> new CampaignEarnSplitLineMapper().mapLine(partLines.get(0), 1))
+                    .isInstanceOf(FlatFileParseException.class);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.musinsa.pointsystem.batch.job.campaign;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
+import com.musinsa.pointsystem.domain.repository.IdGenerator;
+import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
+import com.musinsa.pointsystem.domain.repository.PointPolicyRepository;
+import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
+import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캠페인 적립 후 적립 이력 회원 필터를 거친 조회 검증
+ * - 배치 설정(application.yml)의 membership-filter.enabled로 동작 (app과 같은 필터 사용)
+ */
+class CampaignEarnWriterTest extends IntegrationTestBase {
+
+    @Autowired
+    private PointLedgerBulkRepository bulkRepository;
+
+    @Autowired
+    private PointPolicyRepository pointPolicyRepository;
+
+    @Autowired
+    private PointEventPublisher eventPublisher;
+
+    @Autowired
+    private PointLiabilityRepository pointLiabilityRepository;
+
+    @Autowired
+    private EarnedMemberFilter earnedMemberFilter;
+
+    @Autowired
+    private PointQueryRepository pointQueryRepository;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private CampaignEarnWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // 필터 재구성 완료 상태 (재구성 대기 중에는 필터가 항상 통과시키므로 검증 불가)
+        RBloomFilter<String> filter = redissonClient.getBloomFilter("earned-members", StringCodec.INSTANCE);
+        filter.tryInit(10_000_000L, 0.001);
+        filter.add("__ready__");
+        writer = new CampaignEarnWriter(bulkRepository, pointPolicyRepository, eventPublisher,
+                pointLiabilityRepository, earnedMemberFilter, idGenerator, clock, null);
+        writer.beforeStep(MetaDataInstanceFactory.createStepExecution());
+    }
+
+    @Test
+    @DisplayName("캠페인으로만 적립한 회원도 필터를 통과해 잔액이 조회된다")
+    void campaignOnlyMember_passesFilter() {
+        // GIVEN
+        UUID campaignMemberId = idGenerator.generate();
+        UUID otherMemberId = idGenerator.generate();
+
+        // WHEN
+        transactionTemplate.executeWithoutResult(status -> writer.write(Chunk.of(
+                new CampaignEarnLine(campaignMemberId, 1000L, 1),
+                new CampaignEarnLine(campaignMemberId, 500L, 2))));
+
+        // THEN - GetPointBalanceUseCase와 같은 순서 (필터 → 잔액 조회)
+        assertThat(earnedMemberFilter.mightHaveEarned(campaignMemberId)).isTrue();
+        assertThat(pointQueryRepository.getTotalBalance(campaignMemberId, LocalDateTime.now(clock)).getValue())
+                .isEqualTo(1500L);
+        assertThat(earnedMemberFilter.mightHaveEarned(otherMemberId)).isFalse();
+    }
+}
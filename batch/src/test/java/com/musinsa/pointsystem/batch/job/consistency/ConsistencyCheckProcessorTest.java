@@ -101,6 +101,65 @@ class ConsistencyCheckProcessorTest {
             // then
             assertThat(result.isConsistent()).isTrue();
         }
+
+        @Test
+        @DisplayName("통합으로 흡수된 Ledger는 available이 0이면 consistent")
+        void shouldHandleConsolidatedSource() {
+            // given
+            // 300원 적립 -> 통합 적립건으로 300원 이전
+            LedgerConsistencyDto dto = new LedgerConsistencyDto(
+                    uuidToBytes(UUID.randomUUID()), uuidToBytes(UUID.randomUUID()),
+                    300L, 0L, 0L, false,
+                    300L, 0L, 0L, 0L,
+                    0L,     // entryConsolidateInSum
+                    -300L   // entryConsolidateOutSum
+            );
+
+            // when
+            ConsistencyCheckResult result = processor.process(dto);
+
+            // then
+            assertThat(result.isConsistent()).isTrue();
+        }
+
+        @Test
+        @DisplayName("통합 적립건은 CONSOLIDATE(+)를 적립으로 계산")
+        void shouldHandleConsolidatedTarget() {
+            // given
+            LedgerConsistencyDto dto = new LedgerConsistencyDto(
+                    uuidToBytes(UUID.randomUUID()), uuidToBytes(UUID.randomUUID()),
+                    900L, 600L, 300L, false,
+                    0L, 0L, -300L, 0L,
+                    900L,   // entryConsolidateInSum
+                    0L      // entryConsolidateOutSum
+            );
+
+            // when
+            ConsistencyCheckResult result = processor.process(dto);
+
+            // then
+            assertThat(result.isConsistent()).isTrue();
+        }
+
+        @Test
+        @DisplayName("흡수된 적립건 취소로 통합 적립건에서 제외된 금액(EARN_CANCEL)은 적립액에서 차감")
+        void shouldHandleEarnCancelOnConsolidatedTarget() {
+            // given
+            // 900원 통합 -> 흡수된 300원 적립건 취소 -> 통합 적립건 적립액 600원, 200원 사용
+            LedgerConsistencyDto dto = new LedgerConsistencyDto(
+                    uuidToBytes(UUID.randomUUID()), uuidToBytes(UUID.randomUUID()),
+                    600L, 400L, 200L, false,
+                    0L, -300L, -200L, 0L,
+                    900L,   // entryConsolidateInSum
+                    0L      // entryConsolidateOutSum
+            );
+
+            // when
+            ConsistencyCheckResult result = processor.process(dto);
+
+            // then
+            assertThat(result.isConsistent()).isTrue();
+        }
     }
 
     @Nested
@@ -0,0 +1,8 @@
+-- 테스트용 초기 정책 데이터 (UUID 기반)
+MERGE INTO point_policy (id, policy_key, policy_value, description, created_at, updated_at) KEY(policy_key) VALUES
+(X'00000000000000000000000000000001', 'EARN_MIN_AMOUNT', 1, '1회 최소 적립 금액', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(X'00000000000000000000000000000002', 'EARN_MAX_AMOUNT', 100000, '1회 최대 적립 금액', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(X'00000000000000000000000000000003', 'BALANCE_MAX_AMOUNT', 10000000, '개인별 최대 보유 가능 금액', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(X'00000000000000000000000000000004', 'EXPIRATION_DEFAULT_DAYS', 365, '기본 만료일 (일)', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(X'00000000000000000000000000000005', 'EXPIRATION_MIN_DAYS', 1, '최소 만료일 (일)', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+(X'00000000000000000000000000000006', 'EXPIRATION_MAX_DAYS', 1824, '최대 만료일 (일, 5년 미만)', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("org.springframework.boot") version "3.5.0" apply false
     id("io.spring.dependency-management") version "1.1.7" apply false
+    id("me.champeau.jmh") version "0.7.2" apply false
 }
 
 allprojects {
@@ -1,6 +1,7 @@
 plugins {
     id("java-library")
     id("java-test-fixtures")
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -18,3 +19,14 @@ dependencies {
     // =====================================================
     testImplementation(testFixtures(project(":domain")))
 }
+
+// =====================================================
+// JMH 벤치마크 (src/jmh/java, 실행: ./gradlew :domain:jmh)
+// - gc 프로파일러: 연산당 할당량(gc.alloc.rate.norm) 함께 출력
+// =====================================================
+jmh {
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    profilers.set(listOf("gc"))
+}
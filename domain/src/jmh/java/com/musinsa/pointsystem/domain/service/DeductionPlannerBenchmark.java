@@ -0,0 +1,78 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.DeductionPlan;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.model.PointRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeductionPlanner vs 기존 PointRules 경로 (잔액 계산 + 정렬 목록 + 차감 후 적립건 생성) 비교
+ * - 지연: 연산당 평균 시간
+ * - 할당: gc 프로파일러의 gc.alloc.rate.norm (연산당 바이트)
+ * - 사용 금액은 전체 잔액의 절반 → 적립건 절반을 차감
+ *
+ * 실행: ./gradlew :domain:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeductionPlannerBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int ledgerCount;
+
+    private final DeductionPlanner planner = new DeductionPlanner();
+    private List<PointLedger> ledgers;
+    private long useAmount;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.of(2026, 10, 19, 0, 0);
+        UUID memberId = UUID.randomUUID();
+        ledgers = new ArrayList<>(ledgerCount);
+        // DB 조회 결과와 같은 우선순위 순 (수기 적립 먼저, 만료일 빠른 순)
+        for (int i = 0; i < ledgerCount; i++) {
+            EarnType earnType = i < ledgerCount / 10 ? EarnType.MANUAL : EarnType.SYSTEM;
+            ledgers.add(PointLedger.create(UUID.randomUUID(), memberId, 1000L, earnType,
+                    now.plusDays(1 + i), null, now.minusDays(1)));
+        }
+        useAmount = ledgerCount * 1000L / 2;
+    }
+
+    @Benchmark
+    public void pointRules(Blackhole bh) {
+        long balance = PointRules.calculateAvailableBalance(ledgers, now);
+        List<PointLedger> sorted = PointRules.getAvailableLedgersSorted(ledgers, now);
+        List<PointLedger> updated = new ArrayList<>();
+        long remaining = useAmount;
+        for (PointLedger ledger : sorted) {
+            if (remaining <= 0) break;
+            long amount = Math.min(remaining, ledger.availableAmount());
+            remaining -= amount;
+            updated.add(ledger.withAvailableAmount(ledger.availableAmount() - amount));
+        }
+        bh.consume(balance);
+        bh.consume(updated);
+    }
+
+    @Benchmark
+    public DeductionPlan planner() {
+        return planner.plan(ledgers, useAmount, now);
+    }
+}
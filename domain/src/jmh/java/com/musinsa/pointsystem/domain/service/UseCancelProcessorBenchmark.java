@@ -0,0 +1,94 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.model.PointRules;
+import com.musinsa.pointsystem.domain.service.UseCancelProcessor.CancelableContext;
+import com.musinsa.pointsystem.domain.service.UseCancelProcessor.CancelableInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용취소 가능 금액 계산: 정렬 배열 + 1회 순회 vs 기존 groupingBy + 적립건별 스트림
+ * - 주문 하나가 ledgerCount개 적립건을 사용, 적립건마다 EARN + 대상 주문 USE + 다른 주문 USE 이력
+ * - shuffled: 적립건 목록이 ID 순이 아닌 경우 (정렬 비용 포함)
+ * - 할당량은 gc 프로파일러(gc.alloc.rate.norm) 참고
+ *
+ * 실행: ./gradlew :domain:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UseCancelProcessorBenchmark {
+
+    private static final String ORDER_ID = "ORDER-1";
+
+    @Param({"10", "1000", "10000"})
+    private int ledgerCount;
+
+    @Param({"false", "true"})
+    private boolean shuffled;
+
+    private final UseCancelProcessor processor = new UseCancelProcessor(UUID::randomUUID);
+    private List<PointLedger> ledgers;
+    private List<LedgerEntry> entries;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 0, 0);
+        UUID memberId = UUID.randomUUID();
+        ledgers = new ArrayList<>(ledgerCount);
+        entries = new ArrayList<>(ledgerCount * 3);
+        for (int i = 0; i < ledgerCount; i++) {
+            // UUIDv7처럼 시간 순으로 증가하는 ID
+            UUID id = new UUID(0x0192_0000_0000_7000L + ((long) i << 16), 0x8000_0000_0000_0000L | i);
+            ledgers.add(PointLedger.create(id, memberId, 1000L, EarnType.SYSTEM, now.plusDays(365), null, now));
+            entries.add(LedgerEntry.createEarn(UUID.randomUUID(), id, 1000L, now));
+            entries.add(LedgerEntry.createUse(UUID.randomUUID(), id, 300L, ORDER_ID, now));
+            entries.add(LedgerEntry.createUse(UUID.randomUUID(), id, 200L, "ORDER-OTHER", now));
+        }
+        if (shuffled) {
+            Collections.shuffle(ledgers, new Random(42));
+            Collections.shuffle(entries, new Random(42));
+        }
+    }
+
+    @Benchmark
+    public CancelableContext groupingBy() {
+        Map<UUID, List<LedgerEntry>> entriesByLedgerId = entries.stream()
+                .collect(Collectors.groupingBy(LedgerEntry::ledgerId));
+        List<CancelableInfo> infos = new ArrayList<>();
+        long total = 0;
+        for (PointLedger ledger : ledgers) {
+            List<LedgerEntry> ledgerEntries = entriesByLedgerId.getOrDefault(ledger.id(), List.of());
+            long cancelable = PointRules.calculateCancelableAmountForLedger(ledgerEntries, ORDER_ID);
+            if (cancelable > 0) {
+                infos.add(new CancelableInfo(ledger, cancelable));
+                total += cancelable;
+            }
+        }
+        return new CancelableContext(infos, total);
+    }
+
+    @Benchmark
+    public CancelableContext sortedArrays() {
+        return processor.calculateCancelableAmount(ledgers, entries, ORDER_ID);
+    }
+}
@@ -0,0 +1,18 @@
+package com.musinsa.pointsystem.domain.exception;
+
+public class InvalidSummaryPeriodException extends PointException {
+
+    private static final String USER_MESSAGE = "유효하지 않은 조회 기간입니다.";
+
+    private InvalidSummaryPeriodException(String internalMessage) {
+        super(USER_MESSAGE, internalMessage);
+    }
+
+    public static InvalidSummaryPeriodException invalidYear(int year) {
+        return new InvalidSummaryPeriodException(String.format("유효하지 않은 연도. 요청: %d", year));
+    }
+
+    public static InvalidSummaryPeriodException invalidMonth(int month) {
+        return new InvalidSummaryPeriodException(String.format("유효하지 않은 월. 요청: %d", month));
+    }
+}
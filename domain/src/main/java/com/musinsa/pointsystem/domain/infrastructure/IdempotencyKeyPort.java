@@ -1,6 +1,8 @@
 package com.musinsa.pointsystem.domain.infrastructure;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 멱등성 키 관리 포트
@@ -25,17 +27,87 @@ public interface IdempotencyKeyPort {
         PROCESSING          // 다른 요청이 처리 중
     }
 
+    /**
+     * 저장된 응답 (직렬화된 본문 그대로 재전송)
+     * @param status HTTP 상태 코드
+     * @param contentType Content-Type
+     * @param body 응답 본문 bytes
+     */
+    record StoredResponse(int status, String contentType, byte[] body) {
+
+        public static final String JSON = "application/json";
+
+        public static StoredResponse json(byte[] body) {
+            return new StoredResponse(200, JSON, body);
+        }
+    }
+
+    /**
+     * 멱등성 키 입장 결과
+     * @param status 획득 결과
+     * @param response 저장된 응답 (ALREADY_COMPLETED인 경우에만 존재, 디코딩 불가 시 null)
+     */
+    record Admission(AcquireResult status, StoredResponse response) {
+
+        public static Admission acquired() {
+            return new Admission(AcquireResult.ACQUIRED, null);
+        }
+
+        public static Admission processing() {
+            return new Admission(AcquireResult.PROCESSING, null);
+        }
+
+        public static Admission completed(StoredResponse response) {
+            return new Admission(AcquireResult.ALREADY_COMPLETED, response);
+        }
+
+        /**
+         * 저장된 응답 본문 (UTF-8 문자열)
+         */
+        public String result() {
+            return response != null ? new String(response.body(), StandardCharsets.UTF_8) : null;
+        }
+    }
+
+    /**
+     * 멱등성 키 확인 + 획득 + 완료 결과 조회를 한 번에 수행
+     * - 키가 없으면 PROCESSING 상태로 저장 후 ACQUIRED
+     * - 처리 중이면 PROCESSING, 완료되었으면 저장된 결과와 함께 ALREADY_COMPLETED
+     */
+    Admission admit(String idempotencyKey);
+
     /**
      * 멱등성 키가 이미 존재하는지 확인하고, 없으면 저장
      * @return AcquireResult 상태
      */
-    AcquireResult tryAcquire(String idempotencyKey);
+    default AcquireResult tryAcquire(String idempotencyKey) {
+        return admit(idempotencyKey).status();
+    }
 
     /**
      * 처리 완료 후 결과 저장
      */
     void saveResult(String idempotencyKey, String result);
 
+    /**
+     * 처리 완료 후 응답 저장 (재요청 시 본문 그대로 재전송)
+     */
+    void saveResponse(String idempotencyKey, StoredResponse response);
+
+    /**
+     * 처리 중인 요청이 완료될 때까지 대기 후 저장된 응답 조회
+     * - 대기 시간은 구현체 설정을 따름 (대기하지 않도록 설정된 경우 즉시 empty)
+     * @return 대기 시간 내 완료되어 저장된 응답 (타임아웃/처리 실패 시 empty)
+     */
+    Optional<StoredResponse> awaitResponse(String idempotencyKey);
+
+    /**
+     * awaitResponse의 비동기 버전 (호출 스레드와 별도 대기 스레드 모두 점유하지 않음)
+     * - 요청 스레드가 대기하지 않도록 비동기 응답과 함께 사용
+     * - 대기하지 않도록 설정된 경우 이미 완료된 Future(empty) 반환
+     */
+    CompletableFuture<Optional<StoredResponse>> awaitResponseAsync(String idempotencyKey);
+
     /**
      * 저장된 결과 조회
      * @return 처리 완료된 결과 (PROCESSING 상태면 empty)
@@ -0,0 +1,59 @@
+package com.musinsa.pointsystem.domain.infrastructure;
+
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+
+/**
+ * 영속 멱등성 기록 포트
+ * - 멱등성 키를 비즈니스 변경과 같은 트랜잭션에서 DB에 기록 (유니크 키)
+ * - Redis(IdempotencyKeyPort)는 앞단 캐시, DB 기록이 최종 판정 기준
+ *   → Redis 장애/유실 후 재시도되어도 같은 키의 변경은 한 번만 커밋됨
+ *
+ * 사용 방법
+ * - begin(key) ~ end() 사이에 시작된 쓰기 트랜잭션은 커밋 직전 멱등성 키를 기록
+ * - 이미 기록된 키면 커밋 대신 롤백되고 DuplicateRecordException 발생
+ * - 한 트랜잭션에서 여러 키를 기록하려면(다건 처리 API) 트랜잭션 안에서 record(key) 호출
+ */
+public interface IdempotencyRecordPort {
+
+    /**
+     * 현재 스레드에서 멱등성 키 기록 시작
+     */
+    void begin(String idempotencyKey);
+
+    /**
+     * 현재 스레드의 멱등성 키 기록 종료
+     */
+    void end();
+
+    /**
+     * 현재 스레드에 시작된 멱등성 키 (없으면 null)
+     */
+    String currentKey();
+
+    /**
+     * 현재 트랜잭션 커밋 직전 멱등성 키 기록 등록 (활성 트랜잭션 필요)
+     * - begin/end와 달리 스레드 컨텍스트를 사용하지 않으므로 한 트랜잭션에 여러 키 기록 가능
+     */
+    void record(String idempotencyKey);
+
+    /**
+     * DB 기록 조회
+     * @return 기록이 없으면 ACQUIRED, 있으면 ALREADY_COMPLETED (응답이 아직 저장되지 않았으면 response는 null)
+     */
+    Admission find(String idempotencyKey);
+
+    /**
+     * 응답 저장 (비동기, 요청 처리 경로에 DB 쓰기 왕복을 추가하지 않음)
+     */
+    void saveResponseAsync(String idempotencyKey, StoredResponse response);
+
+    /**
+     * 같은 멱등성 키로 이미 커밋된 변경이 있음 (현재 트랜잭션은 롤백됨)
+     */
+    class DuplicateRecordException extends RuntimeException {
+        public DuplicateRecordException(String idempotencyKey) {
+            super("이미 처리된 멱등성 키입니다: " + idempotencyKey);
+        }
+    }
+}
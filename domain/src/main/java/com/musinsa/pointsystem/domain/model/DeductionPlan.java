@@ -0,0 +1,99 @@
+package com.musinsa.pointsystem.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * 포인트 사용 차감 계획 (DeductionPlanner 결과)
+ * - 차감 대상마다 객체를 만들지 않고 입력 목록 위치(index)와 차감 금액(amount)을 병렬 원시 배열로 보관
+ * - index는 오름차순 (입력 목록의 우선순위 순서 유지)
+ * - 차감 대상은 1건부터 배열을 늘려가며 기록 → 적립건이 많아도 실제 차감 건수만큼만 할당
+ */
+public final class DeductionPlan {
+
+    private final int[] indexes;
+    private final long[] amounts;
+    private final int size;
+    private final long availableBalance;
+    private final long requestedAmount;
+
+    private DeductionPlan(int[] indexes, long[] amounts, int size, long availableBalance, long requestedAmount) {
+        this.indexes = indexes;
+        this.amounts = amounts;
+        this.size = size;
+        this.availableBalance = availableBalance;
+        this.requestedAmount = requestedAmount;
+    }
+
+    /**
+     * 차감 대상 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * i번째 차감 대상의 입력 목록 위치
+     */
+    public int index(int i) {
+        return indexes[i];
+    }
+
+    /**
+     * i번째 차감 대상의 차감 금액
+     */
+    public long amount(int i) {
+        return amounts[i];
+    }
+
+    /**
+     * 입력 목록 중 사용 가능한 적립건 잔액 합계
+     */
+    public long availableBalance() {
+        return availableBalance;
+    }
+
+    public long requestedAmount() {
+        return requestedAmount;
+    }
+
+    /**
+     * 잔액이 요청 금액 이상인지 (false면 계획은 잔액까지만 채워짐)
+     */
+    public boolean isSufficient() {
+        return availableBalance >= requestedAmount;
+    }
+
+    @Override
+    public String toString() {
+        return "DeductionPlan{indexes=" + Arrays.toString(Arrays.copyOf(indexes, size))
+                + ", amounts=" + Arrays.toString(Arrays.copyOf(amounts, size))
+                + ", availableBalance=" + availableBalance
+                + ", requestedAmount=" + requestedAmount + "}";
+    }
+
+    /**
+     * 계획 작성용 (배열을 필요할 때만 2배씩 확장)
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private int[] indexes = new int[INITIAL_CAPACITY];
+        private long[] amounts = new long[INITIAL_CAPACITY];
+        private int size;
+
+        public void add(int index, long amount) {
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+                amounts = Arrays.copyOf(amounts, size * 2);
+            }
+            indexes[size] = index;
+            amounts[size] = amount;
+            size++;
+        }
+
+        public DeductionPlan build(long availableBalance, long requestedAmount) {
+            return new DeductionPlan(indexes, amounts, size, availableBalance, requestedAmount);
+        }
+    }
+}
@@ -11,5 +11,7 @@ public enum EntryType {
     /** 사용 (-) */
     USE,
     /** 사용취소 (+) */
-    USE_CANCEL
+    USE_CANCEL,
+    /** 적립건 통합 (흡수된 적립건 -, 통합 적립건 +, 잔액 변동 없음) */
+    CONSOLIDATE
 }
@@ -32,6 +32,20 @@ public record LedgerEntry(
         return new LedgerEntry(id, ledgerId, EntryType.USE_CANCEL, Math.abs(amount), orderId, createdAt);
     }
 
+    /**
+     * 통합으로 흡수된 적립건의 잔여 이전 (-)
+     */
+    public static LedgerEntry createConsolidateOut(UUID id, UUID ledgerId, long amount, LocalDateTime createdAt) {
+        return new LedgerEntry(id, ledgerId, EntryType.CONSOLIDATE, -Math.abs(amount), null, createdAt);
+    }
+
+    /**
+     * 통합 적립건으로의 잔여 유입 (+)
+     */
+    public static LedgerEntry createConsolidateIn(UUID id, UUID ledgerId, long amount, LocalDateTime createdAt) {
+        return new LedgerEntry(id, ledgerId, EntryType.CONSOLIDATE, Math.abs(amount), null, createdAt);
+    }
+
     public long absoluteAmount() {
         return Math.abs(amount);
     }
@@ -6,6 +6,7 @@ import java.util.UUID;
 /**
  * 포인트 적립건 (데이터 구조)
  * - 비즈니스 로직은 PointRules에 위치
+ * - consolidatedInto: 통합으로 흡수된 경우 통합 적립건 ID (그 외 null)
  */
 public record PointLedger(
         UUID id,
@@ -16,8 +17,18 @@ public record PointLedger(
         UUID sourceLedgerId,
         LocalDateTime expiredAt,
         boolean canceled,
-        LocalDateTime earnedAt
+        LocalDateTime earnedAt,
+        UUID consolidatedInto
 ) {
+    /**
+     * 통합되지 않은 적립건 생성자
+     */
+    public PointLedger(UUID id, UUID memberId, long earnedAmount, long availableAmount, EarnType earnType,
+                       UUID sourceLedgerId, LocalDateTime expiredAt, boolean canceled, LocalDateTime earnedAt) {
+        this(id, memberId, earnedAmount, availableAmount, earnType, sourceLedgerId,
+                expiredAt, canceled, earnedAt, null);
+    }
+
     public static PointLedger create(
             UUID id,
             UUID memberId,
@@ -36,18 +47,36 @@ public record PointLedger(
     public PointLedger withAvailableAmount(long newAvailableAmount) {
         return new PointLedger(
                 id, memberId, earnedAmount, newAvailableAmount,
-                earnType, sourceLedgerId, expiredAt, canceled, earnedAt
+                earnType, sourceLedgerId, expiredAt, canceled, earnedAt, consolidatedInto
         );
     }
 
     public PointLedger withCanceled() {
         return new PointLedger(
                 id, memberId, earnedAmount, 0,
-                earnType, sourceLedgerId, expiredAt, true, earnedAt
+                earnType, sourceLedgerId, expiredAt, true, earnedAt, consolidatedInto
+        );
+    }
+
+    /**
+     * 흡수된 적립건의 적립취소분을 통합 적립건에서 제외 (적립액, 잔여 모두 감소)
+     * - 적립액 전부를 제외하면 통합 적립건 자체를 취소 처리 (적립액 0인 적립건은 두지 않음)
+     */
+    public PointLedger withEarnCanceledPart(long amount) {
+        if (amount == earnedAmount) {
+            return withCanceled();
+        }
+        return new PointLedger(
+                id, memberId, earnedAmount - amount, availableAmount - amount,
+                earnType, sourceLedgerId, expiredAt, canceled, earnedAt, consolidatedInto
         );
     }
 
     public boolean isManual() {
         return earnType == EarnType.MANUAL;
     }
+
+    public boolean isConsolidated() {
+        return consolidatedInto != null;
+    }
 }
@@ -0,0 +1,15 @@
+package com.musinsa.pointsystem.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 미사용 포인트 잔액 (포인트 부채)
+ *
+ * @param amount 취소되지 않고 sweptUntil 이후 만료되는 적립건의 사용 가능 금액 합계
+ * @param sweptUntil 만료 차감이 반영된 시각 (이전에 만료된 적립건은 제외됨, 스윕 전이면 null)
+ */
+public record PointLiability(
+        long amount,
+        LocalDateTime sweptUntil
+) {
+}
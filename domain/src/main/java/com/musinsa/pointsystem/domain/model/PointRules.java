@@ -109,6 +109,23 @@ public final class PointRules {
         }
     }
 
+    /**
+     * 통합으로 흡수된 적립건의 적립 취소 가능 여부 확인
+     * - 흡수된 금액은 통합 적립건(target)에 있으므로 target 잔여가 적립액 이상이어야 취소 가능
+     *   (통합 이후 사용분은 어느 원 적립건에서 나갔는지 구분하지 않음)
+     *
+     * @param ledger 흡수된 적립건
+     * @param target 통합 적립건 (연쇄 통합된 경우 마지막 통합 적립건)
+     */
+    public static void validateCancelConsolidatedEarn(PointLedger ledger, PointLedger target) {
+        if (ledger.canceled() || target.canceled()) {
+            throw new PointLedgerAlreadyCanceledException(ledger.id());
+        }
+        if (target.availableAmount() < ledger.earnedAmount()) {
+            throw new PointLedgerAlreadyUsedException(ledger.id());
+        }
+    }
+
     // =====================================================
     // 사용 관련 규칙
     // =====================================================
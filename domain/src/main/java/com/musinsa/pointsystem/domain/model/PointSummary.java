@@ -0,0 +1,49 @@
+package com.musinsa.pointsystem.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 기간별 포인트 변동 요약
+ * - 도메인 레이어의 순수 Value Object
+ * - 기간: from ~ to (양 끝 포함)
+ */
+public record PointSummary(
+        UUID memberId,
+        LocalDate from,
+        LocalDate to,
+        long earnedAmount,
+        long earnCanceledAmount,
+        long usedAmount,
+        long useCanceledAmount
+) {
+    public static PointSummary of(
+            UUID memberId,
+            LocalDate from,
+            LocalDate to,
+            long earnedAmount,
+            long earnCanceledAmount,
+            long usedAmount,
+            long useCanceledAmount
+    ) {
+        return new PointSummary(memberId, from, to, earnedAmount, earnCanceledAmount, usedAmount, useCanceledAmount);
+    }
+
+    public static PointSummary empty(UUID memberId, LocalDate from, LocalDate to) {
+        return new PointSummary(memberId, from, to, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * 순 적립 금액 (적립 - 적립취소)
+     */
+    public long netEarnedAmount() {
+        return earnedAmount - earnCanceledAmount;
+    }
+
+    /**
+     * 순 사용 금액 (사용 - 사용취소)
+     */
+    public long netUsedAmount() {
+        return usedAmount - useCanceledAmount;
+    }
+}
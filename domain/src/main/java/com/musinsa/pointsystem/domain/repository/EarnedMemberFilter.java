@@ -0,0 +1,25 @@
+package com.musinsa.pointsystem.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * 적립 이력 회원 필터 포트
+ * - 한 번이라도 적립한 회원 집합 (확률적 자료구조, 오탐 가능 / 미탐 없음)
+ * - 적립 이력이 없는 회원의 잔액/이력 조회를 캐시/DB 조회 없이 처리하기 위한 용도
+ * - 필터를 사용할 수 없는 경우(비활성화, 재구성 중, 장애) 항상 true 반환 (fail-open)
+ */
+public interface EarnedMemberFilter {
+
+    /**
+     * 적립 이력이 있을 수 있는지 여부
+     *
+     * @return false면 적립 이력이 확실히 없음
+     */
+    boolean mightHaveEarned(UUID memberId);
+
+    /**
+     * 적립 이력 기록
+     * - 적립건 저장 전에 호출 (트랜잭션 롤백 시 남는 것은 오탐일 뿐 정합성 문제 없음)
+     */
+    void markEarned(UUID memberId);
+}
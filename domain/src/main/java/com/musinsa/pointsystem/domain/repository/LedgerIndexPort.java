@@ -0,0 +1,55 @@
+package com.musinsa.pointsystem.domain.repository;
+
+import com.musinsa.pointsystem.domain.model.PointLedger;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 회원별 사용 가능 적립건 인덱스 포트
+ * - 사용 우선순위(수기 지급 우선, 만료일 빠른 순)로 정렬된 적립건 스냅샷 (ledgerId, 잔여 금액)
+ * - DB 조회 없이 차감 계획을 세우기 위한 힌트이며, 실제 차감은 DB 조건부 UPDATE로 재검증
+ * - 삭제 실패로 스냅샷에 없는 적립건은 사용 시 건수/잔액 합계 비교로 감지 (DB 경로로 처리)
+ * - 인덱스가 없거나 비활성화된 경우 empty 반환 → DB 경로로 처리
+ */
+public interface LedgerIndexPort {
+
+    /**
+     * 사용 가능한 적립건 조회 (우선순위 정렬, 만료분 제외)
+     *
+     * @return 인덱스가 없으면 empty
+     */
+    Optional<List<IndexedLedger>> findUsableLedgers(UUID memberId, LocalDateTime now);
+
+    /**
+     * 인덱스 갱신
+     * - 트랜잭션 진행 중이면 커밋 후 반영
+     */
+    void refresh(UUID memberId, List<IndexedLedger> usableLedgers);
+
+    /**
+     * 인덱스 삭제 (적립/취소 등 적립건 구성이 바뀐 경우, 불일치 감지 시)
+     * - 저장소 오류는 예외로 전파 (재시도 여부는 호출 측 판단)
+     */
+    void evict(UUID memberId);
+
+    /**
+     * 인덱스 항목
+     */
+    record IndexedLedger(
+            UUID ledgerId,
+            long availableAmount,
+            boolean manual,
+            LocalDateTime expiredAt
+    ) {
+        public static IndexedLedger from(PointLedger ledger) {
+            return new IndexedLedger(ledger.id(), ledger.availableAmount(), ledger.isManual(), ledger.expiredAt());
+        }
+
+        public IndexedLedger withAvailableAmount(long newAvailableAmount) {
+            return new IndexedLedger(ledgerId, newAvailableAmount, manual, expiredAt);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.musinsa.pointsystem.domain.repository;
 
 import com.musinsa.pointsystem.domain.event.PointEvent;
 
+import java.util.List;
+
 /**
  * 포인트 이벤트 발행 포트
  * - 도메인 이벤트를 외부 시스템에 발행
@@ -12,4 +14,12 @@ public interface PointEventPublisher {
      * 이벤트 발행
      */
     void publish(PointEvent event);
+
+    /**
+     * 이벤트 일괄 발행 (대량 적립 등)
+     * - 기본 구현은 건별 발행, 구현체에서 기록을 묶어 처리할 수 있음
+     */
+    default void publishAll(List<? extends PointEvent> events) {
+        events.forEach(this::publish);
+    }
 }
@@ -1,5 +1,6 @@
 package com.musinsa.pointsystem.domain.repository;
 
+import com.musinsa.pointsystem.domain.model.DeductionPlan;
 import com.musinsa.pointsystem.domain.model.LedgerEntry;
 import com.musinsa.pointsystem.domain.model.PointLedger;
 
@@ -40,6 +41,20 @@ public interface PointLedgerRepository {
      */
     List<PointLedger> findAllByIds(List<UUID> ids);
 
+    /**
+     * 통합 후보 Ledger 조회 (미사용, 미취소, 미만료, 원본 참조 없음, 흡수되지 않음)
+     * - 정렬: 적립 유형, 만료일 순 (같은 통합 그룹이 연속되도록)
+     *
+     * @param limit 최대 조회 건수 (회원당 작업량 제한)
+     */
+    List<PointLedger> findConsolidationCandidates(UUID memberId, LocalDateTime now, int limit);
+
+    /**
+     * 회원의 사용 가능한 Ledger 건수/잔액 합계 (만료/취소/잔여 0 제외, 행 조회 없이 집계 1회)
+     * - 적립건 인덱스 스냅샷이 DB와 같은 적립건 구성인지 검증하는 용도
+     */
+    UsableSummary summarizeUsable(UUID memberId, LocalDateTime now);
+
     // =====================================================
     // 저장
     // =====================================================
@@ -47,4 +62,52 @@ public interface PointLedgerRepository {
     PointLedger save(PointLedger ledger);
 
     List<PointLedger> saveAll(List<PointLedger> ledgers);
+
+    /**
+     * 새로 생성한 Ledger 저장 (존재 확인 없이 INSERT)
+     * - 이미 저장된 Ledger 변경은 save/saveAll 사용
+     */
+    PointLedger insert(PointLedger ledger);
+
+    /**
+     * 새로 생성한 Ledger 일괄 저장 (존재 확인 없이 배치 INSERT)
+     */
+    List<PointLedger> insertAll(List<PointLedger> ledgers);
+
+    /**
+     * 잔여/사용 금액만 일괄 변경 (조회 없이 해당 컬럼만 UPDATE)
+     * - ledgers: 변경 후 상태 (사용 금액 = 적립 금액 - 잔여 금액)
+     * - 그 외 상태(취소, 만료일 등) 변경은 save/saveAll 사용
+     */
+    void updateAmounts(List<PointLedger> ledgers, LocalDateTime now);
+
+    /**
+     * 조건부 차감 (잔여 금액이 예상값과 같고 사용 가능한 경우에만 차감)
+     * - 트랜잭션 밖에서 세운 차감 계획을 트랜잭션 안에서 검증하는 용도
+     *
+     * @return 차감 성공 여부 (false면 적립건 상태가 예상과 다름)
+     */
+    boolean deductIfUnchanged(UUID ledgerId, long expectedAvailableAmount, long useAmount, LocalDateTime now);
+
+    /**
+     * 차감 계획 일괄 반영 (계획 항목마다 조건부 차감)
+     * - ledgers: 계획을 세운 적립건 목록 (plan.index(i)가 가리키는 목록)
+     *
+     * @return 모두 차감되었는지 여부 (false면 조회 이후 적립건 상태가 바뀜, 호출 측 롤백 필요)
+     */
+    boolean deductAll(List<PointLedger> ledgers, DeductionPlan plan, LocalDateTime now);
+
+    /**
+     * 통합으로 흡수된 Ledger 표시 (잔여 0, consolidated_into = 통합 Ledger ID)
+     * - 조회 이후 사용/취소/통합된 Ledger는 변경하지 않음
+     *
+     * @return 표시된 Ledger 수 (ledgerIds 크기와 다르면 호출 측 롤백 필요)
+     */
+    int markConsolidated(List<UUID> ledgerIds, UUID consolidatedLedgerId, LocalDateTime now);
+
+    /**
+     * 사용 가능한 Ledger 요약
+     */
+    record UsableSummary(long count, long balance) {
+    }
 }
@@ -0,0 +1,28 @@
+package com.musinsa.pointsystem.domain.repository;
+
+import com.musinsa.pointsystem.domain.model.PointLiability;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 포인트 부채(전체 미사용 잔액) 카운터 포트
+ * - 적립/사용/취소 시 변동분을 같은 트랜잭션에서 누적 (point_ledger 전체 SUM 없이 조회)
+ * - 만료분은 만료 스윕이, 누적 오차는 배치 정합성 보정이 반영
+ */
+public interface PointLiabilityRepository {
+
+    /**
+     * 변동분 누적 (호출 측 트랜잭션 참여)
+     * - 만료되지 않은 적립건의 변동에만 사용 (적립 +, 사용 -, 사용취소 +)
+     */
+    void add(UUID memberId, long delta);
+
+    /**
+     * 적립취소분 차감 (호출 측 트랜잭션 참여)
+     * - 만료 스윕이 이미 차감한 적립건(expiredAt이 스윕 기준 이전)이면 무시
+     */
+    void removeCanceled(UUID memberId, long amount, LocalDateTime expiredAt);
+
+    PointLiability getLiability();
+}
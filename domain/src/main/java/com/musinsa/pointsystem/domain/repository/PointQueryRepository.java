@@ -6,6 +6,8 @@ import com.musinsa.pointsystem.domain.model.PointAmount;
 import com.musinsa.pointsystem.domain.model.PointHistory;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,6 +24,7 @@ import java.util.UUID;
  * <h3>사용 케이스:</h3>
  * <ul>
  *   <li>잔액 조회 API - SUM 쿼리</li>
+ *   <li>다건 잔액 조회 API - GROUP BY SUM 쿼리</li>
  *   <li>적립 시 최대 잔액 검증</li>
  *   <li>히스토리 조회 - 페이징된 Entry 목록</li>
  * </ul>
@@ -40,6 +43,17 @@ public interface PointQueryRepository {
      */
     PointAmount getTotalBalance(UUID memberId, LocalDateTime now);
 
+    /**
+     * 여러 회원의 현재 사용 가능한 총 잔액 일괄 조회
+     * <p>
+     * 캐시 일괄 조회 후, 캐시 미스 회원만 GROUP BY SUM 쿼리로 한 번에 계산.
+     *
+     * @param memberIds 회원 ID 목록
+     * @param now 현재 시간 (만료 판단용)
+     * @return 회원 ID → 잔액 (요청 순서 유지, Ledger가 없으면 0)
+     */
+    Map<UUID, PointAmount> getTotalBalances(List<UUID> memberIds, LocalDateTime now);
+
     /**
      * 회원의 사용 가능한 Ledger 수 조회
      *
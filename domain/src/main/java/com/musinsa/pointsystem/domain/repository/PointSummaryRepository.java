@@ -0,0 +1,25 @@
+package com.musinsa.pointsystem.domain.repository;
+
+import com.musinsa.pointsystem.domain.model.PointSummary;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 기간별 포인트 변동 요약 조회 포트
+ * - 일별 집계 기준 (변동 이력 전체를 읽지 않음)
+ */
+public interface PointSummaryRepository {
+
+    /**
+     * 최대 조회 기간 (일)
+     */
+    int MAX_PERIOD_DAYS = 366;
+
+    /**
+     * 기간 요약 조회
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함, from으로부터 최대 366일)
+     */
+    PointSummary getSummary(UUID memberId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,86 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.DeductionPlan;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.model.PointRules;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 포인트 사용 차감 계획 도메인 서비스
+ * - 우선순위 순으로 정렬된 적립건 목록을 한 번만 순회하며 잔액 합계와 선입선출 차감 계획을 함께 계산
+ *   (PointRules.calculateAvailableBalance + getAvailableLedgersSorted의 이중 필터/재정렬 대체)
+ * - 입력 정렬은 호출 측 책임 (PointLedgerRepository.findAvailableByMemberId, LedgerIndexPort가 우선순위 순 반환)
+ * - 차감 후 적립건 객체를 만들지 않음 → 저장/인덱스 갱신 측에서 계획을 그대로 사용
+ * - Bean 등록은 Application 레이어(DomainServiceConfig)에서 담당
+ */
+public class DeductionPlanner {
+
+    /**
+     * 적립건 차감 계획 (사용 불가 적립건은 잔액/차감에서 제외)
+     * @param ledgers 우선순위 순 적립건 목록 (수기 적립 우선, 만료일 빠른 순)
+     * @param amount 사용 금액
+     */
+    public DeductionPlan plan(List<PointLedger> ledgers, long amount, LocalDateTime now) {
+        DeductionPlan.Builder builder = new DeductionPlan.Builder();
+        long balance = 0;
+        long remaining = amount;
+        for (int i = 0, n = ledgers.size(); i < n; i++) {
+            PointLedger ledger = ledgers.get(i);
+            if (!PointRules.isAvailable(ledger, now)) {
+                continue;
+            }
+            long available = ledger.availableAmount();
+            balance += available;
+            if (remaining > 0) {
+                long useAmount = Math.min(remaining, available);
+                builder.add(i, useAmount);
+                remaining -= useAmount;
+            }
+        }
+        return builder.build(balance, amount);
+    }
+
+    /**
+     * 사용 가능 여부가 이미 걸러진 목록의 차감 계획 (적립건 인덱스 등)
+     * @param availableAmount 항목별 사용 가능 금액
+     */
+    public <T> DeductionPlan plan(List<T> ledgers, ToLongFunction<T> availableAmount, long amount) {
+        DeductionPlan.Builder builder = new DeductionPlan.Builder();
+        long balance = 0;
+        long remaining = amount;
+        for (int i = 0, n = ledgers.size(); i < n; i++) {
+            long available = availableAmount.applyAsLong(ledgers.get(i));
+            balance += available;
+            if (remaining > 0 && available > 0) {
+                long useAmount = Math.min(remaining, available);
+                builder.add(i, useAmount);
+                remaining -= useAmount;
+            }
+        }
+        return builder.build(balance, amount);
+    }
+
+    /**
+     * 잔여 금액 배열의 차감 계획 (그룹 커밋처럼 같은 적립건 목록을 여러 요청이 이어서 차감할 때)
+     * - 호출 측이 계획대로 배열을 차감한 뒤 다음 요청 계획에 그대로 사용
+     * @param availableAmounts 우선순위 순 사용 가능 금액 (0이면 제외)
+     */
+    public DeductionPlan plan(long[] availableAmounts, long amount) {
+        DeductionPlan.Builder builder = new DeductionPlan.Builder();
+        long balance = 0;
+        long remaining = amount;
+        for (int i = 0; i < availableAmounts.length; i++) {
+            long available = availableAmounts[i];
+            balance += available;
+            if (remaining > 0 && available > 0) {
+                long useAmount = Math.min(remaining, available);
+                builder.add(i, useAmount);
+                remaining -= useAmount;
+            }
+        }
+        return builder.build(balance, amount);
+    }
+}
@@ -0,0 +1,113 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.IdGenerator;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 적립건 통합 도메인 서비스
+ * - 같은 적립 유형 + 같은 만료일(날짜)의 미사용 적립건을 하나의 적립건으로 통합
+ * - 통합 적립건: 금액 = 합계, 만료일시 = 그룹 내 가장 늦은 값(고객 만료일을 앞당기지 않음), 적립일시 = 가장 이른 값
+ * - 흡수된 적립건: 잔여 0 + consolidated_into = 통합 적립건 ID (저장은 호출 측)
+ *   → 흡수된 적립건의 적립취소는 통합 적립건에서 해당 금액을 제외 (CancelEarnPointUseCase)
+ * - 이력: 흡수된 적립건마다 CONSOLIDATE(-), 통합 적립건에 CONSOLIDATE(+) 1건
+ * - 잔액 합계는 변하지 않음
+ * - Bean 등록은 사용하는 모듈(배치)에서 담당
+ */
+public class LedgerConsolidator {
+
+    private final IdGenerator idGenerator;
+
+    public LedgerConsolidator(IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    /**
+     * 통합 결과 (그룹 1개)
+     */
+    public record Consolidation(
+            PointLedger consolidatedLedger,
+            List<UUID> sourceLedgerIds,
+            List<LedgerEntry> entries
+    ) {}
+
+    /**
+     * 통합 대상 여부 (미취소, 미사용, 미만료, 원본 참조 없음, 흡수되지 않음)
+     * - 원본 참조가 있는 적립건(사용취소 재적립분)과 이미 흡수된 적립건은 제외
+     */
+    public static boolean isConsolidatable(PointLedger ledger, LocalDateTime now) {
+        return !ledger.canceled()
+                && ledger.sourceLedgerId() == null
+                && !ledger.isConsolidated()
+                && ledger.availableAmount() == ledger.earnedAmount()
+                && ledger.expiredAt().isAfter(now);
+    }
+
+    /**
+     * 통합 계획 수립
+     * @param ledgers 한 회원의 적립건 목록 (대상이 아닌 적립건은 무시)
+     * @param minGroupSize 통합할 최소 적립건 수 (2 이상)
+     * @param now 현재 시간 (만료 판단, 이력 생성일시)
+     * @return 그룹별 통합 결과 (통합할 그룹이 없으면 빈 목록)
+     */
+    public List<Consolidation> consolidate(List<PointLedger> ledgers, int minGroupSize, LocalDateTime now) {
+        if (minGroupSize < 2) {
+            throw new IllegalArgumentException("minGroupSize는 2 이상이어야 합니다: " + minGroupSize);
+        }
+
+        Map<GroupKey, List<PointLedger>> groups = new LinkedHashMap<>();
+        for (PointLedger ledger : ledgers) {
+            if (isConsolidatable(ledger, now)) {
+                GroupKey key = new GroupKey(ledger.memberId(), ledger.earnType(), ledger.expiredAt().toLocalDate());
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(ledger);
+            }
+        }
+
+        List<Consolidation> result = new ArrayList<>();
+        for (List<PointLedger> group : groups.values()) {
+            if (group.size() >= minGroupSize) {
+                result.add(merge(group, now));
+            }
+        }
+        return result;
+    }
+
+    private Consolidation merge(List<PointLedger> group, LocalDateTime now) {
+        PointLedger first = group.get(0);
+        UUID consolidatedId = idGenerator.generate();
+        long total = 0;
+        LocalDateTime expiredAt = first.expiredAt();
+        LocalDateTime earnedAt = first.earnedAt();
+        List<UUID> sourceIds = new ArrayList<>(group.size());
+        List<LedgerEntry> entries = new ArrayList<>(group.size() + 1);
+
+        for (PointLedger ledger : group) {
+            total = Math.addExact(total, ledger.availableAmount());
+            if (ledger.expiredAt().isAfter(expiredAt)) {
+                expiredAt = ledger.expiredAt();
+            }
+            if (ledger.earnedAt().isBefore(earnedAt)) {
+                earnedAt = ledger.earnedAt();
+            }
+            sourceIds.add(ledger.id());
+            entries.add(LedgerEntry.createConsolidateOut(
+                    idGenerator.generate(), ledger.id(), ledger.availableAmount(), now));
+        }
+
+        PointLedger consolidated = PointLedger.create(
+                consolidatedId, first.memberId(), total, first.earnType(), expiredAt, null, earnedAt);
+        entries.add(LedgerEntry.createConsolidateIn(idGenerator.generate(), consolidatedId, total, now));
+        return new Consolidation(consolidated, sourceIds, entries);
+    }
+
+    private record GroupKey(UUID memberId, EarnType earnType, LocalDate expiryDate) {}
+}
@@ -0,0 +1,112 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.PointLedger;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 적립건 ID → 목록 위치 조회용 정렬 배열
+ * - ID를 상위/하위 64비트 원시 배열로 보관하고 (부호 없는 비교, DB BINARY(16) 정렬과 동일) 이진 탐색
+ * - 입력이 이미 ID 순(UUIDv7, PK 순 조회)이면 정렬 생략
+ * - 항목마다 객체/박싱 없음 (Map&lt;UUID, ...&gt; 대체)
+ */
+final class LedgerIdIndex {
+
+    private final long[] mostBits;
+    private final long[] leastBits;
+    private final int[] positions;
+
+    private LedgerIdIndex(long[] mostBits, long[] leastBits, int[] positions) {
+        this.mostBits = mostBits;
+        this.leastBits = leastBits;
+        this.positions = positions;
+    }
+
+    static LedgerIdIndex of(List<PointLedger> ledgers) {
+        int n = ledgers.size();
+        long[] most = new long[n];
+        long[] least = new long[n];
+        int[] order = new int[n];
+        boolean sorted = true;
+        for (int i = 0; i < n; i++) {
+            UUID id = ledgers.get(i).id();
+            most[i] = id.getMostSignificantBits();
+            least[i] = id.getLeastSignificantBits();
+            order[i] = i;
+            if (sorted && i > 0 && compare(most[i - 1], least[i - 1], most[i], least[i]) > 0) {
+                sorted = false;
+            }
+        }
+        if (sorted) {
+            return new LedgerIdIndex(most, least, order);
+        }
+
+        mergeSort(order, new int[n], 0, n, most, least);
+        long[] sortedMost = new long[n];
+        long[] sortedLeast = new long[n];
+        for (int i = 0; i < n; i++) {
+            sortedMost[i] = most[order[i]];
+            sortedLeast[i] = least[order[i]];
+        }
+        return new LedgerIdIndex(sortedMost, sortedLeast, order);
+    }
+
+    int size() {
+        return positions.length;
+    }
+
+    /**
+     * @return 입력 목록에서의 위치 (없으면 -1)
+     */
+    int positionOf(UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int low = 0;
+        int high = positions.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(mostBits[mid], leastBits[mid], most, least);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return positions[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(long mostA, long leastA, long mostB, long leastB) {
+        int cmp = Long.compareUnsigned(mostA, mostB);
+        return cmp != 0 ? cmp : Long.compareUnsigned(leastA, leastB);
+    }
+
+    /**
+     * 위치 배열을 ID 순으로 정렬 (안정 정렬, [from, to))
+     */
+    private static void mergeSort(int[] order, int[] buffer, int from, int to, long[] most, long[] least) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(order, buffer, from, mid, most, least);
+        mergeSort(order, buffer, mid, to, most, least);
+        int left = from;
+        int right = mid;
+        int out = from;
+        while (left < mid && right < to) {
+            int a = order[left];
+            int b = order[right];
+            buffer[out++] = compare(most[a], least[a], most[b], least[b]) <= 0 ? order[left++] : order[right++];
+        }
+        while (left < mid) {
+            buffer[out++] = order[left++];
+        }
+        while (right < to) {
+            buffer[out++] = order[right++];
+        }
+        System.arraycopy(buffer, from, order, from, to - from);
+    }
+}
@@ -44,24 +44,42 @@ public class UseCancelProcessor {
 
     /**
      * 취소 가능 금액 계산
-     * @param ledgers 원장 목록
-     * @param entriesByLedgerId Ledger별 Entry 맵
+     * - 적립건 ID 정렬 배열(LedgerIdIndex)로 변동 이력을 1회 순회하며 적립건 위치별 순액(long[]) 누적
+     *   (적립건별 Map/List 그룹핑과 스트림 필터 없음)
+     * - 순액 = 해당 주문의 USE(음수) + USE_CANCEL(양수), 음수면 그 절대값이 취소 가능 금액
+     * @param ledgers 원장 목록 (결과는 이 순서를 따름)
+     * @param entries 원장들의 변동 이력 (다른 주문/유형 포함 가능)
      * @param orderId 주문 ID
      * @return 취소 가능 정보 목록 및 총 취소 가능 금액
      */
     public CancelableContext calculateCancelableAmount(
             List<PointLedger> ledgers,
-            Map<UUID, List<LedgerEntry>> entriesByLedgerId,
+            List<LedgerEntry> entries,
             String orderId
     ) {
+        if (orderId == null || ledgers.isEmpty()) {
+            return new CancelableContext(List.of(), 0L);
+        }
+
+        LedgerIdIndex index = LedgerIdIndex.of(ledgers);
+        long[] netAmounts = new long[ledgers.size()];
+        for (int i = 0, n = entries.size(); i < n; i++) {
+            LedgerEntry entry = entries.get(i);
+            if ((entry.type() == EntryType.USE || entry.type() == EntryType.USE_CANCEL)
+                    && orderId.equals(entry.orderId())) {
+                int position = index.positionOf(entry.ledgerId());
+                if (position >= 0) {
+                    netAmounts[position] += entry.amount();
+                }
+            }
+        }
+
         List<CancelableInfo> cancelableInfos = new ArrayList<>();
         long totalCancelable = 0;
-
-        for (PointLedger ledger : ledgers) {
-            List<LedgerEntry> entries = entriesByLedgerId.getOrDefault(ledger.id(), List.of());
-            long cancelable = PointRules.calculateCancelableAmountForLedger(entries, orderId);
-            if (cancelable > 0) {
-                cancelableInfos.add(new CancelableInfo(ledger, cancelable));
+        for (int i = 0; i < netAmounts.length; i++) {
+            if (netAmounts[i] < 0) {
+                long cancelable = -netAmounts[i];
+                cancelableInfos.add(new CancelableInfo(ledgers.get(i), cancelable));
                 totalCancelable += cancelable;
             }
         }
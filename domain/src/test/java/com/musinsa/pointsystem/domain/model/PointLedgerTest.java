@@ -162,4 +162,34 @@ class PointLedgerTest {
             assertThat(updated.earnedAmount()).isEqualTo(1000L);
         }
     }
+
+    @Nested
+    @DisplayName("흡수된 적립건 취소분 제외")
+    class EarnCanceledPartTest {
+
+        @Test
+        @DisplayName("통합 적립건의 적립액과 잔여가 함께 감소한다")
+        void withEarnCanceledPart_reducesEarnedAndAvailable() {
+            PointLedger consolidated = PointLedgerFixture.createPartiallyUsed(
+                    UUID.randomUUID(), UUID.randomUUID(), 900L, 200L, EarnType.SYSTEM);
+
+            PointLedger updated = consolidated.withEarnCanceledPart(300L);
+
+            assertThat(updated.earnedAmount()).isEqualTo(600L);
+            assertThat(updated.availableAmount()).isEqualTo(400L);
+            assertThat(updated.canceled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("적립액 전부를 제외하면 통합 적립건이 취소된다")
+        void withEarnCanceledPart_fullAmount_cancels() {
+            PointLedger consolidated = PointLedgerFixture.createSystem(UUID.randomUUID(), UUID.randomUUID(), 300L);
+
+            PointLedger updated = consolidated.withEarnCanceledPart(300L);
+
+            assertThat(updated.canceled()).isTrue();
+            assertThat(updated.earnedAmount()).isEqualTo(300L);
+            assertThat(updated.availableAmount()).isZero();
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.DeductionPlan;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.fixture.PointLedgerFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeductionPlannerTest {
+
+    private final DeductionPlanner planner = new DeductionPlanner();
+    private final UUID memberId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Nested
+    @DisplayName("적립건 차감 계획")
+    class PlanLedgersTest {
+
+        @Test
+        @DisplayName("입력 순서대로 필요한 적립건까지만 차감하고 전체 잔액을 함께 계산한다")
+        void plan_shouldDeductInOrder() {
+            // GIVEN
+            List<PointLedger> ledgers = List.of(
+                    ledger(500L, EarnType.MANUAL, now.plusDays(30)),
+                    ledger(1000L, EarnType.SYSTEM, now.plusDays(10)),
+                    ledger(2000L, EarnType.SYSTEM, now.plusDays(20)));
+
+            // WHEN
+            DeductionPlan plan = planner.plan(ledgers, 1200L, now);
+
+            // THEN
+            assertThat(plan.availableBalance()).isEqualTo(3500L);
+            assertThat(plan.isSufficient()).isTrue();
+            assertThat(plan.size()).isEqualTo(2);
+            assertThat(plan.index(0)).isZero();
+            assertThat(plan.amount(0)).isEqualTo(500L);
+            assertThat(plan.index(1)).isEqualTo(1);
+            assertThat(plan.amount(1)).isEqualTo(700L);
+        }
+
+        @Test
+        @DisplayName("만료/취소된 적립건은 잔액과 차감에서 제외하고 원래 위치를 유지한다")
+        void plan_shouldSkipUnavailable() {
+            // GIVEN
+            List<PointLedger> ledgers = List.of(
+                    PointLedgerFixture.createWithExpiration(UUID.randomUUID(), memberId, 1000L,
+                            EarnType.SYSTEM, now.minusDays(1)),
+                    PointLedgerFixture.createCanceled(UUID.randomUUID(), memberId, 1000L, EarnType.SYSTEM),
+                    ledger(800L, EarnType.SYSTEM, now.plusDays(10)));
+
+            // WHEN
+            DeductionPlan plan = planner.plan(ledgers, 300L, now);
+
+            // THEN
+            assertThat(plan.availableBalance()).isEqualTo(800L);
+            assertThat(plan.size()).isEqualTo(1);
+            assertThat(plan.index(0)).isEqualTo(2);
+            assertThat(plan.amount(0)).isEqualTo(300L);
+        }
+
+        @Test
+        @DisplayName("잔액이 부족하면 잔액까지만 채운 계획을 반환한다")
+        void plan_shouldReportInsufficient() {
+            // GIVEN
+            List<PointLedger> ledgers = List.of(ledger(500L, EarnType.SYSTEM, now.plusDays(10)));
+
+            // WHEN
+            DeductionPlan plan = planner.plan(ledgers, 1000L, now);
+
+            // THEN
+            assertThat(plan.isSufficient()).isFalse();
+            assertThat(plan.size()).isEqualTo(1);
+            assertThat(plan.amount(0)).isEqualTo(500L);
+        }
+
+        @Test
+        @DisplayName("차감 대상이 초기 용량보다 많아도 모두 기록된다")
+        void plan_shouldGrowBeyondInitialCapacity() {
+            // GIVEN
+            List<PointLedger> ledgers = IntStream.range(0, 20)
+                    .mapToObj(i -> ledger(100L, EarnType.SYSTEM, now.plusDays(1 + i)))
+                    .toList();
+
+            // WHEN
+            DeductionPlan plan = planner.plan(ledgers, 1550L, now);
+
+            // THEN
+            assertThat(plan.size()).isEqualTo(16);
+            assertThat(plan.index(15)).isEqualTo(15);
+            assertThat(plan.amount(15)).isEqualTo(50L);
+        }
+    }
+
+    @Nested
+    @DisplayName("금액 목록 차감 계획")
+    class PlanAmountsTest {
+
+        @Test
+        @DisplayName("잔액 0인 항목은 건너뛴다")
+        void plan_shouldSkipEmpty() {
+            // WHEN
+            DeductionPlan plan = planner.plan(List.of(0L, 300L, 500L), Long::longValue, 400L);
+
+            // THEN
+            assertThat(plan.availableBalance()).isEqualTo(800L);
+            assertThat(plan.size()).isEqualTo(2);
+            assertThat(plan.index(0)).isEqualTo(1);
+            assertThat(plan.amount(1)).isEqualTo(100L);
+        }
+
+        @Test
+        @DisplayName("배열을 계획대로 차감하면 다음 요청은 남은 금액부터 차감한다")
+        void plan_shouldContinueFromRemainingAmounts() {
+            // GIVEN
+            long[] remaining = {300L, 500L};
+            DeductionPlan first = planner.plan(remaining, 400L);
+            for (int i = 0; i < first.size(); i++) {
+                remaining[first.index(i)] -= first.amount(i);
+            }
+
+            // WHEN
+            DeductionPlan second = planner.plan(remaining, 450L);
+
+            // THEN
+            assertThat(second.availableBalance()).isEqualTo(400L);
+            assertThat(second.isSufficient()).isFalse();
+            assertThat(second.size()).isEqualTo(1);
+            assertThat(second.index(0)).isEqualTo(1);
+            assertThat(second.amount(0)).isEqualTo(400L);
+        }
+    }
+
+    private PointLedger ledger(long amount, EarnType earnType, LocalDateTime expiredAt) {
+        return PointLedger.create(UUID.randomUUID(), memberId, amount, earnType, expiredAt, null, now.minusDays(1));
+    }
+}
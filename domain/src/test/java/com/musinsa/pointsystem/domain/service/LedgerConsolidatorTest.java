@@ -0,0 +1,163 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.EntryType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.service.LedgerConsolidator.Consolidation;
+import com.musinsa.pointsystem.fixture.PointLedgerFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class LedgerConsolidatorTest {
+
+    private final LedgerConsolidator consolidator = new LedgerConsolidator(UUID::randomUUID);
+    private final UUID memberId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocalDateTime expiryDay = now.plusDays(30).toLocalDate().atStartOfDay();
+
+    @Nested
+    @DisplayName("통합 그룹")
+    class GroupingTest {
+
+        @Test
+        @DisplayName("같은 적립 유형, 같은 만료일의 적립건을 하나로 통합한다")
+        void shouldMergeSameTypeAndExpiryDay() {
+            // GIVEN
+            PointLedger first = ledger(100L, EarnType.SYSTEM, expiryDay.plusHours(1));
+            PointLedger second = ledger(200L, EarnType.SYSTEM, expiryDay.plusHours(20));
+            PointLedger third = ledger(300L, EarnType.SYSTEM, expiryDay.plusHours(5));
+
+            // WHEN
+            List<Consolidation> result = consolidator.consolidate(List.of(first, second, third), 2, now);
+
+            // THEN
+            assertThat(result).hasSize(1);
+            PointLedger consolidated = result.get(0).consolidatedLedger();
+            assertThat(consolidated.memberId()).isEqualTo(memberId);
+            assertThat(consolidated.earnType()).isEqualTo(EarnType.SYSTEM);
+            assertThat(consolidated.earnedAmount()).isEqualTo(600L);
+            assertThat(consolidated.availableAmount()).isEqualTo(600L);
+            assertThat(consolidated.sourceLedgerId()).isNull();
+            assertThat(result.get(0).sourceLedgerIds()).containsExactly(first.id(), second.id(), third.id());
+        }
+
+        @Test
+        @DisplayName("통합 적립건의 만료일시는 그룹 내 가장 늦은 값이다")
+        void shouldKeepLatestExpiry() {
+            // GIVEN
+            PointLedger early = ledger(100L, EarnType.SYSTEM, expiryDay.plusHours(1));
+            PointLedger late = ledger(100L, EarnType.SYSTEM, expiryDay.plusHours(23));
+
+            // WHEN
+            List<Consolidation> result = consolidator.consolidate(List.of(early, late), 2, now);
+
+            // THEN
+            assertThat(result.get(0).consolidatedLedger().expiredAt()).isEqualTo(expiryDay.plusHours(23));
+        }
+
+        @Test
+        @DisplayName("적립 유형이나 만료일이 다르면 다른 그룹이다")
+        void shouldSeparateByTypeAndDay() {
+            // GIVEN
+            List<PointLedger> ledgers = List.of(
+                    ledger(100L, EarnType.SYSTEM, expiryDay),
+                    ledger(100L, EarnType.SYSTEM, expiryDay.plusHours(3)),
+                    ledger(100L, EarnType.MANUAL, expiryDay),
+                    ledger(100L, EarnType.MANUAL, expiryDay.plusHours(3)),
+                    ledger(100L, EarnType.SYSTEM, expiryDay.plusDays(1)));
+
+            // WHEN
+            List<Consolidation> result = consolidator.consolidate(ledgers, 2, now);
+
+            // THEN
+            assertThat(result).hasSize(2);
+            assertThat(result).extracting(c -> c.consolidatedLedger().earnType())
+                    .containsExactlyInAnyOrder(EarnType.SYSTEM, EarnType.MANUAL);
+        }
+
+        @Test
+        @DisplayName("최소 건수에 못 미치는 그룹은 통합하지 않는다")
+        void shouldSkipSmallGroup() {
+            // GIVEN
+            List<PointLedger> ledgers = List.of(
+                    ledger(100L, EarnType.SYSTEM, expiryDay),
+                    ledger(100L, EarnType.SYSTEM, expiryDay));
+
+            // WHEN & THEN
+            assertThat(consolidator.consolidate(ledgers, 3, now)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("최소 건수는 2 이상이어야 한다")
+        void shouldRejectMinGroupSizeBelowTwo() {
+            assertThatThrownBy(() -> consolidator.consolidate(List.of(), 1, now))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("통합 대상")
+    class EligibilityTest {
+
+        @Test
+        @DisplayName("사용/취소/만료/원본 참조가 있거나 이미 흡수된 적립건은 통합하지 않는다")
+        void shouldExcludeTouchedLedgers() {
+            // GIVEN
+            PointLedger untouched = ledger(100L, EarnType.SYSTEM, expiryDay);
+            PointLedger partiallyUsed = ledger(100L, EarnType.SYSTEM, expiryDay).withAvailableAmount(50L);
+            PointLedger canceled = ledger(100L, EarnType.SYSTEM, expiryDay).withCanceled();
+            PointLedger restored = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, expiryDay, UUID.randomUUID(), now);
+            PointLedger expired = PointLedgerFixture.createExpired(UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM);
+            PointLedger absorbed = new PointLedger(UUID.randomUUID(), memberId, 100L, 100L, EarnType.SYSTEM,
+                    null, expiryDay, false, now, UUID.randomUUID());
+
+            // WHEN
+            List<Consolidation> result = consolidator.consolidate(
+                    List.of(untouched, partiallyUsed, canceled, restored, expired, absorbed), 2, now);
+
+            // THEN
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("변동 이력")
+    class EntryTest {
+
+        @Test
+        @DisplayName("흡수된 적립건마다 CONSOLIDATE(-), 통합 적립건에 CONSOLIDATE(+)가 기록되고 합계는 0이다")
+        void shouldRecordBalancedEntries() {
+            // GIVEN
+            PointLedger first = ledger(100L, EarnType.SYSTEM, expiryDay);
+            PointLedger second = ledger(250L, EarnType.SYSTEM, expiryDay);
+
+            // WHEN
+            Consolidation consolidation = consolidator.consolidate(List.of(first, second), 2, now).get(0);
+
+            // THEN
+            List<LedgerEntry> entries = consolidation.entries();
+            assertThat(entries).extracting(LedgerEntry::type).containsOnly(EntryType.CONSOLIDATE);
+            assertThat(entries).extracting(LedgerEntry::ledgerId, LedgerEntry::amount)
+                    .containsExactly(
+                            tuple(first.id(), -100L),
+                            tuple(second.id(), -250L),
+                            tuple(consolidation.consolidatedLedger().id(), 350L));
+            assertThat(entries.stream().mapToLong(LedgerEntry::amount).sum()).isZero();
+        }
+    }
+
+    private PointLedger ledger(long amount, EarnType earnType, LocalDateTime expiredAt) {
+        return PointLedgerFixture.createWithExpiration(UUID.randomUUID(), memberId, amount, earnType, expiredAt);
+    }
+}
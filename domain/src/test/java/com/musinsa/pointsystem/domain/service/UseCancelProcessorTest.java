@@ -0,0 +1,99 @@
+package com.musinsa.pointsystem.domain.service;
+
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.service.UseCancelProcessor.CancelableContext;
+import com.musinsa.pointsystem.domain.service.UseCancelProcessor.CancelableInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UseCancelProcessorTest {
+
+    private static final String ORDER_ID = "ORDER-1";
+
+    private final UseCancelProcessor processor = new UseCancelProcessor(UUID::randomUUID);
+    private final UUID memberId = UUID.randomUUID();
+    private final LocalDateTime now = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @Nested
+    @DisplayName("취소 가능 금액 계산")
+    class CalculateCancelableAmountTest {
+
+        @Test
+        @DisplayName("주문의 사용액에서 사용취소액을 뺀 만큼 적립건별로 취소 가능하다")
+        void shouldNetUseAndUseCancelPerLedger() {
+            // GIVEN
+            PointLedger first = ledger();
+            PointLedger second = ledger();
+            List<LedgerEntry> entries = List.of(
+                    LedgerEntry.createEarn(UUID.randomUUID(), first.id(), 1000L, now),
+                    LedgerEntry.createUse(UUID.randomUUID(), first.id(), 700L, ORDER_ID, now),
+                    LedgerEntry.createUseCancel(UUID.randomUUID(), first.id(), 200L, ORDER_ID, now),
+                    LedgerEntry.createUse(UUID.randomUUID(), second.id(), 300L, ORDER_ID, now),
+                    LedgerEntry.createUse(UUID.randomUUID(), second.id(), 100L, "ORDER-OTHER", now));
+
+            // WHEN
+            CancelableContext context = processor.calculateCancelableAmount(
+                    List.of(first, second), entries, ORDER_ID);
+
+            // THEN
+            assertThat(context.totalCancelable()).isEqualTo(800L);
+            assertThat(context.cancelableInfos()).extracting(CancelableInfo::cancelableAmount)
+                    .containsExactly(500L, 300L);
+        }
+
+        @Test
+        @DisplayName("전액 취소된 적립건은 제외한다")
+        void shouldExcludeFullyCanceledLedger() {
+            // GIVEN
+            PointLedger ledger = ledger();
+            List<LedgerEntry> entries = List.of(
+                    LedgerEntry.createUse(UUID.randomUUID(), ledger.id(), 500L, ORDER_ID, now),
+                    LedgerEntry.createUseCancel(UUID.randomUUID(), ledger.id(), 500L, ORDER_ID, now));
+
+            // WHEN
+            CancelableContext context = processor.calculateCancelableAmount(List.of(ledger), entries, ORDER_ID);
+
+            // THEN
+            assertThat(context.cancelableInfos()).isEmpty();
+            assertThat(context.totalCancelable()).isZero();
+        }
+
+        @Test
+        @DisplayName("적립건 목록이 ID 순이 아니어도 입력 순서대로 결과를 반환한다")
+        void shouldKeepInputOrderForUnsortedLedgers() {
+            // GIVEN
+            List<PointLedger> ledgers = new ArrayList<>();
+            List<LedgerEntry> entries = new ArrayList<>();
+            for (int i = 1; i <= 50; i++) {
+                PointLedger ledger = ledger();
+                ledgers.add(ledger);
+                entries.add(LedgerEntry.createUse(UUID.randomUUID(), ledger.id(), i, ORDER_ID, now));
+            }
+            Collections.shuffle(ledgers, new Random(7));
+
+            // WHEN
+            CancelableContext context = processor.calculateCancelableAmount(ledgers, entries, ORDER_ID);
+
+            // THEN
+            assertThat(context.totalCancelable()).isEqualTo(50L * 51 / 2);
+            assertThat(context.cancelableInfos()).extracting(CancelableInfo::ledger)
+                    .containsExactlyElementsOf(ledgers);
+        }
+    }
+
+    private PointLedger ledger() {
+        return PointLedger.create(UUID.randomUUID(), memberId, 1000L, EarnType.SYSTEM, now.plusDays(365), null, now);
+    }
+}
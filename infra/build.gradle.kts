@@ -1,6 +1,7 @@
 plugins {
     id("java-library")
     id("java-test-fixtures")
+    id("me.champeau.jmh")
 }
 
 val querydslVersion = "5.1.0"
@@ -69,3 +70,14 @@ sourceSets {
         }
     }
 }
+
+// =====================================================
+// JMH 벤치마크 (src/jmh/java, 실행: ./gradlew :infra:jmh)
+// =====================================================
+jmh {
+    warmupIterations.set(2)
+    iterations.set(3)
+    fork.set(1)
+    // 호출당 할당 바이트(gc.alloc.rate.norm) 함께 출력
+    profilers.add("gc")
+}
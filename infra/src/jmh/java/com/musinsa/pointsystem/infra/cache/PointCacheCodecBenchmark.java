@@ -0,0 +1,83 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.domain.model.EarnPolicyConfig;
+import com.musinsa.pointsystem.domain.model.ExpirationPolicyConfig;
+import com.musinsa.pointsystem.domain.model.PointAmount;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.Kryo5Codec;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointCacheCodec vs 기존 기본 codec(Kryo5) 비교
+ * - 처리량: encode / decode 각각 측정
+ * - 크기: Setup 시 타입별 인코딩 바이트 수 출력
+ *
+ * 실행: ./gradlew :infra:jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointCacheCodecBenchmark {
+
+    private static final String IDEMPOTENCY_RESULT = "{\"ledgerId\":\"0192f1e2-7a3b-7c4d-8e5f-6a7b8c9d0e1f\","
+            + "\"memberId\":\"0192f1e2-7a3b-7c4d-8e5f-000000000001\",\"earnedAmount\":1000,"
+            + "\"totalBalance\":15000,\"expiredAt\":\"2026-10-19T00:00:00\"}";
+
+    @Param({"POINT_AMOUNT", "EARN_POLICY", "EXPIRATION_POLICY", "IDEMPOTENCY_RESULT"})
+    private String type;
+
+    @Param({"point", "kryo5"})
+    private String codecName;
+
+    private Codec codec;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        Kryo5Codec kryo = new Kryo5Codec();
+        codec = "point".equals(codecName) ? new PointCacheCodec(kryo) : kryo;
+        value = switch (type) {
+            case "POINT_AMOUNT" -> PointAmount.of(15_000L);
+            case "EARN_POLICY" -> EarnPolicyConfig.of(
+                    PointAmount.of(1L), PointAmount.of(100_000L), PointAmount.of(10_000_000L), 365, 1, 1824);
+            case "EXPIRATION_POLICY" -> ExpirationPolicyConfig.of(365);
+            default -> IDEMPOTENCY_RESULT;
+        };
+
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            encoded = ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+        System.out.printf("%n[size] codec=%s, type=%s, bytes=%d%n", codecName, type, encoded.length);
+    }
+
+    @Benchmark
+    public int encode() throws Exception {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            return buf.readableBytes();
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Benchmark
+    public Object decode() throws Exception {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encoded), null);
+    }
+}
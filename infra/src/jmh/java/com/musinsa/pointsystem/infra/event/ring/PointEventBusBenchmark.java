@@ -0,0 +1,116 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 이벤트 팬아웃 비교: Spring ApplicationEventPublisher vs 링 버퍼
+ * - 소비자 3개(통계/감사/캐시 역할)가 같은 이벤트를 받아 금액을 누적
+ * - spring: @EventListener 3개를 발행 스레드에서 리플렉션으로 순차 호출
+ * - ringBuffer: 발행 후 모든 소비자 처리 완료까지 대기 (종단 간 처리량)
+ *
+ * 실행: ./gradlew :infra:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointEventBusBenchmark {
+
+    private static final int EVENTS_PER_INVOCATION = 1000;
+
+    private PointEvent[] events;
+    private AnnotationConfigApplicationContext context;
+    private PointEventRingBuffer ringBuffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        events = new PointEvent[EVENTS_PER_INVOCATION];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = PointUsedEvent.of(UUID.randomUUID(), i, "ORDER-" + i, 1, now);
+        }
+
+        context = new AnnotationConfigApplicationContext(StatsListener.class, AuditListener.class, CacheListener.class);
+        ringBuffer = new PointEventRingBuffer(4096, List.of(new SummingConsumer(), new SummingConsumer(), new SummingConsumer()));
+        ringBuffer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ringBuffer.stop(1000);
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void spring() {
+        for (PointEvent event : events) {
+            context.publishEvent(event);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void ringBuffer() {
+        for (PointEvent event : events) {
+            ringBuffer.publish(event);
+        }
+        while (ringBuffer.backlog() > 0) {
+            LockSupport.parkNanos(1_000);
+        }
+    }
+
+    static class SummingConsumer implements PointEventConsumer {
+        long total;
+
+        @Override
+        public void onEvent(PointEventSlot slot, long sequence, boolean endOfBatch) {
+            total += slot.amount();
+        }
+    }
+
+    public static class StatsListener {
+        long total;
+
+        @EventListener
+        public void on(PointEvent event) {
+            total += event.amount();
+        }
+    }
+
+    public static class AuditListener {
+        long total;
+
+        @EventListener
+        public void on(PointEvent event) {
+            total += event.amount();
+        }
+    }
+
+    public static class CacheListener {
+        long total;
+
+        @EventListener
+        public void on(PointEvent event) {
+            total += event.amount();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.musinsa.pointsystem.infra.persistence;
+
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.infra.persistence.entity.PointLedgerEntity;
+import com.musinsa.pointsystem.infra.persistence.mapper.PointLedgerMapper;
+import com.musinsa.pointsystem.infra.persistence.projection.PointLedgerRow;
+import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerBulkRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용 가능 적립건 조회 비교: 엔티티 조회 + 매핑 vs 생성자 프로젝션
+ * - 요청 1건 모사: EntityManager 생성 → 트랜잭션 시작 → 조회 → 도메인 변환 → 커밋(flush 시 변경 감지) → 종료
+ * - entity: 기존 경로 (영속 엔티티 + 스냅샷 + 1차 캐시 등록 후 PointLedgerMapper로 변환)
+ * - projection: PointLedgerJpaRepository.findAvailableRowsByMemberId와 같은 JPQL (행 → 도메인 변환만)
+ * - 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 비교
+ *
+ * 실행: ./gradlew :infra:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointLedgerReadBenchmark {
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS point_ledger (" +
+            "id BINARY(16) PRIMARY KEY, member_id BINARY(16) NOT NULL, earned_amount BIGINT NOT NULL, " +
+            "available_amount BIGINT NOT NULL, used_amount BIGINT NOT NULL DEFAULT 0, earn_type VARCHAR(20) NOT NULL, " +
+            "source_ledger_id BINARY(16), consolidated_into BINARY(16), expired_at DATETIME NOT NULL, is_canceled BOOLEAN NOT NULL DEFAULT FALSE, " +
+            "earned_at DATETIME NOT NULL, created_at DATETIME NOT NULL, updated_at DATETIME NOT NULL)";
+    private static final String WHERE_AVAILABLE =
+            "WHERE pl.memberId = :memberId " +
+            "AND pl.availableAmount > 0 " +
+            "AND pl.expiredAt > CURRENT_TIMESTAMP " +
+            "AND pl.isCanceled = false " +
+            "ORDER BY CASE pl.earnType WHEN 'MANUAL' THEN 0 ELSE 1 END, pl.expiredAt ASC";
+    private static final String ENTITY_QUERY = "SELECT pl FROM PointLedgerEntity pl " + WHERE_AVAILABLE;
+    private static final String PROJECTION_QUERY =
+            "SELECT new com.musinsa.pointsystem.infra.persistence.projection.PointLedgerRow(" +
+            "pl.id, pl.memberId, pl.earnedAmount, pl.availableAmount, pl.earnType, " +
+            "pl.sourceLedgerId, pl.expiredAt, pl.isCanceled, pl.earnedAt, pl.consolidatedInto) " +
+            "FROM PointLedgerEntity pl " + WHERE_AVAILABLE;
+
+    @Param({"5", "50"})
+    private int ledgerCount;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private final PointLedgerMapper mapper = new PointLedgerMapper();
+    private UUID memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:ledger_read_bench;DB_CLOSE_DELAY=-1;MODE=MySQL");
+        dataSource = new HikariDataSource(config);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+
+        memberId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<PointLedger> ledgers = new ArrayList<>(ledgerCount);
+        for (int i = 0; i < ledgerCount; i++) {
+            EarnType earnType = i % 5 == 0 ? EarnType.MANUAL : EarnType.SYSTEM;
+            ledgers.add(PointLedger.create(UUID.randomUUID(), memberId, 1000L, earnType, now.plusDays(30 + i), null, now));
+        }
+        new PointLedgerBulkRepository(jdbcTemplate).insertEarned(ledgers, List.of());
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.musinsa.pointsystem.infra.persistence.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        new JdbcTemplate(dataSource).execute("DROP TABLE point_ledger");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<PointLedger> entity() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<PointLedger> ledgers = entityManager.createQuery(ENTITY_QUERY, PointLedgerEntity.class)
+                    .setParameter("memberId", memberId)
+                    .getResultList().stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            entityManager.getTransaction().commit();
+            return ledgers;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<PointLedger> projection() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<PointLedger> ledgers = entityManager.createQuery(PROJECTION_QUERY, PointLedgerRow.class)
+                    .setParameter("memberId", memberId)
+                    .getResultList().stream()
+                    .map(mapper::toDomain)
+                    .toList();
+            entityManager.getTransaction().commit();
+            return ledgers;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
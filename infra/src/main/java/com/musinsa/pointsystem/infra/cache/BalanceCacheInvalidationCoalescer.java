@@ -0,0 +1,240 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔액 캐시 무효화 모음 처리
+ * - 무효화 요청을 invalidationWindowMs 동안(또는 invalidationMaxBatchSize까지) 모아 회원 중복 제거 후
+ *   memberBalance 맵에서 한 번의 명령(HDEL 다건)으로 삭제
+ *   → 캠페인/대량 처리 시 같은 회원의 연속 변경이 Redis 명령 1회로 합쳐짐
+ * - 한 번에 invalidationMaxBatchSize까지만 삭제 (밀린 요청은 같은 크기로 나눠 연속 삭제)
+ * - 삭제 실패 시 다음 배치에 다시 포함, 최초 요청 후 잔액 캐시 TTL이 지나면 포기
+ *   (커밋 이전에 적재된 캐시는 TTL 내 만료되므로 더 이상 삭제할 필요 없음)
+ * - 대기 회원 수는 invalidationMaxPending으로 제한 (Redis 장애 중 무한 증가 방지)
+ *   → 초과분은 버리고 point.cache.invalidation.dropped로 기록, 해당 캐시는 TTL 내 만료
+ * - 가상 스레드 1개가 모음/삭제 담당 (요청 스레드는 회원 ID 등록만 수행)
+ * - 쓰기 응답은 삭제 전에 반환되므로 쓰기 직후 같은 회원의 GET /balance는
+ *   최대 모음 시간 + 삭제 왕복 동안 이전 캐시 잔액을 받을 수 있음
+ *   (쓰기 응답의 totalBalance는 DB 기준, 즉시 반영이 필요하면 invalidation-window-ms: 0)
+ */
+@Component
+@Slf4j
+public class BalanceCacheInvalidationCoalescer {
+
+    /**
+     * 삭제 실패 후 다음 배치까지 대기 시간 (Redis 장애 중 재시도 폭주 방지)
+     */
+    private static final long FAILURE_BACKOFF_MS = 100;
+
+    private final RedissonClient redissonClient;
+    private final PointCacheCodec pointCacheCodec;
+    private final CacheProperties cacheProperties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingChanged = lock.newCondition();
+    /** 회원 ID → 최초 무효화 요청 시각 (System.nanoTime) */
+    private Map<UUID, Long> pending = new LinkedHashMap<>();
+    private volatile boolean running = true;
+    private final Thread flusher;
+
+    private final Counter requestedCounter;
+    private final Counter failedCounter;
+    private final Counter expiredCounter;
+    private final Counter droppedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public BalanceCacheInvalidationCoalescer(
+            RedissonClient redissonClient,
+            PointCacheCodec pointCacheCodec,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.redissonClient = redissonClient;
+        this.pointCacheCodec = pointCacheCodec;
+        this.cacheProperties = cacheProperties;
+        this.requestedCounter = Counter.builder("point.cache.invalidation.requested")
+                .description("잔액 캐시 무효화 요청 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("point.cache.invalidation.failed")
+                .description("잔액 캐시 무효화 배치 실패 수")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("point.cache.invalidation.expired")
+                .description("재시도 중 캐시 TTL 경과로 포기한 회원 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("point.cache.invalidation.dropped")
+                .description("대기 목록 최대 크기 초과로 버린 무효화 요청 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("point.cache.invalidation.batch.size")
+                .description("잔액 캐시 무효화 배치 크기 (중복 제거 후)")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.flusher = Thread.ofVirtual().name("balance-cache-invalidation").start(this::run);
+    }
+
+    /**
+     * 회원 잔액 캐시 무효화 요청 (커밋 후 호출)
+     */
+    public void invalidate(UUID memberId) {
+        requestedCounter.increment();
+        if (cacheProperties.getInvalidationWindowMs() <= 0 || !running) {
+            flush(Map.of(memberId, System.nanoTime()));
+            return;
+        }
+        lock.lock();
+        try {
+            if (!offer(memberId, System.nanoTime())) {
+                droppedCounter.increment();
+                return;
+            }
+            pendingChanged.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 요청을 배치 크기로 나눠 삭제 (실패하면 중단, 남은 캐시는 TTL 내 만료)
+        for (Map<UUID, Long> batch = takePending(); !batch.isEmpty(); batch = takePending()) {
+            if (!flush(batch)) {
+                return;
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (!flush(awaitBatch())) {
+                    Thread.sleep(FAILURE_BACKOFF_MS);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 첫 요청 대기 → 모음 시간 경과 또는 최대 배치 크기 도달 시 반환
+     */
+    private Map<UUID, Long> awaitBatch() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (pending.isEmpty()) {
+                pendingChanged.await();
+            }
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(cacheProperties.getInvalidationWindowMs());
+            while (pending.size() < cacheProperties.getInvalidationMaxBatchSize() && remainingNanos > 0) {
+                remainingNanos = pendingChanged.awaitNanos(remainingNanos);
+            }
+            return pollBatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<UUID, Long> takePending() {
+        lock.lock();
+        try {
+            return pollBatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 먼저 요청된 회원부터 최대 배치 크기만큼 꺼냄 (lock 보유 상태에서 호출)
+     */
+    private Map<UUID, Long> pollBatch() {
+        int maxBatchSize = cacheProperties.getInvalidationMaxBatchSize();
+        if (pending.size() <= maxBatchSize) {
+            Map<UUID, Long> batch = pending;
+            pending = new LinkedHashMap<>();
+            return batch;
+        }
+        Map<UUID, Long> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<UUID, Long>> iterator = pending.entrySet().iterator();
+        while (batch.size() < maxBatchSize) {
+            Map.Entry<UUID, Long> entry = iterator.next();
+            batch.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    /**
+     * 대기 목록에 추가 (lock 보유 상태에서 호출)
+     * @return 대기 목록 최대 크기 초과로 추가하지 못하면 false (이미 대기 중인 회원은 true)
+     */
+    private boolean offer(UUID memberId, long requestedAt) {
+        if (pending.containsKey(memberId)) {
+            return true;
+        }
+        if (pending.size() >= cacheProperties.getInvalidationMaxPending()) {
+            return false;
+        }
+        pending.put(memberId, requestedAt);
+        return true;
+    }
+
+    /**
+     * @return 성공 여부 (빈 배치는 성공)
+     */
+    private boolean flush(Map<UUID, Long> batch) {
+        if (batch.isEmpty()) {
+            return true;
+        }
+        batchSizeSummary.record(batch.size());
+        String[] keys = batch.keySet().stream().map(UUID::toString).toArray(String[]::new);
+        try {
+            RMapCache<String, Object> cache = redissonClient.getMapCache(PointBalanceCacheService.CACHE_NAME, pointCacheCodec);
+            cache.fastRemove(keys);
+            log.debug("잔액 캐시 일괄 무효화. count={}", keys.length);
+            return true;
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("잔액 캐시 일괄 무효화 실패, 다음 배치에서 재시도. count={}, error={}", keys.length, e.getMessage());
+            requeue(batch);
+            return false;
+        }
+    }
+
+    private void requeue(Map<UUID, Long> batch) {
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(cacheProperties.getBalanceTtlMs());
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            batch.forEach((memberId, requestedAt) -> {
+                if (now - requestedAt >= ttlNanos) {
+                    expiredCounter.increment();
+                } else if (!offer(memberId, requestedAt)) {
+                    droppedCounter.increment();
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.infra.cache.HotMemberTracker.HotMember;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 잔액 캐시 워머
+ * - 배포 직후/Redis 장애 복구 직후 빈 캐시로 인한 SUM 쿼리 집중 방지
+ * - 워밍 대상: HotMemberTracker가 집계한 최근 조회 상위 회원
+ *   → 주기적으로 Redis 스냅샷(cache:hot-members:{주기 번호})에 저장하여 새로 뜨는 Pod도 사용
+ *   → 같은 주기의 키에 Pod별 횟수를 ZINCRBY로 합산, 키 TTL = 주기 × 2 (지난 주기 집계는 자동 만료)
+ * - 기동 시: 직전 주기 스냅샷 기준 워밍, 완료(또는 타임아웃) 전까지 warmup 헬스 그룹 OUT_OF_SERVICE
+ * - Redis 재연결 시: 로컬 집계 기준 워밍
+ * - 워밍 실패는 서비스에 영향 없음 (로그만 남기고 READY 전환)
+ */
+@Component
+@Slf4j
+public class BalanceCacheWarmer {
+
+    static final String HOT_MEMBERS_KEY = "cache:hot-members";
+
+    public enum State {
+        DISABLED, PENDING, WARMING, READY
+    }
+
+    private final PointBalanceCacheService balanceCacheService;
+    private final HotMemberTracker hotMemberTracker;
+    private final RedissonClient redissonClient;
+    private final CacheProperties cacheProperties;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Clock clock;
+
+    private volatile State state;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean redisAvailable = true;
+
+    public BalanceCacheWarmer(
+            PointBalanceCacheService balanceCacheService,
+            HotMemberTracker hotMemberTracker,
+            RedissonClient redissonClient,
+            CacheProperties cacheProperties,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        this.balanceCacheService = balanceCacheService;
+        this.hotMemberTracker = hotMemberTracker;
+        this.redissonClient = redissonClient;
+        this.cacheProperties = cacheProperties;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.clock = clock;
+        this.state = cacheProperties.isWarmerEnabled() ? State.PENDING : State.DISABLED;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 워밍 완료 여부 (비활성화 시 항상 true)
+     */
+    public boolean isReady() {
+        return state == State.READY || state == State.DISABLED;
+    }
+
+    /**
+     * 기동 완료 후 스냅샷 기준 워밍 (비동기)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (state == State.DISABLED) {
+            return;
+        }
+        Thread.ofVirtual().name("balance-cache-warmer").start(() -> {
+            state = State.WARMING;
+            try {
+                warm(loadSnapshot());
+            } finally {
+                state = State.READY;
+            }
+        });
+    }
+
+    /**
+     * 로컬 Hot Member 집계를 Redis 스냅샷으로 저장 후 감쇠
+     */
+    @Scheduled(fixedDelayString = "${cache.warmer-snapshot-interval-ms:60000}")
+    public void saveSnapshot() {
+        if (state == State.DISABLED) {
+            return;
+        }
+        List<HotMember> hotMembers = hotMemberTracker.topMembers(cacheProperties.getWarmerHotMemberCapacity());
+        hotMemberTracker.decay();
+        if (hotMembers.isEmpty()) {
+            return;
+        }
+        try {
+            RBatch batch = redissonClient.createBatch();
+            RScoredSortedSetAsync<String> snapshot =
+                    batch.getScoredSortedSet(snapshotKey(currentWindow()), StringCodec.INSTANCE);
+            hotMembers.forEach(member -> snapshot.addScoreAsync(member.memberId().toString(), member.count()));
+            // Pod마다 다른 회원이 더해지므로 상위 capacity개만 유지
+            snapshot.removeRangeByRankAsync(0, -cacheProperties.getWarmerHotMemberCapacity() - 1);
+            snapshot.expireAsync(Duration.ofMillis(cacheProperties.getWarmerSnapshotIntervalMs() * 2));
+            batch.execute();
+        } catch (RuntimeException e) {
+            log.warn("Hot Member 스냅샷 저장 실패. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 재연결 감지 시 로컬 집계 기준 워밍 (비동기)
+     */
+    @Scheduled(fixedDelayString = "${cache.warmer-reconnect-check-interval-ms:5000}")
+    public void checkRedisReconnect() {
+        if (state != State.READY) {
+            return;
+        }
+        boolean available = pingRedis();
+        boolean reconnected = available && !redisAvailable;
+        redisAvailable = available;
+        if (reconnected) {
+            log.info("Redis 재연결 감지, 잔액 캐시 워밍 시작");
+            List<UUID> memberIds = hotMemberTracker.topMembers(cacheProperties.getWarmerHotMemberCapacity()).stream()
+                    .map(HotMember::memberId)
+                    .toList();
+            Thread.ofVirtual().name("balance-cache-rewarmer").start(() -> warm(memberIds));
+        }
+    }
+
+    /**
+     * 병렬 배치 워밍
+     * - 배치 단위로 다건 잔액 조회 (캐시 미스분만 GROUP BY SUM 후 캐시 적재)
+     * - 동시 실행 배치 수 제한 (DB 커넥션 풀 보호)
+     * - 타임아웃 초과 시 남은 배치는 포기
+     */
+    void warm(List<UUID> memberIds) {
+        if (memberIds.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(cacheProperties.getWarmerTimeoutMs());
+        AtomicInteger warmedCount = new AtomicInteger();
+        Semaphore permits = new Semaphore(cacheProperties.getWarmerParallelism());
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<UUID> batch : partition(memberIds, cacheProperties.getWarmerBatchSize())) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !permits.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                    log.warn("잔액 캐시 워밍 타임아웃. warmed={}, total={}", warmedCount.get(), memberIds.size());
+                    executor.shutdownNow();
+                    break;
+                }
+                executor.submit(() -> {
+                    try {
+                        readOnlyTransactionTemplate.executeWithoutResult(
+                                status -> balanceCacheService.getTotalBalances(batch, now));
+                        warmedCount.addAndGet(batch.size());
+                    } catch (RuntimeException e) {
+                        log.warn("잔액 캐시 워밍 배치 실패. size={}, error={}", batch.size(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.set(false);
+        }
+
+        log.info("잔액 캐시 워밍 완료. warmed={}, total={}, elapsedMs={}",
+                warmedCount.get(), memberIds.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 스냅샷 조회
+     * - 모든 Pod의 저장이 끝난 직전 주기 우선, 없으면(첫 배포 등) 진행 중인 현재 주기
+     */
+    private List<UUID> loadSnapshot() {
+        try {
+            long window = currentWindow();
+            Collection<String> members = readSnapshot(window - 1);
+            if (members.isEmpty()) {
+                members = readSnapshot(window);
+            }
+            List<UUID> memberIds = new ArrayList<>(members.size());
+            members.forEach(member -> memberIds.add(UUID.fromString(member)));
+            return memberIds;
+        } catch (RuntimeException e) {
+            log.warn("Hot Member 스냅샷 조회 실패, 워밍 생략. error={}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Collection<String> readSnapshot(long window) {
+        return redissonClient
+                .<String>getScoredSortedSet(snapshotKey(window), StringCodec.INSTANCE)
+                .valueRangeReversed(0, cacheProperties.getWarmerHotMemberCapacity() - 1);
+    }
+
+    private long currentWindow() {
+        return clock.millis() / cacheProperties.getWarmerSnapshotIntervalMs();
+    }
+
+    private static String snapshotKey(long window) {
+        return HOT_MEMBERS_KEY + ":" + window;
+    }
+
+    private boolean pingRedis() {
+        try {
+            redissonClient.getKeys().count();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static List<List<UUID>> partition(List<UUID> memberIds, int size) {
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int from = 0; from < memberIds.size(); from += size) {
+            batches.add(memberIds.subList(from, Math.min(from + size, memberIds.size())));
+        }
+        return batches;
+    }
+}
@@ -31,4 +31,89 @@ public class CacheProperties {
      * - 마지막 접근 후 이 시간이 지나면 캐시 만료
      */
     private long balanceMaxIdleMs = 10_000;
+
+    /**
+     * 사용 가능 적립건 인덱스(Redis Sorted Set) 사용 여부
+     * - 기본값: false (DB 조회 경로만 사용)
+     * - 활성화 시 사용 요청은 인덱스로 차감 계획을 세우고 DB 조건부 UPDATE로 검증
+     */
+    private boolean ledgerIndexEnabled = false;
+
+    /**
+     * 사용 가능 적립건 인덱스 TTL (초)
+     * - 기본값: 600초 (10분)
+     * - 갱신 누락 시에도 인덱스가 무기한 남지 않도록 제한
+     */
+    private long ledgerIndexTtlSeconds = 600;
+
+    /**
+     * 잔액 캐시 워밍 사용 여부
+     * - 기본값: false (app 모듈에서 활성화)
+     * - 기동 시/Redis 재연결 시 자주 조회되는 회원의 잔액을 미리 적재
+     */
+    private boolean warmerEnabled = false;
+
+    /**
+     * 워밍 대상 Hot Member 최대 수
+     * - 기본값: 10000
+     */
+    private int warmerHotMemberCapacity = 10_000;
+
+    /**
+     * 워밍 배치 크기 (다건 잔액 조회 1회당 회원 수)
+     * - 기본값: 500
+     */
+    private int warmerBatchSize = 500;
+
+    /**
+     * 워밍 동시 실행 배치 수
+     * - 기본값: 4 (DB 커넥션 풀 여유분 이내로 설정)
+     */
+    private int warmerParallelism = 4;
+
+    /**
+     * 워밍 최대 소요 시간 (밀리초)
+     * - 기본값: 10000ms (10초)
+     * - 초과 시 중단하고 워밍 완료 처리 (워밍 때문에 기동이 막히지 않도록)
+     */
+    private long warmerTimeoutMs = 10_000;
+
+    /**
+     * Hot Member 스냅샷 저장 주기 (밀리초)
+     * - 기본값: 60000ms (1분)
+     * - 저장 후 조회 횟수 감쇠 → 최근 접근 위주로 유지
+     * - 스냅샷은 주기 단위 키에 Pod별 횟수를 합산 (키 TTL = 주기 × 2)
+     */
+    private long warmerSnapshotIntervalMs = 60_000;
+
+    /**
+     * Redis 재연결 확인 주기 (밀리초)
+     * - 기본값: 5000ms (5초)
+     */
+    private long warmerReconnectCheckIntervalMs = 5_000;
+
+    /**
+     * 잔액 캐시 무효화 모음 시간 (밀리초)
+     * - 기본값: 5ms
+     * - 첫 무효화 요청 후 이 시간 동안 모은 회원을 중복 제거 후 한 번에 삭제
+     * - 0이면 모으지 않고 요청마다 즉시 삭제
+     * - 쓰기 응답은 삭제를 기다리지 않으므로 쓰기 직후 같은 회원의 잔액 조회는
+     *   최대 모음 시간 + 삭제 왕복 동안 이전 캐시 값을 받을 수 있음
+     */
+    private long invalidationWindowMs = 5;
+
+    /**
+     * 잔액 캐시 무효화 최대 배치 크기
+     * - 기본값: 500
+     * - 모음 시간 전이라도 이 크기에 도달하면 즉시 삭제
+     */
+    private int invalidationMaxBatchSize = 500;
+
+    /**
+     * 잔액 캐시 무효화 대기 최대 회원 수
+     * - 기본값: 100000
+     * - Redis 장애로 삭제가 계속 실패해도 대기 목록이 이 크기를 넘지 않음
+     * - 초과분은 버리고 메트릭으로 기록 (해당 회원 캐시는 잔액 캐시 TTL 내 만료)
+     */
+    private int invalidationMaxPending = 100_000;
 }
@@ -0,0 +1,220 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.domain.repository.EarnedMemberFilter;
+import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Redis Bloom Filter 기반 적립 이력 회원 필터
+ * - 키: earned-members (Bloom Filter 비트맵), {earned-members}:config (Redisson 필터 설정)
+ * - 적립 시 markEarned → 이후 조회부터 필터 통과
+ * - 재구성 완료 표시는 필터 안의 표시 값(READY_SENTINEL)으로 판단
+ *   → 비트맵이 유실(eviction, 장애 조치)되면 표시 값도 함께 사라져 재구성 시작 (이후 적립으로 비트맵이 다시 생겨도 동일)
+ *   → 별도 ready 키만 남아 빈 필터를 신뢰하는 미탐 없음
+ * - 표시 값이 없으면 point_ledger의 회원 ID로 재구성 (기동 시/유실 감지 시, 한 Pod만 수행)
+ * - 재구성 전이거나 Redis 장애 시 항상 true (기존 캐시/DB 조회 경로로 처리)
+ * - 미포함 판정 직전 표시 값을 다시 확인 (로컬 유지 중 유실되어도 false 반환하지 않음)
+ * - 크기/오탐률 변경 시 두 키를 삭제하면 재구성됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EarnedMemberBloomFilter implements EarnedMemberFilter {
+
+    static final String FILTER_KEY = "earned-members";
+    static final String CONFIG_KEY = "{" + FILTER_KEY + "}:config";
+    /**
+     * 재구성 완료 표시 값 (회원 ID(UUID)와 겹치지 않는 값)
+     */
+    static final String READY_SENTINEL = "__ready__";
+    private static final String REBUILD_LOCK_KEY = "lock:" + FILTER_KEY + ":rebuild";
+
+    /**
+     * 재구성 완료 확인 결과 로컬 유지 시간 (매 요청 확인 방지)
+     */
+    private static final long READY_CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final RedissonClient redissonClient;
+    private final PointLedgerJpaRepository pointLedgerJpaRepository;
+    private final MembershipFilterProperties properties;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+    private volatile long readyCheckedAt = System.nanoTime() - READY_CHECK_INTERVAL_NANOS;
+    /**
+     * 필터 인스턴스 (설정(크기/해시 횟수)을 최초 1회만 읽도록 재사용, 오류 시 교체)
+     */
+    private volatile RBloomFilter<String> filter;
+
+    @Override
+    public boolean mightHaveEarned(UUID memberId) {
+        if (!properties.isEnabled() || !isReady()) {
+            return true;
+        }
+        try {
+            if (filter().contains(memberId.toString())) {
+                return true;
+            }
+            // 미포함 판정은 표시 값이 아직 있을 때만 신뢰 (비트맵 유실 직후 미탐 방지)
+            if (filter().contains(READY_SENTINEL)) {
+                return false;
+            }
+            markNotReady();
+            return true;
+        } catch (RuntimeException e) {
+            resetFilter();
+            log.warn("적립 이력 필터 조회 실패, 필터 미적용. memberId={}, error={}", memberId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 적립 이력 기록
+     * - 정상 경로는 비트 설정 1회 (필터 초기화 없음)
+     * - 필터 설정이 바뀌었거나 없으면 새 인스턴스로 1회 재시도
+     *   (설정이 없으면 그때만 초기화, 표시 값이 없으므로 재구성 완료 전까지 필터 미적용)
+     * - 실패 시 예외 전파 (기록 누락은 미탐이 되므로 적립 자체를 실패 처리)
+     */
+    @Override
+    public void markEarned(UUID memberId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            filter().add(memberId.toString());
+        } catch (RuntimeException e) {
+            RBloomFilter<String> fresh = resetFilter();
+            if (redissonClient.getKeys().countExists(CONFIG_KEY) == 0) {
+                fresh.tryInit(properties.getExpectedInsertions(), properties.getFalseProbability());
+            }
+            fresh.add(memberId.toString());
+        }
+    }
+
+    /**
+     * 기동 완료 후 필터 재구성 (재구성 완료 표시가 없는 경우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (properties.isEnabled()) {
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * point_ledger 기준 필터 재구성
+     * - 기존 필터는 유지한 채 추가만 수행 (재구성 중 적립분 유실 방지)
+     * - 완료 후 표시 값 추가
+     */
+    void rebuildIfNeeded() {
+        RLock lock = redissonClient.getLock(REBUILD_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            RBloomFilter<String> rebuildFilter = redissonClient.getBloomFilter(FILTER_KEY, StringCodec.INSTANCE);
+            rebuildFilter.tryInit(properties.getExpectedInsertions(), properties.getFalseProbability());
+            if (rebuildFilter.contains(READY_SENTINEL)) {
+                return;
+            }
+            long count = rebuild(rebuildFilter);
+            rebuildFilter.add(READY_SENTINEL);
+            resetFilter();
+            log.info("적립 이력 필터 재구성 완료. members={}", count);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long rebuild(RBloomFilter<String> rebuildFilter) {
+        long count = 0;
+        UUID after = new UUID(0L, 0L);
+        Limit limit = Limit.of(properties.getRebuildChunkSize());
+        while (true) {
+            List<UUID> memberIds = pointLedgerJpaRepository.findDistinctMemberIdsAfter(after, limit);
+            if (memberIds.isEmpty()) {
+                return count;
+            }
+            List<String> values = new ArrayList<>(memberIds.size());
+            memberIds.forEach(memberId -> values.add(memberId.toString()));
+            rebuildFilter.add(values);
+            count += memberIds.size();
+            after = memberIds.get(memberIds.size() - 1);
+        }
+    }
+
+    private void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("earned-member-filter-rebuild").start(() -> {
+            try {
+                rebuildIfNeeded();
+            } catch (RuntimeException e) {
+                log.warn("적립 이력 필터 재구성 실패, 필터 미적용. error={}", e.getMessage());
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    /**
+     * 재구성 완료 표시 값 존재 여부 (로컬에 5초간 유지)
+     * - 없으면(비트맵/설정 유실 포함) 재구성 시작
+     */
+    private boolean isReady() {
+        long now = System.nanoTime();
+        if (now - readyCheckedAt < READY_CHECK_INTERVAL_NANOS) {
+            return ready;
+        }
+        readyCheckedAt = now;
+        try {
+            ready = filter().contains(READY_SENTINEL);
+            if (!ready) {
+                rebuildAsync();
+            }
+        } catch (IllegalStateException e) {
+            // 필터 설정 없음(미초기화) 또는 설정 변경
+            resetFilter();
+            ready = false;
+            rebuildAsync();
+        } catch (RuntimeException e) {
+            resetFilter();
+            ready = false;
+        }
+        return ready;
+    }
+
+    private void markNotReady() {
+        ready = false;
+        readyCheckedAt = System.nanoTime();
+        log.warn("적립 이력 필터 재구성 완료 표시 유실, 재구성 시작");
+        rebuildAsync();
+    }
+
+    private RBloomFilter<String> filter() {
+        RBloomFilter<String> current = filter;
+        return current != null ? current : resetFilter();
+    }
+
+    private RBloomFilter<String> resetFilter() {
+        RBloomFilter<String> fresh = redissonClient.getBloomFilter(FILTER_KEY, StringCodec.INSTANCE);
+        filter = fresh;
+        return fresh;
+    }
+}
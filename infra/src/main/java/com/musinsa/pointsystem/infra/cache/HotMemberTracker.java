@@ -0,0 +1,92 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 잔액 조회가 잦은 회원(Hot Member) 추적기
+ * - 회원별 조회 횟수를 메모리에 집계 (최대 capacity × 2명)
+ * - record는 횟수 증가만 수행 (요청 스레드에서 정렬/정리 없음)
+ *   → 집계 회원이 capacity × 2명에 도달하면 다음 감쇠까지 새 회원은 집계하지 않음 (기존 회원 증가는 계속)
+ * - decay()로 주기적으로 횟수를 절반으로 줄이고 상위 capacity명만 유지 (스냅샷 저장 스케줄러에서 실행, rolling)
+ * - 정확한 Top-K가 아닌 근사치 (캐시 워밍 대상 선정용)
+ */
+@Component
+public class HotMemberTracker {
+
+    private final Map<UUID, LongAdder> counts = new ConcurrentHashMap<>();
+    private final ReentrantLock decayLock = new ReentrantLock();
+    private final int capacity;
+
+    public HotMemberTracker(CacheProperties cacheProperties) {
+        this.capacity = cacheProperties.getWarmerHotMemberCapacity();
+    }
+
+    /**
+     * 조회 기록
+     */
+    public void record(UUID memberId) {
+        LongAdder count = counts.get(memberId);
+        if (count == null) {
+            if (counts.size() >= capacity * 2) {
+                return;
+            }
+            count = counts.computeIfAbsent(memberId, id -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * 조회 횟수 상위 회원 (내림차순)
+     */
+    public List<HotMember> topMembers(int limit) {
+        return counts.entrySet().stream()
+                .map(entry -> new HotMember(entry.getKey(), entry.getValue().sum()))
+                .filter(member -> member.count() > 0)
+                .sorted(Comparator.comparingLong(HotMember::count).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 횟수 절반 감쇠 (0이 된 회원 제거 후 상위 capacity명만 유지)
+     */
+    public void decay() {
+        decayLock.lock();
+        try {
+            List<UUID> cold = new ArrayList<>();
+            counts.forEach((memberId, count) -> {
+                long current = count.sumThenReset();
+                if (current / 2 == 0) {
+                    cold.add(memberId);
+                } else {
+                    count.add(current / 2);
+                }
+            });
+            cold.forEach(counts::remove);
+            if (counts.size() > capacity) {
+                trimTo(capacity);
+            }
+        } finally {
+            decayLock.unlock();
+        }
+    }
+
+    private void trimTo(int size) {
+        Set<UUID> keep = new HashSet<>();
+        topMembers(size).forEach(member -> keep.add(member.memberId()));
+        counts.keySet().retainAll(keep);
+    }
+
+    public record HotMember(UUID memberId, long count) {}
+}
@@ -0,0 +1,157 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis Sorted Set 기반 사용 가능 적립건 인덱스
+ * - 키: ledger-index:{memberId}
+ * - member: "{ledgerId}:{availableAmount}"
+ * - score: 수기 지급은 expiredAt(epoch ms), 그 외는 2^42 + expiredAt(epoch ms)
+ *   → score 오름차순 = 사용 우선순위 (double 정밀도 2^53 이내)
+ * - Redis 장애/파싱 오류 시 empty 반환 → DB 경로로 처리
+ * - 삭제 실패로 남은 이전 스냅샷은 사용 경로의 건수/잔액 합계 검증에서 불일치로 걸러짐
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerIndexRepository implements LedgerIndexPort {
+
+    private static final String KEY_PREFIX = "ledger-index:";
+    private static final double NON_MANUAL_OFFSET = (double) (1L << 42);
+
+    private final RedissonClient redissonClient;
+    private final CacheProperties cacheProperties;
+
+    @Override
+    public Optional<List<IndexedLedger>> findUsableLedgers(UUID memberId, LocalDateTime now) {
+        if (!cacheProperties.isLedgerIndexEnabled()) {
+            return Optional.empty();
+        }
+        try {
+            Collection<ScoredEntry<String>> entries = redissonClient
+                    .<String>getScoredSortedSet(key(memberId), StringCodec.INSTANCE)
+                    .entryRange(0, -1);
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<IndexedLedger> ledgers = new ArrayList<>(entries.size());
+            for (ScoredEntry<String> entry : entries) {
+                IndexedLedger ledger = parse(entry);
+                if (ledger.availableAmount() > 0 && ledger.expiredAt().isAfter(now)) {
+                    ledgers.add(ledger);
+                }
+            }
+            return Optional.of(ledgers);
+        } catch (RuntimeException e) {
+            log.warn("적립건 인덱스 조회 실패, DB 경로로 처리. memberId={}, error={}", memberId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void refresh(UUID memberId, List<IndexedLedger> usableLedgers) {
+        if (!cacheProperties.isLedgerIndexEnabled()) {
+            return;
+        }
+        List<IndexedLedger> snapshot = List.copyOf(usableLedgers);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(memberId, snapshot);
+                }
+            });
+            return;
+        }
+        write(memberId, snapshot);
+    }
+
+    /**
+     * 인덱스 삭제 (Redis 오류는 전파 → 호출 측에서 재시도)
+     */
+    @Override
+    public void evict(UUID memberId) {
+        if (!cacheProperties.isLedgerIndexEnabled()) {
+            return;
+        }
+        redissonClient.getScoredSortedSet(key(memberId), StringCodec.INSTANCE).delete();
+    }
+
+    /**
+     * 인덱스 교체 (DEL + ZADD + EXPIRE를 MULTI/EXEC로 원자 실행)
+     */
+    private void write(UUID memberId, List<IndexedLedger> ledgers) {
+        try {
+            RBatch batch = redissonClient.createBatch(
+                    BatchOptions.defaults().executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+            RScoredSortedSetAsync<String> set = batch.getScoredSortedSet(key(memberId), StringCodec.INSTANCE);
+            set.deleteAsync();
+
+            Map<String, Double> members = new LinkedHashMap<>();
+            for (IndexedLedger ledger : ledgers) {
+                if (ledger.availableAmount() > 0) {
+                    members.put(ledger.ledgerId() + ":" + ledger.availableAmount(), score(ledger));
+                }
+            }
+            if (!members.isEmpty()) {
+                set.addAllAsync(members);
+                set.expireAsync(Duration.ofSeconds(cacheProperties.getLedgerIndexTtlSeconds()));
+            }
+            batch.execute();
+        } catch (RuntimeException e) {
+            log.warn("적립건 인덱스 갱신 실패. memberId={}, error={}", memberId, e.getMessage());
+            try {
+                evict(memberId);
+            } catch (RuntimeException evictFailure) {
+                log.warn("적립건 인덱스 삭제 실패. memberId={}, error={}", memberId, evictFailure.getMessage());
+            }
+        }
+    }
+
+    private static String key(UUID memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private static double score(IndexedLedger ledger) {
+        double expiredAtMillis = ledger.expiredAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return ledger.manual() ? expiredAtMillis : NON_MANUAL_OFFSET + expiredAtMillis;
+    }
+
+    private static IndexedLedger parse(ScoredEntry<String> entry) {
+        String value = entry.getValue();
+        int separator = value.lastIndexOf(':');
+        UUID ledgerId = UUID.fromString(value.substring(0, separator));
+        long availableAmount = Long.parseLong(value.substring(separator + 1));
+
+        double score = entry.getScore();
+        boolean manual = score < NON_MANUAL_OFFSET;
+        long expiredAtMillis = (long) (manual ? score : score - NON_MANUAL_OFFSET);
+        LocalDateTime expiredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiredAtMillis), ZoneOffset.UTC);
+
+        return new IndexedLedger(ledgerId, availableAmount, manual, expiredAt);
+    }
+}
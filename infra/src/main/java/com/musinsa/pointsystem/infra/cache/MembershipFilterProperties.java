@@ -0,0 +1,39 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "membership-filter")
+@Getter
+@Setter
+public class MembershipFilterProperties {
+
+    /**
+     * 적립 이력 회원 필터 사용 여부
+     * - 기본값: false (app 모듈에서 활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 예상 회원 수 (Bloom Filter 크기 산정)
+     * - 기본값: 10,000,000
+     * - 초과 시 오탐률 증가 → 재구성 필요 (earned-members, {earned-members}:config 키 삭제)
+     */
+    private long expectedInsertions = 10_000_000L;
+
+    /**
+     * 오탐률
+     * - 기본값: 0.001 (0.1%)
+     * - 10,000,000명 기준 약 18MB
+     */
+    private double falseProbability = 0.001;
+
+    /**
+     * 재구성 시 회원 ID 조회 단위
+     * - 기본값: 10000
+     */
+    private int rebuildChunkSize = 10_000;
+}
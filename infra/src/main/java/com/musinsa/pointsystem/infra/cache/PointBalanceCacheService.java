@@ -5,12 +5,24 @@ import com.musinsa.pointsystem.domain.repository.BalanceCachePort;
 import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RMapCacheAsync;
+import org.redisson.api.RedissonClient;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 포인트 잔액 캐시 서비스
@@ -22,27 +34,109 @@ import java.util.UUID;
 @Slf4j
 public class PointBalanceCacheService implements BalanceCachePort {
 
+    static final String CACHE_NAME = "memberBalance";
+
+    /**
+     * 다건 조회 시 IN 절 최대 크기
+     */
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
     private final PointLedgerJpaRepository pointLedgerJpaRepository;
+    private final RedissonClient redissonClient;
+    private final PointCacheCodec pointCacheCodec;
+    private final CacheProperties cacheProperties;
 
     /**
      * 회원 잔액 조회 (캐시 적용)
      * - TTL: 30초
      * - 캐시 키: memberId
      */
-    @Cacheable(value = "memberBalance", key = "#memberId.toString()")
+    @Cacheable(value = CACHE_NAME, key = "#memberId.toString()")
     public PointAmount getTotalBalance(UUID memberId, LocalDateTime now) {
         log.debug("캐시 미스: 회원 잔액 조회. memberId={}", memberId);
         Long balance = pointLedgerJpaRepository.sumAvailableAmount(memberId, now);
         return PointAmount.of(balance != null ? balance : 0L);
     }
 
+    /**
+     * 여러 회원 잔액 일괄 조회 (캐시 적용)
+     * - 캐시 일괄 조회: memberBalance 맵에 대한 단일 명령 (@Cacheable과 동일 키/Codec)
+     * - 캐시 미스: GROUP BY SUM 쿼리 1회 (IN 절 1000건 단위)
+     * - 캐시 적재: RBatch 파이프라인 1회
+     * - Redis 장애 시 전체를 DB에서 조회
+     *
+     * @return 회원 ID → 잔액 (요청 순서 유지)
+     */
+    public Map<UUID, PointAmount> getTotalBalances(List<UUID> memberIds, LocalDateTime now) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(memberIds);
+        Map<UUID, PointAmount> balances = new LinkedHashMap<>();
+
+        // 1. 캐시 일괄 조회
+        Map<String, PointAmount> cached = getCachedBalances(uniqueIds);
+        List<UUID> missedIds = new ArrayList<>();
+        for (UUID memberId : uniqueIds) {
+            PointAmount amount = cached.get(memberId.toString());
+            balances.put(memberId, amount);
+            if (amount == null) {
+                missedIds.add(memberId);
+            }
+        }
+        if (missedIds.isEmpty()) {
+            return balances;
+        }
+        log.debug("캐시 미스: 다건 잔액 조회. requested={}, missed={}", uniqueIds.size(), missedIds.size());
+
+        // 2. 캐시 미스 회원 GROUP BY SUM
+        Map<UUID, PointAmount> loaded = new HashMap<>();
+        for (int from = 0; from < missedIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<UUID> chunk = missedIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, missedIds.size()));
+            for (Object[] row : pointLedgerJpaRepository.sumAvailableAmountGroupByMemberId(chunk, now)) {
+                loaded.put((UUID) row[0], PointAmount.of(((Number) row[1]).longValue()));
+            }
+        }
+        for (UUID memberId : missedIds) {
+            balances.put(memberId, loaded.getOrDefault(memberId, PointAmount.ZERO));
+        }
+
+        // 3. 캐시 적재 (파이프라인)
+        backfill(missedIds, balances);
+        return balances;
+    }
+
     /**
      * 회원 잔액 캐시 무효화
      * - 포인트 적립/사용/취소 시 호출
      */
     @Override
-    @CacheEvict(value = "memberBalance", key = "#memberId.toString()")
+    @CacheEvict(value = CACHE_NAME, key = "#memberId.toString()")
     public void evictBalanceCache(UUID memberId) {
         log.debug("캐시 무효화: 회원 잔액. memberId={}", memberId);
     }
+
+    private Map<String, PointAmount> getCachedBalances(Set<UUID> memberIds) {
+        try {
+            RMapCache<String, PointAmount> cache = redissonClient.getMapCache(CACHE_NAME, pointCacheCodec);
+            Set<String> keys = new LinkedHashSet<>();
+            memberIds.forEach(id -> keys.add(id.toString()));
+            return cache.getAll(keys);
+        } catch (RuntimeException e) {
+            log.warn("잔액 캐시 일괄 조회 실패, DB에서 조회. count={}, error={}", memberIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private void backfill(List<UUID> memberIds, Map<UUID, PointAmount> balances) {
+        try {
+            RBatch batch = redissonClient.createBatch();
+            RMapCacheAsync<String, PointAmount> cache = batch.getMapCache(CACHE_NAME, pointCacheCodec);
+            for (UUID memberId : memberIds) {
+                cache.fastPutAsync(memberId.toString(), balances.get(memberId),
+                        cacheProperties.getBalanceTtlMs(), TimeUnit.MILLISECONDS,
+                        cacheProperties.getBalanceMaxIdleMs(), TimeUnit.MILLISECONDS);
+            }
+            batch.execute();
+        } catch (RuntimeException e) {
+            log.warn("잔액 캐시 일괄 적재 실패. count={}, error={}", memberIds.size(), e.getMessage());
+        }
+    }
 }
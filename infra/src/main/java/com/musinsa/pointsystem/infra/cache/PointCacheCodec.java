@@ -0,0 +1,214 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.model.EarnPolicyConfig;
+import com.musinsa.pointsystem.domain.model.ExpirationPolicyConfig;
+import com.musinsa.pointsystem.domain.model.PointAmount;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 포인트 캐시 전용 Redisson Codec
+ * - 캐시에 저장되는 값(PointAmount, 정책 설정, 멱등성 결과)을 고정 바이너리 레이아웃으로 직렬화
+ * - 범용 codec(Kryo) 대비 클래스 메타데이터가 없어 크기가 작고 인코딩/디코딩이 빠름
+ *
+ * 레이아웃: [MAGIC 1byte][VERSION 1byte][TYPE 1byte][payload]
+ * - POINT_AMOUNT      : value(8)
+ * - EARN_POLICY       : nullMask(1) + minAmount(8) + maxAmount(8) + maxBalance(8)
+ *                       + defaultDays(4) + minDays(4) + maxDays(4)
+ * - EXPIRATION_POLICY : nullMask(1) + defaultDays(4)
+ * - STRING            : UTF-8 bytes (남은 길이 전체)
+ * - STORED_RESPONSE   : status(2) + contentTypeLength(1) + contentType(US-ASCII) + body (남은 길이 전체)
+ * - FALLBACK          : 위임 codec이 인코딩한 bytes (그 외 타입)
+ *
+ * 스키마 버전 관리
+ * - 레이아웃 변경 시 VERSION을 올림
+ * - MAGIC/VERSION이 다른 값(구버전, 다른 codec으로 저장된 값)은 null로 디코딩되어 캐시 미스로 처리됨
+ *   → 원본(DB)에서 다시 로딩 후 새 레이아웃으로 덮어씀
+ */
+public class PointCacheCodec extends BaseCodec {
+
+    static final byte MAGIC = 0x50;  // 'P'
+    static final byte VERSION = 1;
+
+    static final byte TYPE_POINT_AMOUNT = 1;
+    static final byte TYPE_EARN_POLICY = 2;
+    static final byte TYPE_EXPIRATION_POLICY = 3;
+    static final byte TYPE_STRING = 4;
+    static final byte TYPE_STORED_RESPONSE = 5;
+    static final byte TYPE_FALLBACK = 0x7F;
+
+    private static final int HEADER_SIZE = 3;
+    private static final int EARN_POLICY_SIZE = 1 + Long.BYTES * 3 + Integer.BYTES * 3;
+    private static final int EXPIRATION_POLICY_SIZE = 1 + Integer.BYTES;
+
+    private final Codec fallback;
+
+    private final Encoder encoder = this::encodeValue;
+    private final Decoder<Object> decoder = this::decodeValue;
+
+    /**
+     * @param fallback 지원하지 않는 타입(Spring Cache NullValue 등)을 인코딩할 위임 codec
+     */
+    public PointCacheCodec(Codec fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    // =====================================================
+    // Encode
+    // =====================================================
+
+    private ByteBuf encodeValue(Object in) throws IOException {
+        if (in instanceof PointAmount amount) {
+            ByteBuf buf = header(TYPE_POINT_AMOUNT, Long.BYTES);
+            buf.writeLong(amount.value());
+            return buf;
+        }
+        if (in instanceof EarnPolicyConfig config) {
+            ByteBuf buf = header(TYPE_EARN_POLICY, EARN_POLICY_SIZE);
+            buf.writeByte(nullMask(config.minAmount(), config.maxAmount(), config.maxBalance(),
+                    config.defaultExpirationDays(), config.minExpirationDays(), config.maxExpirationDays()));
+            writeAmount(buf, config.minAmount());
+            writeAmount(buf, config.maxAmount());
+            writeAmount(buf, config.maxBalance());
+            writeInt(buf, config.defaultExpirationDays());
+            writeInt(buf, config.minExpirationDays());
+            writeInt(buf, config.maxExpirationDays());
+            return buf;
+        }
+        if (in instanceof ExpirationPolicyConfig config) {
+            ByteBuf buf = header(TYPE_EXPIRATION_POLICY, EXPIRATION_POLICY_SIZE);
+            buf.writeByte(nullMask(config.defaultExpirationDays()));
+            writeInt(buf, config.defaultExpirationDays());
+            return buf;
+        }
+        if (in instanceof String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ByteBuf buf = header(TYPE_STRING, bytes.length);
+            buf.writeBytes(bytes);
+            return buf;
+        }
+        if (in instanceof StoredResponse response) {
+            byte[] contentType = response.contentType().getBytes(StandardCharsets.US_ASCII);
+            if (contentType.length > 0xFF) {
+                throw new IOException("Content-Type이 너무 깁니다: " + response.contentType());
+            }
+            ByteBuf buf = header(TYPE_STORED_RESPONSE, Short.BYTES + 1 + contentType.length + response.body().length);
+            buf.writeShort(response.status());
+            buf.writeByte(contentType.length);
+            buf.writeBytes(contentType);
+            buf.writeBytes(response.body());
+            return buf;
+        }
+
+        ByteBuf delegated = fallback.getValueEncoder().encode(in);
+        try {
+            ByteBuf buf = header(TYPE_FALLBACK, delegated.readableBytes());
+            buf.writeBytes(delegated);
+            return buf;
+        } finally {
+            delegated.release();
+        }
+    }
+
+    private static ByteBuf header(byte type, int payloadSize) {
+        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(HEADER_SIZE + payloadSize);
+        buf.writeByte(MAGIC);
+        buf.writeByte(VERSION);
+        buf.writeByte(type);
+        return buf;
+    }
+
+    private static int nullMask(Object... fields) {
+        int mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private static void writeAmount(ByteBuf buf, PointAmount amount) {
+        buf.writeLong(amount != null ? amount.value() : 0L);
+    }
+
+    private static void writeInt(ByteBuf buf, Integer value) {
+        buf.writeInt(value != null ? value : 0);
+    }
+
+    // =====================================================
+    // Decode
+    // =====================================================
+
+    private Object decodeValue(ByteBuf buf, State state) throws IOException {
+        if (buf.readableBytes() < HEADER_SIZE
+                || buf.getByte(buf.readerIndex()) != MAGIC
+                || buf.getByte(buf.readerIndex() + 1) != VERSION) {
+            // 다른 스키마 버전 또는 다른 codec으로 저장된 값 → 캐시 미스로 처리
+            buf.skipBytes(buf.readableBytes());
+            return null;
+        }
+        buf.skipBytes(2);
+        byte type = buf.readByte();
+
+        return switch (type) {
+            case TYPE_POINT_AMOUNT -> PointAmount.of(buf.readLong());
+            case TYPE_EARN_POLICY -> {
+                int mask = buf.readUnsignedByte();
+                PointAmount minAmount = readAmount(buf, mask, 0);
+                PointAmount maxAmount = readAmount(buf, mask, 1);
+                PointAmount maxBalance = readAmount(buf, mask, 2);
+                Integer defaultDays = readInt(buf, mask, 3);
+                Integer minDays = readInt(buf, mask, 4);
+                Integer maxDays = readInt(buf, mask, 5);
+                yield EarnPolicyConfig.of(minAmount, maxAmount, maxBalance, defaultDays, minDays, maxDays);
+            }
+            case TYPE_EXPIRATION_POLICY -> {
+                int mask = buf.readUnsignedByte();
+                yield ExpirationPolicyConfig.of(readInt(buf, mask, 0));
+            }
+            case TYPE_STRING -> buf.readCharSequence(buf.readableBytes(), StandardCharsets.UTF_8).toString();
+            case TYPE_STORED_RESPONSE -> {
+                int status = buf.readUnsignedShort();
+                String contentType = buf.readCharSequence(buf.readUnsignedByte(), StandardCharsets.US_ASCII).toString();
+                byte[] body = new byte[buf.readableBytes()];
+                buf.readBytes(body);
+                yield new StoredResponse(status, contentType, body);
+            }
+            case TYPE_FALLBACK -> fallback.getValueDecoder().decode(buf, state);
+            default -> {
+                buf.skipBytes(buf.readableBytes());
+                yield null;
+            }
+        };
+    }
+
+    private static PointAmount readAmount(ByteBuf buf, int mask, int index) {
+        long value = buf.readLong();
+        return (mask & (1 << index)) != 0 ? null : PointAmount.of(value);
+    }
+
+    private static Integer readInt(ByteBuf buf, int mask, int index) {
+        int value = buf.readInt();
+        return (mask & (1 << index)) != 0 ? null : value;
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Optional;
  * Redis 기반 정책 캐시 Repository
  * - 정책은 자주 변경되지 않으므로 긴 TTL 적용
  * - 정책 변경 시 evict 메서드로 캐시 무효화 가능
+ * - PointCacheCodec으로 고정 바이너리 레이아웃 저장
  */
 @Repository
 @RequiredArgsConstructor
@@ -24,24 +25,25 @@ public class PolicyCacheRepository {
 
     private final RedissonClient redissonClient;
     private final CacheProperties cacheProperties;
+    private final PointCacheCodec pointCacheCodec;
 
     public Optional<EarnPolicyConfig> getEarnPolicyConfig() {
-        RBucket<EarnPolicyConfig> bucket = redissonClient.getBucket(EARN_POLICY_KEY);
+        RBucket<EarnPolicyConfig> bucket = redissonClient.getBucket(EARN_POLICY_KEY, pointCacheCodec);
         return Optional.ofNullable(bucket.get());
     }
 
     public void putEarnPolicyConfig(EarnPolicyConfig config) {
-        RBucket<EarnPolicyConfig> bucket = redissonClient.getBucket(EARN_POLICY_KEY);
+        RBucket<EarnPolicyConfig> bucket = redissonClient.getBucket(EARN_POLICY_KEY, pointCacheCodec);
         bucket.set(config, Duration.ofSeconds(cacheProperties.getPolicyTtlSeconds()));
     }
 
     public Optional<ExpirationPolicyConfig> getExpirationPolicyConfig() {
-        RBucket<ExpirationPolicyConfig> bucket = redissonClient.getBucket(EXPIRATION_POLICY_KEY);
+        RBucket<ExpirationPolicyConfig> bucket = redissonClient.getBucket(EXPIRATION_POLICY_KEY, pointCacheCodec);
         return Optional.ofNullable(bucket.get());
     }
 
     public void putExpirationPolicyConfig(ExpirationPolicyConfig config) {
-        RBucket<ExpirationPolicyConfig> bucket = redissonClient.getBucket(EXPIRATION_POLICY_KEY);
+        RBucket<ExpirationPolicyConfig> bucket = redissonClient.getBucket(EXPIRATION_POLICY_KEY, pointCacheCodec);
         bucket.set(config, Duration.ofSeconds(cacheProperties.getPolicyTtlSeconds()));
     }
 
@@ -49,15 +51,15 @@ public class PolicyCacheRepository {
      * 정책 변경 시 캐시 무효화
      */
     public void evictAll() {
-        redissonClient.getBucket(EARN_POLICY_KEY).delete();
-        redissonClient.getBucket(EXPIRATION_POLICY_KEY).delete();
+        redissonClient.getBucket(EARN_POLICY_KEY, pointCacheCodec).delete();
+        redissonClient.getBucket(EXPIRATION_POLICY_KEY, pointCacheCodec).delete();
     }
 
     public void evictEarnPolicyConfig() {
-        redissonClient.getBucket(EARN_POLICY_KEY).delete();
+        redissonClient.getBucket(EARN_POLICY_KEY, pointCacheCodec).delete();
     }
 
     public void evictExpirationPolicyConfig() {
-        redissonClient.getBucket(EXPIRATION_POLICY_KEY).delete();
+        redissonClient.getBucket(EXPIRATION_POLICY_KEY, pointCacheCodec).delete();
     }
 }
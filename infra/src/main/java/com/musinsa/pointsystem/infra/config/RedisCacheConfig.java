@@ -1,8 +1,11 @@
 package com.musinsa.pointsystem.infra.config;
 
 import com.musinsa.pointsystem.infra.cache.CacheProperties;
+import com.musinsa.pointsystem.infra.cache.PointCacheCodec;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.Kryo5Codec;
 import org.redisson.spring.cache.RedissonSpringCacheManager;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -19,12 +22,23 @@ public class RedisCacheConfig {
 
     private final CacheProperties cacheProperties;
 
+    /**
+     * 포인트 캐시 전용 Codec
+     * - 지원하지 않는 타입은 클라이언트 기본 codec(없으면 Kryo5)으로 위임
+     */
+    @Bean
+    public PointCacheCodec pointCacheCodec(RedissonClient redissonClient) {
+        Codec fallback = redissonClient.getConfig().getCodec();
+        return new PointCacheCodec(fallback != null ? fallback : new Kryo5Codec());
+    }
+
     /**
      * Redis 기반 캐시 매니저
      * - memberBalance: 회원 잔액 캐시
+     * - PointCacheCodec으로 PointAmount를 고정 바이너리 레이아웃으로 저장
      */
     @Bean
-    public CacheManager cacheManager(RedissonClient redissonClient) {
+    public CacheManager cacheManager(RedissonClient redissonClient, PointCacheCodec pointCacheCodec) {
         Map<String, org.redisson.spring.cache.CacheConfig> config = new HashMap<>();
 
         // memberBalance 캐시: 포인트 변경 시 캐시 무효화 필요
@@ -33,6 +47,6 @@ public class RedisCacheConfig {
                 cacheProperties.getBalanceMaxIdleMs()
         ));
 
-        return new RedissonSpringCacheManager(redissonClient, config);
+        return new RedissonSpringCacheManager(redissonClient, config, pointCacheCodec);
     }
 }
@@ -0,0 +1,52 @@
+package com.musinsa.pointsystem.infra.event;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-dispatch")
+@Getter
+@Setter
+public class EventDispatchProperties {
+
+    /**
+     * 커밋 후 후처리 비동기 실행 여부
+     * - 기본값: true
+     * - 비활성화 시 커밋한 요청 스레드에서 바로 실행 (실패 시 재시도는 동일)
+     */
+    private boolean asyncEnabled = true;
+
+    /**
+     * 실행 레인 수
+     * - 기본값: 16
+     * - 회원 ID 해시로 레인 선택 → 같은 회원의 후처리는 한 레인에서 순서대로 실행
+     */
+    private int lanes = 16;
+
+    /**
+     * 레인별 대기열 크기
+     * - 기본값: 1000
+     * - 가득 차면 요청 스레드에서 직접 실행 (backpressure, 유실 없음)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 실패 시 최대 시도 횟수 (최초 실행 포함)
+     * - 기본값: 3
+     */
+    private int retryMaxAttempts = 3;
+
+    /**
+     * 재시도 간격 (밀리초, 시도 횟수에 비례하여 증가)
+     * - 기본값: 200ms
+     */
+    private long retryBackoffMs = 200;
+
+    /**
+     * 종료 시 대기열 소진 대기 시간 (밀리초)
+     * - 기본값: 5000ms
+     */
+    private long shutdownTimeoutMs = 5000;
+}
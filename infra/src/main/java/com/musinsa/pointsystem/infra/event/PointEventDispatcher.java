@@ -0,0 +1,188 @@
+package com.musinsa.pointsystem.infra.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 커밋 후 후처리 비동기 실행기
+ * - PointEventHandler(AFTER_COMMIT)에서 호출 → 커밋된 변경에 대해서만 실행되는 보장은 유지
+ *   (적립건 인덱스 삭제 등, 잔액 캐시 무효화는 BalanceCacheInvalidationCoalescer가 일괄 처리)
+ * - 회원 ID 해시로 레인(가상 스레드 1개 + 고정 크기 대기열) 선택 → 같은 회원의 후처리는 순서대로 실행
+ * - 대기열이 가득 차면 요청 스레드에서 직접 실행 (유실 대신 지연으로 backpressure)
+ * - 실패 시 재시도 스케줄러로 backoff 후 재투입, 최대 시도 초과 시 로그 + 메트릭
+ *   (재시도/직접 실행은 순서 보장 대상 아님 → 멱등 작업만 등록)
+ */
+@Component
+@Slf4j
+public class PointEventDispatcher {
+
+    private final EventDispatchProperties properties;
+    private final List<Lane> lanes;
+    private final ScheduledExecutorService retryScheduler;
+    private final Counter queuedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+    private volatile boolean running = true;
+
+    public PointEventDispatcher(EventDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.lanes = IntStream.range(0, properties.getLanes())
+                .mapToObj(index -> new Lane(index, properties.getQueueCapacity()))
+                .toList();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("point-event-retry").factory());
+
+        this.queuedCounter = dispatchCounter(meterRegistry, "queued", "비동기 대기열 등록 횟수");
+        this.callerRunsCounter = dispatchCounter(meterRegistry, "caller_runs", "대기열 포화로 요청 스레드에서 실행한 횟수");
+        this.retriedCounter = dispatchCounter(meterRegistry, "retried", "실패 후 재시도 등록 횟수");
+        this.droppedCounter = dispatchCounter(meterRegistry, "dropped", "최대 시도 초과로 포기한 횟수");
+        Gauge.builder("point.event.dispatch.queue.size", this, PointEventDispatcher::queueSize)
+                .description("커밋 후 후처리 대기열 크기 (전체 레인 합계)")
+                .register(meterRegistry);
+
+        if (properties.isAsyncEnabled()) {
+            lanes.forEach(Lane::start);
+        }
+    }
+
+    /**
+     * 후처리 등록
+     * @param memberId 순서 보장 기준 회원 ID
+     * @param name 작업 이름 (로그용)
+     * @param action 멱등 작업
+     */
+    public void dispatch(UUID memberId, String name, Runnable action) {
+        submit(new Task(memberId, name, action, 1));
+    }
+
+    /**
+     * 대기 중인 작업 수 (전체 레인 합계)
+     */
+    int queueSize() {
+        return lanes.stream().mapToInt(lane -> lane.queue.size()).sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getShutdownTimeoutMs());
+        for (Lane lane : lanes) {
+            lane.join(deadline);
+        }
+        retryScheduler.shutdownNow();
+    }
+
+    private void submit(Task task) {
+        if (!properties.isAsyncEnabled() || !running) {
+            run(task);
+            return;
+        }
+        Lane lane = lanes.get(Math.floorMod(task.memberId().hashCode(), lanes.size()));
+        if (lane.queue.offer(task)) {
+            queuedCounter.increment();
+            return;
+        }
+        callerRunsCounter.increment();
+        run(task);
+    }
+
+    private void run(Task task) {
+        try {
+            task.action().run();
+        } catch (RuntimeException e) {
+            retry(task, e);
+        }
+    }
+
+    private void retry(Task task, RuntimeException cause) {
+        if (task.attempt() >= properties.getRetryMaxAttempts() || !running) {
+            droppedCounter.increment();
+            log.error("커밋 후 후처리 최종 실패. name={}, memberId={}, attempt={}, error={}",
+                    task.name(), task.memberId(), task.attempt(), cause.getMessage());
+            return;
+        }
+        log.warn("커밋 후 후처리 실패, 재시도 예정. name={}, memberId={}, attempt={}, error={}",
+                task.name(), task.memberId(), task.attempt(), cause.getMessage());
+        try {
+            retryScheduler.schedule(() -> submit(task.nextAttempt()),
+                    properties.getRetryBackoffMs() * task.attempt(), TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+        } catch (RejectedExecutionException e) {
+            droppedCounter.increment();
+            log.error("커밋 후 후처리 재시도 등록 실패 (종료 중). name={}, memberId={}", task.name(), task.memberId());
+        }
+    }
+
+    private static Counter dispatchCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("point.event.dispatch")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private record Task(UUID memberId, String name, Runnable action, int attempt) {
+
+        Task nextAttempt() {
+            return new Task(memberId, name, action, attempt + 1);
+        }
+    }
+
+    /**
+     * 실행 레인: 가상 스레드 1개가 대기열을 순서대로 소비
+     * - 종료 시 남은 작업을 모두 실행한 뒤 종료
+     */
+    private final class Lane {
+
+        private final BlockingQueue<Task> queue;
+        private final Thread thread;
+
+        Lane(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = Thread.ofVirtual().name("point-event-lane-" + index).unstarted(this::consume);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        void join(long deadlineNanos) {
+            if (!thread.isAlive()) {
+                return;
+            }
+            try {
+                thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void consume() {
+            while (running || !queue.isEmpty()) {
+                try {
+                    Task task = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (task != null) {
+                        run(task);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -4,29 +4,38 @@ import com.musinsa.pointsystem.domain.event.PointEarnCanceledEvent;
 import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
 import com.musinsa.pointsystem.domain.event.PointUseCanceledEvent;
 import com.musinsa.pointsystem.domain.event.PointUsedEvent;
-import com.musinsa.pointsystem.domain.repository.BalanceCachePort;
+import com.musinsa.pointsystem.domain.repository.LedgerIndexPort;
+import com.musinsa.pointsystem.infra.cache.BalanceCacheInvalidationCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.UUID;
+
 /**
  * 포인트 도메인 이벤트 핸들러
  * - 트랜잭션 커밋 후 실행 (AFTER_COMMIT)
  * - 캐시 무효화: 트랜잭션 성공 후에만 캐시 무효화 (데이터 정합성 보장)
- * - 추후 용도에 맞게 구현 필요:
- *   - 알림 발송 (푸시, SMS, 이메일 등)
- *   - 통계/분석 데이터 적재
- *   - 외부 시스템 연동 (Kafka 발행 등)
- *   - 감사 로그 기록
+ *   → BalanceCacheInvalidationCoalescer에 등록 (짧은 시간 동안 모아 중복 제거 후 일괄 삭제, 응답 시간에 미포함)
+ *   → 쓰기 경로 잔액 조회는 캐시를 사용하지 않으므로 무효화 지연이 검증에 영향 없음
+ *   → 단, 쓰기 직후 같은 회원의 GET /balance는 최대 모음 시간 + 삭제 왕복 동안 이전 캐시 잔액일 수 있음
+ * - 적립건 인덱스: 적립건 구성이 바뀌는 적립/적립취소/사용취소 시 삭제 (사용은 UseCase에서 갱신)
+ *   → PointEventDispatcher로 회원별 레인에서 비동기 삭제, 실패 시 재시도 (응답 시간에 미포함)
+ *   → 삭제 전 사용 요청은 인덱스 경로의 건수/잔액 합계 검증에서 불일치로 DB 경로 처리
+ * - 요청 스레드에서는 등록만 하므로 같은 Pod 내 가벼운 후처리만 담당 (추가 후처리도 PointEventDispatcher로 등록)
+ * - 알림 발송, 통계/분석 데이터 적재, 외부 시스템 연동, 감사 로그 등은
+ *   Outbox 릴레이의 PointEventSink로 구현 (요청 스레드와 분리, 커밋된 이벤트 유실 없음)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PointEventHandler {
 
-    private final BalanceCachePort balanceCachePort;
+    private final BalanceCacheInvalidationCoalescer balanceCacheInvalidator;
+    private final LedgerIndexPort ledgerIndexPort;
+    private final PointEventDispatcher eventDispatcher;
 
     /**
      * 포인트 적립 이벤트 핸들러
@@ -38,7 +47,8 @@ public class PointEventHandler {
                 event.memberId(), event.ledgerId(), event.amount(), event.earnType());
 
         // 트랜잭션 커밋 후 캐시 무효화 (데이터 정합성 보장)
-        balanceCachePort.evictBalanceCache(event.memberId());
+        evictBalanceCache(event.memberId());
+        evictLedgerIndex(event.memberId());
 
         // TODO: 추후 용도에 맞게 구현
         // - 적립 완료 알림 발송
@@ -56,7 +66,8 @@ public class PointEventHandler {
                 event.memberId(), event.ledgerId(), event.amount());
 
         // 트랜잭션 커밋 후 캐시 무효화 (데이터 정합성 보장)
-        balanceCachePort.evictBalanceCache(event.memberId());
+        evictBalanceCache(event.memberId());
+        evictLedgerIndex(event.memberId());
 
         // TODO: 추후 용도에 맞게 구현
         // - 적립취소 완료 알림 발송
@@ -74,7 +85,7 @@ public class PointEventHandler {
                 event.memberId(), event.amount(), event.orderId(), event.usedLedgerCount());
 
         // 트랜잭션 커밋 후 캐시 무효화 (데이터 정합성 보장)
-        balanceCachePort.evictBalanceCache(event.memberId());
+        evictBalanceCache(event.memberId());
 
         // TODO: 추후 용도에 맞게 구현
         // - 사용 완료 알림 발송
@@ -92,11 +103,20 @@ public class PointEventHandler {
                 event.memberId(), event.amount(), event.orderId(), event.newLedgerCount());
 
         // 트랜잭션 커밋 후 캐시 무효화 (데이터 정합성 보장)
-        balanceCachePort.evictBalanceCache(event.memberId());
+        evictBalanceCache(event.memberId());
+        evictLedgerIndex(event.memberId());
 
         // TODO: 추후 용도에 맞게 구현
         // - 사용취소 완료 알림 발송
         // - 취소 통계 데이터 적재
         // - 외부 시스템 연동
     }
+
+    private void evictBalanceCache(UUID memberId) {
+        balanceCacheInvalidator.invalidate(memberId);
+    }
+
+    private void evictLedgerIndex(UUID memberId) {
+        eventDispatcher.dispatch(memberId, "ledger-index-evict", () -> ledgerIndexPort.evict(memberId));
+    }
 }
@@ -2,15 +2,25 @@ package com.musinsa.pointsystem.infra.event;
 
 import com.musinsa.pointsystem.domain.event.PointEvent;
 import com.musinsa.pointsystem.domain.repository.PointEventPublisher;
+import com.musinsa.pointsystem.infra.event.ring.RingBufferPointEventBus;
+import com.musinsa.pointsystem.infra.outbox.OutboxProperties;
+import com.musinsa.pointsystem.infra.outbox.PointEventOutboxRepository;
+import com.musinsa.pointsystem.infra.outbox.PointEventSink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Spring ApplicationEventPublisher 기반 이벤트 발행 구현체
  * - 동일 트랜잭션 내에서 이벤트 발행
- * - 추후 Kafka/RabbitMQ 등으로 교체 가능
+ * - Outbox 기록: 같은 트랜잭션에서 point_event_outbox에 INSERT → 커밋된 이벤트만 릴레이가 외부 Sink로 전달
+ *   (등록된 Sink가 없으면 전달할 곳이 없으므로 기록 생략)
+ * - Spring 이벤트: 같은 Pod 내 후처리 (캐시 무효화 등, PointEventHandler)
+ * - 링 버퍼 버스(선택): 커밋 후 같은 Pod 내 고빈도 소비자(통계 등)에 배치 전달 (event-bus.ring-buffer-enabled)
  */
 @Component
 @RequiredArgsConstructor
@@ -18,11 +28,41 @@ import org.springframework.stereotype.Component;
 public class SpringPointEventPublisher implements PointEventPublisher {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final PointEventOutboxRepository outboxRepository;
+    private final OutboxProperties outboxProperties;
+    private final List<PointEventSink> sinks;
+    private final ObjectProvider<RingBufferPointEventBus> ringBufferBus;
 
     @Override
     public void publish(PointEvent event) {
         log.debug("도메인 이벤트 발행. eventType={}, memberId={}, amount={}",
                 event.getClass().getSimpleName(), event.memberId(), event.amount());
+        if (isOutboxEnabled()) {
+            outboxRepository.append(event);
+        }
         applicationEventPublisher.publishEvent(event);
+        ringBufferBus.ifAvailable(bus -> bus.publishAfterCommit(event));
+    }
+
+    /**
+     * 일괄 발행 - Outbox는 JDBC 배치 INSERT 1회, Spring 이벤트/링 버퍼는 건별
+     */
+    @Override
+    public void publishAll(List<? extends PointEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        log.debug("도메인 이벤트 일괄 발행. count={}", events.size());
+        if (isOutboxEnabled()) {
+            outboxRepository.appendAll(events);
+        }
+        for (PointEvent event : events) {
+            applicationEventPublisher.publishEvent(event);
+            ringBufferBus.ifAvailable(bus -> bus.publishAfterCommit(event));
+        }
+    }
+
+    private boolean isOutboxEnabled() {
+        return outboxProperties.isEnabled() && !sinks.isEmpty();
     }
 }
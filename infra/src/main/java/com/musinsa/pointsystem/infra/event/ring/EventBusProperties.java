@@ -0,0 +1,33 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "event-bus")
+@Getter
+@Setter
+public class EventBusProperties {
+
+    /**
+     * 링 버퍼 이벤트 버스 활성화 여부
+     * - 기본값: false
+     * - 활성화 시 커밋된 포인트 이벤트를 PointEventConsumer Bean들에 배치로 전달
+     */
+    private boolean ringBufferEnabled = false;
+
+    /**
+     * 링 버퍼 슬롯 수 (2의 거듭제곱)
+     * - 기본값: 4096
+     * - 가장 느린 소비자가 이만큼 밀리면 발행(커밋 후 요청 스레드)이 대기
+     */
+    private int ringBufferSize = 4096;
+
+    /**
+     * 종료 시 남은 이벤트 처리 대기 시간 (밀리초)
+     * - 기본값: 5000ms
+     */
+    private long shutdownTimeoutMs = 5000;
+}
@@ -0,0 +1,13 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+/**
+ * 링 버퍼 이벤트 소비자
+ * - 소비자별 전용 스레드에서 발행 순서대로 호출
+ * - 사용 가능한 구간을 한 번에 처리하며, 구간의 마지막 이벤트에서 endOfBatch = true
+ *   → 집계 결과 반영 등은 endOfBatch에서 한 번만 수행
+ * - 예외는 로그 후 다음 이벤트 계속 처리 (재시도 없음, 유실 불가 작업은 Outbox Sink 사용)
+ */
+public interface PointEventConsumer {
+
+    void onEvent(PointEventSlot slot, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,165 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * 미리 할당된 슬롯 기반 링 버퍼 (다중 발행자, 다중 소비자)
+ * - 발행: 시퀀스 CAS 증가로 슬롯 확보 → 슬롯 덮어쓰기 → 슬롯별 발행 시퀀스 기록(release)
+ * - 소비: 소비자별 전용 가상 스레드가 자기 시퀀스 다음부터 연속 발행된 구간까지 배치 처리 후 시퀀스 갱신
+ * - 게이팅: 가장 느린 소비자가 처리하지 않은 슬롯은 덮어쓰지 않음 (가득 차면 발행자 대기)
+ * - 락/큐 노드 할당 없음, 대기 시 parkNanos로 양보
+ */
+@Slf4j
+public class PointEventRingBuffer {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+    private final int mask;
+    private final PointEventSlot[] slots;
+    /** 슬롯별 마지막 발행 시퀀스 (미발행: -1) */
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<ConsumerLane> lanes;
+    private volatile long cachedGatingSequence = -1;
+    private volatile boolean running;
+
+    /**
+     * @param bufferSize 슬롯 수 (2의 거듭제곱)
+     */
+    public PointEventRingBuffer(int bufferSize, List<PointEventConsumer> consumers) {
+        if (Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize는 2의 거듭제곱이어야 합니다: " + bufferSize);
+        }
+        this.mask = bufferSize - 1;
+        this.slots = IntStream.range(0, bufferSize).mapToObj(i -> new PointEventSlot()).toArray(PointEventSlot[]::new);
+        this.published = new AtomicLongArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            published.set(i, -1);
+        }
+        this.lanes = IntStream.range(0, consumers.size())
+                .mapToObj(i -> new ConsumerLane(i, consumers.get(i)))
+                .toList();
+    }
+
+    public void start() {
+        running = true;
+        lanes.forEach(lane -> lane.thread.start());
+    }
+
+    /**
+     * 종료 (발행된 이벤트를 모두 처리한 뒤 소비 스레드 종료)
+     */
+    public void stop(long timeoutMs) {
+        running = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (ConsumerLane lane : lanes) {
+            try {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                lane.thread.join(Math.max(1, remainingMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 발행 (버퍼가 가득 차면 가장 느린 소비자가 따라올 때까지 대기)
+     * - 시작 전/종료 후에는 발행하지 않음
+     * @return 발행 시퀀스 (발행하지 않으면 -1)
+     */
+    public long publish(PointEvent event) {
+        if (!running) {
+            return -1;
+        }
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint > cachedGatingSequence) {
+            long gating;
+            while (wrapPoint > (gating = minimumConsumerSequence())) {
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+            }
+            cachedGatingSequence = gating;
+        }
+        int index = (int) (sequence & mask);
+        slots[index].set(event);
+        published.lazySet(index, sequence);
+        return sequence;
+    }
+
+    /**
+     * 모든 소비자가 처리한 마지막 시퀀스
+     */
+    public long minimumConsumerSequence() {
+        long minimum = claimed.get();
+        for (ConsumerLane lane : lanes) {
+            minimum = Math.min(minimum, lane.sequence);
+        }
+        return minimum;
+    }
+
+    public int bufferSize() {
+        return slots.length;
+    }
+
+    /**
+     * 미처리 이벤트 수 (가장 느린 소비자 기준)
+     */
+    public long backlog() {
+        return claimed.get() - minimumConsumerSequence();
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) (sequence & mask)) == sequence;
+    }
+
+    /**
+     * 소비자 1개 + 전용 가상 스레드 + 처리 시퀀스
+     */
+    private final class ConsumerLane {
+
+        private final PointEventConsumer consumer;
+        private final Thread thread;
+        private volatile long sequence = -1;
+
+        ConsumerLane(int index, PointEventConsumer consumer) {
+            this.consumer = consumer;
+            this.thread = Thread.ofVirtual().name("point-event-ring-" + index).unstarted(this::consume);
+        }
+
+        private void consume() {
+            while (true) {
+                long next = sequence + 1;
+                long available = next - 1;
+                while (isPublished(available + 1)) {
+                    available++;
+                }
+                if (available < next) {
+                    if (!running && claimed.get() < next) {
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                for (long s = next; s <= available; s++) {
+                    try {
+                        consumer.onEvent(slots[(int) (s & mask)], s, s == available);
+                    } catch (RuntimeException e) {
+                        log.warn("링 버퍼 이벤트 처리 실패. consumer={}, sequence={}, error={}",
+                                consumer.getClass().getSimpleName(), s, e.getMessage());
+                    }
+                }
+                sequence = available;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import com.musinsa.pointsystem.domain.event.PointEarnCanceledEvent;
+import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import com.musinsa.pointsystem.domain.event.PointUseCanceledEvent;
+import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 링 버퍼 이벤트 슬롯 (재사용)
+ * - 링 버퍼 생성 시 미리 할당, 발행 시 필드만 덮어씀 → 이벤트당 객체 할당 없음
+ * - UUID는 상/하위 long으로 보관 (소비자가 필요할 때만 UUID 생성)
+ * - 소비자는 onEvent 안에서만 읽고 슬롯 참조를 보관하면 안 됨 (다음 바퀴에서 덮어씀)
+ */
+public final class PointEventSlot {
+
+    public enum Type {
+        EARNED, EARN_CANCELED, USED, USE_CANCELED
+    }
+
+    private Type type;
+    private long memberIdMsb;
+    private long memberIdLsb;
+    private long ledgerIdMsb;
+    private long ledgerIdLsb;
+    private long amount;
+    /** 적립: earnType, 사용/사용취소: orderId */
+    private String reference;
+    /** 사용: 사용 적립건 수, 사용취소: 신규 적립건 수 */
+    private int ledgerCount;
+    private LocalDateTime occurredAt;
+
+    void set(PointEvent event) {
+        memberIdMsb = event.memberId().getMostSignificantBits();
+        memberIdLsb = event.memberId().getLeastSignificantBits();
+        amount = event.amount();
+        occurredAt = event.occurredAt();
+        ledgerIdMsb = 0;
+        ledgerIdLsb = 0;
+        reference = null;
+        ledgerCount = 0;
+        switch (event) {
+            case PointEarnedEvent e -> {
+                type = Type.EARNED;
+                setLedgerId(e.ledgerId());
+                reference = e.earnType();
+            }
+            case PointEarnCanceledEvent e -> {
+                type = Type.EARN_CANCELED;
+                setLedgerId(e.ledgerId());
+            }
+            case PointUsedEvent e -> {
+                type = Type.USED;
+                reference = e.orderId();
+                ledgerCount = e.usedLedgerCount();
+            }
+            case PointUseCanceledEvent e -> {
+                type = Type.USE_CANCELED;
+                reference = e.orderId();
+                ledgerCount = e.newLedgerCount();
+            }
+        }
+    }
+
+    private void setLedgerId(UUID ledgerId) {
+        ledgerIdMsb = ledgerId.getMostSignificantBits();
+        ledgerIdLsb = ledgerId.getLeastSignificantBits();
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public long memberIdMsb() {
+        return memberIdMsb;
+    }
+
+    public long memberIdLsb() {
+        return memberIdLsb;
+    }
+
+    public UUID memberId() {
+        return new UUID(memberIdMsb, memberIdLsb);
+    }
+
+    /**
+     * 적립건 ID (적립/적립취소만, 그 외 null)
+     */
+    public UUID ledgerId() {
+        return type == Type.EARNED || type == Type.EARN_CANCELED ? new UUID(ledgerIdMsb, ledgerIdLsb) : null;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public String reference() {
+        return reference;
+    }
+
+    public int ledgerCount() {
+        return ledgerCount;
+    }
+
+    public LocalDateTime occurredAt() {
+        return occurredAt;
+    }
+}
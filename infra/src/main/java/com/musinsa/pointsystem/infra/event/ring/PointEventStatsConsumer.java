@@ -0,0 +1,61 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 포인트 이벤트 통계 소비자 (링 버퍼)
+ * - 이벤트 유형별 건수/금액을 배치 동안 지역 배열에 누적 → endOfBatch에서 메트릭에 한 번 반영
+ * - 메트릭: point.event.count, point.event.amount (tag: type)
+ */
+@Component
+@ConditionalOnProperty(prefix = "event-bus", name = "ring-buffer-enabled", havingValue = "true")
+public class PointEventStatsConsumer implements PointEventConsumer {
+
+    private static final PointEventSlot.Type[] TYPES = PointEventSlot.Type.values();
+
+    private final Counter[] countCounters = new Counter[TYPES.length];
+    private final Counter[] amountCounters = new Counter[TYPES.length];
+    // 소비 스레드 전용 (동기화 불필요)
+    private final long[] batchCounts = new long[TYPES.length];
+    private final long[] batchAmounts = new long[TYPES.length];
+
+    public PointEventStatsConsumer(MeterRegistry meterRegistry) {
+        for (PointEventSlot.Type type : TYPES) {
+            String tag = type.name().toLowerCase();
+            countCounters[type.ordinal()] = Counter.builder("point.event.count")
+                    .tag("type", tag)
+                    .description("포인트 이벤트 건수")
+                    .register(meterRegistry);
+            amountCounters[type.ordinal()] = Counter.builder("point.event.amount")
+                    .tag("type", tag)
+                    .description("포인트 이벤트 금액 합계")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void onEvent(PointEventSlot slot, long sequence, boolean endOfBatch) {
+        int index = slot.type().ordinal();
+        batchCounts[index]++;
+        batchAmounts[index] += slot.amount();
+        if (endOfBatch) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (batchCounts[i] > 0) {
+                countCounters[i].increment(batchCounts[i]);
+                amountCounters[i].increment(batchAmounts[i]);
+            }
+        }
+        Arrays.fill(batchCounts, 0);
+        Arrays.fill(batchAmounts, 0);
+    }
+}
@@ -0,0 +1,70 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 링 버퍼 기반 포인트 이벤트 버스
+ * - event-bus.ring-buffer-enabled=true 일 때만 등록
+ * - SpringPointEventPublisher가 호출 → 트랜잭션 커밋 후(afterCommit) 링 버퍼에 발행
+ *   (트랜잭션 밖에서 호출되면 즉시 발행)
+ * - 등록된 PointEventConsumer Bean마다 전용 소비 스레드, 리플렉션/이벤트 객체 할당 없이 배치 처리
+ * - 메모리 내 전달이므로 Pod 종료 시 미처리 이벤트는 유실될 수 있음 (유실 불가 연동은 Outbox Sink 사용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "event-bus", name = "ring-buffer-enabled", havingValue = "true")
+@Slf4j
+public class RingBufferPointEventBus {
+
+    private final PointEventRingBuffer ringBuffer;
+    private final EventBusProperties properties;
+
+    public RingBufferPointEventBus(
+            List<PointEventConsumer> consumers,
+            EventBusProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.ringBuffer = new PointEventRingBuffer(properties.getRingBufferSize(), consumers);
+        this.properties = properties;
+        Gauge.builder("point.event.ring.backlog", ringBuffer, PointEventRingBuffer::backlog)
+                .description("링 버퍼 미처리 이벤트 수 (가장 느린 소비자 기준)")
+                .register(meterRegistry);
+        log.info("링 버퍼 이벤트 버스 등록. bufferSize={}, consumers={}", properties.getRingBufferSize(), consumers.size());
+    }
+
+    @PostConstruct
+    void start() {
+        ringBuffer.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        ringBuffer.stop(properties.getShutdownTimeoutMs());
+    }
+
+    /**
+     * 커밋 후 발행
+     */
+    public void publishAfterCommit(PointEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ringBuffer.publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ringBuffer.publish(event);
+            }
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.musinsa.pointsystem.infra.idempotency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멱등성 요청 완료 알림
+ * - 같은 Pod: 키별 CompletableFuture로 즉시 알림
+ * - 다른 Pod: Redis Pub/Sub 채널(idempotency:completed)로 키 전파 → 수신 Pod에서 Future 완료
+ * - 채널은 키별이 아닌 공용 1개 (키마다 SUBSCRIBE/UNSUBSCRIBE 왕복과 Pub/Sub 연결 점유를 피함)
+ * - 알림은 유실될 수 있으므로 대기 측은 반드시 타임아웃과 함께 사용하고, 등록 후 결과를 재확인해야 함
+ */
+@Component
+@Slf4j
+public class IdempotencyCompletionNotifier {
+
+    static final String CHANNEL = "idempotency:completed";
+
+    private final RedissonClient redissonClient;
+    private final Map<String, List<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId = -1;
+
+    public IdempotencyCompletionNotifier(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        topic = redissonClient.getTopic(CHANNEL, StringCodec.INSTANCE);
+        try {
+            listenerId = topic.addListener(String.class, (channel, key) -> completeLocal(key));
+        } catch (RuntimeException e) {
+            // 구독 실패 시 같은 Pod 알림만 동작 (다른 Pod 대기는 타임아웃 후 처리)
+            log.warn("멱등성 완료 채널 구독 실패. error={}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (listenerId != -1) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * 완료 대기 등록
+     * - 호출 측은 대기가 끝나면(완료/타임아웃) 반드시 release(key, future) 호출
+     */
+    CompletableFuture<Void> register(String key) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        waiters.compute(key, (k, futures) -> {
+            List<CompletableFuture<Void>> registered = futures != null ? futures : new ArrayList<>(1);
+            registered.add(future);
+            return registered;
+        });
+        return future;
+    }
+
+    /**
+     * 대기 등록 해제
+     */
+    void release(String key, CompletableFuture<Void> future) {
+        waiters.computeIfPresent(key, (k, futures) -> {
+            futures.remove(future);
+            return futures.isEmpty() ? null : futures;
+        });
+    }
+
+    /**
+     * 완료 알림 (결과 저장 또는 키 삭제 후 호출)
+     */
+    void notifyCompleted(String key) {
+        completeLocal(key);
+        try {
+            topic.publishAsync(key);
+        } catch (RuntimeException e) {
+            log.warn("멱등성 완료 알림 발행 실패. key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void completeLocal(String key) {
+        List<CompletableFuture<Void>> futures = waiters.remove(key);
+        if (futures != null) {
+            futures.forEach(future -> future.complete(null));
+        }
+    }
+}
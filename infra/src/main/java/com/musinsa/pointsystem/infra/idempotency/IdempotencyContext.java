@@ -0,0 +1,42 @@
+package com.musinsa.pointsystem.infra.idempotency;
+
+/**
+ * 현재 스레드의 멱등성 키 보관
+ * - IdempotencyRecordRepository.begin/end로 설정/해제
+ * - recorded: 이 키의 기록이 이미 커밋되었는지 여부 (한 요청에서 쓰기 트랜잭션이 여러 번 열려도 1회만 기록)
+ */
+final class IdempotencyContext {
+
+    private static final ThreadLocal<IdempotencyContext> CURRENT = new ThreadLocal<>();
+
+    private final String idempotencyKey;
+    private boolean recorded;
+
+    private IdempotencyContext(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    static void begin(String idempotencyKey) {
+        CURRENT.set(new IdempotencyContext(idempotencyKey));
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static IdempotencyContext current() {
+        return CURRENT.get();
+    }
+
+    String idempotencyKey() {
+        return idempotencyKey;
+    }
+
+    boolean isRecorded() {
+        return recorded;
+    }
+
+    void markRecorded() {
+        this.recorded = true;
+    }
+}
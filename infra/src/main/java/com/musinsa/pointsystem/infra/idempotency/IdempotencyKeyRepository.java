@@ -1,75 +1,280 @@
 package com.musinsa.pointsystem.infra.idempotency;
 
 import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort;
+import com.musinsa.pointsystem.infra.cache.PointCacheCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.handler.State;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Redis 기반 멱등성 키 관리 구현체
+ * - 결과는 PointCacheCodec으로 저장 (응답: 상태 코드 + Content-Type + 본문 bytes, 문자열: UTF-8)
+ * - 입장(admit)은 Lua 스크립트 1회 호출 (GET + SET NX PX + 결과 반환을 원자 실행)
+ * - PROCESSING 값에는 요청별 토큰을 포함 → 타임아웃 후 재시도 시 자신이 획득한 키인지 식별
+ * - 결과 저장/키 삭제 시 완료 알림 (처리 중 요청을 기다리는 재요청을 깨움)
+ * - 비동기 완료 대기는 완료 알림 Future + 타임아웃 조합 후 비동기 재조회 (대기자별 스레드 없음)
  */
 @Repository
+@Slf4j
 public class IdempotencyKeyRepository implements IdempotencyKeyPort {
 
     private static final String KEY_PREFIX = "idempotency:";
     private static final String PROCESSING = "PROCESSING";
 
+    private static final long STATUS_ACQUIRED = 1;
+    private static final long STATUS_PROCESSING = 2;
+    private static final long STATUS_COMPLETED = 3;
+
+    /**
+     * KEYS[1]: 멱등성 키
+     * ARGV[1]: 이 요청의 PROCESSING 값 (codec 인코딩)
+     * ARGV[2]: PROCESSING 접두사 (codec 인코딩)
+     * ARGV[3]: PROCESSING TTL (밀리초)
+     * 반환: {1} 획득, {2} 처리 중, {3, 저장된 결과}
+     */
+    private static final String ADMISSION_SCRIPT = """
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+                return {1}
+            end
+            if value == ARGV[1] then
+                return {1}
+            end
+            if string.sub(value, 1, #ARGV[2]) == ARGV[2] then
+                return {2}
+            end
+            return {3, value}
+            """;
+
     private final RedissonClient redissonClient;
     private final IdempotencyProperties properties;
+    private final PointCacheCodec codec;
+    private final IdempotencyCompletionNotifier completionNotifier;
+    private final byte[] processingPrefix;
 
-    public IdempotencyKeyRepository(RedissonClient redissonClient, IdempotencyProperties properties) {
+    public IdempotencyKeyRepository(RedissonClient redissonClient, IdempotencyProperties properties,
+                                    PointCacheCodec codec, IdempotencyCompletionNotifier completionNotifier) {
         this.redissonClient = redissonClient;
         this.properties = properties;
+        this.codec = codec;
+        this.completionNotifier = completionNotifier;
+        this.processingPrefix = encode(PROCESSING);
     }
 
+    /**
+     * 입장 (Redis 1회 왕복)
+     * - Redis 일시 오류 시 같은 토큰으로 제한 횟수만큼 재시도
+     *   (이전 시도가 실제로는 반영된 경우에도 ACQUIRED로 판정)
+     */
     @Override
-    public AcquireResult tryAcquire(String idempotencyKey) {
+    public Admission admit(String idempotencyKey) {
         String key = KEY_PREFIX + idempotencyKey;
-        RBucket<String> bucket = redissonClient.getBucket(key);
-
-        // PROCESSING 상태로 설정 시도 (짧은 TTL로 설정하여 처리 실패 시 자동 만료)
-        Duration processingTtl = Duration.ofSeconds(properties.getProcessingTtlSeconds());
-        boolean acquired = bucket.setIfAbsent(PROCESSING, processingTtl);
-        if (acquired) {
-            return AcquireResult.ACQUIRED;
-        }
+        byte[] processingValue = encode(PROCESSING + ":" + UUID.randomUUID());
+        byte[] processingTtlMs = Long.toString(properties.getProcessingTtlSeconds() * 1000)
+                .getBytes(StandardCharsets.US_ASCII);
 
-        // 이미 존재하는 경우, 상태 확인
-        String value = bucket.get();
-        if (value == null) {
-            // 다른 스레드가 삭제했거나 만료됨 → 재시도
-            return tryAcquire(idempotencyKey);
-        }
-        if (PROCESSING.equals(value)) {
-            return AcquireResult.PROCESSING;
+        int maxAttempts = Math.max(1, properties.getAdmissionMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return evalAdmission(key, processingValue, processingTtlMs);
+            } catch (RedisException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("멱등성 키 입장 실패, 재시도. key={}, attempt={}, error={}",
+                        idempotencyKey, attempt, e.getMessage());
+                backoff();
+            }
         }
-        return AcquireResult.ALREADY_COMPLETED;
     }
 
     @Override
     public void saveResult(String idempotencyKey, String result) {
         String key = KEY_PREFIX + idempotencyKey;
-        RBucket<String> bucket = redissonClient.getBucket(key);
+        RBucket<String> bucket = redissonClient.getBucket(key, codec);
         bucket.set(result, Duration.ofSeconds(properties.getTtlSeconds()));
+        completionNotifier.notifyCompleted(idempotencyKey);
     }
 
     @Override
-    public Optional<String> getResult(String idempotencyKey) {
+    public void saveResponse(String idempotencyKey, StoredResponse response) {
         String key = KEY_PREFIX + idempotencyKey;
-        RBucket<String> bucket = redissonClient.getBucket(key);
-        String value = bucket.get();
-        if (value == null || PROCESSING.equals(value)) {
+        RBucket<StoredResponse> bucket = redissonClient.getBucket(key, codec);
+        bucket.set(response, Duration.ofSeconds(properties.getTtlSeconds()));
+        completionNotifier.notifyCompleted(idempotencyKey);
+    }
+
+    /**
+     * 처리 중인 요청의 완료 대기 (최대 inProgressWaitMs)
+     * - 대기 등록 후 결과를 재확인 (등록 전에 완료된 경우 알림을 놓치지 않도록)
+     * - 알림 유실 시에도 타임아웃으로 종료
+     */
+    @Override
+    public Optional<StoredResponse> awaitResponse(String idempotencyKey) {
+        long waitMs = properties.getInProgressWaitMs();
+        if (waitMs <= 0) {
+            return Optional.empty();
+        }
+        CompletableFuture<Void> completion = completionNotifier.register(idempotencyKey);
+        try {
+            Optional<StoredResponse> stored = getResponse(idempotencyKey);
+            if (stored.isPresent()) {
+                return stored;
+            }
+            completion.get(waitMs, TimeUnit.MILLISECONDS);
+            return getResponse(idempotencyKey);
+        } catch (TimeoutException | ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return Optional.empty();
+        } finally {
+            completionNotifier.release(idempotencyKey, completion);
         }
-        return Optional.of(value);
+    }
+
+    /**
+     * 처리 중인 요청의 비동기 완료 대기 (최대 inProgressWaitMs)
+     * - 대기 등록 후 결과를 비동기 재확인 (등록 전에 완료된 경우 알림을 놓치지 않도록)
+     * - 완료 알림 또는 타임아웃 시 결과를 한 번 더 비동기 조회 (알림 유실 시에도 저장된 응답 반환)
+     * - 대기 동안 점유하는 스레드 없음 (조회는 Redisson 비동기 API, 타임아웃은 orTimeout)
+     */
+    @Override
+    public CompletableFuture<Optional<StoredResponse>> awaitResponseAsync(String idempotencyKey) {
+        long waitMs = properties.getInProgressWaitMs();
+        if (waitMs <= 0) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        CompletableFuture<Void> completion = completionNotifier.register(idempotencyKey);
+        return getResponseAsync(idempotencyKey)
+                .thenCompose(stored -> {
+                    if (stored.isPresent()) {
+                        return CompletableFuture.completedFuture(stored);
+                    }
+                    return completion.orTimeout(waitMs, TimeUnit.MILLISECONDS)
+                            .handle((ignored, timeout) -> null)
+                            .thenCompose(ignored -> getResponseAsync(idempotencyKey));
+                })
+                .whenComplete((stored, error) -> completionNotifier.release(idempotencyKey, completion));
+    }
+
+    @Override
+    public Optional<String> getResult(String idempotencyKey) {
+        return getResponse(idempotencyKey)
+                .map(response -> new String(response.body(), StandardCharsets.UTF_8));
     }
 
     @Override
     public void remove(String idempotencyKey) {
         String key = KEY_PREFIX + idempotencyKey;
-        redissonClient.getBucket(key).delete();
+        redissonClient.getBucket(key, codec).delete();
+        completionNotifier.notifyCompleted(idempotencyKey);
+    }
+
+    private Optional<StoredResponse> getResponse(String idempotencyKey) {
+        RBucket<Object> bucket = redissonClient.getBucket(KEY_PREFIX + idempotencyKey, codec);
+        return toCompletedResponse(bucket.get());
+    }
+
+    private CompletableFuture<Optional<StoredResponse>> getResponseAsync(String idempotencyKey) {
+        RBucket<Object> bucket = redissonClient.getBucket(KEY_PREFIX + idempotencyKey, codec);
+        return bucket.getAsync().toCompletableFuture()
+                .thenApply(IdempotencyKeyRepository::toCompletedResponse);
+    }
+
+    /**
+     * 저장된 값 → 완료된 응답 (PROCESSING이거나 없으면 empty)
+     */
+    private static Optional<StoredResponse> toCompletedResponse(Object value) {
+        if (value instanceof String result && result.startsWith(PROCESSING)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(toStoredResponse(value));
+    }
+
+    private Admission evalAdmission(String key, byte[] processingValue, byte[] processingTtlMs) {
+        List<Object> reply = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                key,
+                RScript.Mode.READ_WRITE,
+                ADMISSION_SCRIPT,
+                RScript.ReturnType.MULTI,
+                List.<Object>of(key),
+                processingValue, processingPrefix, processingTtlMs
+        );
+
+        long status = ((Number) reply.get(0)).longValue();
+        if (status == STATUS_ACQUIRED) {
+            return Admission.acquired();
+        }
+        if (status == STATUS_PROCESSING) {
+            return Admission.processing();
+        }
+        if (status == STATUS_COMPLETED) {
+            return Admission.completed(toStoredResponse(decode((byte[]) reply.get(1))));
+        }
+        throw new IllegalStateException("알 수 없는 멱등성 입장 결과: " + status);
+    }
+
+    private void backoff() {
+        try {
+            Thread.sleep(properties.getAdmissionRetryBackoffMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("멱등성 키 입장 재시도 중 인터럽트", e);
+        }
+    }
+
+    private byte[] encode(String value) {
+        try {
+            ByteBuf buf = codec.getValueEncoder().encode(value);
+            try {
+                return ByteBufUtil.getBytes(buf);
+            } finally {
+                buf.release();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("멱등성 값 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * 문자열로 저장된 결과(saveResult)는 JSON 응답으로 간주
+     */
+    private static StoredResponse toStoredResponse(Object value) {
+        if (value instanceof StoredResponse response) {
+            return response;
+        }
+        if (value instanceof String result) {
+            return StoredResponse.json(result.getBytes(StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    private Object decode(byte[] bytes) {
+        try {
+            return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(bytes), new State());
+        } catch (IOException e) {
+            throw new IllegalStateException("멱등성 값 디코딩 실패", e);
+        }
     }
 }
@@ -24,4 +24,32 @@ public class IdempotencyProperties {
      * - 요청 처리 중 서버 장애 시 자동 만료되어 재시도 가능하도록 함
      */
     private long processingTtlSeconds = 30;
+
+    /**
+     * 입장 스크립트 최대 시도 횟수
+     * - 기본값: 3
+     * - Redis 일시 오류(타임아웃, 연결 끊김) 시에만 재시도
+     */
+    private int admissionMaxAttempts = 3;
+
+    /**
+     * 입장 스크립트 재시도 간격 (밀리초)
+     * - 기본값: 20ms
+     */
+    private long admissionRetryBackoffMs = 20;
+
+    /**
+     * DB 멱등성 기록 보관 기간 (시간)
+     * - 기본값: 24시간
+     * - 만료된 기록은 배치(idempotencyPurgeJob)에서 삭제
+     */
+    private long recordRetentionHours = 24;
+
+    /**
+     * 처리 중인 요청과 같은 키로 재요청 시 완료 대기 시간 (밀리초)
+     * - 기본값: 0 (대기하지 않고 즉시 처리 중 응답)
+     * - 대기 중 원 요청이 완료되면 저장된 결과를 바로 반환
+     * - 요청 스레드를 반환하고 완료 알림/타임아웃 Future로 대기하므로 대기 중인 요청이 스레드를 점유하지 않음
+     */
+    private long inProgressWaitMs = 0;
 }
@@ -0,0 +1,143 @@
+package com.musinsa.pointsystem.infra.idempotency;
+
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * DB 기반 멱등성 기록 구현체 (idempotency_record)
+ * - 쓰기 트랜잭션 시작 시(TransactionExecutionListener) 현재 스레드에 멱등성 키가 있으면
+ *   커밋 직전(beforeCommit) INSERT 등록 → 비즈니스 변경과 원자적으로 커밋
+ * - 유니크 키 충돌 시 트랜잭션 롤백 + DuplicateRecordException
+ * - 응답 본문은 커밋 이후 비동기 UPDATE (가상 스레드)
+ * - 조회/응답 저장은 트랜잭션 밖에서 실행 → Primary DB 사용 (복제 지연 없음)
+ */
+@Repository
+@Slf4j
+public class IdempotencyRecordRepository implements IdempotencyRecordPort, TransactionExecutionListener {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_record (idempotency_key, created_at, expires_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT status_code, content_type, response_body FROM idempotency_record WHERE idempotency_key = ?";
+    private static final String UPDATE_RESPONSE_SQL =
+            "UPDATE idempotency_record SET status_code = ?, content_type = ?, response_body = ? " +
+            "WHERE idempotency_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+    private final Clock clock;
+    private final ExecutorService responseWriter = Executors.newVirtualThreadPerTaskExecutor();
+
+    public IdempotencyRecordRepository(JdbcTemplate jdbcTemplate, IdempotencyProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void begin(String idempotencyKey) {
+        IdempotencyContext.begin(idempotencyKey);
+    }
+
+    @Override
+    public void end() {
+        IdempotencyContext.end();
+    }
+
+    @Override
+    public String currentKey() {
+        IdempotencyContext context = IdempotencyContext.current();
+        return context != null ? context.idempotencyKey() : null;
+    }
+
+    /**
+     * 새 쓰기 트랜잭션 시작 시 커밋 직전 기록 등록
+     */
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        IdempotencyContext context = IdempotencyContext.current();
+        if (beginFailure != null || context == null || context.isRecorded()
+                || transaction.isReadOnly() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insert(context.idempotencyKey());
+            }
+
+            @Override
+            public void afterCommit() {
+                context.markRecorded();
+            }
+        });
+    }
+
+    @Override
+    public void record(String idempotencyKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("활성 트랜잭션 없이 멱등성 키를 기록할 수 없습니다: " + idempotencyKey);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insert(idempotencyKey);
+            }
+        });
+    }
+
+    @Override
+    public Admission find(String idempotencyKey) {
+        List<Admission> records = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            byte[] body = rs.getBytes("response_body");
+            if (body == null) {
+                return Admission.completed(null);
+            }
+            return Admission.completed(new StoredResponse(
+                    rs.getInt("status_code"), rs.getString("content_type"), body));
+        }, idempotencyKey);
+        return records.isEmpty() ? Admission.acquired() : records.get(0);
+    }
+
+    @Override
+    public void saveResponseAsync(String idempotencyKey, StoredResponse response) {
+        responseWriter.execute(() -> {
+            try {
+                jdbcTemplate.update(UPDATE_RESPONSE_SQL,
+                        response.status(), response.contentType(), response.body(), idempotencyKey);
+            } catch (RuntimeException e) {
+                log.warn("멱등성 응답 DB 저장 실패. key={}, error={}", idempotencyKey, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        responseWriter.close();
+    }
+
+    private void insert(String idempotencyKey) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            jdbcTemplate.update(INSERT_SQL, idempotencyKey, now, now.plusHours(properties.getRecordRetentionHours()));
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateRecordException(idempotencyKey);
+        }
+    }
+}
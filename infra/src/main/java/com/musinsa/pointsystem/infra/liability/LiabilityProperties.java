@@ -0,0 +1,42 @@
+package com.musinsa.pointsystem.infra.liability;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "liability")
+@Getter
+@Setter
+public class LiabilityProperties {
+
+    /**
+     * 부채 카운터 스트라이프 수
+     * - 기본값: 16
+     * - 변동분은 회원 ID 해시로 스트라이프 행을 골라 누적 → 동시 트랜잭션의 같은 행 잠금 경합 분산
+     * - 줄여도 기존 스트라이프 행은 합계에 계속 포함됨
+     */
+    private int stripes = 16;
+
+    /**
+     * 만료 스윕 활성화 여부
+     * - 기본값: true
+     * - 여러 Pod에서 실행해도 스윕 기준 행 잠금으로 구간이 중복 차감되지 않음
+     */
+    private boolean sweepEnabled = true;
+
+    /**
+     * 만료 스윕 실행 간격 (밀리초)
+     * - 기본값: 60000ms
+     */
+    private long sweepIntervalMs = 60000;
+
+    /**
+     * 만료 스윕 지연 (초)
+     * - 기본값: 60초
+     * - 현재 시각보다 이만큼 이전에 만료된 적립건까지만 차감
+     * - 만료 직전 적립건을 사용 중인 트랜잭션과 스윕이 겹쳐 이중 차감되는 것을 방지
+     */
+    private long sweepLagSeconds = 60;
+}
@@ -0,0 +1,148 @@
+package com.musinsa.pointsystem.infra.liability;
+
+import com.musinsa.pointsystem.domain.model.PointLiability;
+import com.musinsa.pointsystem.domain.repository.PointLiabilityRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 포인트 부채 카운터 구현체 (point_liability_stripe, point_liability_sweep)
+ * - 카운터 = 취소되지 않고 swept_until 이후 만료되는 적립건의 available_amount 합계
+ * - 변동분은 회원 ID 해시로 고른 스트라이프 행에 누적 (호출 측 트랜잭션 참여, 단일 행 경합 분산)
+ * - 조회는 스트라이프 행 합계 (point_ledger 전체 SUM 없음)
+ * - 만료 스윕: swept_until 행을 잠그고 [swept_until, until) 구간에 만료된 적립건 잔액을 차감 후 기준 이동
+ */
+@Repository
+public class PointLiabilityCounterRepository implements PointLiabilityRepository {
+
+    static final int SWEEP_ROW_ID = 1;
+    /** 스윕/보정 차감을 누적하는 스트라이프 */
+    static final int ADJUSTMENT_STRIPE = 0;
+
+    private static final String UPDATE_STRIPE_SQL =
+            "UPDATE point_liability_stripe SET amount = amount + ?, updated_at = ? WHERE stripe = ?";
+    private static final String INSERT_STRIPE_SQL =
+            "INSERT INTO point_liability_stripe (stripe, amount, updated_at) VALUES (?, ?, ?)";
+    private static final String SUM_STRIPES_SQL =
+            "SELECT COALESCE(SUM(amount), 0) FROM point_liability_stripe";
+    private static final String SELECT_SWEPT_UNTIL_SQL =
+            "SELECT swept_until FROM point_liability_sweep WHERE id = ?";
+    private static final String LOCK_SWEPT_UNTIL_SQL =
+            "SELECT swept_until FROM point_liability_sweep WHERE id = ? FOR UPDATE";
+    private static final String INSERT_SWEEP_SQL =
+            "INSERT INTO point_liability_sweep (id, swept_until, updated_at) VALUES (?, ?, ?)";
+    private static final String UPDATE_SWEEP_SQL =
+            "UPDATE point_liability_sweep SET swept_until = ?, updated_at = ? WHERE id = ?";
+    private static final String SUM_EXPIRED_SQL =
+            "SELECT COALESCE(SUM(available_amount), 0) FROM point_ledger " +
+            "WHERE is_canceled = FALSE AND expired_at >= ? AND expired_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LiabilityProperties properties;
+    private final Clock clock;
+
+    public PointLiabilityCounterRepository(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            LiabilityProperties properties,
+            Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void add(UUID memberId, long delta) {
+        if (delta != 0) {
+            addToStripe(Math.floorMod(memberId.hashCode(), properties.getStripes()), delta);
+        }
+    }
+
+    @Override
+    public void removeCanceled(UUID memberId, long amount, LocalDateTime expiredAt) {
+        LocalDateTime sweptUntil = findSweptUntil();
+        if (sweptUntil != null && expiredAt.isBefore(sweptUntil)) {
+            return;
+        }
+        add(memberId, -amount);
+    }
+
+    @Override
+    public PointLiability getLiability() {
+        return new PointLiability(
+                jdbcTemplate.queryForObject(SUM_STRIPES_SQL, Long.class),
+                findSweptUntil());
+    }
+
+    /**
+     * 보정분 누적 (호출 측 트랜잭션 참여, 배치 정합성 보정용)
+     */
+    public void adjust(long delta) {
+        if (delta != 0) {
+            addToStripe(ADJUSTMENT_STRIPE, delta);
+        }
+    }
+
+    /**
+     * 만료 스윕 (별도 트랜잭션)
+     * - 최초 실행 시 기준 시각만 기록 (이전 만료분은 배치 정합성 보정이 반영)
+     * @param until 이 시각 이전에 만료된 적립건까지 차감
+     * @return 차감한 금액
+     */
+    long sweepExpired(LocalDateTime until) {
+        Long swept = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<LocalDateTime> rows = jdbcTemplate.queryForList(
+                    LOCK_SWEPT_UNTIL_SQL, LocalDateTime.class, SWEEP_ROW_ID);
+            if (rows.isEmpty()) {
+                try {
+                    jdbcTemplate.update(INSERT_SWEEP_SQL, SWEEP_ROW_ID, until, now);
+                } catch (DuplicateKeyException e) {
+                    // 다른 Pod가 먼저 기록
+                }
+                return 0L;
+            }
+            LocalDateTime sweptUntil = rows.get(0);
+            if (!until.isAfter(sweptUntil)) {
+                return 0L;
+            }
+            long expired = jdbcTemplate.queryForObject(SUM_EXPIRED_SQL, Long.class, sweptUntil, until);
+            adjust(-expired);
+            jdbcTemplate.update(UPDATE_SWEEP_SQL, until, now, SWEEP_ROW_ID);
+            return expired;
+        });
+        return swept != null ? swept : 0L;
+    }
+
+    private LocalDateTime findSweptUntil() {
+        List<LocalDateTime> rows = jdbcTemplate.queryForList(
+                SELECT_SWEPT_UNTIL_SQL, LocalDateTime.class, SWEEP_ROW_ID);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 스트라이프 누적 (행이 없으면 생성, 동시 생성 충돌 시 UPDATE 재시도)
+     */
+    private void addToStripe(int stripe, long delta) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (jdbcTemplate.update(UPDATE_STRIPE_SQL, delta, now, stripe) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_STRIPE_SQL, stripe, delta, now);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_STRIPE_SQL, delta, now, stripe);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.musinsa.pointsystem.infra.liability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 부채 만료 스윕
+ * - 주기적으로 마지막 스윕 이후 만료된 적립건의 잔액을 부채 카운터에서 차감
+ * - 현재 시각 - sweepLagSeconds까지만 차감 (만료 직전 적립건을 사용 중인 트랜잭션과 겹치지 않도록)
+ */
+@Component
+@Slf4j
+public class PointLiabilityExpirySweeper {
+
+    private final PointLiabilityCounterRepository liabilityRepository;
+    private final LiabilityProperties properties;
+    private final Clock clock;
+    private final Counter expiredAmountCounter;
+
+    public PointLiabilityExpirySweeper(
+            PointLiabilityCounterRepository liabilityRepository,
+            LiabilityProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.liabilityRepository = liabilityRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.expiredAmountCounter = Counter.builder("point.liability.expired.amount")
+                .description("만료 스윕으로 차감한 포인트 금액")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${liability.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!properties.isSweepEnabled()) {
+            return;
+        }
+        try {
+            sweepOnce();
+        } catch (RuntimeException e) {
+            log.warn("포인트 부채 만료 스윕 실패. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 차감한 금액
+     */
+    public long sweepOnce() {
+        LocalDateTime until = LocalDateTime.now(clock).minusSeconds(properties.getSweepLagSeconds());
+        long expired = liabilityRepository.sweepExpired(until);
+        if (expired > 0) {
+            expiredAmountCounter.increment(expired);
+            log.info("포인트 부채 만료 차감. amount={}, sweptUntil={}", expired, until);
+        }
+        return expired;
+    }
+}
@@ -19,7 +19,9 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Aspect
@@ -28,6 +30,12 @@ import java.util.concurrent.TimeUnit;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class DistributedLockAspect {
 
+    /**
+     * 현재 스레드가 보유 중인 락 키
+     * - 같은 락을 잡은 메서드 안에서 다시 호출되면(다건 처리 UseCase → 단건 UseCase) Redis 왕복 없이 그대로 실행
+     */
+    private static final ThreadLocal<Set<String>> HELD_LOCK_KEYS = ThreadLocal.withInitial(HashSet::new);
+
     private final RedissonClient redissonClient;
     private final DistributedLockProperties properties;
     private final ExpressionParser parser = new SpelExpressionParser();
@@ -79,6 +87,10 @@ public class DistributedLockAspect {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         DistributedLock distributedLock = signature.getMethod().getAnnotation(DistributedLock.class);
         String lockKey = parseKey(joinPoint, distributedLock.key());
+        Set<String> heldLockKeys = HELD_LOCK_KEYS.get();
+        if (heldLockKeys.contains(lockKey)) {
+            return joinPoint.proceed();
+        }
 
         // 어노테이션 값이 기본값이면 properties 사용, 아니면 어노테이션 값 사용
         long waitTime = distributedLock.waitTime() != 3000 ? distributedLock.waitTime() : properties.getWaitTimeMs();
@@ -117,9 +129,12 @@ public class DistributedLockAspect {
                     log.debug("락 획득 성공. lockKey={}, attempt={}", lockKey, attempt + 1);
                     lockSuccessCounter.increment();
                     long holdStartTime = System.currentTimeMillis();
+                    Set<String> heldLockKeys = HELD_LOCK_KEYS.get();
+                    heldLockKeys.add(lockKey);
                     try {
                         return joinPoint.proceed();
                     } finally {
+                        heldLockKeys.remove(lockKey);
                         long holdDuration = System.currentTimeMillis() - holdStartTime;
                         recordHoldTime(lockKey, holdDuration);
                         releaseLock(lock, lockKey);
@@ -0,0 +1,50 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 로컬 파일 Sink
+ * - outbox.file-sink-path 지정 시에만 등록
+ * - 전달된 이벤트를 JSON Lines 형식으로 파일 끝에 추가 (로컬 개발/검증용)
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "file-sink-path")
+public class FilePointEventSink implements PointEventSink {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+
+    public FilePointEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        this.path = Path.of(properties.getFileSinkPath());
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxEvent> events) {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxEvent event : events) {
+                writer.write(toJson(event));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Outbox 파일 Sink 기록 실패. path=" + path, e);
+        }
+    }
+
+    private String toJson(OutboxEvent event) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+}
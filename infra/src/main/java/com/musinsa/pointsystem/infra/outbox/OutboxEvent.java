@@ -0,0 +1,19 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox에 기록된 포인트 이벤트
+ * - id: 전달 순서 및 Sink 측 중복 제거 기준 (at-least-once 전달)
+ * - payload: PointEventSerializer로 직렬화한 JSON
+ */
+public record OutboxEvent(
+        long id,
+        String eventType,
+        UUID memberId,
+        String payload,
+        LocalDateTime createdAt,
+        int attempts
+) {
+}
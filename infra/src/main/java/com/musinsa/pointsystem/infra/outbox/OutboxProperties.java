@@ -0,0 +1,74 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+
+    /**
+     * 이벤트 Outbox 기록 활성화 여부
+     * - 기본값: true
+     * - 비활성화 시 Spring 이벤트만 발행 (point_event_outbox 미기록)
+     * - 등록된 PointEventSink가 없으면 활성화 여부와 무관하게 미기록
+     */
+    private boolean enabled = true;
+
+    /**
+     * 릴레이 활성화 여부
+     * - 기본값: true
+     * - 여러 Pod에서 동시에 실행해도 행 단위 점유(SKIP LOCKED)로 중복 점유 없음
+     */
+    private boolean relayEnabled = true;
+
+    /**
+     * 릴레이 실행 간격 (밀리초)
+     * - 기본값: 1000ms
+     */
+    private long relayIntervalMs = 1000;
+
+    /**
+     * 1회 점유 건수
+     * - 기본값: 100
+     */
+    private int batchSize = 100;
+
+    /**
+     * 릴레이 1회 실행 시 최대 배치 수
+     * - 기본값: 10
+     * - 적체 시 한 번에 batchSize * maxBatchesPerRun 건까지 처리
+     */
+    private int maxBatchesPerRun = 10;
+
+    /**
+     * 점유 유지 시간 (밀리초)
+     * - 기본값: 30000ms
+     * - 릴레이가 전달 중 종료되면 점유 만료 후 다른 릴레이가 재점유
+     */
+    private long leaseMs = 30000;
+
+    /**
+     * 전달 실패 시 재시도 대기 시간 (밀리초)
+     * - 기본값: 5000ms
+     */
+    private long retryBackoffMs = 5000;
+
+    /**
+     * 이벤트별 최대 전달 시도 횟수
+     * - 기본값: 20 (retryBackoffMs 기본값 기준 약 100초)
+     * - 도달 시 point_event_outbox_dead_letter로 이관 (실패한 Sink 이름/사유 기록, 수동 재처리)
+     */
+    private int maxAttempts = 20;
+
+    /**
+     * 파일 Sink 경로
+     * - 기본값: 없음 (파일 Sink 미등록)
+     * - 지정 시 전달된 이벤트를 JSON Lines 형식으로 추가 기록 (로컬 확인용)
+     */
+    private String fileSinkPath;
+}
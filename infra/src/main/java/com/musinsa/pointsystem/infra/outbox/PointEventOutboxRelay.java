@@ -0,0 +1,199 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import com.musinsa.pointsystem.infra.outbox.PointEventOutboxRepository.DeadLetter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 포인트 이벤트 Outbox 릴레이
+ * - 주기적으로 Outbox 이벤트를 배치 단위로 점유 → 등록된 모든 Sink에 전달 → 삭제
+ * - Sink별 전달: 실패한 Sink가 있으면 성공한 Sink의 전달 기록을 남기고, 재시도 시 아직 전달하지 못한 Sink에만 전달
+ * - 전달 실패 시 점유 해제 후 retryBackoffMs 뒤 재시도, 전달 중 종료 시 점유 만료(leaseMs) 후 재점유
+ * - 시도 횟수가 maxAttempts에 도달한 이벤트는 전달 포기 테이블로 이관 (뒤 이벤트 전달을 막지 않음)
+ * - 요청 스레드와 분리되어 Sink 지연/장애가 API 응답 시간에 영향 없음
+ */
+@Component
+@Slf4j
+public class PointEventOutboxRelay {
+
+    private final PointEventOutboxRepository outboxRepository;
+    private final List<PointEventSink> sinks;
+    private final OutboxProperties properties;
+    private final Clock clock;
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetterCounter;
+
+    public PointEventOutboxRelay(
+            PointEventOutboxRepository outboxRepository,
+            List<PointEventSink> sinks,
+            OutboxProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.properties = properties;
+        this.clock = clock;
+        this.deliveredCounter = Counter.builder("point.outbox.relay")
+                .tag("result", "delivered")
+                .description("Outbox 이벤트 전달 건수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("point.outbox.relay")
+                .tag("result", "failed")
+                .description("Outbox 이벤트 전달 실패 건수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("point.outbox.relay")
+                .tag("result", "dead_letter")
+                .description("Outbox 이벤트 전달 포기 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기 실행 (적체 시 최대 maxBatchesPerRun 배치까지 연속 처리)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:1000}")
+    public void relay() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        try {
+            for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+                if (relayOnce() < properties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox 릴레이 실패. error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 1배치 점유 및 전달
+     * @return 점유한 이벤트 수
+     */
+    public int relayOnce() {
+        String owner = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEvent> events = outboxRepository.claim(
+                owner, properties.getBatchSize(), now.plus(Duration.ofMillis(properties.getLeaseMs())));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 첫 시도 이벤트만 있으면 전달 기록이 있을 수 없으므로 조회 생략
+        Map<String, Set<Long>> delivered = events.stream().anyMatch(event -> event.attempts() > 1)
+                ? outboxRepository.findDeliveries(events)
+                : Map.of();
+        Map<String, List<OutboxEvent>> succeeded = new HashMap<>();
+        Map<Long, SinkFailure> failures = new HashMap<>();
+        for (PointEventSink sink : sinks) {
+            Set<Long> done = delivered.getOrDefault(sink.name(), Set.of());
+            List<OutboxEvent> pending = done.isEmpty()
+                    ? events
+                    : events.stream().filter(event -> !done.contains(event.id())).toList();
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                sink.deliver(pending);
+                succeeded.put(sink.name(), pending);
+            } catch (RuntimeException e) {
+                log.warn("Outbox 이벤트 전달 실패. sink={}, count={}, firstId={}, error={}",
+                        sink.name(), pending.size(), pending.get(0).id(), e.getMessage());
+                pending.forEach(event -> failures.computeIfAbsent(event.id(), id -> new SinkFailure())
+                        .add(sink.name(), e.getMessage()));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            handleFailures(owner, events, succeeded, failures);
+            return events.size();
+        }
+
+        int deleted = outboxRepository.delete(owner, events);
+        if (deleted < events.size()) {
+            // 전달 중 점유 만료 → 다른 릴레이가 재점유하여 중복 전달될 수 있음
+            log.warn("Outbox 점유 만료 후 전달 완료. claimed={}, deleted={}", events.size(), deleted);
+        }
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteDeliveries(events);
+        }
+        deliveredCounter.increment(events.size());
+        return events.size();
+    }
+
+    /**
+     * 일부 Sink 실패 처리
+     * - 모든 Sink에 전달된 이벤트: 삭제
+     * - 실패한 이벤트: 성공한 Sink의 전달 기록 저장 후 점유 해제, 시도 횟수 한도 도달 시 전달 포기 테이블로 이관
+     */
+    private void handleFailures(String owner, List<OutboxEvent> events,
+                                Map<String, List<OutboxEvent>> succeeded, Map<Long, SinkFailure> failures) {
+        List<OutboxEvent> completed = new ArrayList<>();
+        List<OutboxEvent> retry = new ArrayList<>();
+        List<DeadLetter> deadLetters = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            SinkFailure failure = failures.get(event.id());
+            if (failure == null) {
+                completed.add(event);
+            } else if (event.attempts() >= properties.getMaxAttempts()) {
+                deadLetters.add(new DeadLetter(event, failure.sinks, failure.lastError));
+            } else {
+                retry.add(event);
+            }
+        }
+        failedCounter.increment(failures.size());
+
+        if (!completed.isEmpty()) {
+            outboxRepository.delete(owner, completed);
+            outboxRepository.deleteDeliveries(completed);
+            deliveredCounter.increment(completed.size());
+        }
+        Map<String, List<OutboxEvent>> toRecord = new HashMap<>();
+        succeeded.forEach((sink, delivered) -> {
+            List<OutboxEvent> failed = delivered.stream().filter(event -> failures.containsKey(event.id())).toList();
+            if (!failed.isEmpty()) {
+                toRecord.put(sink, failed);
+            }
+        });
+        outboxRepository.recordDeliveries(toRecord);
+        if (!retry.isEmpty()) {
+            outboxRepository.release(owner, retry,
+                    LocalDateTime.now(clock).plus(Duration.ofMillis(properties.getRetryBackoffMs())));
+        }
+        if (!deadLetters.isEmpty()) {
+            int moved = outboxRepository.deadLetter(owner, deadLetters, LocalDateTime.now(clock));
+            deadLetterCounter.increment(moved);
+            log.error("Outbox 이벤트 전달 포기, 전달 포기 테이블로 이관. count={}, firstId={}, sinks={}",
+                    moved, deadLetters.get(0).event().id(), deadLetters.get(0).failedSinks());
+        }
+    }
+
+    /**
+     * 이벤트별 실패한 Sink 이름과 마지막 실패 사유
+     */
+    private static final class SinkFailure {
+
+        private final List<String> sinks = new ArrayList<>();
+        private String lastError;
+
+        private void add(String sink, String error) {
+            sinks.add(sink);
+            lastError = sink + ": " + error;
+        }
+    }
+}
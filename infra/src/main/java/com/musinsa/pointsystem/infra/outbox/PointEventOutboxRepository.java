@@ -0,0 +1,242 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 포인트 이벤트 Outbox 저장소 (point_event_outbox)
+ * - append: 호출 측 트랜잭션에 참여 → 비즈니스 변경과 원자적으로 커밋 (롤백 시 이벤트도 없음)
+ * - claim: 점유 가능한 행을 FOR UPDATE SKIP LOCKED로 잠그고 lease_owner/lease_until 갱신 후 커밋
+ *   → 동시에 실행되는 릴레이끼리 서로 다른 행을 점유 (잠금 대기 없음)
+ * - 전달 완료 행은 삭제 (테이블에는 미전달 이벤트만 유지)
+ * - 일부 Sink만 실패하면 성공한 Sink의 전달 기록(point_event_outbox_delivery)을 남겨 재시도 시 제외
+ * - 재시도 한도 초과 행은 전달 포기 테이블(point_event_outbox_dead_letter)로 이관
+ */
+@Repository
+public class PointEventOutboxRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO point_event_outbox (event_type, member_id, payload, created_at, lease_until) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_CLAIMABLE_SQL =
+            "SELECT id, event_type, member_id, payload, created_at, attempts FROM point_event_outbox " +
+            "WHERE lease_until <= ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_SQL =
+            "UPDATE point_event_outbox SET lease_owner = ?, lease_until = ?, attempts = attempts + 1 WHERE id IN (%s)";
+    private static final String DELETE_SQL =
+            "DELETE FROM point_event_outbox WHERE lease_owner = ? AND id IN (%s)";
+    private static final String RELEASE_SQL =
+            "UPDATE point_event_outbox SET lease_owner = NULL, lease_until = ? WHERE lease_owner = ? AND id IN (%s)";
+    private static final String SELECT_DELIVERIES_SQL =
+            "SELECT event_id, sink FROM point_event_outbox_delivery WHERE event_id IN (%s)";
+    private static final String INSERT_DELIVERY_SQL =
+            "INSERT INTO point_event_outbox_delivery (event_id, sink) VALUES (?, ?)";
+    private static final String DELETE_DELIVERIES_SQL =
+            "DELETE FROM point_event_outbox_delivery WHERE event_id IN (%s)";
+    private static final String INSERT_DEAD_LETTER_SQL =
+            "INSERT INTO point_event_outbox_dead_letter " +
+            "(id, event_type, member_id, payload, created_at, attempts, failed_sinks, last_error, dead_at) " +
+            "SELECT id, event_type, member_id, payload, created_at, attempts, ?, ?, ? FROM point_event_outbox " +
+            "WHERE lease_owner = ? AND id = ?";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            bytesToUuid(rs.getBytes("member_id")),
+            rs.getString("payload"),
+            rs.getObject("created_at", LocalDateTime.class),
+            // 점유 시 증가하므로 이번 시도 포함
+            rs.getInt("attempts") + 1
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PointEventSerializer serializer;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    public PointEventOutboxRepository(
+            JdbcTemplate jdbcTemplate,
+            PointEventSerializer serializer,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.serializer = serializer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /**
+     * 이벤트 기록 (호출 측 트랜잭션 참여)
+     */
+    public void append(PointEvent event) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.update(INSERT_SQL,
+                serializer.eventType(event),
+                uuidToBytes(event.memberId()),
+                serializer.serialize(event),
+                now,
+                now);
+    }
+
+    /**
+     * 이벤트 일괄 기록 (호출 측 트랜잭션 참여, JDBC 배치 INSERT)
+     */
+    public void appendAll(List<? extends PointEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, serializer.eventType(event));
+            ps.setBytes(2, uuidToBytes(event.memberId()));
+            ps.setString(3, serializer.serialize(event));
+            ps.setObject(4, now);
+            ps.setObject(5, now);
+        });
+    }
+
+    /**
+     * 점유 가능한 이벤트를 최대 limit건 점유 (별도 트랜잭션)
+     * @param owner 점유 ID (전달 완료/해제 시 같은 ID로 호출)
+     * @param leaseUntil 점유 만료일시
+     */
+    public List<OutboxEvent> claim(String owner, int limit, LocalDateTime leaseUntil) {
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = jdbcTemplate.query(
+                    SELECT_CLAIMABLE_SQL, ROW_MAPPER, LocalDateTime.now(clock), limit);
+            if (!events.isEmpty()) {
+                jdbcTemplate.update(inClause(LEASE_SQL, events.size()),
+                        params(ids(events), owner, leaseUntil));
+            }
+            return events;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    /**
+     * 전달 완료 이벤트 삭제 (점유가 유지된 행만)
+     * @return 삭제 건수
+     */
+    public int delete(String owner, List<OutboxEvent> events) {
+        return jdbcTemplate.update(inClause(DELETE_SQL, events.size()), params(ids(events), owner));
+    }
+
+    /**
+     * 전달 실패 이벤트 점유 해제 (retryAt 이후 재점유)
+     */
+    public void release(String owner, List<OutboxEvent> events, LocalDateTime retryAt) {
+        jdbcTemplate.update(inClause(RELEASE_SQL, events.size()), params(ids(events), retryAt, owner));
+    }
+
+    /**
+     * Sink별 전달 완료 이벤트 ID 조회
+     * @return Sink 이름 → 전달 완료 이벤트 ID
+     */
+    public Map<String, Set<Long>> findDeliveries(List<OutboxEvent> events) {
+        Map<String, Set<Long>> deliveries = new HashMap<>();
+        jdbcTemplate.query(inClause(SELECT_DELIVERIES_SQL, events.size()), rs -> {
+            deliveries.computeIfAbsent(rs.getString("sink"), sink -> new HashSet<>()).add(rs.getLong("event_id"));
+        }, ids(events).toArray());
+        return deliveries;
+    }
+
+    /**
+     * Sink별 전달 완료 기록 (재시도 시 해당 Sink 제외)
+     * @param deliveries Sink 이름 → 전달 완료 이벤트
+     */
+    public void recordDeliveries(Map<String, List<OutboxEvent>> deliveries) {
+        List<Object[]> rows = new ArrayList<>();
+        deliveries.forEach((sink, events) -> events.forEach(event -> rows.add(new Object[]{event.id(), sink})));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DELIVERY_SQL, rows);
+        }
+    }
+
+    /**
+     * 전달 기록 삭제 (이벤트 삭제/이관 후 정리)
+     */
+    public void deleteDeliveries(List<OutboxEvent> events) {
+        jdbcTemplate.update(inClause(DELETE_DELIVERIES_SQL, events.size()), ids(events).toArray());
+    }
+
+    /**
+     * 재시도 한도를 넘긴 이벤트를 전달 포기 테이블로 이관 (점유가 유지된 행만, 별도 트랜잭션)
+     * @return 이관 건수
+     */
+    public int deadLetter(String owner, List<DeadLetter> deadLetters, LocalDateTime now) {
+        List<OutboxEvent> events = deadLetters.stream().map(DeadLetter::event).toList();
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(INSERT_DEAD_LETTER_SQL, deadLetters, deadLetters.size(), (ps, deadLetter) -> {
+                ps.setString(1, String.join(",", deadLetter.failedSinks()));
+                ps.setString(2, truncate(deadLetter.lastError()));
+                ps.setObject(3, now);
+                ps.setString(4, owner);
+                ps.setLong(5, deadLetter.event().id());
+            });
+            int deleted = delete(owner, events);
+            deleteDeliveries(events);
+            return deleted;
+        });
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * 전달 포기 대상
+     * @param failedSinks 전달하지 못한 Sink 이름
+     * @param lastError 마지막 실패 사유
+     */
+    public record DeadLetter(OutboxEvent event, List<String> failedSinks, String lastError) {
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::id).toList();
+    }
+
+    private static String inClause(String sql, int size) {
+        return sql.formatted(String.join(", ", Collections.nCopies(size, "?")));
+    }
+
+    private static Object[] params(List<Long> ids, Object... leading) {
+        List<Object> params = new ArrayList<>(leading.length + ids.size());
+        Collections.addAll(params, leading);
+        params.addAll(ids);
+        return params.toArray();
+    }
+
+    private static byte[] uuidToBytes(UUID uuid) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return bb.array();
+    }
+
+    private static UUID bytesToUuid(byte[] bytes) {
+        ByteBuffer bb = ByteBuffer.wrap(bytes);
+        return new UUID(bb.getLong(), bb.getLong());
+    }
+}
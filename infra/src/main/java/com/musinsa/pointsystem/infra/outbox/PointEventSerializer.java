@@ -0,0 +1,52 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 이벤트 JSON 직렬화
+ * - eventType: 이벤트 클래스 단순 이름 (PointEvent 허용 하위 타입 기준)
+ */
+@Component
+public class PointEventSerializer {
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Arrays.stream(PointEvent.class.getPermittedSubclasses())
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ObjectMapper objectMapper;
+
+    public PointEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String eventType(PointEvent event) {
+        return event.getClass().getSimpleName();
+    }
+
+    public String serialize(PointEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포인트 이벤트 직렬화 실패. eventType=" + eventType(event), e);
+        }
+    }
+
+    public PointEvent deserialize(OutboxEvent event) {
+        Class<?> type = EVENT_TYPES.get(event.eventType());
+        if (type == null) {
+            throw new IllegalArgumentException("알 수 없는 이벤트 유형: " + event.eventType());
+        }
+        try {
+            return (PointEvent) objectMapper.readValue(event.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("포인트 이벤트 역직렬화 실패. id=" + event.id(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 전달 대상
+ * - 구현체를 Bean으로 등록하면 릴레이가 전달 (알림, 통계 적재, 외부 시스템 연동 등)
+ * - Sink별로 전달: 한 Sink가 실패해도 성공한 Sink에는 전달 기록을 남겨 재시도 시 다시 전달하지 않음
+ * - 전달은 at-least-once: 전달 후 기록 전 종료, 점유 만료 시 같은 이벤트가 다시 전달될 수 있으므로
+ *   OutboxEvent.id 기준 멱등 처리 필수 (예: MemberPointDailySink의 반영 기록)
+ * - 예외를 던지면 해당 Sink에 전달한 배치 전체가 재시도 대상 (outbox.max-attempts 초과 시 전달 포기 테이블로 이관)
+ */
+public interface PointEventSink {
+
+    /**
+     * 이벤트 배치 전달 (id 오름차순)
+     */
+    void deliver(List<OutboxEvent> events);
+
+    /**
+     * Sink 이름 (전달 기록 키, 최대 100자)
+     * - 배포 간 바뀌지 않아야 함 (바뀌면 전달 기록이 없는 것으로 보고 재전달)
+     * - 기본값: 클래스 이름 (프록시 제외)
+     */
+    default String name() {
+        return ClassUtils.getUserClass(getClass()).getSimpleName();
+    }
+}
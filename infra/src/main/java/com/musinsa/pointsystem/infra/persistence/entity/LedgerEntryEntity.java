@@ -6,18 +6,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * 적립건 변동 이력 엔티티 (entries 기반)
+ * - Append-only이므로 조회하지 않은 엔티티는 항상 신규 (Persistable)
+ *   → 저장 시 merge의 존재 확인 SELECT 없이 INSERT, hibernate.jdbc.batch_size 단위 배치
  */
 @Entity
 @Table(name = "ledger_entry")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class LedgerEntryEntity {
+public class LedgerEntryEntity implements Persistable<UUID> {
 
     @Id
     @Column(columnDefinition = "BINARY(16)")
@@ -39,6 +42,9 @@ public class LedgerEntryEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Transient
+    private boolean isNew = true;
+
     @Builder
     public LedgerEntryEntity(UUID id, UUID ledgerId, EntryType type, Long amount,
                               String orderId, LocalDateTime createdAt) {
@@ -49,4 +55,15 @@ public class LedgerEntryEntity {
         this.orderId = orderId;
         this.createdAt = createdAt;
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
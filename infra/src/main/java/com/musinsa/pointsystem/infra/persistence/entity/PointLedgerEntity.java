@@ -5,15 +5,21 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * 적립건 엔티티
+ * - ID를 애플리케이션에서 생성하므로 Persistable로 신규 여부를 직접 판단
+ *   (기본은 merge: 도메인에서 변환한 기존 적립건 변경, markNew() 후 저장 시 존재 확인 SELECT 없이 INSERT)
+ */
 @Entity
 @Table(name = "point_ledger")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class PointLedgerEntity extends BaseEntity {
+public class PointLedgerEntity extends BaseEntity implements Persistable<UUID> {
 
     @Id
     @Column(columnDefinition = "BINARY(16)")
@@ -46,10 +52,17 @@ public class PointLedgerEntity extends BaseEntity {
     @Column(name = "earned_at", nullable = false)
     private LocalDateTime earnedAt;
 
+    @Column(name = "consolidated_into", columnDefinition = "BINARY(16)")
+    private UUID consolidatedInto;
+
+    @Transient
+    private boolean isNew;
+
     @Builder
     public PointLedgerEntity(UUID id, UUID memberId, Long earnedAmount, Long availableAmount,
                              Long usedAmount, String earnType, UUID sourceLedgerId,
-                             LocalDateTime expiredAt, Boolean isCanceled, LocalDateTime earnedAt) {
+                             LocalDateTime expiredAt, Boolean isCanceled, LocalDateTime earnedAt,
+                             UUID consolidatedInto) {
         this.id = id;
         this.memberId = memberId;
         this.earnedAmount = earnedAmount;
@@ -60,6 +73,7 @@ public class PointLedgerEntity extends BaseEntity {
         this.expiredAt = expiredAt;
         this.isCanceled = isCanceled;
         this.earnedAt = earnedAt;
+        this.consolidatedInto = consolidatedInto;
     }
 
     public void updateAvailableAmount(Long availableAmount, Long usedAmount) {
@@ -75,4 +89,23 @@ public class PointLedgerEntity extends BaseEntity {
     public void setExpiredAt(LocalDateTime expiredAt) {
         this.expiredAt = expiredAt;
     }
+
+    /**
+     * 새로 생성한 적립건으로 표시 (저장 시 persist → JDBC 배치 INSERT 대상)
+     */
+    public PointLedgerEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
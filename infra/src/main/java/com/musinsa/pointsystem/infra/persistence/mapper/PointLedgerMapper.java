@@ -5,6 +5,8 @@ import com.musinsa.pointsystem.domain.model.LedgerEntry;
 import com.musinsa.pointsystem.domain.model.PointLedger;
 import com.musinsa.pointsystem.infra.persistence.entity.LedgerEntryEntity;
 import com.musinsa.pointsystem.infra.persistence.entity.PointLedgerEntity;
+import com.musinsa.pointsystem.infra.persistence.projection.LedgerEntryRow;
+import com.musinsa.pointsystem.infra.persistence.projection.PointLedgerRow;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -26,7 +28,23 @@ public class PointLedgerMapper {
                 entity.getSourceLedgerId(),
                 entity.getExpiredAt(),
                 entity.getIsCanceled(),
-                entity.getEarnedAt()
+                entity.getEarnedAt(),
+                entity.getConsolidatedInto()
+        );
+    }
+
+    public PointLedger toDomain(PointLedgerRow row) {
+        return new PointLedger(
+                row.id(),
+                row.memberId(),
+                row.earnedAmount(),
+                row.availableAmount(),
+                EarnType.valueOf(row.earnType()),
+                row.sourceLedgerId(),
+                row.expiredAt(),
+                row.isCanceled(),
+                row.earnedAt(),
+                row.consolidatedInto()
         );
     }
 
@@ -42,6 +60,7 @@ public class PointLedgerMapper {
                 .expiredAt(domain.expiredAt())
                 .isCanceled(domain.canceled())
                 .earnedAt(domain.earnedAt())
+                .consolidatedInto(domain.consolidatedInto())
                 .build();
     }
 
@@ -60,6 +79,17 @@ public class PointLedgerMapper {
         );
     }
 
+    public LedgerEntry toEntryDomain(LedgerEntryRow row) {
+        return new LedgerEntry(
+                row.id(),
+                row.ledgerId(),
+                row.type(),
+                row.amount(),
+                row.orderId(),
+                row.createdAt()
+        );
+    }
+
     public LedgerEntryEntity toEntryEntity(LedgerEntry domain) {
         return LedgerEntryEntity.builder()
                 .id(domain.id())
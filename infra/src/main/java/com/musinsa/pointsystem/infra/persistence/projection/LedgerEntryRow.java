@@ -0,0 +1,21 @@
+package com.musinsa.pointsystem.infra.persistence.projection;
+
+import com.musinsa.pointsystem.domain.model.EntryType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 변동 이력 조회 전용 행 (JPQL 생성자 프로젝션)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않음 (스냅샷/1차 캐시 없음)
+ * - 컬럼 타입은 LedgerEntryEntity 필드 타입과 동일
+ */
+public record LedgerEntryRow(
+        UUID id,
+        UUID ledgerId,
+        EntryType type,
+        Long amount,
+        String orderId,
+        LocalDateTime createdAt
+) {
+}
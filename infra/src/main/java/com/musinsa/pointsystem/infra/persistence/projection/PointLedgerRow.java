@@ -0,0 +1,23 @@
+package com.musinsa.pointsystem.infra.persistence.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 적립건 조회 전용 행 (JPQL 생성자 프로젝션)
+ * - 엔티티를 영속성 컨텍스트에 올리지 않음 (스냅샷/1차 캐시 없음)
+ * - 컬럼 타입은 PointLedgerEntity 필드 타입과 동일
+ */
+public record PointLedgerRow(
+        UUID id,
+        UUID memberId,
+        Long earnedAmount,
+        Long availableAmount,
+        String earnType,
+        UUID sourceLedgerId,
+        LocalDateTime expiredAt,
+        Boolean isCanceled,
+        LocalDateTime earnedAt,
+        UUID consolidatedInto
+) {
+}
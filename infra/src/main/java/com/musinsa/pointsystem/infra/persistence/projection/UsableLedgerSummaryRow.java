@@ -0,0 +1,11 @@
+package com.musinsa.pointsystem.infra.persistence.projection;
+
+/**
+ * 사용 가능 적립건 집계 행 (JPQL 생성자 프로젝션)
+ * - count: COUNT 결과, balance: COALESCE(SUM(available_amount), 0)
+ */
+public record UsableLedgerSummaryRow(
+        Long count,
+        Long balance
+) {
+}
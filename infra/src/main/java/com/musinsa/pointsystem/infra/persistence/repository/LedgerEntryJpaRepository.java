@@ -2,6 +2,7 @@ package com.musinsa.pointsystem.infra.persistence.repository;
 
 import com.musinsa.pointsystem.domain.model.EntryType;
 import com.musinsa.pointsystem.infra.persistence.entity.LedgerEntryEntity;
+import com.musinsa.pointsystem.infra.persistence.projection.LedgerEntryRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,10 +20,12 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
     List<LedgerEntryEntity> findByLedgerIdOrderByCreatedAtAsc(UUID ledgerId);
 
     /**
-     * 여러 적립건 ID로 Entry 목록 조회
+     * 여러 적립건 ID로 Entry 목록 조회 (생성자 프로젝션, 영속성 컨텍스트 미사용)
      */
-    @Query("SELECT e FROM LedgerEntryEntity e WHERE e.ledgerId IN :ledgerIds ORDER BY e.createdAt ASC")
-    List<LedgerEntryEntity> findByLedgerIdInOrderByCreatedAtAsc(@Param("ledgerIds") List<UUID> ledgerIds);
+    @Query("SELECT new com.musinsa.pointsystem.infra.persistence.projection.LedgerEntryRow(" +
+           "e.id, e.ledgerId, e.type, e.amount, e.orderId, e.createdAt) " +
+           "FROM LedgerEntryEntity e WHERE e.ledgerId IN :ledgerIds ORDER BY e.createdAt ASC")
+    List<LedgerEntryRow> findRowsByLedgerIdIn(@Param("ledgerIds") List<UUID> ledgerIds);
 
     /**
      * 주문 ID로 Entry 목록 조회
@@ -36,13 +39,22 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryEntit
     List<UUID> findDistinctLedgerIdsByOrderId(@Param("orderId") String orderId);
 
     /**
-     * 회원 ID로 Entry 목록 페이징 조회 (히스토리 API용)
+     * 회원 ID로 Entry 목록 페이징 조회 (히스토리 API용, 생성자 프로젝션)
+     * - CONSOLIDATE(적립건 통합)는 잔액 변동이 없는 내부 이력이므로 제외
+     * - 생성자 프로젝션은 count 쿼리 자동 생성이 불가하므로 countQuery 지정
      */
-    @Query("SELECT e FROM LedgerEntryEntity e " +
-           "JOIN PointLedgerEntity l ON e.ledgerId = l.id " +
-           "WHERE l.memberId = :memberId " +
-           "ORDER BY e.createdAt DESC")
-    Page<LedgerEntryEntity> findByMemberIdOrderByCreatedAtDesc(
+    @Query(value = "SELECT new com.musinsa.pointsystem.infra.persistence.projection.LedgerEntryRow(" +
+                   "e.id, e.ledgerId, e.type, e.amount, e.orderId, e.createdAt) " +
+                   "FROM LedgerEntryEntity e " +
+                   "JOIN PointLedgerEntity l ON e.ledgerId = l.id " +
+                   "WHERE l.memberId = :memberId " +
+                   "AND e.type <> com.musinsa.pointsystem.domain.model.EntryType.CONSOLIDATE " +
+                   "ORDER BY e.createdAt DESC",
+           countQuery = "SELECT COUNT(e) FROM LedgerEntryEntity e " +
+                        "JOIN PointLedgerEntity l ON e.ledgerId = l.id " +
+                        "WHERE l.memberId = :memberId " +
+                        "AND e.type <> com.musinsa.pointsystem.domain.model.EntryType.CONSOLIDATE")
+    Page<LedgerEntryRow> findRowsByMemberIdOrderByCreatedAtDesc(
             @Param("memberId") UUID memberId,
             Pageable pageable
     );
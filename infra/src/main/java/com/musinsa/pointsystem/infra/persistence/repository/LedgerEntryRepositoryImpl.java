@@ -50,7 +50,7 @@ public class LedgerEntryRepositoryImpl implements LedgerEntryRepository {
         if (ledgerIds.isEmpty()) {
             return List.of();
         }
-        return jpaRepository.findByLedgerIdInOrderByCreatedAtAsc(ledgerIds).stream()
+        return jpaRepository.findRowsByLedgerIdIn(ledgerIds).stream()
                 .map(mapper::toEntryDomain)
                 .toList();
     }
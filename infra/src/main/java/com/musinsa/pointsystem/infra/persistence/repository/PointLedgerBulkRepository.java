@@ -0,0 +1,159 @@
+package com.musinsa.pointsystem.infra.persistence.repository;
+
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 적립용 JDBC 저장소 (캠페인 일괄 지급 배치, 잔여 금액 일괄 변경)
+ * - 적립건/변동 이력을 multi-row INSERT(VALUES (...), (...))로 저장 → 건별 INSERT 대비 왕복 수를 ROWS_PER_STATEMENT배 감소
+ *   (드라이버 옵션 없이 H2/MySQL 모두 동작)
+ * - 잔여/사용 금액 변경은 해당 컬럼만 UPDATE하는 JDBC 배치 1회
+ * - 잔액은 회원 목록 단위 GROUP BY SUM 1회 (캐시 미사용, 최대 잔액 검증용)
+ * - JPA 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 JPA로 다시 조회하지 않는 경로에서만 사용
+ */
+@Repository
+public class PointLedgerBulkRepository {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_LEDGER_SQL =
+            "INSERT INTO point_ledger (id, member_id, earned_amount, available_amount, used_amount, earn_type, " +
+            "source_ledger_id, expired_at, is_canceled, earned_at, created_at, updated_at) VALUES ";
+    private static final String LEDGER_ROW = "(?, ?, ?, ?, 0, ?, NULL, ?, FALSE, ?, ?, ?)";
+    private static final String INSERT_ENTRY_SQL =
+            "INSERT INTO ledger_entry (id, ledger_id, type, amount, order_id, created_at) VALUES ";
+    private static final String ENTRY_ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_AMOUNTS_SQL =
+            "UPDATE point_ledger SET available_amount = ?, used_amount = ?, updated_at = ? WHERE id = ?";
+    private static final String SUM_AVAILABLE_SQL =
+            "SELECT member_id, SUM(available_amount) AS balance FROM point_ledger " +
+            "WHERE member_id IN (%s) AND is_canceled = FALSE AND expired_at > ? AND available_amount > 0 " +
+            "GROUP BY member_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PointLedgerBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 여러 회원의 사용 가능 잔액 (GROUP BY 1회, 적립건이 없는 회원은 결과에 없음)
+     */
+    public Map<UUID, Long> sumAvailableAmounts(Collection<UUID> memberIds, LocalDateTime now) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> params = new ArrayList<>(memberIds.size() + 1);
+        for (UUID memberId : memberIds) {
+            params.add(uuidToBytes(memberId));
+        }
+        params.add(now);
+
+        Map<UUID, Long> balances = new HashMap<>(memberIds.size() * 2);
+        jdbcTemplate.query(
+                SUM_AVAILABLE_SQL.formatted(String.join(", ", Collections.nCopies(memberIds.size(), "?"))),
+                rs -> {
+                    balances.put(bytesToUuid(rs.getBytes("member_id")), rs.getLong("balance"));
+                },
+                params.toArray());
+        return balances;
+    }
+
+    /**
+     * 신규 적립건(미사용, 미취소)과 변동 이력 저장 (호출 측 트랜잭션 참여)
+     */
+    public void insertEarned(List<PointLedger> ledgers, List<LedgerEntry> entries) {
+        insertMultiRow(INSERT_LEDGER_SQL, LEDGER_ROW, ledgers, (ps, index, ledger) -> {
+            ps.setBytes(index++, uuidToBytes(ledger.id()));
+            ps.setBytes(index++, uuidToBytes(ledger.memberId()));
+            ps.setLong(index++, ledger.earnedAmount());
+            ps.setLong(index++, ledger.availableAmount());
+            ps.setString(index++, ledger.earnType().name());
+            ps.setObject(index++, ledger.expiredAt());
+            ps.setObject(index++, ledger.earnedAt());
+            ps.setObject(index++, ledger.earnedAt());
+            ps.setObject(index++, ledger.earnedAt());
+            return index;
+        });
+        insertMultiRow(INSERT_ENTRY_SQL, ENTRY_ROW, entries, (ps, index, entry) -> {
+            ps.setBytes(index++, uuidToBytes(entry.id()));
+            ps.setBytes(index++, uuidToBytes(entry.ledgerId()));
+            ps.setString(index++, entry.type().name());
+            ps.setLong(index++, entry.amount());
+            ps.setString(index++, entry.orderId());
+            ps.setObject(index++, entry.createdAt());
+            return index;
+        });
+    }
+
+    /**
+     * 적립건 잔여/사용 금액 변경 (호출 측 트랜잭션 참여, JDBC 배치 1회)
+     * - ledgers: 변경 후 상태 (used_amount = earned_amount - available_amount)
+     * @return 적립건별 변경 행 수 (ledgers 순서)
+     */
+    public int[] updateAmounts(List<PointLedger> ledgers, LocalDateTime now) {
+        return jdbcTemplate.batchUpdate(UPDATE_AMOUNTS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PointLedger ledger = ledgers.get(i);
+                ps.setLong(1, ledger.availableAmount());
+                ps.setLong(2, ledger.earnedAmount() - ledger.availableAmount());
+                ps.setObject(3, now);
+                ps.setBytes(4, uuidToBytes(ledger.id()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ledgers.size();
+            }
+        });
+    }
+
+    private <T> void insertMultiRow(String insertSql, String row, List<T> rows, RowBinder<T> binder) {
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<T> slice = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            String sql = insertSql + String.join(", ", Collections.nCopies(slice.size(), row));
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (T item : slice) {
+                    index = binder.bind(ps, index, item);
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        /**
+         * @return 다음 파라미터 위치
+         */
+        int bind(PreparedStatement ps, int index, T row) throws SQLException;
+    }
+
+    private static byte[] uuidToBytes(UUID uuid) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return bb.array();
+    }
+
+    private static UUID bytesToUuid(byte[] bytes) {
+        ByteBuffer bb = ByteBuffer.wrap(bytes);
+        return new UUID(bb.getLong(), bb.getLong());
+    }
+}
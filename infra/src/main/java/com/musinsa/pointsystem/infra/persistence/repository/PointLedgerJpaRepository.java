@@ -1,12 +1,16 @@
 package com.musinsa.pointsystem.infra.persistence.repository;
 
 import com.musinsa.pointsystem.infra.persistence.entity.PointLedgerEntity;
+import com.musinsa.pointsystem.infra.persistence.projection.PointLedgerRow;
+import com.musinsa.pointsystem.infra.persistence.projection.UsableLedgerSummaryRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,16 +21,30 @@ public interface PointLedgerJpaRepository extends JpaRepository<PointLedgerEntit
      * 사용 가능한 적립건 조회 (DB에서 정렬/필터링 완료)
      * - 수기 지급(MANUAL) 우선
      * - 만료일 짧은 순
+     * - 생성자 프로젝션: 엔티티를 영속성 컨텍스트에 올리지 않고 바로 행으로 변환
      *
      * 인덱스 권장: (member_id, is_canceled, available_amount, expired_at)
      */
-    @Query("SELECT pl FROM PointLedgerEntity pl " +
+    @Query("SELECT new com.musinsa.pointsystem.infra.persistence.projection.PointLedgerRow(" +
+           "pl.id, pl.memberId, pl.earnedAmount, pl.availableAmount, pl.earnType, " +
+           "pl.sourceLedgerId, pl.expiredAt, pl.isCanceled, pl.earnedAt, pl.consolidatedInto) " +
+           "FROM PointLedgerEntity pl " +
            "WHERE pl.memberId = :memberId " +
            "AND pl.availableAmount > 0 " +
            "AND pl.expiredAt > CURRENT_TIMESTAMP " +
            "AND pl.isCanceled = false " +
            "ORDER BY CASE pl.earnType WHEN 'MANUAL' THEN 0 ELSE 1 END, pl.expiredAt ASC")
-    List<PointLedgerEntity> findAvailableByMemberIdOrderByPriority(@Param("memberId") UUID memberId);
+    List<PointLedgerRow> findAvailableRowsByMemberId(@Param("memberId") UUID memberId);
+
+    /**
+     * ID 목록으로 적립건 조회 (생성자 프로젝션, 영속성 컨텍스트 미사용)
+     */
+    @Query("SELECT new com.musinsa.pointsystem.infra.persistence.projection.PointLedgerRow(" +
+           "pl.id, pl.memberId, pl.earnedAmount, pl.availableAmount, pl.earnType, " +
+           "pl.sourceLedgerId, pl.expiredAt, pl.isCanceled, pl.earnedAt, pl.consolidatedInto) " +
+           "FROM PointLedgerEntity pl " +
+           "WHERE pl.id IN :ids")
+    List<PointLedgerRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
 
     /**
      * 회원의 모든 적립건 조회 (만료일 순)
@@ -69,6 +87,24 @@ public interface PointLedgerJpaRepository extends JpaRepository<PointLedgerEntit
     Long sumAvailableAmount(@Param("memberId") UUID memberId,
                             @Param("now") LocalDateTime now);
 
+    /**
+     * 여러 회원의 사용 가능한 포인트 총액 (GROUP BY 1회)
+     * <p>
+     * 다건 잔액 조회 시 캐시 미스 회원만 대상으로 실행.
+     * 사용 가능한 Ledger가 없는 회원은 결과에 포함되지 않음 (0으로 처리).
+     *
+     * @return [memberId(UUID), balance(Long)] 목록
+     */
+    @Query("SELECT pl.memberId, SUM(pl.availableAmount) " +
+           "FROM PointLedgerEntity pl " +
+           "WHERE pl.memberId IN :memberIds " +
+           "AND pl.isCanceled = false " +
+           "AND pl.expiredAt > :now " +
+           "AND pl.availableAmount > 0 " +
+           "GROUP BY pl.memberId")
+    List<Object[]> sumAvailableAmountGroupByMemberId(@Param("memberIds") Collection<UUID> memberIds,
+                                                     @Param("now") LocalDateTime now);
+
     /**
      * 사용 가능한 Ledger 수 (모니터링/디버깅용)
      *
@@ -84,4 +120,88 @@ public interface PointLedgerJpaRepository extends JpaRepository<PointLedgerEntit
            "AND pl.availableAmount > 0")
     int countAvailableLedgers(@Param("memberId") UUID memberId,
                               @Param("now") LocalDateTime now);
+
+    /**
+     * 사용 가능한 Ledger 건수/잔액 합계 (적립건 인덱스 완전성 검증용)
+     * - 생성자 프로젝션, 집계 1행만 반환
+     */
+    @Query("SELECT new com.musinsa.pointsystem.infra.persistence.projection.UsableLedgerSummaryRow(" +
+           "COUNT(pl), COALESCE(SUM(pl.availableAmount), 0)) " +
+           "FROM PointLedgerEntity pl " +
+           "WHERE pl.memberId = :memberId " +
+           "AND pl.isCanceled = false " +
+           "AND pl.expiredAt > :now " +
+           "AND pl.availableAmount > 0")
+    UsableLedgerSummaryRow summarizeUsable(@Param("memberId") UUID memberId,
+                                           @Param("now") LocalDateTime now);
+
+    /**
+     * 적립 이력이 있는 회원 ID 조회 (키셋 페이징, 회원 ID 오름차순)
+     * - 적립 이력 회원 필터 재구성용
+     *
+     * @param after 이전 페이지의 마지막 회원 ID (첫 페이지는 00000000-0000-0000-0000-000000000000)
+     */
+    @Query("SELECT DISTINCT pl.memberId FROM PointLedgerEntity pl " +
+           "WHERE pl.memberId > :after " +
+           "ORDER BY pl.memberId")
+    List<UUID> findDistinctMemberIdsAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * 적립건 통합 후보 조회 (미사용, 미취소, 미만료, 원본 참조 없음, 흡수되지 않음)
+     * - 적립 유형, 만료일 순 정렬 → 같은 통합 그룹이 연속
+     */
+    @Query("SELECT pl FROM PointLedgerEntity pl " +
+           "WHERE pl.memberId = :memberId " +
+           "AND pl.isCanceled = false " +
+           "AND pl.sourceLedgerId IS NULL " +
+           "AND pl.consolidatedInto IS NULL " +
+           "AND pl.availableAmount = pl.earnedAmount " +
+           "AND pl.expiredAt > :now " +
+           "ORDER BY pl.earnType, pl.expiredAt")
+    List<PointLedgerEntity> findConsolidationCandidates(@Param("memberId") UUID memberId,
+                                                        @Param("now") LocalDateTime now,
+                                                        Limit limit);
+
+    // =====================================================
+    // 조건부 UPDATE (영속성 컨텍스트 미사용)
+    // =====================================================
+
+    /**
+     * 잔여 금액이 예상값과 같고 사용 가능한 경우에만 차감
+     *
+     * @return 변경된 행 수 (0이면 상태 불일치)
+     */
+    @Modifying
+    @Query("UPDATE PointLedgerEntity pl " +
+           "SET pl.availableAmount = pl.availableAmount - :useAmount, " +
+           "    pl.usedAmount = pl.usedAmount + :useAmount, " +
+           "    pl.updatedAt = :now " +
+           "WHERE pl.id = :id " +
+           "AND pl.availableAmount = :expectedAvailableAmount " +
+           "AND pl.isCanceled = false " +
+           "AND pl.expiredAt > :now")
+    int deductIfUnchanged(@Param("id") UUID id,
+                          @Param("expectedAvailableAmount") Long expectedAvailableAmount,
+                          @Param("useAmount") Long useAmount,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * 통합으로 흡수된 적립건 표시 (조회 시점과 같은 미사용 상태인 경우에만)
+     * - used_amount는 변경하지 않음 (사용이 아닌 이전)
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE PointLedgerEntity pl " +
+           "SET pl.availableAmount = 0, " +
+           "    pl.consolidatedInto = :consolidatedId, " +
+           "    pl.updatedAt = :now " +
+           "WHERE pl.id IN :ids " +
+           "AND pl.isCanceled = false " +
+           "AND pl.sourceLedgerId IS NULL " +
+           "AND pl.consolidatedInto IS NULL " +
+           "AND pl.availableAmount = pl.earnedAmount")
+    int markConsolidated(@Param("ids") Collection<UUID> ids,
+                         @Param("consolidatedId") UUID consolidatedId,
+                         @Param("now") LocalDateTime now);
 }
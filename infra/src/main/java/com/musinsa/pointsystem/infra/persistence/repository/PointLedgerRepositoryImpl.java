@@ -1,10 +1,14 @@
 package com.musinsa.pointsystem.infra.persistence.repository;
 
+import com.musinsa.pointsystem.domain.model.DeductionPlan;
 import com.musinsa.pointsystem.domain.model.PointLedger;
 import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
 import com.musinsa.pointsystem.infra.persistence.entity.PointLedgerEntity;
 import com.musinsa.pointsystem.infra.persistence.mapper.PointLedgerMapper;
+import com.musinsa.pointsystem.infra.persistence.projection.UsableLedgerSummaryRow;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -18,6 +22,8 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepository {
 
     private final PointLedgerJpaRepository jpaRepository;
     private final PointLedgerMapper mapper;
+    private final PointLedgerBulkRepository bulkRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<PointLedger> findById(UUID id) {
@@ -27,7 +33,7 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepository {
 
     @Override
     public List<PointLedger> findAvailableByMemberId(UUID memberId, LocalDateTime now) {
-        return jpaRepository.findAvailableByMemberIdOrderByPriority(memberId).stream()
+        return jpaRepository.findAvailableRowsByMemberId(memberId).stream()
                 .map(mapper::toDomain)
                 .toList();
     }
@@ -44,11 +50,24 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepository {
         if (ids.isEmpty()) {
             return List.of();
         }
-        return jpaRepository.findAllById(ids).stream()
+        return jpaRepository.findRowsByIdIn(ids).stream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
+    @Override
+    public List<PointLedger> findConsolidationCandidates(UUID memberId, LocalDateTime now, int limit) {
+        return jpaRepository.findConsolidationCandidates(memberId, now, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public UsableSummary summarizeUsable(UUID memberId, LocalDateTime now) {
+        UsableLedgerSummaryRow row = jpaRepository.summarizeUsable(memberId, now);
+        return new UsableSummary(row.count(), row.balance());
+    }
+
     @Override
     public PointLedger save(PointLedger ledger) {
         PointLedgerEntity entity = mapper.toEntity(ledger);
@@ -68,4 +87,76 @@ public class PointLedgerRepositoryImpl implements PointLedgerRepository {
                 .map(mapper::toDomain)
                 .toList();
     }
+
+    @Override
+    public PointLedger insert(PointLedger ledger) {
+        PointLedgerEntity saved = jpaRepository.save(mapper.toEntity(ledger).markNew());
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    public List<PointLedger> insertAll(List<PointLedger> ledgers) {
+        if (ledgers.isEmpty()) {
+            return List.of();
+        }
+        List<PointLedgerEntity> entities = ledgers.stream()
+                .map(ledger -> mapper.toEntity(ledger).markNew())
+                .toList();
+        return jpaRepository.saveAll(entities).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void updateAmounts(List<PointLedger> ledgers, LocalDateTime now) {
+        if (ledgers.isEmpty()) {
+            return;
+        }
+        // JDBC UPDATE는 영속성 컨텍스트를 거치지 않으므로 앞선 JPA 변경을 먼저 반영
+        entityManager.flush();
+        int[] updated = bulkRepository.updateAmounts(ledgers, now);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new IllegalStateException("잔여 금액을 변경할 적립건이 없습니다. ledgerId=" + ledgers.get(i).id());
+            }
+        }
+        ledgers.forEach(ledger -> detach(ledger.id()));
+    }
+
+    @Override
+    public boolean deductIfUnchanged(UUID ledgerId, long expectedAvailableAmount, long useAmount, LocalDateTime now) {
+        boolean deducted = jpaRepository.deductIfUnchanged(ledgerId, expectedAvailableAmount, useAmount, now) == 1;
+        detach(ledgerId);
+        return deducted;
+    }
+
+    @Override
+    public boolean deductAll(List<PointLedger> ledgers, DeductionPlan plan, LocalDateTime now) {
+        for (int i = 0; i < plan.size(); i++) {
+            PointLedger ledger = ledgers.get(plan.index(i));
+            boolean deducted = jpaRepository.deductIfUnchanged(
+                    ledger.id(), ledger.availableAmount(), plan.amount(i), now) == 1;
+            detach(ledger.id());
+            if (!deducted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int markConsolidated(List<UUID> ledgerIds, UUID consolidatedLedgerId, LocalDateTime now) {
+        if (ledgerIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.markConsolidated(ledgerIds, consolidatedLedgerId, now);
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 변경한 적립건 분리
+     * - 같은 트랜잭션의 이후 조회가 변경 전 엔티티를 재사용하지 않도록 함 (프록시 참조만 사용, 조회 없음)
+     */
+    private void detach(UUID ledgerId) {
+        entityManager.detach(entityManager.getReference(PointLedgerEntity.class, ledgerId));
+    }
 }
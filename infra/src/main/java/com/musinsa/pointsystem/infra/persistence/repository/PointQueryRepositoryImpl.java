@@ -5,14 +5,18 @@ import com.musinsa.pointsystem.domain.model.PageResult;
 import com.musinsa.pointsystem.domain.model.PointAmount;
 import com.musinsa.pointsystem.domain.model.PointHistory;
 import com.musinsa.pointsystem.domain.repository.PointQueryRepository;
+import com.musinsa.pointsystem.infra.cache.HotMemberTracker;
 import com.musinsa.pointsystem.infra.cache.PointBalanceCacheService;
-import com.musinsa.pointsystem.infra.persistence.entity.LedgerEntryEntity;
+import com.musinsa.pointsystem.infra.persistence.projection.LedgerEntryRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -20,6 +24,9 @@ import java.util.UUID;
  *
  * <p>Aggregate 로드 없이 DB에서 직접 조회하여 성능 최적화.
  * <p>잔액 조회는 Redis 캐시 적용.
+ * <p>단건 잔액 조회는 캐시 워밍 대상 선정을 위해 Hot Member로 기록.
+ * <p>쓰기 트랜잭션 안의 단건 잔액 조회는 캐시를 거치지 않고 DB에서 조회
+ *    (캐시 무효화가 커밋 후 비동기로 실행되므로, 검증/응답에 직전 변경이 반영되도록 함).
  */
 @Repository
 @RequiredArgsConstructor
@@ -28,12 +35,24 @@ public class PointQueryRepositoryImpl implements PointQueryRepository {
     private final PointLedgerJpaRepository pointLedgerJpaRepository;
     private final LedgerEntryJpaRepository ledgerEntryJpaRepository;
     private final PointBalanceCacheService balanceCacheService;
+    private final HotMemberTracker hotMemberTracker;
 
     @Override
     public PointAmount getTotalBalance(UUID memberId, LocalDateTime now) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Long balance = pointLedgerJpaRepository.sumAvailableAmount(memberId, now);
+            return PointAmount.of(balance != null ? balance : 0L);
+        }
+        hotMemberTracker.record(memberId);
         return balanceCacheService.getTotalBalance(memberId, now);
     }
 
+    @Override
+    public Map<UUID, PointAmount> getTotalBalances(List<UUID> memberIds, LocalDateTime now) {
+        return balanceCacheService.getTotalBalances(memberIds, now);
+    }
+
     @Override
     public int getAvailableLedgerCount(UUID memberId, LocalDateTime now) {
         return pointLedgerJpaRepository.countAvailableLedgers(memberId, now);
@@ -46,8 +65,8 @@ public class PointQueryRepositoryImpl implements PointQueryRepository {
                 pageRequest.size()
         );
 
-        Page<LedgerEntryEntity> page = ledgerEntryJpaRepository
-                .findByMemberIdOrderByCreatedAtDesc(memberId, pageable);
+        Page<LedgerEntryRow> page = ledgerEntryJpaRepository
+                .findRowsByMemberIdOrderByCreatedAtDesc(memberId, pageable);
 
         return PageResult.of(
                 page.getContent().stream()
@@ -59,14 +78,14 @@ public class PointQueryRepositoryImpl implements PointQueryRepository {
         );
     }
 
-    private PointHistory toPointHistory(LedgerEntryEntity entity) {
+    private PointHistory toPointHistory(LedgerEntryRow row) {
         return PointHistory.of(
-                entity.getId(),
-                entity.getLedgerId(),
-                entity.getType(),
-                entity.getAmount(),
-                entity.getOrderId(),
-                entity.getCreatedAt()
+                row.id(),
+                row.ledgerId(),
+                row.type(),
+                row.amount(),
+                row.orderId(),
+                row.createdAt()
         );
     }
 }
@@ -0,0 +1,134 @@
+package com.musinsa.pointsystem.infra.summary;
+
+import com.musinsa.pointsystem.domain.model.PointSummary;
+import com.musinsa.pointsystem.domain.repository.PointSummaryRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원 일별 포인트 집계 저장소 (member_point_daily)
+ * - 요약 조회: 회원 + 기간 PK 범위 SUM 1회 (최대 366행, 변동 이력 크기와 무관)
+ * - 증분 반영: UPDATE(누적) → 0건이면 INSERT, 동시 INSERT 충돌 시 UPDATE 재시도
+ * - 반영 이벤트 기록(member_point_daily_event)으로 Outbox 재전달 시 중복 반영 방지
+ */
+@Repository
+public class MemberPointDailyRepository implements PointSummaryRepository {
+
+    private static final String SELECT_SUMMARY_SQL =
+            "SELECT COALESCE(SUM(earned_amount), 0), COALESCE(SUM(earn_canceled_amount), 0), " +
+            "COALESCE(SUM(used_amount), 0), COALESCE(SUM(use_canceled_amount), 0) " +
+            "FROM member_point_daily WHERE member_id = ? AND point_date BETWEEN ? AND ?";
+    private static final String UPDATE_SQL =
+            "UPDATE member_point_daily SET earned_amount = earned_amount + ?, " +
+            "earn_canceled_amount = earn_canceled_amount + ?, used_amount = used_amount + ?, " +
+            "use_canceled_amount = use_canceled_amount + ?, updated_at = ? " +
+            "WHERE member_id = ? AND point_date = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO member_point_daily (member_id, point_date, earned_amount, earn_canceled_amount, " +
+            "used_amount, use_canceled_amount, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_APPLIED_SQL =
+            "SELECT event_id FROM member_point_daily_event WHERE event_id IN (%s)";
+    private static final String INSERT_APPLIED_SQL =
+            "INSERT INTO member_point_daily_event (event_id, applied_at) VALUES (?, ?)";
+    private static final String PURGE_APPLIED_SQL =
+            "DELETE FROM member_point_daily_event " +
+            "WHERE event_id < (SELECT COALESCE(MIN(id), 0) FROM point_event_outbox)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberPointDailyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public PointSummary getSummary(UUID memberId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(SELECT_SUMMARY_SQL, (rs, rowNum) -> PointSummary.of(
+                memberId, from, to, rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)
+        ), uuidToBytes(memberId), from, to);
+    }
+
+    /**
+     * 일별 집계 누적 (호출 측 트랜잭션 참여)
+     */
+    void add(DailyDelta delta, LocalDateTime now) {
+        Object[] updateParams = {
+                delta.earnedAmount(), delta.earnCanceledAmount(), delta.usedAmount(), delta.useCanceledAmount(),
+                now, uuidToBytes(delta.memberId()), delta.pointDate()
+        };
+        if (jdbcTemplate.update(UPDATE_SQL, updateParams) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, uuidToBytes(delta.memberId()), delta.pointDate(),
+                    delta.earnedAmount(), delta.earnCanceledAmount(), delta.usedAmount(), delta.useCanceledAmount(),
+                    now);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 INSERT → 누적으로 재시도
+            jdbcTemplate.update(UPDATE_SQL, updateParams);
+        }
+    }
+
+    /**
+     * 이미 반영된 이벤트 순번 조회
+     */
+    List<Long> findAppliedEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = SELECT_APPLIED_SQL.formatted(String.join(", ", Collections.nCopies(eventIds.size(), "?")));
+        return jdbcTemplate.queryForList(sql, Long.class, eventIds.toArray());
+    }
+
+    /**
+     * 반영 이벤트 기록 (같은 이벤트를 동시에 반영하면 유니크 키 충돌 → 트랜잭션 롤백)
+     */
+    void markApplied(List<Long> eventIds, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(INSERT_APPLIED_SQL, eventIds, eventIds.size(), (ps, eventId) -> {
+            ps.setLong(1, eventId);
+            ps.setObject(2, now);
+        });
+    }
+
+    /**
+     * Outbox에서 이미 삭제된(재전달될 수 없는) 이벤트의 반영 기록 정리
+     */
+    void purgeAppliedBeforeOutbox() {
+        jdbcTemplate.update(PURGE_APPLIED_SQL);
+    }
+
+    private static byte[] uuidToBytes(UUID uuid) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return bb.array();
+    }
+
+    /**
+     * 회원/일자별 누적 변동량
+     */
+    record DailyDelta(
+            UUID memberId,
+            LocalDate pointDate,
+            long earnedAmount,
+            long earnCanceledAmount,
+            long usedAmount,
+            long useCanceledAmount
+    ) {
+        DailyDelta plus(DailyDelta other) {
+            return new DailyDelta(memberId, pointDate,
+                    earnedAmount + other.earnedAmount,
+                    earnCanceledAmount + other.earnCanceledAmount,
+                    usedAmount + other.usedAmount,
+                    useCanceledAmount + other.useCanceledAmount);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.pointsystem.infra.summary;
+
+import com.musinsa.pointsystem.domain.event.PointEarnCanceledEvent;
+import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import com.musinsa.pointsystem.domain.event.PointUseCanceledEvent;
+import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+import com.musinsa.pointsystem.infra.outbox.OutboxEvent;
+import com.musinsa.pointsystem.infra.outbox.PointEventSerializer;
+import com.musinsa.pointsystem.infra.outbox.PointEventSink;
+import com.musinsa.pointsystem.infra.summary.MemberPointDailyRepository.DailyDelta;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 회원 일별 포인트 집계 Sink (Outbox 릴레이에서 호출)
+ * - 배치 안의 이벤트를 회원/일자별로 합산 후 행당 1회 누적 → 같은 회원의 연속 변동은 UPDATE 1회
+ * - 반영 기록과 집계 누적을 한 트랜잭션으로 커밋 → 재전달(at-least-once)되어도 정확히 1회 반영
+ * - 회원/일자 순으로 갱신하여 동시 릴레이 간 행 잠금 순서를 통일 (교착 방지)
+ */
+@Component
+public class MemberPointDailySink implements PointEventSink {
+
+    private static final Comparator<DailyKey> KEY_ORDER =
+            Comparator.comparing(DailyKey::memberId).thenComparing(DailyKey::pointDate);
+
+    private final MemberPointDailyRepository dailyRepository;
+    private final PointEventSerializer serializer;
+    private final TransactionTemplate transactionTemplate;
+    private final ZoneId zoneId;
+    private final Clock clock;
+
+    public MemberPointDailySink(
+            MemberPointDailyRepository dailyRepository,
+            PointEventSerializer serializer,
+            PlatformTransactionManager transactionManager,
+            PointSummaryProperties properties,
+            Clock clock
+    ) {
+        this.dailyRepository = dailyRepository;
+        this.serializer = serializer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.zoneId = ZoneId.of(properties.getZoneId());
+        this.clock = clock;
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> applied = new HashSet<>(dailyRepository.findAppliedEventIds(
+                    events.stream().map(OutboxEvent::id).toList()));
+            List<Long> newlyApplied = new ArrayList<>(events.size());
+            Map<DailyKey, DailyDelta> deltas = new TreeMap<>(KEY_ORDER);
+            for (OutboxEvent event : events) {
+                if (applied.contains(event.id())) {
+                    continue;
+                }
+                DailyDelta delta = toDelta(serializer.deserialize(event));
+                deltas.merge(new DailyKey(delta.memberId(), delta.pointDate()), delta, DailyDelta::plus);
+                newlyApplied.add(event.id());
+            }
+            if (newlyApplied.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            dailyRepository.markApplied(newlyApplied, now);
+            deltas.values().forEach(delta -> dailyRepository.add(delta, now));
+            dailyRepository.purgeAppliedBeforeOutbox();
+        });
+    }
+
+    private DailyDelta toDelta(PointEvent event) {
+        LocalDate pointDate = event.occurredAt().atOffset(ZoneOffset.UTC).atZoneSameInstant(zoneId).toLocalDate();
+        long amount = event.amount();
+        return switch (event) {
+            case PointEarnedEvent e -> new DailyDelta(e.memberId(), pointDate, amount, 0, 0, 0);
+            case PointEarnCanceledEvent e -> new DailyDelta(e.memberId(), pointDate, 0, amount, 0, 0);
+            case PointUsedEvent e -> new DailyDelta(e.memberId(), pointDate, 0, 0, amount, 0);
+            case PointUseCanceledEvent e -> new DailyDelta(e.memberId(), pointDate, 0, 0, 0, amount);
+        };
+    }
+
+    private record DailyKey(UUID memberId, LocalDate pointDate) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.musinsa.pointsystem.infra.summary;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "point-summary")
+@Getter
+@Setter
+public class PointSummaryProperties {
+
+    /**
+     * 일별 집계 기준 시간대
+     * - 기본값: Asia/Seoul
+     * - 이벤트 발생 시각(UTC)을 이 시간대의 날짜로 변환하여 집계 (회원에게 보이는 "이번 달" 기준)
+     */
+    private String zoneId = "Asia/Seoul";
+}
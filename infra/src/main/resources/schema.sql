@@ -39,6 +39,7 @@ CREATE TABLE IF NOT EXISTS point_policy (
 -- | used_amount    | 누적 사용 금액                                                |
 -- | earn_type      | 적립 유형 (ORDER_EARN, REVIEW_EARN, EVENT_EARN, USE_CANCEL)   |
 -- | source_ledger_id| 원본 적립건 ID (논리적 FK → point_ledger.id, USE_CANCEL 시 참조)|
+-- | consolidated_into| 통합으로 흡수된 경우 통합 적립건 ID (논리적 FK → point_ledger.id)|
 -- | expired_at     | 만료일시 (UTC)                                                |
 -- | is_canceled    | 적립 취소 여부                                                |
 -- | earned_at      | 적립일시 (UTC)                                                |
@@ -52,6 +53,7 @@ CREATE TABLE IF NOT EXISTS point_ledger (
     used_amount BIGINT NOT NULL DEFAULT 0,
     earn_type VARCHAR(20) NOT NULL,
     source_ledger_id BINARY(16),
+    consolidated_into BINARY(16),
     expired_at DATETIME NOT NULL,
     is_canceled BOOLEAN NOT NULL DEFAULT FALSE,
     earned_at DATETIME NOT NULL,
@@ -63,14 +65,16 @@ CREATE TABLE IF NOT EXISTS point_ledger (
 
 CREATE INDEX IF NOT EXISTS idx_ledger_member_expired ON point_ledger (member_id, expired_at);
 CREATE INDEX IF NOT EXISTS idx_ledger_source ON point_ledger (source_ledger_id);
+-- 포인트 부채 만료 스윕 (만료일시 구간 SUM)
+CREATE INDEX IF NOT EXISTS idx_ledger_expired ON point_ledger (expired_at);
 
 -- Ledger Entry (적립건 변동 이력) - Single Source of Truth
 -- | 컬럼명     | 설명                                           |
 -- |-----------|------------------------------------------------|
 -- | id        | 변동 이력 ID (UUIDv7)                           |
 -- | ledger_id | 적립건 ID (논리적 FK → point_ledger.id)          |
--- | type      | 변동 유형 (EARN, EARN_CANCEL, USE, USE_CANCEL)  |
--- | amount    | 변동 금액 (+: 적립/복구, -: 사용/취소)            |
+-- | type      | 변동 유형 (EARN, EARN_CANCEL, USE, USE_CANCEL, CONSOLIDATE) |
+-- | amount    | 변동 금액 (+: 적립/복구/통합 유입, -: 사용/취소/통합 이전) |
 -- | order_id  | 주문 ID (논리적 FK → order 테이블)               |
 -- | created_at| 생성일시 (UTC)                                  |
 CREATE TABLE IF NOT EXISTS ledger_entry (
@@ -80,7 +84,7 @@ CREATE TABLE IF NOT EXISTS ledger_entry (
     amount BIGINT NOT NULL,
     order_id VARCHAR(100),
     created_at DATETIME NOT NULL,
-    CONSTRAINT chk_type_valid CHECK (type IN ('EARN', 'EARN_CANCEL', 'USE', 'USE_CANCEL'))
+    CONSTRAINT chk_type_valid CHECK (type IN ('EARN', 'EARN_CANCEL', 'USE', 'USE_CANCEL', 'CONSOLIDATE'))
 );
 
 CREATE INDEX IF NOT EXISTS idx_entry_ledger ON ledger_entry (ledger_id, created_at);
@@ -110,3 +114,148 @@ CREATE TABLE IF NOT EXISTS consistency_check_result (
 
 CREATE INDEX IF NOT EXISTS idx_consistency_member ON consistency_check_result (member_id);
 CREATE INDEX IF NOT EXISTS idx_consistency_type ON consistency_check_result (inconsistency_type, detected_at);
+
+-- =============================================================================
+-- 멱등성 기록 테이블
+-- =============================================================================
+-- | 컬럼명          | 설명                                                |
+-- |----------------|-----------------------------------------------------|
+-- | idempotency_key| 멱등성 키 (Idempotency-Key 헤더)                       |
+-- | status_code    | 응답 HTTP 상태 코드 (응답 저장 전 NULL)                  |
+-- | content_type   | 응답 Content-Type (응답 저장 전 NULL)                  |
+-- | response_body  | 응답 본문 bytes (커밋 후 비동기 저장, 저장 전 NULL)        |
+-- | created_at     | 생성일시 (UTC, 비즈니스 변경과 같은 트랜잭션에서 기록)       |
+-- | expires_at     | 만료일시 (UTC, 배치에서 삭제)                           |
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    status_code INT,
+    content_type VARCHAR(100),
+    response_body BLOB,
+    created_at DATETIME NOT NULL,
+    expires_at DATETIME NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires ON idempotency_record (expires_at);
+
+-- =============================================================================
+-- 포인트 이벤트 Outbox 테이블
+-- =============================================================================
+-- | 컬럼명      | 설명                                                      |
+-- |------------|-----------------------------------------------------------|
+-- | id         | 이벤트 순번 (AUTO_INCREMENT, 릴레이 전달 순서)                  |
+-- | event_type | 이벤트 유형 (PointEarnedEvent, PointUsedEvent 등)             |
+-- | member_id  | 회원 ID (논리적 FK → member 테이블)                           |
+-- | payload    | 이벤트 본문 (JSON)                                          |
+-- | created_at | 생성일시 (UTC, 비즈니스 변경과 같은 트랜잭션에서 기록)             |
+-- | lease_owner| 점유한 릴레이 ID (점유 전 NULL)                               |
+-- | lease_until| 점유 만료일시 (UTC, 이후 재점유 가능, 생성 시 created_at)          |
+-- | attempts   | 전달 시도 횟수                                              |
+CREATE TABLE IF NOT EXISTS point_event_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    member_id BINARY(16) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at DATETIME NOT NULL,
+    lease_owner VARCHAR(100),
+    lease_until DATETIME NOT NULL,
+    attempts INT NOT NULL DEFAULT 0
+);
+
+-- =============================================================================
+-- Outbox Sink별 전달 기록 (일부 Sink만 실패한 배치 재시도 시 성공한 Sink에 재전달 방지)
+-- =============================================================================
+-- | 컬럼명     | 설명                                          |
+-- |-----------|-----------------------------------------------|
+-- | event_id  | Outbox 이벤트 순번 (point_event_outbox.id)       |
+-- | sink      | 전달 완료한 Sink 이름 (PointEventSink.name())     |
+CREATE TABLE IF NOT EXISTS point_event_outbox_delivery (
+    event_id BIGINT NOT NULL,
+    sink VARCHAR(100) NOT NULL,
+    PRIMARY KEY (event_id, sink)
+);
+
+-- =============================================================================
+-- Outbox 전달 포기 이벤트 (outbox.max-attempts 초과, 수동 확인 후 재처리)
+-- =============================================================================
+-- | 컬럼명       | 설명                                                |
+-- |-------------|-----------------------------------------------------|
+-- | id          | Outbox 이벤트 순번 (point_event_outbox.id 그대로)       |
+-- | event_type  | 이벤트 유형                                          |
+-- | member_id   | 회원 ID (논리적 FK → member 테이블)                   |
+-- | payload     | 이벤트 본문 (JSON)                                   |
+-- | created_at  | 이벤트 생성일시 (UTC)                                 |
+-- | attempts    | 전달 시도 횟수                                        |
+-- | failed_sinks| 전달하지 못한 Sink 이름 (쉼표 구분, 나머지 Sink는 전달 완료) |
+-- | last_error  | 마지막 실패 사유                                      |
+-- | dead_at     | 이관일시 (UTC)                                       |
+CREATE TABLE IF NOT EXISTS point_event_outbox_dead_letter (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    member_id BINARY(16) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at DATETIME NOT NULL,
+    attempts INT NOT NULL,
+    failed_sinks VARCHAR(500) NOT NULL,
+    last_error VARCHAR(1000),
+    dead_at DATETIME NOT NULL
+);
+
+-- =============================================================================
+-- 회원 일별 포인트 집계 테이블 (Outbox Sink에서 증분 갱신)
+-- =============================================================================
+-- | 컬럼명               | 설명                                              |
+-- |---------------------|---------------------------------------------------|
+-- | member_id           | 회원 ID (논리적 FK → member 테이블)                  |
+-- | point_date          | 집계 일자 (point-summary.zone-id 기준)               |
+-- | earned_amount       | 적립 금액 합계                                      |
+-- | earn_canceled_amount| 적립취소 금액 합계                                   |
+-- | used_amount         | 사용 금액 합계                                      |
+-- | use_canceled_amount | 사용취소 금액 합계                                   |
+-- | updated_at          | 수정일시 (UTC)                                     |
+CREATE TABLE IF NOT EXISTS member_point_daily (
+    member_id BINARY(16) NOT NULL,
+    point_date DATE NOT NULL,
+    earned_amount BIGINT NOT NULL DEFAULT 0,
+    earn_canceled_amount BIGINT NOT NULL DEFAULT 0,
+    used_amount BIGINT NOT NULL DEFAULT 0,
+    use_canceled_amount BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (member_id, point_date)
+);
+
+-- 일별 집계 반영 이벤트 (Outbox 재전달 시 중복 반영 방지, Outbox에서 삭제된 이벤트는 정리)
+-- | 컬럼명     | 설명                                   |
+-- |-----------|----------------------------------------|
+-- | event_id  | Outbox 이벤트 순번 (point_event_outbox.id) |
+-- | applied_at| 반영일시 (UTC)                           |
+CREATE TABLE IF NOT EXISTS member_point_daily_event (
+    event_id BIGINT PRIMARY KEY,
+    applied_at DATETIME NOT NULL
+);
+
+-- =============================================================================
+-- 포인트 부채(전체 미사용 잔액) 카운터 테이블
+-- =============================================================================
+-- 부채 = 취소되지 않고 swept_until 이후 만료되는 적립건의 available_amount 합계 = SUM(amount)
+-- | 컬럼명     | 설명                                                  |
+-- |-----------|-------------------------------------------------------|
+-- | stripe    | 스트라이프 번호 (회원 ID 해시, 0은 스윕/보정 차감도 누적)     |
+-- | amount    | 누적 변동분 (적립/사용취소 +, 사용/적립취소/만료 -)            |
+-- | updated_at| 수정일시 (UTC)                                         |
+CREATE TABLE IF NOT EXISTS point_liability_stripe (
+    stripe INT PRIMARY KEY,
+    amount BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL
+);
+
+-- 부채 만료 스윕 기준 (단일 행)
+-- | 컬럼명      | 설명                                                |
+-- |------------|-----------------------------------------------------|
+-- | id         | 1 고정                                               |
+-- | swept_until| 이 시각 이전에 만료된 적립건은 카운터에서 차감됨 (UTC)      |
+-- | updated_at | 수정일시 (UTC)                                       |
+CREATE TABLE IF NOT EXISTS point_liability_sweep (
+    id INT PRIMARY KEY,
+    swept_until DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL
+);
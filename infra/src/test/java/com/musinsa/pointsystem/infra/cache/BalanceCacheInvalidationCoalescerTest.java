@@ -0,0 +1,122 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.PointAmount;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceCacheInvalidationCoalescerTest extends IntegrationTestBase {
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private PointCacheCodec pointCacheCodec;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheProperties properties = new CacheProperties();
+    private BalanceCacheInvalidationCoalescer coalescer;
+    private RMapCache<String, PointAmount> cache;
+
+    @BeforeEach
+    void setUp() {
+        properties.setInvalidationWindowMs(100);
+        properties.setInvalidationMaxBatchSize(10);
+        coalescer = new BalanceCacheInvalidationCoalescer(redissonClient, pointCacheCodec, properties, meterRegistry);
+        cache = redissonClient.getMapCache(PointBalanceCacheService.CACHE_NAME, pointCacheCodec);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("모음 시간 내 무효화 요청은 회원 중복 제거 후 한 배치로 삭제된다")
+    void invalidate_withinWindow_coalesced() throws InterruptedException {
+        // GIVEN
+        List<UUID> memberIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        memberIds.forEach(id -> cache.fastPut(id.toString(), PointAmount.of(1000L)));
+
+        // WHEN
+        for (int i = 0; i < 3; i++) {
+            memberIds.forEach(coalescer::invalidate);
+        }
+
+        // THEN
+        for (int i = 0; i < 50 && memberIds.stream().anyMatch(id -> cache.containsKey(id.toString())); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(memberIds).noneMatch(id -> cache.containsKey(id.toString()));
+        DistributionSummary batchSize = meterRegistry.get("point.cache.invalidation.batch.size").summary();
+        assertThat(batchSize.count()).isEqualTo(1);
+        assertThat(batchSize.totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기에 도달하면 모음 시간 전에 삭제된다")
+    void invalidate_maxBatchSize_flushesEarly() throws InterruptedException {
+        // GIVEN
+        List<UUID> memberIds = Stream.generate(UUID::randomUUID).limit(10).toList();
+        memberIds.forEach(id -> cache.fastPut(id.toString(), PointAmount.of(1000L)));
+
+        // WHEN
+        memberIds.forEach(coalescer::invalidate);
+
+        // THEN
+        Thread.sleep(50);
+        assertThat(memberIds).noneMatch(id -> cache.containsKey(id.toString()));
+    }
+
+    @Test
+    @DisplayName("밀린 요청은 최대 배치 크기씩 나눠 삭제된다")
+    void invalidate_backlog_splitIntoMaxBatchSize() throws InterruptedException {
+        // GIVEN
+        List<UUID> memberIds = Stream.generate(UUID::randomUUID).limit(25).toList();
+        memberIds.forEach(id -> cache.fastPut(id.toString(), PointAmount.of(1000L)));
+
+        // WHEN
+        memberIds.forEach(coalescer::invalidate);
+
+        // THEN
+        for (int i = 0; i < 50 && memberIds.stream().anyMatch(id -> cache.containsKey(id.toString())); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(memberIds).noneMatch(id -> cache.containsKey(id.toString()));
+        DistributionSummary batchSize = meterRegistry.get("point.cache.invalidation.batch.size").summary();
+        assertThat(batchSize.totalAmount()).isEqualTo(25.0);
+        assertThat(batchSize.max()).isLessThanOrEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("대기 목록이 최대 크기에 도달하면 새 회원 요청은 버리고 기록한다 (이미 대기 중인 회원은 유지)")
+    void invalidate_pendingFull_dropsAndCounts() {
+        // GIVEN - 모음 시간이 길어 삭제 전 대기 목록이 채워짐
+        coalescer.shutdown();
+        properties.setInvalidationWindowMs(60_000);
+        properties.setInvalidationMaxBatchSize(100);
+        properties.setInvalidationMaxPending(5);
+        coalescer = new BalanceCacheInvalidationCoalescer(redissonClient, pointCacheCodec, properties, meterRegistry);
+        List<UUID> memberIds = Stream.generate(UUID::randomUUID).limit(8).toList();
+
+        // WHEN
+        memberIds.forEach(coalescer::invalidate);
+        coalescer.invalidate(memberIds.get(0));
+
+        // THEN
+        assertThat(meterRegistry.get("point.cache.invalidation.dropped").counter().count()).isEqualTo(3.0);
+    }
+}
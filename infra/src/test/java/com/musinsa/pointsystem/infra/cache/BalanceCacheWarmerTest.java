@@ -0,0 +1,240 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.PointAmount;
+import com.musinsa.pointsystem.infra.cache.BalanceCacheWarmer.State;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceCacheWarmerTest extends IntegrationTestBase {
+
+    private static final long INTERVAL_MS = 60_000;
+    private static final long WINDOW = 1_000;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final CacheProperties properties = new CacheProperties();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(WINDOW * INTERVAL_MS + 1_000), ZoneOffset.UTC);
+    private RecordingBalanceCacheService balanceCacheService;
+    private HotMemberTracker hotMemberTracker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setWarmerEnabled(true);
+        properties.setWarmerSnapshotIntervalMs(INTERVAL_MS);
+        balanceCacheService = new RecordingBalanceCacheService();
+        hotMemberTracker = new HotMemberTracker(properties);
+        deleteSnapshots();
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceCacheService.release();
+        deleteSnapshots();
+    }
+
+    @Nested
+    @DisplayName("워밍 상태 전환")
+    class StateTest {
+
+        @Test
+        @DisplayName("비활성화 시 DISABLED이고 항상 준비 완료")
+        void disabled_alwaysReady() {
+            // GIVEN
+            properties.setWarmerEnabled(false);
+            BalanceCacheWarmer warmer = createWarmer();
+
+            // WHEN
+            warmer.onApplicationReady();
+
+            // THEN
+            assertThat(warmer.getState()).isEqualTo(State.DISABLED);
+            assertThat(warmer.isReady()).isTrue();
+            assertThat(balanceCacheService.requested()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("PENDING → WARMING → READY 순으로 전환되고 READY 전까지 준비되지 않음")
+        void enabled_pendingWarmingReady() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            snapshot(WINDOW - 1).add(1, memberId.toString());
+            balanceCacheService.block();
+            BalanceCacheWarmer warmer = createWarmer();
+            assertThat(warmer.getState()).isEqualTo(State.PENDING);
+            assertThat(warmer.isReady()).isFalse();
+
+            // WHEN
+            warmer.onApplicationReady();
+
+            // THEN
+            awaitUntil(() -> warmer.getState() == State.WARMING && !balanceCacheService.requested().isEmpty());
+            assertThat(warmer.isReady()).isFalse();
+            balanceCacheService.release();
+            awaitUntil(() -> warmer.getState() == State.READY);
+            assertThat(warmer.isReady()).isTrue();
+            assertThat(balanceCacheService.requested()).containsExactly(memberId);
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 워밍 없이 READY")
+        void emptySnapshot_ready() {
+            // GIVEN
+            BalanceCacheWarmer warmer = createWarmer();
+
+            // WHEN
+            warmer.onApplicationReady();
+
+            // THEN
+            awaitUntil(() -> warmer.getState() == State.READY);
+            assertThat(balanceCacheService.requested()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("주기별 스냅샷")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("직전 주기 스냅샷을 현재 주기보다 우선 사용한다")
+        void load_prefersPreviousWindow() {
+            // GIVEN
+            UUID previous = UUID.randomUUID();
+            UUID current = UUID.randomUUID();
+            snapshot(WINDOW - 1).add(1, previous.toString());
+            snapshot(WINDOW).add(1, current.toString());
+            BalanceCacheWarmer warmer = createWarmer();
+
+            // WHEN
+            warmer.onApplicationReady();
+
+            // THEN
+            awaitUntil(() -> warmer.getState() == State.READY);
+            assertThat(balanceCacheService.requested()).containsExactly(previous);
+        }
+
+        @Test
+        @DisplayName("직전 주기 스냅샷이 없으면 현재 주기 스냅샷을 사용한다")
+        void load_fallsBackToCurrentWindow() {
+            // GIVEN
+            UUID current = UUID.randomUUID();
+            snapshot(WINDOW).add(1, current.toString());
+            BalanceCacheWarmer warmer = createWarmer();
+
+            // WHEN
+            warmer.onApplicationReady();
+
+            // THEN
+            awaitUntil(() -> warmer.getState() == State.READY);
+            assertThat(balanceCacheService.requested()).containsExactly(current);
+        }
+
+        @Test
+        @DisplayName("저장 시 현재 주기 키에 횟수를 합산하고 로컬 집계를 감쇠한다")
+        void save_accumulatesIntoCurrentWindow() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            for (int i = 0; i < 4; i++) hotMemberTracker.record(memberId);
+            snapshot(WINDOW).add(3, memberId.toString());
+            BalanceCacheWarmer warmer = createWarmer();
+
+            // WHEN
+            warmer.saveSnapshot();
+
+            // THEN
+            assertThat(snapshot(WINDOW).getScore(memberId.toString())).isEqualTo(7.0);
+            assertThat(snapshot(WINDOW).remainTimeToLive()).isPositive();
+            assertThat(hotMemberTracker.topMembers(1).get(0).count()).isEqualTo(2L);
+        }
+    }
+
+    private BalanceCacheWarmer createWarmer() {
+        return new BalanceCacheWarmer(
+                balanceCacheService, hotMemberTracker, redissonClient, properties, transactionManager, clock);
+    }
+
+    private RScoredSortedSet<String> snapshot(long window) {
+        return redissonClient.getScoredSortedSet(
+                BalanceCacheWarmer.HOT_MEMBERS_KEY + ":" + window, StringCodec.INSTANCE);
+    }
+
+    private void deleteSnapshots() {
+        snapshot(WINDOW - 1).delete();
+        snapshot(WINDOW).delete();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * 워밍 요청 회원을 기록하는 잔액 캐시 서비스 (block() 후 release() 전까지 워밍 배치를 대기시킴)
+     */
+    private static class RecordingBalanceCacheService extends PointBalanceCacheService {
+
+        private final List<UUID> requested = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        RecordingBalanceCacheService() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public Map<UUID, PointAmount> getTotalBalances(List<UUID> memberIds, LocalDateTime now) {
+            requested.addAll(memberIds);
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of();
+        }
+
+        void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        List<UUID> requested() {
+            return List.copyOf(requested);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.infra.persistence.repository.PointLedgerJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBloomFilter;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EarnedMemberBloomFilterTest extends IntegrationTestBase {
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private PointLedgerJpaRepository pointLedgerJpaRepository;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    private EarnedMemberBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        clearKeys();
+        MembershipFilterProperties properties = new MembershipFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedInsertions(100_000L);
+        properties.setRebuildChunkSize(2);
+        // 테스트마다 새 인스턴스 (ready 확인 결과 로컬 유지 상태 분리)
+        filter = new EarnedMemberBloomFilter(redissonClient, pointLedgerJpaRepository, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearKeys();
+    }
+
+    @Nested
+    @DisplayName("재구성")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("재구성 완료 표시가 없으면 point_ledger 회원으로 재구성 후 표시 값을 추가한다")
+        void rebuildIfNeeded_shouldLoadLedgerMembers() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            insertLedger(memberId);
+
+            // WHEN
+            filter.rebuildIfNeeded();
+
+            // THEN
+            assertThat(readyKeyExists()).isTrue();
+            assertThat(filter.mightHaveEarned(memberId)).isTrue();
+            assertThat(filter.mightHaveEarned(UUID.randomUUID())).isFalse();
+        }
+
+        @Test
+        @DisplayName("재구성 완료 표시가 있으면 재구성하지 않는다")
+        void rebuildIfNeeded_readyKeyExists_shouldSkip() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            insertLedger(memberId);
+            setReadyKey();
+
+            // WHEN
+            filter.rebuildIfNeeded();
+
+            // THEN
+            assertThat(bloomFilter().contains(memberId.toString())).isFalse();
+        }
+
+        @Test
+        @DisplayName("비트맵이 유실되면 이후 적립으로 비트맵이 다시 생겨도 다른 회원을 미포함으로 판정하지 않고 재구성한다")
+        void bitmapLost_shouldNotReturnFalseNegatives() throws InterruptedException {
+            // GIVEN - 재구성 완료 후 적립 이력이 있는 회원
+            UUID earnedMemberId = UUID.randomUUID();
+            insertLedger(earnedMemberId);
+            filter.rebuildIfNeeded();
+            assertThat(filter.mightHaveEarned(UUID.randomUUID())).isFalse();
+
+            // WHEN - 비트맵만 유실(eviction/장애 조치, 설정 키는 유지) 후 다른 회원 적립
+            redissonClient.getKeys().delete(EarnedMemberBloomFilter.FILTER_KEY);
+            filter.markEarned(UUID.randomUUID());
+
+            // THEN
+            assertThat(filter.mightHaveEarned(earnedMemberId)).isTrue();
+            assertThat(awaitReadyKey()).isTrue();
+            assertThat(bloomFilter().contains(earnedMemberId.toString())).isTrue();
+        }
+
+        @Test
+        @DisplayName("재구성 전에는 모든 회원이 통과하고 조회를 계기로 비동기 재구성이 시작된다")
+        void notReady_shouldPassAndTriggerRebuild() throws InterruptedException {
+            // WHEN
+            boolean result = filter.mightHaveEarned(UUID.randomUUID());
+
+            // THEN
+            assertThat(result).isTrue();
+            assertThat(awaitReadyKey()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("적립 기록")
+    class MarkEarnedTest {
+
+        @Test
+        @DisplayName("기록한 회원은 필터를 통과한다")
+        void markEarned_shouldPassFilter() {
+            // GIVEN
+            setReadyKey();
+            UUID memberId = UUID.randomUUID();
+
+            // WHEN
+            filter.markEarned(memberId);
+
+            // THEN
+            assertThat(filter.mightHaveEarned(memberId)).isTrue();
+            assertThat(filter.mightHaveEarned(UUID.randomUUID())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Redis 오류 시 예외를 전파한다 (기록 누락은 미탐이 되므로 적립 실패 처리)")
+        void markEarned_redisError_shouldThrow() {
+            // GIVEN
+            corruptFilter();
+
+            // WHEN & THEN
+            assertThatThrownBy(() -> filter.markEarned(UUID.randomUUID()))
+                    .isInstanceOf(RedisException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 유실 후 적립 기록")
+    class MarkEarnedAfterLossTest {
+
+        @Test
+        @DisplayName("필터 설정이 없으면 초기화 후 기록하지만 재구성 완료 표시가 없어 필터는 적용되지 않는다")
+        void markEarned_filterMissing_shouldInitWithoutReady() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+
+            // WHEN
+            filter.markEarned(memberId);
+
+            // THEN
+            assertThat(bloomFilter().contains(memberId.toString())).isTrue();
+            assertThat(readyKeyExists()).isFalse();
+            assertThat(filter.mightHaveEarned(UUID.randomUUID())).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class MightHaveEarnedTest {
+
+        @Test
+        @DisplayName("Redis 오류 시 필터를 적용하지 않고 통과시킨다")
+        void mightHaveEarned_redisError_shouldFailOpen() {
+            // GIVEN
+            setReadyKey();
+            corruptFilter();
+
+            // WHEN
+            boolean result = filter.mightHaveEarned(UUID.randomUUID());
+
+            // THEN
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("비활성화 시 모든 회원이 통과하고 기록하지 않는다")
+        void disabled_shouldPassAll() {
+            // GIVEN
+            MembershipFilterProperties properties = new MembershipFilterProperties();
+            EarnedMemberBloomFilter disabled =
+                    new EarnedMemberBloomFilter(redissonClient, pointLedgerJpaRepository, properties);
+            UUID memberId = UUID.randomUUID();
+
+            // WHEN
+            disabled.markEarned(memberId);
+
+            // THEN
+            assertThat(disabled.mightHaveEarned(UUID.randomUUID())).isTrue();
+            assertThat(filterExists()).isFalse();
+        }
+    }
+
+    private void insertLedger(UUID memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        pointLedgerRepository.insert(PointLedger.create(
+                UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now));
+    }
+
+    private void setReadyKey() {
+        RBloomFilter<String> bloomFilter = bloomFilter();
+        bloomFilter.tryInit(100_000L, 0.001);
+        bloomFilter.add(EarnedMemberBloomFilter.READY_SENTINEL);
+    }
+
+    private boolean readyKeyExists() {
+        try {
+            return bloomFilter().contains(EarnedMemberBloomFilter.READY_SENTINEL);
+        } catch (IllegalStateException e) {
+            // 필터 미초기화
+            return false;
+        }
+    }
+
+    private boolean awaitReadyKey() throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            if (readyKeyExists()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return false;
+    }
+
+    private boolean filterExists() {
+        return redissonClient.getKeys().countExists(
+                EarnedMemberBloomFilter.FILTER_KEY, EarnedMemberBloomFilter.CONFIG_KEY) > 0;
+    }
+
+    private RBloomFilter<String> bloomFilter() {
+        return redissonClient.getBloomFilter(EarnedMemberBloomFilter.FILTER_KEY, StringCodec.INSTANCE);
+    }
+
+    private void corruptFilter() {
+        redissonClient.getBucket(EarnedMemberBloomFilter.CONFIG_KEY, StringCodec.INSTANCE).set("not-a-hash");
+    }
+
+    private void clearKeys() {
+        redissonClient.getKeys().delete(EarnedMemberBloomFilter.FILTER_KEY, EarnedMemberBloomFilter.CONFIG_KEY);
+    }
+}
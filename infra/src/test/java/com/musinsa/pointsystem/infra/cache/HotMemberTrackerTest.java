@@ -0,0 +1,95 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.infra.cache.HotMemberTracker.HotMember;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotMemberTrackerTest {
+
+    private HotMemberTracker createTracker(int capacity) {
+        CacheProperties properties = new CacheProperties();
+        properties.setWarmerHotMemberCapacity(capacity);
+        return new HotMemberTracker(properties);
+    }
+
+    @Test
+    @DisplayName("조회 횟수 내림차순으로 상위 회원 반환")
+    void topMembers_orderedByCount() {
+        // GIVEN
+        HotMemberTracker tracker = createTracker(10);
+        UUID hot = UUID.randomUUID();
+        UUID warm = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) tracker.record(hot);
+        for (int i = 0; i < 3; i++) tracker.record(warm);
+        tracker.record(cold);
+
+        // WHEN
+        List<HotMember> result = tracker.topMembers(2);
+
+        // THEN
+        assertThat(result).extracting(HotMember::memberId).containsExactly(hot, warm);
+        assertThat(result).extracting(HotMember::count).containsExactly(5L, 3L);
+    }
+
+    @Test
+    @DisplayName("용량의 2배에 도달하면 다음 감쇠까지 새 회원은 집계하지 않는다")
+    void record_skipsNewMembersWhenFull() {
+        // GIVEN
+        HotMemberTracker tracker = createTracker(2);
+        UUID hot = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) tracker.record(UUID.randomUUID());
+
+        // WHEN
+        tracker.record(hot);
+
+        // THEN
+        assertThat(tracker.topMembers(10)).hasSize(4)
+                .extracting(HotMember::memberId).doesNotContain(hot);
+    }
+
+    @Test
+    @DisplayName("감쇠 시 상위 용량만큼만 유지하고 새 회원 집계를 재개한다")
+    void decay_trimsToCapacity() {
+        // GIVEN
+        HotMemberTracker tracker = createTracker(2);
+        UUID hot = UUID.randomUUID();
+        UUID warm = UUID.randomUUID();
+        for (int i = 0; i < 8; i++) tracker.record(hot);
+        for (int i = 0; i < 6; i++) tracker.record(warm);
+        for (int i = 0; i < 2; i++) {
+            UUID cold = UUID.randomUUID();
+            for (int j = 0; j < 4; j++) tracker.record(cold);
+        }
+
+        // WHEN
+        tracker.decay();
+        UUID newcomer = UUID.randomUUID();
+        for (int i = 0; i < 10; i++) tracker.record(newcomer);
+
+        // THEN
+        assertThat(tracker.topMembers(10)).extracting(HotMember::memberId).containsExactly(newcomer, hot, warm);
+    }
+
+    @Test
+    @DisplayName("감쇠 시 횟수가 절반이 되고 0이 된 회원은 제거")
+    void decay_halvesCounts() {
+        // GIVEN
+        HotMemberTracker tracker = createTracker(10);
+        UUID hot = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        for (int i = 0; i < 4; i++) tracker.record(hot);
+        tracker.record(cold);
+
+        // WHEN
+        tracker.decay();
+
+        // THEN
+        assertThat(tracker.topMembers(10)).containsExactly(new HotMember(hot, 2));
+    }
+}
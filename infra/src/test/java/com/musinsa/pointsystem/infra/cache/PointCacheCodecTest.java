@@ -0,0 +1,160 @@
+package com.musinsa.pointsystem.infra.cache;
+
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.model.EarnPolicyConfig;
+import com.musinsa.pointsystem.domain.model.ExpirationPolicyConfig;
+import com.musinsa.pointsystem.domain.model.PointAmount;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.redisson.client.codec.Codec;
+import org.redisson.codec.Kryo5Codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PointCacheCodec 테스트")
+class PointCacheCodecTest {
+
+    private Kryo5Codec kryo;
+    private PointCacheCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        kryo = new Kryo5Codec();
+        codec = new PointCacheCodec(kryo);
+    }
+
+    @Nested
+    @DisplayName("왕복 인코딩")
+    class RoundTripTest {
+
+        @Test
+        @DisplayName("PointAmount")
+        void pointAmount() throws Exception {
+            PointAmount amount = PointAmount.of(15_000L);
+
+            assertThat(roundTrip(codec, amount)).isEqualTo(amount);
+        }
+
+        @Test
+        @DisplayName("EarnPolicyConfig")
+        void earnPolicyConfig() throws Exception {
+            EarnPolicyConfig config = EarnPolicyConfig.of(
+                    PointAmount.of(1L), PointAmount.of(100_000L), PointAmount.of(10_000_000L), 365, 1, 1824);
+
+            assertThat(roundTrip(codec, config)).isEqualTo(config);
+        }
+
+        @Test
+        @DisplayName("EarnPolicyConfig - null 필드 보존")
+        void earnPolicyConfig_withNullFields() throws Exception {
+            EarnPolicyConfig config = EarnPolicyConfig.of(
+                    PointAmount.of(1L), null, PointAmount.of(10_000_000L), null, 1, null);
+
+            assertThat(roundTrip(codec, config)).isEqualTo(config);
+        }
+
+        @Test
+        @DisplayName("ExpirationPolicyConfig")
+        void expirationPolicyConfig() throws Exception {
+            ExpirationPolicyConfig config = ExpirationPolicyConfig.of(365);
+
+            assertThat(roundTrip(codec, config)).isEqualTo(config);
+        }
+
+        @Test
+        @DisplayName("멱등성 결과 문자열 (UTF-8)")
+        void string() throws Exception {
+            String result = "{\"memberId\":\"abc\",\"message\":\"적립 완료\"}";
+
+            assertThat(roundTrip(codec, result)).isEqualTo(result);
+        }
+
+        @Test
+        @DisplayName("멱등성 저장 응답 (상태 코드, Content-Type, 본문 bytes)")
+        void storedResponse() throws Exception {
+            byte[] body = "{\"usedAmount\":1000}".getBytes(StandardCharsets.UTF_8);
+            StoredResponse response = new StoredResponse(200, StoredResponse.JSON, body);
+
+            StoredResponse decoded = (StoredResponse) roundTrip(codec, response);
+
+            assertThat(decoded.status()).isEqualTo(200);
+            assertThat(decoded.contentType()).isEqualTo(StoredResponse.JSON);
+            assertThat(decoded.body()).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 타입은 위임 codec으로 처리")
+        void fallback() throws Exception {
+            LocalDateTime value = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+            assertThat(roundTrip(codec, value)).isEqualTo(value);
+        }
+    }
+
+    @Nested
+    @DisplayName("스키마 버전")
+    class VersionTest {
+
+        @Test
+        @DisplayName("다른 codec으로 저장된 값은 null (캐시 미스)")
+        void foreignEncoding_shouldDecodeAsNull() throws Exception {
+            byte[] kryoBytes = encode(kryo, PointAmount.of(1000L));
+
+            Object decoded = codec.getValueDecoder().decode(Unpooled.wrappedBuffer(kryoBytes), null);
+
+            assertThat(decoded).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 버전의 값은 null (캐시 미스)")
+        void otherVersion_shouldDecodeAsNull() throws Exception {
+            byte[] bytes = encode(codec, PointAmount.of(1000L));
+            bytes[1] = (byte) (PointCacheCodec.VERSION + 1);
+
+            Object decoded = codec.getValueDecoder().decode(Unpooled.wrappedBuffer(bytes), null);
+
+            assertThat(decoded).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("인코딩 크기")
+    class SizeTest {
+
+        @Test
+        @DisplayName("PointAmount는 헤더 3byte + 8byte 고정")
+        void pointAmount_fixedSize() throws Exception {
+            assertThat(encode(codec, PointAmount.of(PointAmount.MAX_VALUE))).hasSize(11);
+        }
+
+        @Test
+        @DisplayName("정책 설정은 기존 codec보다 작음")
+        void policy_smallerThanKryo() throws Exception {
+            EarnPolicyConfig config = EarnPolicyConfig.of(
+                    PointAmount.of(1L), PointAmount.of(100_000L), PointAmount.of(10_000_000L), 365, 1, 1824);
+
+            assertThat(encode(codec, config).length).isLessThan(encode(kryo, config).length);
+        }
+    }
+
+    private static Object roundTrip(Codec codec, Object value) throws Exception {
+        return codec.getValueDecoder().decode(Unpooled.wrappedBuffer(encode(codec, value)), null);
+    }
+
+    private static byte[] encode(Codec codec, Object value) throws Exception {
+        ByteBuf buf = codec.getValueEncoder().encode(value);
+        try {
+            return ByteBufUtil.getBytes(buf);
+        } finally {
+            buf.release();
+        }
+    }
+}
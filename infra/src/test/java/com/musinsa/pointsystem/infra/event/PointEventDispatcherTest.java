@@ -0,0 +1,120 @@
+package com.musinsa.pointsystem.infra.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointEventDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PointEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private PointEventDispatcher createDispatcher(int lanes, int queueCapacity) {
+        EventDispatchProperties properties = new EventDispatchProperties();
+        properties.setLanes(lanes);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setRetryBackoffMs(10);
+        dispatcher = new PointEventDispatcher(properties, meterRegistry);
+        return dispatcher;
+    }
+
+    @Test
+    @DisplayName("같은 회원의 작업은 등록 순서대로 실행된다")
+    void dispatch_sameMember_preservesOrder() throws InterruptedException {
+        // GIVEN
+        createDispatcher(4, 1000);
+        UUID memberId = UUID.randomUUID();
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        // WHEN
+        for (int i = 0; i < 200; i++) {
+            int sequence = i;
+            dispatcher.dispatch(memberId, "append", () -> executed.add(sequence));
+        }
+
+        // THEN
+        awaitUntil(() -> executed.size() == 200);
+        assertThat(executed).isSorted();
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 최대 시도 횟수까지 재시도된다")
+    void dispatch_failure_retried() throws InterruptedException {
+        // GIVEN
+        createDispatcher(1, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // WHEN
+        dispatcher.dispatch(UUID.randomUUID(), "flaky", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("redis down");
+            }
+        });
+
+        // THEN
+        awaitUntil(() -> attempts.get() == 3);
+        assertThat(meterRegistry.get("point.event.dispatch").tag("result", "retried").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 호출 스레드에서 직접 실행한다")
+    void dispatch_queueFull_runsOnCaller() throws InterruptedException {
+        // GIVEN
+        createDispatcher(1, 1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch(UUID.randomUUID(), "block", () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(UUID.randomUUID(), "queued", () -> { });
+
+        // WHEN
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+        dispatcher.dispatch(UUID.randomUUID(), "overflow", () -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+        blocker.countDown();
+
+        // THEN
+        assertThat(ranOnCaller.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.event.dispatch").tag("result", "caller_runs").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.musinsa.pointsystem.infra.event.ring;
+
+import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
+import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointEventRingBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    /**
+     * 시퀀스 연속성과 금액 합계를 검증하는 소비자
+     */
+    private static final class SummingConsumer implements PointEventConsumer {
+        private long expectedSequence = 0;
+        private boolean sequenceGap = false;
+        private long totalAmount = 0;
+        private long events = 0;
+        private long batches = 0;
+
+        @Override
+        public void onEvent(PointEventSlot slot, long sequence, boolean endOfBatch) {
+            if (sequence != expectedSequence++) {
+                sequenceGap = true;
+            }
+            totalAmount += slot.amount();
+            events++;
+            if (endOfBatch) {
+                batches++;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 발행자가 작은 버퍼에 동시에 발행해도 모든 소비자가 모든 이벤트를 순서대로 받는다")
+    void publish_concurrentProducers_allConsumersReceiveAll() throws InterruptedException {
+        // GIVEN
+        SummingConsumer first = new SummingConsumer();
+        SummingConsumer second = new SummingConsumer();
+        PointEventRingBuffer ringBuffer = new PointEventRingBuffer(64, List.of(first, second));
+        ringBuffer.start();
+        int producers = 4;
+        int eventsPerProducer = 10_000;
+
+        // WHEN
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                UUID memberId = UUID.randomUUID();
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    ringBuffer.publish(PointUsedEvent.of(memberId, 1L, "ORDER", 1, NOW));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        ringBuffer.stop(5000);
+
+        // THEN
+        long total = (long) producers * eventsPerProducer;
+        for (SummingConsumer consumer : List.of(first, second)) {
+            assertThat(consumer.sequenceGap).isFalse();
+            assertThat(consumer.events).isEqualTo(total);
+            assertThat(consumer.totalAmount).isEqualTo(total);
+            assertThat(consumer.batches).isBetween(1L, total);
+        }
+        assertThat(ringBuffer.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("슬롯은 이벤트 필드를 평탄화하여 보관한다")
+    void slot_flattensEventFields() throws InterruptedException {
+        // GIVEN
+        List<String> received = new CopyOnWriteArrayList<>();
+        PointEventRingBuffer ringBuffer = new PointEventRingBuffer(8, List.of((slot, sequence, endOfBatch) ->
+                received.add(slot.type() + ":" + slot.memberId() + ":" + slot.ledgerId() + ":"
+                        + slot.amount() + ":" + slot.reference() + ":" + slot.ledgerCount())));
+        ringBuffer.start();
+        UUID memberId = UUID.randomUUID();
+        UUID ledgerId = UUID.randomUUID();
+
+        // WHEN
+        ringBuffer.publish(PointEarnedEvent.of(memberId, ledgerId, 1000L, "MANUAL", NOW.plusDays(365), NOW));
+        ringBuffer.publish(PointUsedEvent.of(memberId, 300L, "ORDER-1", 2, NOW));
+        ringBuffer.stop(5000);
+
+        // THEN
+        assertThat(received).containsExactly(
+                "EARNED:" + memberId + ":" + ledgerId + ":1000:MANUAL:0",
+                "USED:" + memberId + ":null:300:ORDER-1:2");
+    }
+
+    @Test
+    @DisplayName("시작 전에는 발행하지 않는다")
+    void publish_beforeStart_ignored() {
+        PointEventRingBuffer ringBuffer = new PointEventRingBuffer(8, List.of());
+
+        assertThat(ringBuffer.publish(PointUsedEvent.of(UUID.randomUUID(), 1L, "ORDER", 1, NOW))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기는 2의 거듭제곱이어야 한다")
+    void constructor_nonPowerOfTwo_throws() {
+        assertThatThrownBy(() -> new PointEventRingBuffer(100, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
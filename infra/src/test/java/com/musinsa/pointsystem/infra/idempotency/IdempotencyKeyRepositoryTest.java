@@ -2,17 +2,25 @@ package com.musinsa.pointsystem.infra.idempotency;
 
 import com.musinsa.pointsystem.IntegrationTestBase;
 import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.AcquireResult;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.infra.cache.PointCacheCodec;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,6 +30,15 @@ class IdempotencyKeyRepositoryTest extends IntegrationTestBase {
     @Autowired
     private IdempotencyKeyRepository repository;
 
+    @Autowired
+    private IdempotencyProperties properties;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private PointCacheCodec codec;
+
     private String testKey;
 
     @BeforeEach
@@ -134,6 +151,192 @@ class IdempotencyKeyRepositoryTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("admit")
+    class AdmitTest {
+
+        @Test
+        @DisplayName("새 키면 ACQUIRED, 결과 없음")
+        void newKey_shouldBeAcquired() {
+            // WHEN
+            Admission admission = repository.admit(testKey);
+
+            // THEN
+            assertThat(admission.status()).isEqualTo(AcquireResult.ACQUIRED);
+            assertThat(admission.result()).isNull();
+        }
+
+        @Test
+        @DisplayName("처리 중인 키면 PROCESSING")
+        void processingKey_shouldReturnProcessing() {
+            // GIVEN
+            repository.admit(testKey);
+
+            // WHEN
+            Admission admission = repository.admit(testKey);
+
+            // THEN
+            assertThat(admission.status()).isEqualTo(AcquireResult.PROCESSING);
+            assertThat(admission.result()).isNull();
+        }
+
+        @Test
+        @DisplayName("완료된 키면 저장된 결과를 함께 반환")
+        void completedKey_shouldReturnResult() {
+            // GIVEN
+            repository.admit(testKey);
+            repository.saveResult(testKey, "{\"amount\":1000}");
+
+            // WHEN
+            Admission admission = repository.admit(testKey);
+
+            // THEN
+            assertThat(admission.status()).isEqualTo(AcquireResult.ALREADY_COMPLETED);
+            assertThat(admission.result()).isEqualTo("{\"amount\":1000}");
+        }
+    }
+
+    @Nested
+    @DisplayName("awaitResponse")
+    class AwaitResponseTest {
+
+        private long originalWaitMs;
+
+        @BeforeEach
+        void enableWait() {
+            originalWaitMs = properties.getInProgressWaitMs();
+            properties.setInProgressWaitMs(2000);
+        }
+
+        @AfterEach
+        void restoreWait() {
+            properties.setInProgressWaitMs(originalWaitMs);
+        }
+
+        @Test
+        @DisplayName("대기 중 원 요청이 완료되면 저장된 응답 반환")
+        void completedWhileWaiting_shouldReturnResponse() {
+            // GIVEN
+            repository.admit(testKey);
+            byte[] body = "{\"usedAmount\":1000}".getBytes(StandardCharsets.UTF_8);
+            Thread.ofVirtual().start(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                repository.saveResponse(testKey, StoredResponse.json(body));
+            });
+
+            // WHEN
+            Optional<StoredResponse> result = repository.awaitResponse(testKey);
+
+            // THEN
+            assertThat(result).isPresent();
+            assertThat(result.get().body()).isEqualTo(body);
+        }
+
+        @Test
+        @DisplayName("원 요청이 실패하여 키가 삭제되면 empty 반환")
+        void removedWhileWaiting_shouldReturnEmpty() {
+            // GIVEN
+            repository.admit(testKey);
+            Thread.ofVirtual().start(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                repository.remove(testKey);
+            });
+
+            // WHEN
+            long startedAt = System.nanoTime();
+            Optional<StoredResponse> result = repository.awaitResponse(testKey);
+
+            // THEN - 타임아웃(2초)까지 기다리지 않고 종료
+            assertThat(result).isEmpty();
+            assertThat(System.nanoTime() - startedAt).isLessThan(1_500_000_000L);
+        }
+
+        @Test
+        @DisplayName("대기 시간 내 완료되지 않으면 empty 반환")
+        void notCompleted_shouldTimeout() {
+            // GIVEN
+            properties.setInProgressWaitMs(200);
+            repository.admit(testKey);
+
+            // WHEN
+            Optional<StoredResponse> result = repository.awaitResponse(testKey);
+
+            // THEN
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비동기 대기는 호출 스레드를 막지 않고 완료 알림 시 저장된 응답으로 완료된다")
+        void awaitResponseAsync_shouldCompleteOnNotification() throws Exception {
+            // GIVEN
+            repository.admit(testKey);
+            byte[] body = "{\"usedAmount\":1000}".getBytes(StandardCharsets.UTF_8);
+
+            // WHEN
+            CompletableFuture<Optional<StoredResponse>> pending = repository.awaitResponseAsync(testKey);
+            boolean doneBeforeSave = pending.isDone();
+            repository.saveResponse(testKey, StoredResponse.json(body));
+
+            // THEN
+            assertThat(doneBeforeSave).isFalse();
+            assertThat(pending.get(1, TimeUnit.SECONDS)).hasValueSatisfying(
+                    response -> assertThat(response.body()).isEqualTo(body));
+        }
+
+        @Test
+        @DisplayName("완료 알림이 유실되어도 타임아웃 후 저장된 응답을 다시 조회한다")
+        void awaitResponseAsync_notificationLost_shouldFallbackToStoredResponse() throws Exception {
+            // GIVEN - 알림 없이 응답만 저장 (다른 Pod 알림 유실 상황)
+            properties.setInProgressWaitMs(200);
+            repository.admit(testKey);
+            CompletableFuture<Optional<StoredResponse>> pending = repository.awaitResponseAsync(testKey);
+            byte[] body = "{\"usedAmount\":1000}".getBytes(StandardCharsets.UTF_8);
+            redissonClient.getBucket("idempotency:" + testKey, codec).set(StoredResponse.json(body));
+
+            // WHEN
+            Optional<StoredResponse> result = pending.get(1, TimeUnit.SECONDS);
+
+            // THEN
+            assertThat(result).hasValueSatisfying(response -> assertThat(response.body()).isEqualTo(body));
+        }
+
+        @Test
+        @DisplayName("비동기 대기 시간 내 완료되지 않으면 empty로 완료된다")
+        void awaitResponseAsync_notCompleted_shouldTimeout() throws Exception {
+            // GIVEN
+            properties.setInProgressWaitMs(200);
+            repository.admit(testKey);
+
+            // WHEN
+            Optional<StoredResponse> result = repository.awaitResponseAsync(testKey).get(1, TimeUnit.SECONDS);
+
+            // THEN
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("대기하지 않도록 설정되면 비동기 대기는 이미 완료된 empty를 반환")
+        void awaitResponseAsync_waitDisabled_shouldCompleteImmediately() {
+            // GIVEN
+            properties.setInProgressWaitMs(0);
+            repository.admit(testKey);
+
+            // WHEN
+            CompletableFuture<Optional<StoredResponse>> pending = repository.awaitResponseAsync(testKey);
+
+            // THEN
+            assertThat(pending).isCompletedWithValue(Optional.empty());
+        }
+    }
+
     @Nested
     @DisplayName("remove")
     class RemoveTest {
@@ -0,0 +1,103 @@
+package com.musinsa.pointsystem.infra.idempotency;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.AcquireResult;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.Admission;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyKeyPort.StoredResponse;
+import com.musinsa.pointsystem.domain.infrastructure.IdempotencyRecordPort.DuplicateRecordException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyRecordRepositoryTest extends IntegrationTestBase {
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String testKey;
+
+    @BeforeEach
+    void setUp() {
+        testKey = "record-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.end();
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 커밋 시 멱등성 키가 기록된다")
+    void commit_shouldInsertRecord() {
+        // WHEN
+        repository.begin(testKey);
+        transactionTemplate.executeWithoutResult(status -> { });
+        repository.end();
+
+        // THEN
+        Admission admission = repository.find(testKey);
+        assertThat(admission.status()).isEqualTo(AcquireResult.ALREADY_COMPLETED);
+        assertThat(admission.response()).isNull();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션은 기록되지 않는다")
+    void rollback_shouldNotInsertRecord() {
+        // WHEN
+        repository.begin(testKey);
+        transactionTemplate.executeWithoutResult(status -> status.setRollbackOnly());
+        repository.end();
+
+        // THEN
+        assertThat(repository.find(testKey).status()).isEqualTo(AcquireResult.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("이미 기록된 키로 다시 커밋하면 DuplicateRecordException")
+    void duplicateKey_shouldThrow() {
+        // GIVEN
+        repository.begin(testKey);
+        transactionTemplate.executeWithoutResult(status -> { });
+        repository.end();
+
+        // WHEN & THEN
+        repository.begin(testKey);
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> { }))
+                .isInstanceOf(DuplicateRecordException.class);
+    }
+
+    @Test
+    @DisplayName("응답은 비동기로 저장된다")
+    void saveResponseAsync_shouldStoreResponse() throws InterruptedException {
+        // GIVEN
+        repository.begin(testKey);
+        transactionTemplate.executeWithoutResult(status -> { });
+        repository.end();
+        byte[] body = "{\"usedAmount\":1000}".getBytes(StandardCharsets.UTF_8);
+
+        // WHEN
+        repository.saveResponseAsync(testKey, StoredResponse.json(body));
+
+        // THEN
+        StoredResponse stored = null;
+        for (int i = 0; i < 30 && stored == null; i++) {
+            Thread.sleep(100);
+            stored = repository.find(testKey).response();
+        }
+        assertThat(stored).isNotNull();
+        assertThat(stored.status()).isEqualTo(200);
+        assertThat(stored.body()).isEqualTo(body);
+    }
+}
@@ -0,0 +1,127 @@
+package com.musinsa.pointsystem.infra.liability;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import com.musinsa.pointsystem.fixture.PointLedgerFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointLiabilityCounterRepositoryTest extends IntegrationTestBase {
+
+    // 다른 테스트의 적립건과 겹치지 않는 만료 구간
+    private static final LocalDateTime BASE = LocalDateTime.of(2090, 1, 1, 0, 0);
+
+    @Autowired
+    private PointLiabilityCounterRepository liabilityRepository;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_liability_stripe");
+        jdbcTemplate.update("DELETE FROM point_liability_sweep");
+        jdbcTemplate.update("DELETE FROM point_ledger WHERE expired_at >= ?", BASE);
+    }
+
+    @Nested
+    @DisplayName("변동분 누적")
+    class AddTest {
+
+        @Test
+        @DisplayName("회원별 스트라이프에 나뉘어 누적되고 합계로 조회된다")
+        void add_shouldSumAcrossStripes() {
+            // GIVEN
+            UUID memberA = UUID.randomUUID();
+            UUID memberB = UUID.randomUUID();
+
+            // WHEN
+            liabilityRepository.add(memberA, 1000L);
+            liabilityRepository.add(memberB, 500L);
+            liabilityRepository.add(memberA, -300L);
+
+            // THEN
+            assertThat(liabilityRepository.getLiability().amount()).isEqualTo(1200L);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_liability_stripe", Integer.class))
+                    .isBetween(1, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 스윕")
+    class SweepTest {
+
+        @Test
+        @DisplayName("최초 스윕은 기준 시각만 기록한다")
+        void firstSweep_shouldOnlyRecordBaseline() {
+            // WHEN
+            long swept = liabilityRepository.sweepExpired(BASE);
+
+            // THEN
+            assertThat(swept).isZero();
+            assertThat(liabilityRepository.getLiability().sweptUntil()).isEqualTo(BASE);
+        }
+
+        @Test
+        @DisplayName("기준 이후 만료된 적립건 잔액만 한 번 차감한다")
+        void sweep_shouldSubtractExpiredOnce() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            liabilityRepository.sweepExpired(BASE);
+            saveLedger(memberId, 1000L, BASE.plusHours(1));
+            saveLedger(memberId, 2000L, BASE.plusDays(1));
+            pointLedgerRepository.save(PointLedgerFixture.createWithExpiration(
+                    UUID.randomUUID(), memberId, 400L, EarnType.MANUAL, BASE.plusHours(2)).withCanceled());
+            liabilityRepository.add(memberId, 3000L);
+
+            // WHEN
+            long first = liabilityRepository.sweepExpired(BASE.plusHours(12));
+            long second = liabilityRepository.sweepExpired(BASE.plusHours(12));
+
+            // THEN
+            assertThat(first).isEqualTo(1000L);
+            assertThat(second).isZero();
+            assertThat(liabilityRepository.getLiability().amount()).isEqualTo(2000L);
+            assertThat(liabilityRepository.getLiability().sweptUntil()).isEqualTo(BASE.plusHours(12));
+        }
+    }
+
+    @Nested
+    @DisplayName("적립취소 차감")
+    class RemoveCanceledTest {
+
+        @Test
+        @DisplayName("스윕으로 이미 차감된 적립건은 다시 차감하지 않는다")
+        void removeCanceled_shouldSkipSweptLedger() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            liabilityRepository.sweepExpired(BASE);
+            liabilityRepository.add(memberId, 5000L);
+
+            // WHEN
+            liabilityRepository.removeCanceled(memberId, 1000L, BASE.minusDays(1));
+            liabilityRepository.removeCanceled(memberId, 2000L, BASE.plusDays(1));
+
+            // THEN
+            assertThat(liabilityRepository.getLiability().amount()).isEqualTo(3000L);
+        }
+    }
+
+    private void saveLedger(UUID memberId, long amount, LocalDateTime expiredAt) {
+        pointLedgerRepository.save(PointLedgerFixture.createWithExpiration(
+                UUID.randomUUID(), memberId, amount, EarnType.MANUAL, expiredAt));
+    }
+}
@@ -0,0 +1,257 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+import com.musinsa.pointsystem.infra.event.SpringPointEventPublisher;
+import com.musinsa.pointsystem.infra.event.ring.RingBufferPointEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointEventOutboxRelayTest extends IntegrationTestBase {
+
+    @Autowired
+    private PointEventOutboxRepository outboxRepository;
+
+    @Autowired
+    private PointEventSerializer serializer;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private ObjectProvider<RingBufferPointEventBus> ringBufferBus;
+
+    private OutboxProperties properties;
+    private InMemoryPointEventSink sink;
+    private PointEventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_event_outbox");
+        jdbcTemplate.update("DELETE FROM point_event_outbox_delivery");
+        jdbcTemplate.update("DELETE FROM point_event_outbox_dead_letter");
+        properties = new OutboxProperties();
+        properties.setBatchSize(2);
+        sink = new InMemoryPointEventSink();
+        relay = new PointEventOutboxRelay(outboxRepository, List.of(sink), properties, new SimpleMeterRegistry(), clock);
+    }
+
+    @Nested
+    @DisplayName("Outbox 기록")
+    class AppendTest {
+
+        @Test
+        @DisplayName("커밋된 이벤트만 기록된다")
+        void append_shouldFollowTransaction() {
+            // WHEN
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.append(earnedEvent()));
+            transactionTemplate.executeWithoutResult(status -> {
+                outboxRepository.append(earnedEvent());
+                status.setRollbackOnly();
+            });
+
+            // THEN
+            assertThat(pendingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("등록된 Sink가 없으면 기록하지 않는다")
+        void append_shouldSkipWithoutSinks() {
+            // GIVEN
+            SpringPointEventPublisher publisher = new SpringPointEventPublisher(
+                    event -> { }, outboxRepository, new OutboxProperties(), List.of(), ringBufferBus);
+
+            // WHEN
+            transactionTemplate.executeWithoutResult(status -> {
+                publisher.publish(earnedEvent());
+                publisher.publishAll(List.of(earnedEvent(), earnedEvent()));
+            });
+
+            // THEN
+            assertThat(pendingCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("릴레이")
+    class RelayTest {
+
+        @Test
+        @DisplayName("이벤트를 순서대로 전달하고 전달된 행은 삭제한다")
+        void relay_shouldDeliverInOrderAndDelete() {
+            // GIVEN
+            PointEarnedEvent earned = earnedEvent();
+            PointUsedEvent used = PointUsedEvent.of(earned.memberId(), 300L, "ORDER-1", 1, now());
+            transactionTemplate.executeWithoutResult(status -> {
+                outboxRepository.append(earned);
+                outboxRepository.append(used);
+                outboxRepository.append(earnedEvent());
+            });
+
+            // WHEN
+            relay.relay();
+
+            // THEN
+            List<OutboxEvent> delivered = sink.events();
+            assertThat(delivered).hasSize(3);
+            assertThat(delivered).extracting(OutboxEvent::id).isSorted();
+            List<PointEvent> events = delivered.stream().map(serializer::deserialize).toList();
+            assertThat(events.get(0)).isEqualTo(earned);
+            assertThat(events.get(1)).isEqualTo(used);
+            assertThat(pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Sink 실패 시 행을 유지하고 재시도 대기 후에만 재점유한다")
+        void relay_shouldReleaseOnFailure() {
+            // GIVEN
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.append(earnedEvent()));
+            PointEventSink failingSink = events -> {
+                throw new IllegalStateException("sink down");
+            };
+            PointEventOutboxRelay failingRelay = new PointEventOutboxRelay(
+                    outboxRepository, List.of(failingSink), properties, new SimpleMeterRegistry(), clock);
+
+            // WHEN
+            failingRelay.relayOnce();
+
+            // THEN
+            assertThat(pendingCount()).isEqualTo(1);
+            assertThat(relay.relayOnce()).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT attempts FROM point_event_outbox", Integer.class))
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("일부 Sink만 실패하면 재시도 시 실패한 Sink에만 다시 전달한다")
+        void relay_shouldRetryOnlyFailedSink() {
+            // GIVEN
+            transactionTemplate.executeWithoutResult(status -> {
+                outboxRepository.append(earnedEvent());
+                outboxRepository.append(earnedEvent());
+            });
+            properties.setRetryBackoffMs(0);
+            FlakySink flakySink = new FlakySink(1);
+            PointEventOutboxRelay partialRelay = new PointEventOutboxRelay(
+                    outboxRepository, List.of(sink, flakySink), properties, new SimpleMeterRegistry(), clock);
+
+            // WHEN
+            partialRelay.relayOnce();
+            partialRelay.relayOnce();
+
+            // THEN
+            assertThat(sink.events()).hasSize(2);
+            assertThat(flakySink.events()).hasSize(2);
+            assertThat(pendingCount()).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_event_outbox_delivery", Integer.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("시도 횟수가 한도에 도달하면 전달 포기 테이블로 이관한다")
+        void relay_shouldDeadLetterAfterMaxAttempts() {
+            // GIVEN
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.append(earnedEvent()));
+            properties.setRetryBackoffMs(0);
+            properties.setMaxAttempts(2);
+            FlakySink flakySink = new FlakySink(Integer.MAX_VALUE);
+            PointEventOutboxRelay failingRelay = new PointEventOutboxRelay(
+                    outboxRepository, List.of(sink, flakySink), properties, new SimpleMeterRegistry(), clock);
+
+            // WHEN
+            failingRelay.relayOnce();
+            failingRelay.relayOnce();
+
+            // THEN - 성공한 Sink에는 1회만 전달, 실패한 Sink 이름과 사유 기록
+            assertThat(sink.events()).hasSize(1);
+            assertThat(pendingCount()).isZero();
+            Map<String, Object> deadLetter = jdbcTemplate.queryForMap(
+                    "SELECT attempts, failed_sinks, last_error FROM point_event_outbox_dead_letter");
+            assertThat(deadLetter.get("attempts")).isEqualTo(2);
+            assertThat(deadLetter.get("failed_sinks")).isEqualTo("FlakySink");
+            assertThat((String) deadLetter.get("last_error")).contains("sink down");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_event_outbox_delivery", Integer.class))
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("점유 중인 행은 다른 릴레이가 점유하지 않는다")
+        void claim_shouldSkipLeasedRows() {
+            // GIVEN
+            transactionTemplate.executeWithoutResult(status -> {
+                outboxRepository.append(earnedEvent());
+                outboxRepository.append(earnedEvent());
+                outboxRepository.append(earnedEvent());
+            });
+            LocalDateTime leaseUntil = now().plusSeconds(30);
+
+            // WHEN
+            List<OutboxEvent> first = outboxRepository.claim("relay-a", 2, leaseUntil);
+            List<OutboxEvent> second = outboxRepository.claim("relay-b", 2, leaseUntil);
+
+            // THEN
+            assertThat(first).hasSize(2);
+            assertThat(second).hasSize(1);
+            assertThat(second.get(0).id()).isNotIn(first.stream().map(OutboxEvent::id).toList());
+            assertThat(outboxRepository.delete("relay-b", first)).isZero();
+        }
+    }
+
+    /**
+     * 처음 failures회 전달은 실패하는 Sink
+     */
+    private static class FlakySink extends InMemoryPointEventSink {
+
+        private int failures;
+
+        FlakySink(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public void deliver(List<OutboxEvent> batch) {
+            if (failures-- > 0) {
+                throw new IllegalStateException("sink down");
+            }
+            super.deliver(batch);
+        }
+    }
+
+    private PointEarnedEvent earnedEvent() {
+        LocalDateTime now = now();
+        return PointEarnedEvent.of(UUID.randomUUID(), UUID.randomUUID(), 1000L, "MANUAL", now.plusDays(365), now);
+    }
+
+    private LocalDateTime now() {
+        // DB 저장 정밀도와 무관하게 비교하도록 초 단위로 절삭
+        return LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private int pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_event_outbox", Integer.class);
+    }
+}
@@ -0,0 +1,67 @@
+package com.musinsa.pointsystem.infra.persistence.repository;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LedgerEntryRepositoryImplTest extends IntegrationTestBase {
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("변동 이력 saveAll은 존재 확인 SELECT 없이 INSERT 배치 1회로 저장한다")
+    void saveAll_shouldBatchWithoutSelect() {
+        // GIVEN
+        UUID ledgerId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<LedgerEntry> entries = IntStream.range(0, 5)
+                .mapToObj(i -> LedgerEntry.createUse(UUID.randomUUID(), ledgerId, 10L, "ORDER-BATCH-" + i, now))
+                .toList();
+
+        // WHEN
+        transactionTemplate.executeWithoutResult(status -> ledgerEntryRepository.saveAll(entries));
+
+        // THEN
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(ledgerEntryRepository.findByLedgerId(ledgerId)).hasSize(5);
+    }
+}
@@ -0,0 +1,99 @@
+package com.musinsa.pointsystem.infra.persistence.repository;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.EntryType;
+import com.musinsa.pointsystem.domain.model.LedgerEntry;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.LedgerEntryRepository;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointLedgerBulkRepositoryTest extends IntegrationTestBase {
+
+    @Autowired
+    private PointLedgerBulkRepository bulkRepository;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Nested
+    @DisplayName("multi-row INSERT")
+    class InsertEarnedTest {
+
+        @Test
+        @DisplayName("한 문장 최대 행 수를 넘는 적립건/이력도 모두 저장된다")
+        void insertEarned_shouldSplitStatements() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            int count = PointLedgerBulkRepository.ROWS_PER_STATEMENT + 3;
+            List<PointLedger> ledgers = new ArrayList<>(count);
+            List<LedgerEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                PointLedger ledger = PointLedger.create(
+                        UUID.randomUUID(), memberId, 10L, EarnType.SYSTEM, now.plusDays(30), null, now);
+                ledgers.add(ledger);
+                entries.add(LedgerEntry.createEarn(UUID.randomUUID(), ledger.id(), 10L, now));
+            }
+
+            // WHEN
+            bulkRepository.insertEarned(ledgers, entries);
+
+            // THEN
+            List<PointLedger> saved = pointLedgerRepository.findAllByMemberId(memberId);
+            assertThat(saved).hasSize(count);
+            assertThat(saved).allSatisfy(ledger -> {
+                assertThat(ledger.availableAmount()).isEqualTo(10L);
+                assertThat(ledger.earnType()).isEqualTo(EarnType.SYSTEM);
+                assertThat(ledger.expiredAt()).isEqualTo(now.plusDays(30));
+            });
+            List<LedgerEntry> savedEntries = ledgerEntryRepository.findByLedgerIds(
+                    List.of(ledgers.get(0).id(), ledgers.get(count - 1).id()));
+            assertThat(savedEntries).extracting(LedgerEntry::type).containsOnly(EntryType.EARN);
+            assertThat(savedEntries).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("잔액 GROUP BY 조회")
+    class SumAvailableAmountsTest {
+
+        @Test
+        @DisplayName("회원별 사용 가능 잔액을 한 번에 조회하고 적립건이 없는 회원은 제외된다")
+        void sumAvailableAmounts_shouldGroupByMember() {
+            // GIVEN
+            UUID memberA = UUID.randomUUID();
+            UUID memberB = UUID.randomUUID();
+            UUID memberWithoutLedger = UUID.randomUUID();
+            List<PointLedger> ledgers = List.of(
+                    PointLedger.create(UUID.randomUUID(), memberA, 100L, EarnType.SYSTEM, now.plusDays(30), null, now),
+                    PointLedger.create(UUID.randomUUID(), memberA, 200L, EarnType.SYSTEM, now.plusDays(30), null, now),
+                    PointLedger.create(UUID.randomUUID(), memberB, 300L, EarnType.SYSTEM, now.plusDays(30), null, now));
+            bulkRepository.insertEarned(ledgers, List.of());
+
+            // WHEN
+            Map<UUID, Long> balances = bulkRepository.sumAvailableAmounts(
+                    List.of(memberA, memberB, memberWithoutLedger), now);
+
+            // THEN
+            assertThat(balances).containsOnly(Map.entry(memberA, 300L), Map.entry(memberB, 300L));
+        }
+    }
+}
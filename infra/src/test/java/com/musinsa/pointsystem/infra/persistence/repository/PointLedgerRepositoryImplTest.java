@@ -0,0 +1,304 @@
+package com.musinsa.pointsystem.infra.persistence.repository;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.model.EarnType;
+import com.musinsa.pointsystem.domain.model.PointLedger;
+import com.musinsa.pointsystem.domain.repository.PointLedgerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointLedgerRepositoryImplTest extends IntegrationTestBase {
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Nested
+    @DisplayName("신규 적립건 저장")
+    class InsertTest {
+
+        @Test
+        @DisplayName("insertAll은 존재 확인 SELECT 없이 INSERT 배치 1회로 저장한다")
+        void insertAll_shouldBatchWithoutSelect() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            List<PointLedger> ledgers = IntStream.range(0, 3)
+                    .mapToObj(i -> PointLedger.create(
+                            UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now))
+                    .toList();
+
+            // WHEN
+            transactionTemplate.executeWithoutResult(status -> pointLedgerRepository.insertAll(ledgers));
+
+            // THEN
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(pointLedgerRepository.findAllByMemberId(memberId)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("기존 적립건 save는 merge로 변경 내용을 반영한다")
+        void save_existingLedger_shouldUpdate() {
+            // GIVEN
+            PointLedger ledger = PointLedger.create(
+                    UUID.randomUUID(), UUID.randomUUID(), 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            pointLedgerRepository.insert(ledger);
+            statistics.clear();
+
+            // WHEN
+            transactionTemplate.executeWithoutResult(status ->
+                    pointLedgerRepository.save(ledger.withAvailableAmount(40L)));
+
+            // THEN
+            assertThat(statistics.getEntityInsertCount()).isZero();
+            assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+            assertThat(pointLedgerRepository.findById(ledger.id()))
+                    .hasValueSatisfying(saved -> assertThat(saved.availableAmount()).isEqualTo(40L));
+        }
+    }
+
+    @Nested
+    @DisplayName("잔여 금액 일괄 변경")
+    class UpdateAmountsTest {
+
+        @Test
+        @DisplayName("잔여/사용 금액만 JDBC 배치로 변경하고 같은 트랜잭션의 이후 조회에 반영된다")
+        void updateAmounts_shouldUpdateOnlyAmounts() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            PointLedger first = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger second = PointLedger.create(
+                    UUID.randomUUID(), memberId, 200L, EarnType.MANUAL, now.plusDays(10), null, now);
+            pointLedgerRepository.insertAll(List.of(first, second));
+            statistics.clear();
+
+            // WHEN
+            List<PointLedger> reloaded = transactionTemplate.execute(status -> {
+                pointLedgerRepository.findAllByMemberId(memberId);
+                pointLedgerRepository.updateAmounts(
+                        List.of(first.withAvailableAmount(30L), second.withAvailableAmount(150L)), now.plusHours(1));
+                return pointLedgerRepository.findAllByMemberId(memberId);
+            });
+
+            // THEN
+            assertThat(statistics.getEntityUpdateCount()).isZero();
+            assertThat(reloaded)
+                    .extracting(PointLedger::id, PointLedger::availableAmount)
+                    .containsExactlyInAnyOrder(
+                            tuple(first.id(), 30L),
+                            tuple(second.id(), 150L));
+            Long usedAmount = jdbcTemplate.queryForObject(
+                    "SELECT SUM(used_amount) FROM point_ledger WHERE member_id = ?", Long.class, uuidBytes(memberId));
+            assertThat(usedAmount).isEqualTo(70L + 50L);
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 차감")
+    class DeductIfUnchangedTest {
+
+        @Test
+        @DisplayName("잔여 금액이 기대값과 같으면 차감한다")
+        void deductIfUnchanged_shouldDeduct() {
+            // GIVEN
+            PointLedger ledger = PointLedger.create(
+                    UUID.randomUUID(), UUID.randomUUID(), 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            pointLedgerRepository.insert(ledger);
+
+            // WHEN
+            Boolean deducted = transactionTemplate.execute(status ->
+                    pointLedgerRepository.deductIfUnchanged(ledger.id(), 100L, 30L, now));
+
+            // THEN
+            assertThat(deducted).isTrue();
+            assertThat(pointLedgerRepository.findById(ledger.id()))
+                    .hasValueSatisfying(saved -> assertThat(saved.availableAmount()).isEqualTo(70L));
+        }
+
+        @Test
+        @DisplayName("잔여 금액이 기대값과 다르거나 취소/만료된 적립건은 차감하지 않는다 (0건)")
+        void deductIfUnchanged_shouldNotDeduct() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            PointLedger changed = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger canceled = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger expired = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.minusDays(1), null, now.minusDays(30));
+            pointLedgerRepository.insertAll(List.of(changed, canceled, expired));
+            transactionTemplate.executeWithoutResult(status ->
+                    pointLedgerRepository.save(canceled.withCanceled()));
+
+            // WHEN
+            List<Boolean> results = transactionTemplate.execute(status -> List.of(
+                    pointLedgerRepository.deductIfUnchanged(changed.id(), 80L, 30L, now),
+                    pointLedgerRepository.deductIfUnchanged(canceled.id(), 100L, 30L, now),
+                    pointLedgerRepository.deductIfUnchanged(expired.id(), 100L, 30L, now)));
+
+            // THEN
+            assertThat(results).containsExactly(false, false, false);
+            assertThat(pointLedgerRepository.findById(changed.id()))
+                    .hasValueSatisfying(saved -> assertThat(saved.availableAmount()).isEqualTo(100L));
+            assertThat(pointLedgerRepository.findById(expired.id()))
+                    .hasValueSatisfying(saved -> assertThat(saved.availableAmount()).isEqualTo(100L));
+        }
+    }
+
+    @Nested
+    @DisplayName("사용 가능 적립건 요약")
+    class SummarizeUsableTest {
+
+        @Test
+        @DisplayName("사용 가능 적립건의 건수와 잔액 합계를 집계하고 취소/만료/잔여 0 적립건은 제외한다")
+        void summarizeUsable_shouldCountOnlyUsable() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            PointLedger usable = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger partiallyUsed = PointLedger.create(
+                    UUID.randomUUID(), memberId, 200L, EarnType.MANUAL, now.plusDays(10), null, now);
+            PointLedger canceled = PointLedger.create(
+                    UUID.randomUUID(), memberId, 300L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger expired = PointLedger.create(
+                    UUID.randomUUID(), memberId, 400L, EarnType.SYSTEM, now.minusDays(1), null, now.minusDays(30));
+            PointLedger exhausted = PointLedger.create(
+                    UUID.randomUUID(), memberId, 500L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            pointLedgerRepository.insertAll(List.of(usable, partiallyUsed, canceled, expired, exhausted));
+            transactionTemplate.executeWithoutResult(status -> {
+                pointLedgerRepository.save(canceled.withCanceled());
+                pointLedgerRepository.deductIfUnchanged(partiallyUsed.id(), 200L, 50L, now);
+                pointLedgerRepository.deductIfUnchanged(exhausted.id(), 500L, 500L, now);
+            });
+
+            // WHEN
+            PointLedgerRepository.UsableSummary summary = pointLedgerRepository.summarizeUsable(memberId, now);
+
+            // THEN
+            assertThat(summary.count()).isEqualTo(2);
+            assertThat(summary.balance()).isEqualTo(100L + 150L);
+        }
+
+        @Test
+        @DisplayName("사용 가능 적립건이 없으면 0건, 0원")
+        void summarizeUsable_noLedger_shouldBeZero() {
+            // WHEN
+            PointLedgerRepository.UsableSummary summary = pointLedgerRepository.summarizeUsable(UUID.randomUUID(), now);
+
+            // THEN
+            assertThat(summary.count()).isZero();
+            assertThat(summary.balance()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("조회 (생성자 프로젝션)")
+    class ReadTest {
+
+        @Test
+        @DisplayName("사용 가능 적립건은 엔티티를 로드하지 않고 수기 지급 우선, 만료일 순으로 조회된다")
+        void findAvailableByMemberId_shouldNotLoadEntities() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            PointLedger later = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger sooner = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(10), null, now);
+            PointLedger manual = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.MANUAL, now.plusDays(60), null, now);
+            pointLedgerRepository.insertAll(List.of(later, sooner, manual));
+            statistics.clear();
+
+            // WHEN
+            List<PointLedger> available = transactionTemplate.execute(status ->
+                    pointLedgerRepository.findAvailableByMemberId(memberId, now));
+
+            // THEN
+            assertThat(statistics.getEntityLoadCount()).isZero();
+            assertThat(available).extracting(PointLedger::id)
+                    .containsExactly(manual.id(), sooner.id(), later.id());
+            assertThat(available.get(0).earnType()).isEqualTo(EarnType.MANUAL);
+        }
+    }
+
+    @Nested
+    @DisplayName("통합 흡수 표시")
+    class MarkConsolidatedTest {
+
+        @Test
+        @DisplayName("흡수된 적립건은 consolidated_into에 통합 적립건 ID가 기록되고 원본 참조는 바뀌지 않으며 다시 후보가 되지 않는다")
+        void markConsolidated_shouldLinkWithDedicatedColumn() {
+            // GIVEN
+            UUID memberId = UUID.randomUUID();
+            UUID consolidatedId = UUID.randomUUID();
+            PointLedger first = PointLedger.create(
+                    UUID.randomUUID(), memberId, 100L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            PointLedger second = PointLedger.create(
+                    UUID.randomUUID(), memberId, 200L, EarnType.SYSTEM, now.plusDays(30), null, now);
+            pointLedgerRepository.insertAll(List.of(first, second));
+
+            // WHEN
+            Integer marked = transactionTemplate.execute(status ->
+                    pointLedgerRepository.markConsolidated(List.of(first.id(), second.id()), consolidatedId, now));
+
+            // THEN
+            assertThat(marked).isEqualTo(2);
+            PointLedger absorbed = pointLedgerRepository.findById(first.id()).orElseThrow();
+            assertThat(absorbed.consolidatedInto()).isEqualTo(consolidatedId);
+            assertThat(absorbed.sourceLedgerId()).isNull();
+            assertThat(absorbed.availableAmount()).isZero();
+            assertThat(pointLedgerRepository.findConsolidationCandidates(memberId, now, 10)).isEmpty();
+        }
+    }
+
+    private static byte[] uuidBytes(UUID uuid) {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        bb.putLong(uuid.getMostSignificantBits());
+        bb.putLong(uuid.getLeastSignificantBits());
+        return bb.array();
+    }
+}
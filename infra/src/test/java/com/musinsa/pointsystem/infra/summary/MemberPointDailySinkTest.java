@@ -0,0 +1,168 @@
+package com.musinsa.pointsystem.infra.summary;
+
+import com.musinsa.pointsystem.IntegrationTestBase;
+import com.musinsa.pointsystem.domain.event.PointEarnCanceledEvent;
+import com.musinsa.pointsystem.domain.event.PointEarnedEvent;
+import com.musinsa.pointsystem.domain.event.PointEvent;
+import com.musinsa.pointsystem.domain.event.PointUseCanceledEvent;
+import com.musinsa.pointsystem.domain.event.PointUsedEvent;
+import com.musinsa.pointsystem.domain.model.PointSummary;
+import com.musinsa.pointsystem.infra.outbox.OutboxEvent;
+import com.musinsa.pointsystem.infra.outbox.PointEventOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberPointDailySinkTest extends IntegrationTestBase {
+
+    @Autowired
+    private MemberPointDailySink sink;
+
+    @Autowired
+    private MemberPointDailyRepository dailyRepository;
+
+    @Autowired
+    private PointEventOutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID memberId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM point_event_outbox");
+        jdbcTemplate.update("DELETE FROM member_point_daily_event");
+        jdbcTemplate.update("DELETE FROM member_point_daily");
+        memberId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("일별 집계 반영")
+    class DeliverTest {
+
+        @Test
+        @DisplayName("이벤트 유형별 금액이 같은 일자 행에 누적된다")
+        void deliver_shouldAccumulateByType() {
+            // GIVEN
+            LocalDateTime at = LocalDateTime.of(2026, 10, 5, 3, 0);
+            List<OutboxEvent> events = claim(
+                    earned(1000L, at),
+                    earned(500L, at.plusMinutes(1)),
+                    PointEarnCanceledEvent.of(memberId, UUID.randomUUID(), 200L, at.plusMinutes(2)),
+                    PointUsedEvent.of(memberId, 700L, "ORDER-1", 1, at.plusMinutes(3)),
+                    PointUseCanceledEvent.of(memberId, 300L, "ORDER-1", 1, at.plusMinutes(4)));
+
+            // WHEN
+            sink.deliver(events);
+
+            // THEN
+            PointSummary summary = monthSummary(2026, 10);
+            assertThat(summary.earnedAmount()).isEqualTo(1500L);
+            assertThat(summary.earnCanceledAmount()).isEqualTo(200L);
+            assertThat(summary.usedAmount()).isEqualTo(700L);
+            assertThat(summary.useCanceledAmount()).isEqualTo(300L);
+            assertThat(dailyRowCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("같은 배치를 다시 전달해도 한 번만 반영된다")
+        void redeliver_shouldApplyOnce() {
+            // GIVEN
+            List<OutboxEvent> events = claim(earned(1000L, LocalDateTime.of(2026, 10, 5, 3, 0)));
+            sink.deliver(events);
+
+            // WHEN
+            sink.deliver(events);
+
+            // THEN
+            assertThat(monthSummary(2026, 10).earnedAmount()).isEqualTo(1000L);
+        }
+
+        @Test
+        @DisplayName("일자는 설정된 시간대 기준으로 나뉜다")
+        void deliver_shouldBucketByConfiguredZone() {
+            // GIVEN - UTC 2026-09-30 16:00 = Asia/Seoul 2026-10-01 01:00
+            List<OutboxEvent> events = claim(
+                    earned(1000L, LocalDateTime.of(2026, 9, 30, 16, 0)),
+                    earned(500L, LocalDateTime.of(2026, 9, 30, 14, 0)));
+
+            // WHEN
+            sink.deliver(events);
+
+            // THEN
+            assertThat(monthSummary(2026, 10).earnedAmount()).isEqualTo(1000L);
+            assertThat(monthSummary(2026, 9).earnedAmount()).isEqualTo(500L);
+        }
+    }
+
+    @Nested
+    @DisplayName("기간 요약 조회")
+    class SummaryTest {
+
+        @Test
+        @DisplayName("연 요약은 해당 연도의 일별 행을 합산한다")
+        void yearSummary_shouldSumDailyRows() {
+            // GIVEN
+            sink.deliver(claim(
+                    earned(1000L, LocalDateTime.of(2026, 1, 10, 3, 0)),
+                    earned(2000L, LocalDateTime.of(2026, 6, 10, 3, 0)),
+                    earned(4000L, LocalDateTime.of(2027, 1, 10, 3, 0))));
+
+            // WHEN
+            PointSummary summary = dailyRepository.getSummary(
+                    memberId, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
+
+            // THEN
+            assertThat(summary.earnedAmount()).isEqualTo(3000L);
+            assertThat(summary.netEarnedAmount()).isEqualTo(3000L);
+        }
+
+        @Test
+        @DisplayName("집계가 없으면 0을 반환한다")
+        void noRows_shouldReturnZero() {
+            // WHEN
+            PointSummary summary = monthSummary(2026, 10);
+
+            // THEN
+            assertThat(summary.earnedAmount()).isZero();
+            assertThat(summary.usedAmount()).isZero();
+        }
+    }
+
+    private List<OutboxEvent> claim(PointEvent... events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (PointEvent event : events) {
+                outboxRepository.append(event);
+            }
+        });
+        return outboxRepository.claim("summary-test", events.length, LocalDateTime.now().plusYears(1));
+    }
+
+    private PointEarnedEvent earned(long amount, LocalDateTime occurredAt) {
+        return PointEarnedEvent.of(memberId, UUID.randomUUID(), amount, "MANUAL", occurredAt.plusDays(365), occurredAt);
+    }
+
+    private PointSummary monthSummary(int year, int month) {
+        LocalDate from = LocalDate.of(year, month, 1);
+        return dailyRepository.getSummary(memberId, from, from.withDayOfMonth(from.lengthOfMonth()));
+    }
+
+    private int dailyRowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member_point_daily", Integer.class);
+    }
+}
@@ -30,6 +30,7 @@ CREATE TABLE IF NOT EXISTS point_ledger (
     used_amount BIGINT NOT NULL DEFAULT 0,
     earn_type VARCHAR(20) NOT NULL,
     source_ledger_id BINARY(16),
+    consolidated_into BINARY(16),
     expired_at DATETIME NOT NULL,
     is_canceled BOOLEAN NOT NULL DEFAULT FALSE,
     earned_at DATETIME NOT NULL,
@@ -41,9 +42,10 @@ CREATE TABLE IF NOT EXISTS point_ledger (
 
 CREATE INDEX IF NOT EXISTS idx_ledger_member_available ON point_ledger (member_id, is_canceled, expired_at, earn_type, available_amount);
 CREATE INDEX IF NOT EXISTS idx_ledger_source ON point_ledger (source_ledger_id);
+CREATE INDEX IF NOT EXISTS idx_ledger_expired ON point_ledger (expired_at);
 
 -- Ledger Entry (적립건 변동 이력)
--- type: EARN, EARN_CANCEL, USE, USE_CANCEL
+-- type: EARN, EARN_CANCEL, USE, USE_CANCEL, CONSOLIDATE
 -- amount: +양수(적립/복구), -음수(사용/취소)
 CREATE TABLE IF NOT EXISTS ledger_entry (
     id BINARY(16) PRIMARY KEY,
@@ -52,7 +54,7 @@ CREATE TABLE IF NOT EXISTS ledger_entry (
     amount BIGINT NOT NULL,
     order_id VARCHAR(100),
     created_at DATETIME NOT NULL,
-    CONSTRAINT chk_type_valid CHECK (type IN ('EARN', 'EARN_CANCEL', 'USE', 'USE_CANCEL'))
+    CONSTRAINT chk_type_valid CHECK (type IN ('EARN', 'EARN_CANCEL', 'USE', 'USE_CANCEL', 'CONSOLIDATE'))
 );
 
 CREATE INDEX IF NOT EXISTS idx_entry_ledger ON ledger_entry (ledger_id, created_at);
@@ -74,3 +76,93 @@ CREATE TABLE IF NOT EXISTS consistency_check_result (
 
 CREATE INDEX IF NOT EXISTS idx_consistency_member ON consistency_check_result (member_id);
 CREATE INDEX IF NOT EXISTS idx_consistency_type ON consistency_check_result (inconsistency_type, detected_at);
+
+-- =============================================================================
+-- 멱등성 기록 테이블
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    idempotency_key VARCHAR(200) PRIMARY KEY,
+    status_code INT,
+    content_type VARCHAR(100),
+    response_body BLOB,
+    created_at DATETIME NOT NULL,
+    expires_at DATETIME NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires ON idempotency_record (expires_at);
+
+-- =============================================================================
+-- 포인트 이벤트 Outbox 테이블
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS point_event_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    member_id BINARY(16) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at DATETIME NOT NULL,
+    lease_owner VARCHAR(100),
+    lease_until DATETIME NOT NULL,
+    attempts INT NOT NULL DEFAULT 0
+);
+
+-- =============================================================================
+-- Outbox Sink별 전달 기록
+-- =============================================================================
+CREATE TABLE IF NOT EXISTS point_event_outbox_delivery (
+    event_id BIGINT NOT NULL,
+    sink VARCHAR(100) NOT NULL,
+    PRIMARY KEY (event_id, sink)
+);
+
+-- =============================================================================
+-- Outbox 전달 포기 이벤트
+-- =============================================================================
+CREATE TABLE IF NOT EXISTS point_event_outbox_dead_letter (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    member_id BINARY(16) NOT NULL,
+    payload VARCHAR(2000) NOT NULL,
+    created_at DATETIME NOT NULL,
+    attempts INT NOT NULL,
+    failed_sinks VARCHAR(500) NOT NULL,
+    last_error VARCHAR(1000),
+    dead_at DATETIME NOT NULL
+);
+
+-- =============================================================================
+-- 회원 일별 포인트 집계 테이블
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS member_point_daily (
+    member_id BINARY(16) NOT NULL,
+    point_date DATE NOT NULL,
+    earned_amount BIGINT NOT NULL DEFAULT 0,
+    earn_canceled_amount BIGINT NOT NULL DEFAULT 0,
+    used_amount BIGINT NOT NULL DEFAULT 0,
+    use_canceled_amount BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL,
+    PRIMARY KEY (member_id, point_date)
+);
+
+CREATE TABLE IF NOT EXISTS member_point_daily_event (
+    event_id BIGINT PRIMARY KEY,
+    applied_at DATETIME NOT NULL
+);
+
+-- =============================================================================
+-- 포인트 부채 카운터 테이블
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS point_liability_stripe (
+    stripe INT PRIMARY KEY,
+    amount BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS point_liability_sweep (
+    id INT PRIMARY KEY,
+    swept_until DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL
+);
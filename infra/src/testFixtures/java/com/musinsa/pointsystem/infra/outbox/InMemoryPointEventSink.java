@@ -0,0 +1,27 @@
+package com.musinsa.pointsystem.infra.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 메모리 Sink
+ * - 전달된 이벤트를 순서대로 보관
+ * - Bean으로 등록하지 않음 (테스트에서 PointEventOutboxRelay를 직접 생성하여 사용)
+ */
+public class InMemoryPointEventSink implements PointEventSink {
+
+    private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void deliver(List<OutboxEvent> batch) {
+        events.addAll(batch);
+    }
+
+    public List<OutboxEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public void clear() {
+        events.clear();
+    }
+}